@@ -0,0 +1,80 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import org.dreamabout.sw.dockerwslmanager.logic.AnsiParser;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming AnsiParser against the legacy split-based parser on the same frames.
+ * Run with {@code -prof gc} to compare allocation per operation as well as time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnsiParserBenchmark {
+
+    @Param({"plain", "mixed", "extended"})
+    public String profile;
+
+    @Param({"10000"})
+    public int lines;
+
+    private List<String> frames;
+    private Blackhole blackhole;
+    private AnsiParser countingParser;
+    private AnsiParser copyingParser;
+
+    @Setup
+    public void setUp(Blackhole bh) {
+        frames = LogCorpus.frames(profile, lines, 4096);
+        blackhole = bh;
+        countingParser = new AnsiParser((text, length, runs, runsLength) -> blackhole.consume(length + runsLength));
+        copyingParser = new AnsiParser((text, length, runs, runsLength) ->
+                blackhole.consume(LogLine.copyOf(text, length, runs, runsLength)));
+    }
+
+    /**
+     * Parsing cost alone: the sink only looks at the reused buffers.
+     */
+    @Benchmark
+    public void streamingParser() {
+        for (String frame : frames) {
+            countingParser.feed(frame);
+        }
+    }
+
+    /**
+     * What the log view pays: parsing plus one LogLine copy per line.
+     */
+    @Benchmark
+    public void streamingParserToLogLines() {
+        for (String frame : frames) {
+            copyingParser.feed(frame);
+        }
+    }
+
+    @Benchmark
+    public void legacySplitParser(Blackhole bh) {
+        LegacyAnsiLineSplitter splitter = new LegacyAnsiLineSplitter();
+        for (String frame : frames) {
+            bh.consume(splitter.feed(frame));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import org.dreamabout.sw.dockerwslmanager.testing.FakeDockerDaemon;
+import org.dreamabout.sw.dockerwslmanager.testing.StartupRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall time from launching the standalone JAR to the first paint of the container list, with and
+ * without the application class-data-sharing archive. Every invocation is a fresh JVM talking to
+ * an in-process fake daemon, so it needs a desktop session. The JAR defaults to the parent build's
+ * output; override with {@code -Ddwm.standaloneJar=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ColdStartBenchmark {
+
+    @Param({"off", "on"})
+    public String cds;
+
+    private FakeDockerDaemon daemon;
+    private Path workDir;
+    private StartupRunner runner;
+    private List<String> jvmOptions;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        Path standaloneJar = Path.of(System.getProperty("dwm.standaloneJar",
+                "../target/docker-wsl-manager-1.2.0-standalone.jar"));
+        workDir = Files.createTempDirectory("dwm-cold-start");
+        runner = new StartupRunner(StartupRunner.copyJar(standaloneJar, workDir), workDir);
+        daemon = new FakeDockerDaemon(0, FakeDockerDaemon.DEFAULT_CONTAINERS);
+        jvmOptions = List.of();
+        if (cds.equals("on")) {
+            String training = "-XX:ArchiveClassesAtExit=" + StartupRunner.ARCHIVE_NAME;
+            check(runner.run(daemon.getDockerHost(), List.of(training)));
+            jvmOptions = List.of("-XX:SharedArchiveFile=" + StartupRunner.ARCHIVE_NAME, "-Xlog:cds=warning");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        daemon.close();
+    }
+
+    @Benchmark
+    public int launchToFirstPaint() throws IOException, InterruptedException {
+        return check(runner.run(daemon.getDockerHost(), jvmOptions));
+    }
+
+    private int check(int exitCode) {
+        if (exitCode != 0) {
+            throw new IllegalStateException("Startup run failed with exit code " + exitCode + ", see "
+                    + workDir.resolve("startup.log"));
+        }
+        return exitCode;
+    }
+}
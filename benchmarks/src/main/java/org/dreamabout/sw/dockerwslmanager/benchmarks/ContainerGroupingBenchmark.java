@@ -0,0 +1,68 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import com.github.dockerjava.api.model.Container;
+import org.dreamabout.sw.dockerwslmanager.logic.ContainerLogic;
+import org.dreamabout.sw.dockerwslmanager.logic.ContainerTreeReconciler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The container tab's refresh work: grouping by Compose project and diffing the listing against
+ * the tree. The steady state is a refresh where nothing changed, the common case on auto-refresh.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContainerGroupingBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int fleetSize;
+
+    private final ContainerLogic containerLogic = new ContainerLogic();
+    private List<Container> containers;
+    private ContainerTreeReconciler steadyReconciler;
+
+    @Setup
+    public void setUp() throws IOException {
+        containers = new FleetData(fleetSize).getContainers();
+        steadyReconciler = new ContainerTreeReconciler(containerLogic);
+        steadyReconciler.apply(steadyReconciler.plan(containers));
+    }
+
+    @Benchmark
+    public Map<String, List<Container>> groupContainers() {
+        return containerLogic.groupContainers(containers);
+    }
+
+    @Benchmark
+    public boolean refreshUnchanged() {
+        return steadyReconciler.apply(steadyReconciler.plan(containers));
+    }
+
+    /**
+     * First load: every group and row is created.
+     */
+    @Benchmark
+    public ContainerTreeReconciler initialLoad() {
+        ContainerTreeReconciler reconciler = new ContainerTreeReconciler(containerLogic);
+        reconciler.apply(reconciler.plan(containers));
+        return reconciler;
+    }
+}
@@ -0,0 +1,78 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import com.github.dockerjava.api.model.Statistics;
+import org.dreamabout.sw.dockerwslmanager.service.ContainerStatsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * One stats round over the whole fleet: every container delivers a frame, which is turned into
+ * ContainerStats including per-interface and per-device rates. Rounds alternate between two
+ * sampling times so the rate calculator always sees a fresh interval.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContainerStatsBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int fleetSize;
+
+    private List<String> ids;
+    private List<Statistics> even;
+    private List<Statistics> odd;
+    private List<byte[]> raw;
+    private ContainerStatsService service;
+    private boolean flip;
+
+    @Setup
+    public void setUp() throws IOException {
+        FleetData data = new FleetData(fleetSize);
+        ids = IntStream.range(0, fleetSize).mapToObj(data.getFleet()::containerId).toList();
+        even = data.statistics(0);
+        odd = data.statistics(1);
+        raw = data.rawStatistics(2);
+        service = new ContainerStatsService(null);
+    }
+
+    /**
+     * {@code ContainerStatsService.parseStatistics} on already decoded frames.
+     */
+    @Benchmark
+    public void parseStatistics(Blackhole bh) {
+        List<Statistics> frames = flip ? odd : even;
+        flip = !flip;
+        for (int i = 0; i < frames.size(); i++) {
+            bh.consume(service.parseStatistics(ids.get(i), frames.get(i)));
+        }
+    }
+
+    /**
+     * The full per-frame cost: JSON decoding by the client plus parseStatistics.
+     */
+    @Benchmark
+    public void decodeAndParse(Blackhole bh) throws IOException {
+        for (int i = 0; i < raw.size(); i++) {
+            Statistics frame = FleetData.mapper().readValue(raw.get(i), Statistics.class);
+            bh.consume(service.parseStatistics(ids.get(i), frame));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectVolumeResponse;
+import com.github.dockerjava.api.model.Container;
+import org.dreamabout.sw.dockerwslmanager.DockerConnectionManager;
+import org.dreamabout.sw.dockerwslmanager.testing.FakeDockerDaemon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listing requests through the application's own connection, as a refresh makes them, against
+ * the in-process fake daemon: HTTP round trip, transfer and decoding into docker-java models.
+ * {@code latencyMs} adds a fixed delay per request to model a slow daemon, e.g. one reached
+ * across the WSL boundary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DaemonRoundTripBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int fleetSize;
+
+    @Param({"0"})
+    public long latencyMs;
+
+    private FakeDockerDaemon daemon;
+    private DockerConnectionManager connectionManager;
+    private DockerClient client;
+
+    @Setup
+    public void setUp() throws IOException {
+        daemon = new FakeDockerDaemon(new FakeDockerDaemon.Options().containers(fleetSize).latencyMs(latencyMs));
+        connectionManager = new DockerConnectionManager();
+        if (!connectionManager.connectManual("127.0.0.1", daemon.getPort())) {
+            throw new IllegalStateException("Could not connect to the fake daemon");
+        }
+        client = connectionManager.getDockerClient();
+    }
+
+    @TearDown
+    public void tearDown() {
+        connectionManager.disconnect();
+        daemon.close();
+    }
+
+    @Benchmark
+    public List<Container> listContainers() {
+        return client.listContainersCmd().withShowAll(true).exec();
+    }
+
+    @Benchmark
+    public List<InspectVolumeResponse> listVolumes() {
+        return client.listVolumesCmd().exec().getVolumes();
+    }
+}
@@ -0,0 +1,74 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import org.dreamabout.sw.dockerwslmanager.logic.DockerSizes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding the human-readable sizes of {@code docker system df}, one per volume of the fleet,
+ * from strings and from a parser's character buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DockerSizesBenchmark {
+    private static final String[] UNITS = {"B", "kB", "MB", "GB"};
+
+    @Param({"10", "1000", "10000"})
+    public int fleetSize;
+
+    private String[] sizes;
+    private char[] buffer;
+    private int[] offsets;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        sizes = new String[fleetSize];
+        StringBuilder sb = new StringBuilder();
+        offsets = new int[fleetSize + 1];
+        for (int i = 0; i < fleetSize; i++) {
+            int whole = random.nextInt(1000);
+            sizes[i] = random.nextBoolean()
+                    ? whole + UNITS[random.nextInt(UNITS.length)]
+                    : whole + "." + random.nextInt(100) + UNITS[random.nextInt(UNITS.length)];
+            offsets[i] = sb.length();
+            sb.append(sizes[i]);
+        }
+        offsets[fleetSize] = sb.length();
+        buffer = sb.toString().toCharArray();
+    }
+
+    @Benchmark
+    public long parseStrings() {
+        long total = 0;
+        for (String size : sizes) {
+            total += DockerSizes.parse(size);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long parseCharBuffer() {
+        long total = 0;
+        for (int i = 0; i < fleetSize; i++) {
+            total += DockerSizes.parse(buffer, offsets[i], offsets[i + 1] - offsets[i]);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,73 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.command.InspectVolumeResponse;
+import com.github.dockerjava.api.command.ListVolumesResponse;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Statistics;
+import org.dreamabout.sw.dockerwslmanager.testing.Fleet;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link Fleet} decoded into the docker-java models the application works with, as the
+ * Engine API client would deliver them.
+ */
+public final class FleetData {
+    // Configured like docker-java's own mapper, which skips fields newer than its models
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Fleet fleet;
+    private final List<Container> containers;
+    private final List<InspectVolumeResponse> volumes;
+
+    public FleetData(int size) throws JsonProcessingException {
+        this.fleet = new Fleet(size);
+        this.containers = Arrays.asList(MAPPER.readValue(fleet.containersJson(), Container[].class));
+        this.volumes = MAPPER.readValue(fleet.volumesJson(), ListVolumesResponse.class).getVolumes();
+    }
+
+    public Fleet getFleet() {
+        return fleet;
+    }
+
+    public List<Container> getContainers() {
+        return containers;
+    }
+
+    public List<InspectVolumeResponse> getVolumes() {
+        return volumes;
+    }
+
+    /**
+     * One stats frame per container, taken at the given second.
+     */
+    public List<Statistics> statistics(long second) throws JsonProcessingException {
+        List<Statistics> frames = new ArrayList<>(fleet.size());
+        for (int i = 0; i < fleet.size(); i++) {
+            frames.add(MAPPER.readValue(fleet.statsJson(i, second), Statistics.class));
+        }
+        return frames;
+    }
+
+    /**
+     * One raw stats frame per container, as read off the wire.
+     */
+    public List<byte[]> rawStatistics(long second) {
+        List<byte[]> frames = new ArrayList<>(fleet.size());
+        for (int i = 0; i < fleet.size(); i++) {
+            frames.add(fleet.statsJson(i, second).getBytes(StandardCharsets.UTF_8));
+        }
+        return frames;
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+}
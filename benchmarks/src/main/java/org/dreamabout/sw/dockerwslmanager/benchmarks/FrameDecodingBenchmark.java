@@ -0,0 +1,73 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import org.dreamabout.sw.dockerwslmanager.logic.AnsiParser;
+import org.dreamabout.sw.dockerwslmanager.logic.Utf8StreamDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning raw log frames into parser input: a String per frame versus the streaming decoder.
+ * Both feed a parser whose sink only looks at the reused buffers, so {@code -prof gc} shows
+ * the allocation of the decoding step alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrameDecodingBenchmark {
+
+    @Param({"mixed"})
+    public String profile;
+
+    @Param({"10000"})
+    public int lines;
+
+    private List<byte[]> frames;
+    private AnsiParser parser;
+    private Utf8StreamDecoder decoder;
+
+    @Setup
+    public void setUp(Blackhole bh) {
+        // Some non-ASCII text, so frames end mid-character now and then
+        byte[] bytes = LogCorpus.text(profile, lines).replace("request", "požadavek → 完了")
+                .getBytes(StandardCharsets.UTF_8);
+        frames = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += 4096) {
+            frames.add(Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + 4096)));
+        }
+        parser = new AnsiParser((text, length, runs, runsLength) -> bh.consume(length + runsLength));
+        decoder = new Utf8StreamDecoder(parser::feed);
+    }
+
+    @Benchmark
+    public void stringPerFrame() {
+        for (byte[] frame : frames) {
+            parser.feed(new String(frame, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public void streamingDecoder() {
+        for (byte[] frame : frames) {
+            decoder.decode(frame);
+        }
+    }
+}
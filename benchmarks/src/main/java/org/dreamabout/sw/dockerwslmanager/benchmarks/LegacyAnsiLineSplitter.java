@@ -0,0 +1,133 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import org.dreamabout.sw.dockerwslmanager.logic.LogStyle;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The split-based ANSI handling the log view used before AnsiParser, kept as the benchmark baseline.
+ * It splits on "ESC [", substrings and parses every code with Integer.parseInt.
+ */
+public class LegacyAnsiLineSplitter {
+    private final StringBuilder line = new StringBuilder();
+    private int[] runs = new int[12];
+    private int runsSize;
+    private int style = LogStyle.DEFAULT;
+
+    /**
+     * Parses a chunk and returns the lines it completed.
+     */
+    public List<LogLine> feed(String text) {
+        List<LogLine> completed = new ArrayList<>();
+        // Basic ANSI split regex
+        String[] parts = text.split("\u001B\\[");
+        if (parts.length == 0) {
+            return completed;
+        }
+
+        appendText(parts[0], completed);
+        for (int i = 1; i < parts.length; i++) {
+            String part = parts[i];
+            int terminator = part.indexOf('m');
+
+            if (terminator > -1) {
+                applyCodes(part.substring(0, terminator));
+                appendText(part.substring(terminator + 1), completed);
+            } else {
+                // No 'm' terminator, treat whole part as text (fallback)
+                appendText("\u001B[" + part, completed);
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Returns the pending unterminated line, if any, and resets it.
+     */
+    public LogLine flush() {
+        if (line.length() == 0) {
+            return null;
+        }
+        return takeLine();
+    }
+
+    private void applyCodes(String codeStr) {
+        for (String code : codeStr.split(";")) {
+            if (code.isEmpty()) {
+                continue;
+            }
+            try {
+                style = applyCode(style, Integer.parseInt(code));
+            } catch (NumberFormatException ignored) {
+                // Ignore malformed codes
+            }
+        }
+    }
+
+    private static int applyCode(int style, int code) {
+        return switch (code) {
+            case 0 -> LogStyle.DEFAULT; // Reset
+            case 30 -> LogStyle.withColor(style, 0x000000);
+            case 31 -> LogStyle.withColor(style, 0xFF0000);
+            case 32 -> LogStyle.withColor(style, 0x008000);
+            case 33 -> LogStyle.withColor(style, 0xFFFF00);
+            case 34 -> LogStyle.withColor(style, 0x0000FF);
+            case 35 -> LogStyle.withColor(style, 0xFF00FF);
+            case 36 -> LogStyle.withColor(style, 0x00FFFF);
+            case 37, 97 -> LogStyle.withColor(style, 0xFFFFFF);
+            case 90 -> LogStyle.withColor(style, 0x808080);
+            case 91 -> LogStyle.withColor(style, 0xCD5C5C);
+            case 92 -> LogStyle.withColor(style, 0x90EE90);
+            case 93 -> LogStyle.withColor(style, 0xFFFFE0);
+            case 94 -> LogStyle.withColor(style, 0xADD8E6);
+            case 95 -> LogStyle.withColor(style, 0xEE82EE);
+            case 96 -> LogStyle.withColor(style, 0xE0FFFF);
+            default -> style; // Ignore unknown codes
+        };
+    }
+
+    private void appendText(String text, List<LogLine> completed) {
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                appendRun(text, start, i);
+                completed.add(takeLine());
+                start = i + 1;
+            }
+        }
+        appendRun(text, start, text.length());
+    }
+
+    private void appendRun(String text, int from, int to) {
+        if (to > from && text.charAt(to - 1) == '\r') {
+            to--;
+        }
+        if (to <= from) {
+            return;
+        }
+        final int offset = line.length();
+        line.append(text, from, to);
+        if (runsSize > 0 && runs[runsSize - 1] == style) {
+            runs[runsSize - 2] += to - from;
+            return;
+        }
+        if (runsSize + 3 > runs.length) {
+            runs = Arrays.copyOf(runs, runs.length * 2);
+        }
+        runs[runsSize++] = offset;
+        runs[runsSize++] = to - from;
+        runs[runsSize++] = style;
+    }
+
+    private LogLine takeLine() {
+        char[] chars = new char[line.length()];
+        line.getChars(0, chars.length, chars, 0);
+        LogLine result = new LogLine(chars, Arrays.copyOf(runs, runsSize));
+        line.setLength(0);
+        runsSize = 0;
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import org.dreamabout.sw.dockerwslmanager.logic.AnsiParser;
+import org.dreamabout.sw.dockerwslmanager.logic.LogArchive;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Random access into an archived log session on disk: jumping to a time, reading a screenful at a random
+ * line, and the cost the stream callback pays to archive one batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx512m")
+public class LogArchiveBenchmark {
+    private static final int BATCH_LINES = 500;
+    private static final int SCREEN_LINES = 50;
+    private static final long SECOND = 1_000_000_000L;
+
+    @Param({"5000000"})
+    public int lines;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private Path directory;
+    private LogArchive archive;
+    private LogArchive batchArchive;
+    private List<LogLine> batch;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<LogLine> parsed = new ArrayList<>();
+        AnsiParser parser = new AnsiParser((text, length, runs, runsLength) ->
+                parsed.add(LogLine.copyOf(text, length, runs, runsLength)));
+        parser.feed(LogCorpus.text("mixed", 100_000));
+        parser.flush();
+        directory = Files.createTempDirectory("log-archive-benchmark");
+        archive = new LogArchive(directory.resolve("session"));
+        // One line per millisecond, cycling through the corpus
+        List<LogLine> chunk = new ArrayList<>(BATCH_LINES);
+        for (int i = 0; i < lines; i++) {
+            LogLine line = parsed.get(i % parsed.size());
+            chunk.add(new LogLine(line.getChars(), line.getRuns(), i * (SECOND / 1000)));
+            if (chunk.size() == BATCH_LINES) {
+                archive.appendAll(chunk);
+                chunk.clear();
+            }
+        }
+        archive.appendAll(chunk);
+        archive.flush();
+        batchArchive = new LogArchive(directory.resolve("batches"));
+        batch = parsed.subList(0, BATCH_LINES);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        archive.close();
+        batchArchive.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public long jumpToTime() throws IOException {
+        return archive.findLine(random.nextLong(lines) * (SECOND / 1000));
+    }
+
+    @Benchmark
+    public List<LogLine> readScreen() throws IOException {
+        return archive.read(random.nextLong(lines - SCREEN_LINES), SCREEN_LINES);
+    }
+
+    /**
+     * Archiving one streamed batch, as done on the stream callback thread.
+     */
+    @Benchmark
+    public LogArchive appendBatch() throws IOException {
+        batchArchive.appendAll(batch);
+        return batchArchive;
+    }
+}
@@ -0,0 +1,92 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic, realistic container log corpus for the log pipeline benchmarks.
+ * Mixes plain access logs, coloured framework logs and 256-colour/truecolour tool output.
+ */
+public final class LogCorpus {
+    private static final String ESC = "\u001B[";
+    private static final String[] LEVELS = {"INFO", "INFO", "INFO", "DEBUG", "WARN", "ERROR"};
+    private static final String[] LEVEL_COLORS = {"32", "32", "32", "36", "33", "31"};
+    private static final String[] PATHS = {"/api/items", "/api/orders/42", "/health", "/static/app.js", "/login"};
+    private static final String[] LOGGERS = {
+        "o.s.b.w.e.tomcat.TomcatWebServer", "c.e.shop.order.OrderService", "o.h.engine.jdbc.spi.SqlExceptionHelper",
+        "o.s.web.servlet.DispatcherServlet", "c.zaxxer.hikari.HikariDataSource"
+    };
+
+    private LogCorpus() {
+    }
+
+    /**
+     * Builds the corpus and cuts it into frames of {@code frameSize} chars, ignoring line and
+     * escape boundaries like a TTY stream does.
+     *
+     * @param profile "plain", "mixed" or "extended".
+     */
+    public static List<String> frames(String profile, int lines, int frameSize) {
+        String text = text(profile, lines);
+        List<String> frames = new ArrayList<>();
+        for (int i = 0; i < text.length(); i += frameSize) {
+            frames.add(text.substring(i, Math.min(text.length(), i + frameSize)));
+        }
+        return frames;
+    }
+
+    public static String text(String profile, int lines) {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(lines * 120);
+        for (int i = 0; i < lines; i++) {
+            int kind = switch (profile) {
+                case "plain" -> 0;
+                case "extended" -> 2 + random.nextInt(2);
+                default -> random.nextInt(4);
+            };
+            switch (kind) {
+                case 0 -> accessLog(sb, random, i);
+                case 1 -> frameworkLog(sb, random, i);
+                case 2 -> paletteLog(sb, random, i);
+                default -> truecolorLog(sb, random, i);
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void accessLog(StringBuilder sb, Random random, int i) {
+        sb.append("172.18.0.").append(random.nextInt(255)).append(" - - [01/May/2024:12:")
+                .append(String.format("%02d:%02d", (i / 60) % 60, i % 60))
+                .append(" +0000] \"GET ").append(PATHS[random.nextInt(PATHS.length)])
+                .append("?page=").append(random.nextInt(50)).append(" HTTP/1.1\" ")
+                .append(random.nextInt(10) == 0 ? 404 : 200).append(' ').append(random.nextInt(20000))
+                .append(" \"-\" \"Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36\"");
+    }
+
+    private static void frameworkLog(StringBuilder sb, Random random, int i) {
+        int level = random.nextInt(LEVELS.length);
+        sb.append("2024-05-01T12:00:").append(String.format("%02d.%03d", i % 60, i % 1000)).append("Z ")
+                .append(ESC).append(LEVEL_COLORS[level]).append('m').append(LEVELS[level]).append(ESC).append("0m")
+                .append(" 1 --- [nio-8080-exec-").append(random.nextInt(10)).append("] ")
+                .append(ESC).append("36m").append(LOGGERS[random.nextInt(LOGGERS.length)]).append(ESC).append("0m")
+                .append(" : Completed request in ").append(random.nextInt(900)).append(" ms");
+    }
+
+    private static void paletteLog(StringBuilder sb, Random random, int i) {
+        sb.append(ESC).append("1m").append(ESC).append("38;5;").append(16 + random.nextInt(216)).append('m')
+                .append("worker-").append(i % 8).append(ESC).append("22m").append(ESC).append("39m")
+                .append(" processed batch ").append(i).append(' ')
+                .append(ESC).append("38;5;").append(232 + random.nextInt(24)).append('m')
+                .append("(").append(random.nextInt(5000)).append(" items)").append(ESC).append("0m");
+    }
+
+    private static void truecolorLog(StringBuilder sb, Random random, int i) {
+        sb.append(ESC).append("38;2;").append(random.nextInt(256)).append(';').append(random.nextInt(256))
+                .append(';').append(random.nextInt(256)).append('m').append("▶ step ").append(i)
+                .append(ESC).append("0m").append(" downloading layer sha256:")
+                .append(Long.toHexString(random.nextLong())).append(' ')
+                .append(ESC).append("1;32m").append(random.nextInt(100)).append('%').append(ESC).append("0m");
+    }
+}
@@ -0,0 +1,90 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import org.dreamabout.sw.dockerwslmanager.logic.AnsiParser;
+import org.dreamabout.sw.dockerwslmanager.logic.LogSearchIndex;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Log view search over a full buffer: a rare term the trigram filter narrows down to a few blocks,
+ * a common regex, a regex with no literal that has to scan every line, and the indexing cost
+ * the FX thread pays per streamed batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class LogSearchBenchmark {
+    private static final int BATCH_LINES = 500;
+    private static final int NEEDLE_EVERY = 50_000;
+
+    @Param({"500000"})
+    public int lines;
+
+    private final Pattern rare = Pattern.compile("OutOfMemoryError", Pattern.LITERAL | Pattern.CASE_INSENSITIVE);
+    private final Pattern common = Pattern.compile("Completed request in \\d{3} ms");
+    private final Pattern noLiteral = Pattern.compile("\\d{5}");
+    private LogSearchIndex.Snapshot snapshot;
+    private List<LogLine> batch;
+
+    @Setup
+    public void setUp() {
+        List<LogLine> parsed = new ArrayList<>(lines);
+        AnsiParser parser = new AnsiParser((text, length, runs, runsLength) ->
+                parsed.add(LogLine.copyOf(text, length, runs, runsLength)));
+        parser.feed(LogCorpus.text("mixed", lines));
+        parser.flush();
+        for (int i = NEEDLE_EVERY / 2; i < parsed.size(); i += NEEDLE_EVERY) {
+            parsed.set(i, LogLine.of("java.lang.OutOfMemoryError: Java heap space", 0));
+        }
+        LogSearchIndex index = new LogSearchIndex();
+        for (int i = 0; i < parsed.size(); i += BATCH_LINES) {
+            index.appendAll(parsed.subList(i, Math.min(parsed.size(), i + BATCH_LINES)));
+        }
+        snapshot = index.snapshot();
+        batch = parsed.subList(0, BATCH_LINES);
+    }
+
+    @Benchmark
+    public LogSearchIndex.Matches rareLiteral() {
+        return snapshot.search(rare);
+    }
+
+    @Benchmark
+    public LogSearchIndex.Matches commonRegex() {
+        return snapshot.search(common);
+    }
+
+    @Benchmark
+    public LogSearchIndex.Matches fullScan() {
+        return snapshot.search(noLiteral);
+    }
+
+    /**
+     * Indexing one streamed batch, as done on the FX thread for every UI pulse.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LogSearchIndex indexBatch() {
+        LogSearchIndex index = new LogSearchIndex();
+        index.appendAll(batch);
+        return index;
+    }
+}
@@ -0,0 +1,157 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Compares a JMH JSON result file with a baseline recorded on the same machine and fails when a
+ * benchmark got slower, or allocates more per operation, by more than a threshold. Allocation is
+ * only compared when both runs used {@code -prof gc}.
+ *
+ * <pre>
+ * RegressionGate &lt;results.json&gt; &lt;baseline.json&gt; [threshold percent] [--record]
+ * </pre>
+ *
+ * Without a baseline the results are recorded as the baseline and the gate passes; {@code --record}
+ * replaces the baseline after comparing. Benchmarks missing from either file are reported but
+ * never fail the gate.
+ */
+public final class RegressionGate {
+    static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    static final double DEFAULT_THRESHOLD_PERCENT = 10;
+    // Allocation differences below this many bytes per operation are noise, whatever the percentage
+    static final double ALLOCATION_NOISE_BYTES = 64;
+
+    /**
+     * One benchmark result: the primary score and, if profiled, bytes allocated per operation.
+     */
+    record Result(String mode, double score, String unit, Double allocationBytes) {
+        boolean higherIsBetter() {
+            return mode.equals("thrpt");
+        }
+    }
+
+    private RegressionGate() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: RegressionGate <results.json> <baseline.json> [threshold percent] [--record]");
+            System.exit(2);
+        }
+        Path results = Path.of(args[0]);
+        Path baseline = Path.of(args[1]);
+        double threshold = args.length > 2 && !args[2].startsWith("--")
+                ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        boolean record = List.of(args).contains("--record");
+
+        if (!Files.exists(baseline)) {
+            record(results, baseline);
+            System.out.println("No baseline yet; recorded " + baseline);
+            return;
+        }
+        List<String> failures;
+        try (InputStream base = Files.newInputStream(baseline); InputStream current = Files.newInputStream(results)) {
+            failures = compare(read(base), read(current), threshold, System.out::println);
+        }
+        if (record) {
+            record(results, baseline);
+            System.out.println("Recorded " + baseline);
+        }
+        if (!failures.isEmpty()) {
+            System.err.println(failures.size() + " benchmark(s) regressed by more than " + threshold + "%:");
+            failures.forEach(f -> System.err.println("  " + f));
+            System.exit(1);
+        }
+        System.out.println("No regressions beyond " + threshold + "%");
+    }
+
+    private static void record(Path results, Path baseline) throws IOException {
+        Path parent = baseline.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.copy(results, baseline, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Reads a file written by {@code -rf json}, keyed by benchmark name and parameters,
+     * e.g. "VolumeLogicBenchmark.groupVolumes{fleetSize=1000}".
+     */
+    static Map<String, Result> read(InputStream in) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(in)) {
+            String benchmark = run.path("benchmark").asText();
+            StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.',
+                    benchmark.lastIndexOf('.') - 1) + 1));
+            Map<String, String> params = new TreeMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = run.path("params").fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                params.put(param.getKey(), param.getValue().asText());
+            }
+            if (!params.isEmpty()) {
+                key.append(params.toString().replace(", ", ","));
+            }
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode allocation = run.path("secondaryMetrics").path(ALLOCATION_METRIC);
+            results.put(key.toString(), new Result(run.path("mode").asText(), primary.path("score").asDouble(),
+                    primary.path("scoreUnit").asText(),
+                    allocation.isMissingNode() ? null : allocation.path("score").asDouble()));
+        }
+        return results;
+    }
+
+    /**
+     * Reports every benchmark through {@code report} and returns the regressions.
+     */
+    static List<String> compare(Map<String, Result> baseline, Map<String, Result> current, double thresholdPercent,
+                                Consumer<String> report) {
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            String key = entry.getKey();
+            Result now = entry.getValue();
+            Result before = baseline.get(key);
+            if (before == null) {
+                report.accept(String.format("%-70s %14.3f %s (new)", key, now.score(), now.unit()));
+                continue;
+            }
+            double change = before.score() == 0 ? 0 : (now.score() - before.score()) / before.score() * 100;
+            double slowdown = now.higherIsBetter() ? -change : change;
+            String line = String.format("%-70s %14.3f %s (%+.1f%%)", key, now.score(), now.unit(), change);
+            if (slowdown > thresholdPercent) {
+                failures.add(String.format("%s: %.3f -> %.3f %s", key, before.score(), now.score(), now.unit()));
+                line += " REGRESSION";
+            }
+            if (now.allocationBytes() != null && before.allocationBytes() != null) {
+                double extra = now.allocationBytes() - before.allocationBytes();
+                double extraPercent = extra / Math.max(before.allocationBytes(), 1) * 100;
+                line += String.format(", %.0f B/op (%+.1f%%)", now.allocationBytes(), extraPercent);
+                if (extra > ALLOCATION_NOISE_BYTES && extraPercent > thresholdPercent) {
+                    failures.add(String.format("%s: allocation %.0f -> %.0f B/op", key, before.allocationBytes(),
+                            now.allocationBytes()));
+                    line += " ALLOCATION REGRESSION";
+                }
+            }
+            report.accept(line);
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                report.accept(String.format("%-70s (not run)", key));
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,64 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import com.github.dockerjava.api.command.InspectVolumeResponse;
+import com.github.dockerjava.api.model.Container;
+import org.dreamabout.sw.dockerwslmanager.logic.VolumeLogic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The volume tab's refresh work: grouping volumes by Compose project and resolving which
+ * containers use each volume.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VolumeLogicBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int fleetSize;
+
+    private final VolumeLogic volumeLogic = new VolumeLogic();
+    private List<Container> containers;
+    private List<InspectVolumeResponse> volumes;
+
+    @Setup
+    public void setUp() throws IOException {
+        FleetData data = new FleetData(fleetSize);
+        containers = data.getContainers();
+        volumes = data.getVolumes();
+    }
+
+    @Benchmark
+    public Map<String, List<InspectVolumeResponse>> groupVolumes() {
+        return volumeLogic.groupVolumes(volumes);
+    }
+
+    @Benchmark
+    public Map<String, List<String>> mapVolumesToContainers() {
+        return volumeLogic.mapVolumesToContainers(containers);
+    }
+
+    @Benchmark
+    public Set<String> runningContainerVolumeNames() {
+        return volumeLogic.getRunningContainerVolumeNames(containers);
+    }
+}
@@ -0,0 +1,86 @@
+package org.dreamabout.sw.dockerwslmanager.benchmarks;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegressionGateTest {
+
+    private static String run(String benchmark, String mode, double score, String unit, Double allocation) {
+        String secondary = allocation == null ? "{}"
+                : "{\"gc.alloc.rate.norm\":{\"score\":" + allocation + ",\"scoreUnit\":\"B/op\"}}";
+        return "{\"benchmark\":\"org.dreamabout.sw.dockerwslmanager.benchmarks." + benchmark + "\","
+                + "\"mode\":\"" + mode + "\",\"params\":{\"fleetSize\":\"1000\"},"
+                + "\"primaryMetric\":{\"score\":" + score + ",\"scoreError\":1.0,\"scoreUnit\":\"" + unit + "\"},"
+                + "\"secondaryMetrics\":" + secondary + "}";
+    }
+
+    private static Map<String, RegressionGate.Result> read(String... runs) throws IOException {
+        String json = "[" + String.join(",", runs) + "]";
+        return RegressionGate.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> compare(Map<String, RegressionGate.Result> baseline,
+                                        Map<String, RegressionGate.Result> current) {
+        return RegressionGate.compare(baseline, current, 10, line -> { });
+    }
+
+    @Test
+    void testReadKeysByBenchmarkAndParams() throws IOException {
+        Map<String, RegressionGate.Result> results = read(run("VolumeLogicBenchmark.groupVolumes", "thrpt",
+                1500, "ops/s", 2048.0));
+
+        RegressionGate.Result result = results.get("VolumeLogicBenchmark.groupVolumes{fleetSize=1000}");
+        assertNotNull(result);
+        assertEquals(1500, result.score());
+        assertEquals(2048.0, result.allocationBytes());
+        assertTrue(result.higherIsBetter());
+    }
+
+    @Test
+    void testThroughputDropBeyondThresholdFails() throws IOException {
+        var baseline = read(run("A.a", "thrpt", 1000, "ops/s", null), run("B.b", "thrpt", 1000, "ops/s", null));
+        var current = read(run("A.a", "thrpt", 850, "ops/s", null), run("B.b", "thrpt", 950, "ops/s", null));
+
+        List<String> failures = compare(baseline, current);
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0).startsWith("A.a{fleetSize=1000}"));
+    }
+
+    @Test
+    void testAverageTimeIncreaseFails() throws IOException {
+        var baseline = read(run("A.a", "avgt", 10, "ms/op", null));
+
+        assertEquals(1, compare(baseline, read(run("A.a", "avgt", 12, "ms/op", null))).size());
+        assertTrue(compare(baseline, read(run("A.a", "avgt", 8, "ms/op", null))).isEmpty());
+    }
+
+    @Test
+    void testAllocationIncreaseFailsAboveNoise() throws IOException {
+        var baseline = read(run("A.a", "thrpt", 1000, "ops/s", 10_000.0), run("B.b", "thrpt", 1000, "ops/s", 100.0));
+        var current = read(run("A.a", "thrpt", 1000, "ops/s", 12_000.0), run("B.b", "thrpt", 1000, "ops/s", 150.0));
+
+        List<String> failures = compare(baseline, current);
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0).contains("allocation 10000 -> 12000 B/op"));
+    }
+
+    @Test
+    void testNewAndMissingBenchmarksAreReportedOnly() throws IOException {
+        var baseline = read(run("A.a", "thrpt", 1000, "ops/s", null));
+        var current = read(run("B.b", "thrpt", 1, "ops/s", null));
+        List<String> report = new ArrayList<>();
+
+        assertTrue(RegressionGate.compare(baseline, current, 10, report::add).isEmpty());
+        assertEquals(2, report.size());
+        assertTrue(report.get(0).endsWith("(new)"));
+        assertTrue(report.get(1).endsWith("(not run)"));
+    }
+}
@@ -3,7 +3,9 @@
 
 param(
     [string]$Version = "1.0.0",
-    [string]$OutputDir = "release"
+    [string]$OutputDir = "release",
+    # Skip training the class-data-sharing archive, e.g. on a machine without a desktop session
+    [switch]$SkipCds
 )
 
 Write-Host "========================================" -ForegroundColor Cyan
@@ -23,7 +25,8 @@ if ($LASTEXITCODE -ne 0) {
 # Step 2: Build with release profile
 Write-Host ""
 Write-Host "[2/5] Building release package..." -ForegroundColor Yellow
-mvn package -P release -DskipTests
+$profiles = if ($SkipCds) { "release" } else { "release,cds" }
+mvn package -P $profiles -DskipTests
 if ($LASTEXITCODE -ne 0) {
     Write-Host "ERROR: Build failed!" -ForegroundColor Red
     exit 1
@@ -44,7 +47,14 @@ Write-Host "[4/5] Copying release artifacts..." -ForegroundColor Yellow
 $standaloneName = "docker-wsl-manager-$Version-standalone.jar"
 $targetJar = "target\$standaloneName"
 
-if (Test-Path $targetJar) {
+$cdsArchive = "target\cds\docker-wsl-manager.jsa"
+
+if (-not $SkipCds -and (Test-Path $cdsArchive)) {
+    # The archive is only valid for the exact JAR it was trained with, so ship that copy
+    Copy-Item "target\cds\docker-wsl-manager.jar" "$OutputDir\"
+    Copy-Item $cdsArchive "$OutputDir\"
+    Write-Host "  [OK] Copied standalone JAR and CDS archive" -ForegroundColor Green
+} elseif (Test-Path $targetJar) {
     Copy-Item $targetJar "$OutputDir\docker-wsl-manager.jar"
     Write-Host "  [OK] Copied standalone JAR" -ForegroundColor Green
 } else {
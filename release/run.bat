@@ -15,8 +15,15 @@ if %errorlevel% neq 0 (
     exit /b 1
 )
 
+set APP_JAR=docker-wsl-manager.jar
+
+REM Use the class-data-sharing archive of the release build, if present, for a faster start.
+REM It was trained on docker-wsl-manager.jar only; the JVM warns about and ignores it for any other JAR.
+set CDS_OPTS=
+if "%APP_JAR%"=="docker-wsl-manager.jar" if exist docker-wsl-manager.jsa set CDS_OPTS=-XX:SharedArchiveFile=docker-wsl-manager.jsa
+
 REM Run the application
-java -jar docker-wsl-manager.jar
+java %CDS_OPTS% -jar %APP_JAR%
 
 if %errorlevel% neq 0 (
     echo.
@@ -0,0 +1,95 @@
+package org.dreamabout.sw.dockerwslmanager;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.stage.Modality;
+import org.dreamabout.sw.dockerwslmanager.service.BatchOperationExecutor.DependencyFailedException;
+import org.dreamabout.sw.dockerwslmanager.service.BatchOperationExecutor.Status;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Non-modal dialog listing the containers of a running batch with their current status.
+ * Closing it cancels whatever has not started yet. Must be used on the FX thread.
+ */
+public final class BatchProgressDialog extends Dialog<Void> {
+    private final Map<String, String> names;
+    private final Map<String, Integer> rowIndex = new HashMap<>();
+    private final ObservableList<String> rows = FXCollections.observableArrayList();
+    private final ProgressBar progressBar = new ProgressBar(0);
+    private final Label summary = new Label();
+    private int finished;
+
+    /**
+     * Creates the dialog with every container pending.
+     *
+     * @param names Display names by container ID, in display order.
+     */
+    public BatchProgressDialog(String title, Map<String, String> names) {
+        this.names = new LinkedHashMap<>(names);
+        setTitle(title);
+        setHeaderText(title);
+        initModality(Modality.NONE);
+        setResizable(true);
+        getDialogPane().getButtonTypes().add(ButtonType.CANCEL);
+
+        for (Map.Entry<String, String> entry : this.names.entrySet()) {
+            rowIndex.put(entry.getKey(), rows.size());
+            rows.add(format(entry.getValue(), Status.PENDING, null, this.names));
+        }
+        ListView<String> list = new ListView<>(rows);
+        list.setPrefSize(420, Math.min(400, 26.0 * rows.size() + 4));
+        progressBar.setMaxWidth(Double.MAX_VALUE);
+        updateSummary();
+
+        VBox content = new VBox(8, progressBar, summary, list);
+        getDialogPane().setContent(content);
+    }
+
+    /**
+     * Shows a status change of one container.
+     */
+    public void update(String id, Status status, Exception error) {
+        Integer index = rowIndex.get(id);
+        if (index == null) {
+            return;
+        }
+        rows.set(index, format(names.get(id), status, error, names));
+        if (status != Status.PENDING && status != Status.RUNNING) {
+            finished++;
+            updateSummary();
+        }
+    }
+
+    private void updateSummary() {
+        progressBar.setProgress(names.isEmpty() ? 1 : (double) finished / names.size());
+        summary.setText(finished + " of " + names.size() + " finished");
+    }
+
+    /**
+     * Why a container was skipped, e.g. "skipped, db failed", naming the dependency by its display name.
+     */
+    static String skipReason(DependencyFailedException skip, Map<String, String> names) {
+        return "skipped, " + names.getOrDefault(skip.getDependency(), skip.getDependency())
+                + (skip.getDependencyStatus() == Status.FAILED ? " failed" : " was cancelled");
+    }
+
+    private static String format(String name, Status status, Exception error, Map<String, String> names) {
+        String text = switch (status) {
+            case PENDING -> "waiting";
+            case RUNNING -> "running…";
+            case SUCCEEDED -> "done";
+            case FAILED -> "failed" + (error != null && error.getMessage() != null ? ": " + error.getMessage() : "");
+            case CANCELLED -> error instanceof DependencyFailedException skip ? skipReason(skip, names) : "cancelled";
+        };
+        return name + " — " + text;
+    }
+}
@@ -0,0 +1,80 @@
+package org.dreamabout.sw.dockerwslmanager;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.VBox;
+import javafx.stage.Modality;
+import org.dreamabout.sw.dockerwslmanager.logic.FormatUtils;
+import org.dreamabout.sw.dockerwslmanager.model.DiskUsage;
+
+import java.util.function.Function;
+
+/**
+ * Non-modal dialog with the {@code docker system df} overview and the build cache records,
+ * which have no tab of their own. Must be used on the FX thread.
+ */
+public final class DiskUsageDialog extends Dialog<Void> {
+
+    public DiskUsageDialog(DiskUsage usage) {
+        setTitle("Disk Usage");
+        setHeaderText("Docker disk usage");
+        initModality(Modality.NONE);
+        setResizable(true);
+        getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+        TableView<DiskUsage.Summary> summaryTable = new TableView<>(FXCollections.observableArrayList(
+                usage.getSummaries()));
+        summaryTable.getColumns().add(textColumn("Type", 140, DiskUsage.Summary::getType));
+        summaryTable.getColumns().add(textColumn("Total", 70, s -> String.valueOf(s.getTotalCount())));
+        summaryTable.getColumns().add(textColumn("Active", 70, s -> String.valueOf(s.getActive())));
+        summaryTable.getColumns().add(sizeColumn("Size", DiskUsage.Summary::getSize));
+        summaryTable.getColumns().add(sizeColumn("Reclaimable", DiskUsage.Summary::getReclaimable));
+        summaryTable.setPrefHeight(140);
+        summaryTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
+
+        TableView<DiskUsage.BuildCacheEntry> cacheTable = new TableView<>(FXCollections.observableArrayList(
+                usage.getBuildCache()));
+        cacheTable.getColumns().add(textColumn("Cache ID", 120, DiskUsage.BuildCacheEntry::getId));
+        cacheTable.getColumns().add(textColumn("Type", 110, DiskUsage.BuildCacheEntry::getCacheType));
+        cacheTable.getColumns().add(sizeColumn("Size", DiskUsage.BuildCacheEntry::getSize));
+        cacheTable.getColumns().add(textColumn("Last Used", 110, DiskUsage.BuildCacheEntry::getLastUsedSince));
+        cacheTable.getColumns().add(textColumn("Usage", 60, e -> String.valueOf(e.getUsageCount())));
+        cacheTable.getColumns().add(textColumn("In Use", 60, e -> e.isInUse() ? "yes" : ""));
+        cacheTable.getColumns().add(textColumn("Shared", 60, e -> e.isShared() ? "yes" : ""));
+        cacheTable.setPlaceholder(new Label("No build cache"));
+        cacheTable.setPrefSize(720, 300);
+
+        getDialogPane().setContent(new VBox(8, summaryTable, new Label("Build cache"), cacheTable));
+    }
+
+    private static <T> TableColumn<T, String> textColumn(String title, double width, Function<T, String> value) {
+        TableColumn<T, String> column = new TableColumn<>(title);
+        column.setPrefWidth(width);
+        column.setCellValueFactory(data -> new SimpleStringProperty(value.apply(data.getValue())));
+        return column;
+    }
+
+    /**
+     * Column holding bytes, so it sorts numerically, displayed as a formatted size.
+     */
+    private static <T> TableColumn<T, Long> sizeColumn(String title, Function<T, Long> value) {
+        TableColumn<T, Long> column = new TableColumn<>(title);
+        column.setPrefWidth(110);
+        column.setCellValueFactory(data -> new SimpleObjectProperty<>(value.apply(data.getValue())));
+        column.setCellFactory(c -> new TableCell<>() {
+            @Override
+            protected void updateItem(Long bytes, boolean empty) {
+                super.updateItem(bytes, empty);
+                setText(empty || bytes == null ? null : FormatUtils.formatSize(bytes));
+            }
+        });
+        return column;
+    }
+}
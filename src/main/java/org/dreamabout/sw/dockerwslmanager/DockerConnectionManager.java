@@ -6,22 +6,63 @@ import com.github.dockerjava.core.DockerClientBuilder;
 import com.github.dockerjava.core.DockerClientConfig;
 import com.github.dockerjava.httpclient5.ApacheDockerHttpClient;
 import com.github.dockerjava.transport.DockerHttpClient;
+import org.dreamabout.sw.dockerwslmanager.model.EndpointProbe;
+import org.dreamabout.sw.dockerwslmanager.model.TransportProfile;
+import org.dreamabout.sw.dockerwslmanager.model.TransportSettings;
+import org.dreamabout.sw.dockerwslmanager.service.DiscoveryService;
+import org.dreamabout.sw.dockerwslmanager.service.EndpointProber;
+import org.dreamabout.sw.dockerwslmanager.service.MeteredDockerHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
 
+/**
+ * Owns the Docker clients of the current connection: one per {@link TransportProfile}, each with
+ * its own connection pool and timeouts.
+ */
 public class DockerConnectionManager {
     private static final Logger logger = LoggerFactory.getLogger(DockerConnectionManager.class);
-    private DockerClient dockerClient;
-    private String currentConnectionString;
+    private static final String UNIX_SOCKET_PATH = "/var/run/docker.sock";
+    private static final String NPIPE_HOST = "npipe:////./pipe/docker_engine";
+    private static final int DOCKER_TCP_PORT = 2375;
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(2);
+    private final EndpointProber endpointProber = new EndpointProber(this::pingEndpoint);
+    private final DiscoveryService discoveryService;
+    private final Map<TransportProfile, TransportSettings> transportSettings = new EnumMap<>(TransportProfile.class);
+    private volatile Map<TransportProfile, DockerClient> dockerClients;
+    private volatile Map<TransportProfile, MeteredDockerHttpClient> httpClients;
+    private volatile String currentConnectionString;
+    private volatile long currentLatencyNanos = -1;
 
     public DockerConnectionManager() {
-        // Default constructor
+        this(new DiscoveryService());
+    }
+
+    /**
+     * Creates a manager that takes the WSL IP from, and records good endpoints in, the given service.
+     */
+    public DockerConnectionManager(DiscoveryService discoveryService) {
+        this.discoveryService = discoveryService;
+        for (TransportProfile profile : TransportProfile.values()) {
+            transportSettings.put(profile, profile.getDefaults());
+        }
+    }
+
+    /**
+     * Sets the pool size and timeouts of a profile; takes effect on the next connect.
+     */
+    public synchronized void setTransportSettings(TransportProfile profile, TransportSettings settings) {
+        transportSettings.put(profile, settings);
     }
 
     /**
@@ -67,23 +108,27 @@ public class DockerConnectionManager {
     }
 
     /**
-     * Auto-discover Docker in WSL using wsl command.
+     * Auto-discover Docker: probes every endpoint that may serve the daemon and connects to the
+     * one with the fastest ping. Every call probes again, so a reconnect can switch transports.
      */
     public boolean connectAutoDiscover() {
         try {
-            logger.info("Auto-discovering Docker in WSL...");
-            
-            // Try to get WSL IP address
-            String wslIp = getWslIpAddress();
-            if (wslIp == null) {
-                logger.error("Failed to discover WSL IP address");
-                return false;
+            logger.info("Auto-discovering Docker endpoints...");
+            for (EndpointProbe probe : endpointProber.probe(getCandidateEndpoints())) {
+                if (!probe.isReachable()) {
+                    break;
+                }
+                DockerClientConfig config = DefaultDockerClientConfig.createDefaultConfigBuilder()
+                        .withDockerHost(probe.getDockerHost())
+                        .build();
+                if (connectWithConfig(config, probe.getDockerHost())) {
+                    currentLatencyNanos = probe.getLatencyNanos();
+                    discoveryService.rememberEndpoint(probe.getDockerHost());
+                    return true;
+                }
             }
-            
-            logger.info("Discovered WSL IP: {}", wslIp);
-            
-            // Try standard Docker port
-            return connectManual(wslIp, 2375);
+            logger.error("No Docker endpoint is reachable");
+            return false;
         } catch (Exception e) {
             logger.error("Failed to auto-discover Docker in WSL", e);
             return false;
@@ -91,78 +136,172 @@ public class DockerConnectionManager {
     }
 
     /**
-     * Get WSL IP address using wsl command.
+     * Endpoints worth probing, in order of preference when equally fast: DOCKER_HOST, the local
+     * socket or named pipe, TCP into the WSL VM and TCP forwarded to localhost.
      */
-    private String getWslIpAddress() {
-        try {
-            // Try to execute: wsl hostname -I
-            ProcessBuilder pb = new ProcessBuilder("wsl", "hostname", "-I");
-            Process process = pb.start();
-            
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-                String line = reader.readLine();
-                
-                int exitCode = process.waitFor();
-                if (exitCode == 0 && line != null && !line.isEmpty()) {
-                    // hostname -I may return multiple IPs, take the first one
-                    String[] ips = line.trim().split("\\s+");
-                    return ips[0];
-                }
+    private List<String> getCandidateEndpoints() {
+        List<String> candidates = new ArrayList<>();
+        String dockerHost = System.getenv("DOCKER_HOST");
+        if (dockerHost != null && !dockerHost.isBlank()) {
+            candidates.add(dockerHost.trim());
+        }
+        if (Files.exists(Path.of(UNIX_SOCKET_PATH))) {
+            candidates.add("unix://" + UNIX_SOCKET_PATH);
+        }
+        if (isWindows()) {
+            candidates.add(NPIPE_HOST);
+            String wslIp = discoveryService.awaitWslIp();
+            if (wslIp != null) {
+                logger.info("Discovered WSL IP: {}", wslIp);
+                candidates.add(String.format("tcp://%s:%d", wslIp, DOCKER_TCP_PORT));
             }
-        } catch (IOException | InterruptedException e) {
-            logger.error("Failed to get WSL IP address", e);
-            if (e instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
+        }
+        candidates.add(String.format("tcp://localhost:%d", DOCKER_TCP_PORT));
+        return candidates;
+    }
+
+    /**
+     * Connects straight to the endpoint that worked last time, skipping discovery and probing.
+     * Callers should follow up with {@link #revalidateEndpoint()} off the critical path.
+     */
+    public boolean connectCached() {
+        String dockerHost = discoveryService.getCachedEndpoint();
+        if (dockerHost == null) {
+            return false;
+        }
+        logger.info("Connecting to last known-good endpoint: {}", dockerHost);
+        DockerClientConfig config = DefaultDockerClientConfig.createDefaultConfigBuilder()
+                .withDockerHost(dockerHost)
+                .build();
+        return connectWithConfig(config, dockerHost);
+    }
+
+    /**
+     * Probes all endpoints again and records the fastest for the next launch. The current
+     * connection is kept, as switching would interrupt open streams; a reconnect picks the new one.
+     *
+     * @return the fastest reachable endpoint, or null if none is reachable.
+     */
+    public EndpointProbe revalidateEndpoint() {
+        List<EndpointProbe> probes = endpointProber.probe(getCandidateEndpoints());
+        if (probes.isEmpty() || !probes.get(0).isReachable()) {
+            return null;
+        }
+        EndpointProbe fastest = probes.get(0);
+        if (!fastest.getDockerHost().equals(currentConnectionString)) {
+            logger.info("Faster endpoint {} found; it will be used on the next connect", fastest);
+        }
+        discoveryService.rememberEndpoint(fastest.getDockerHost());
+        return fastest;
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name", "").startsWith("Windows");
+    }
+
+    /**
+     * Pings an endpoint over a throwaway single-connection client and returns the best round trip.
+     */
+    private long pingEndpoint(String dockerHost, int attempts) throws IOException {
+        DockerClientConfig config = DefaultDockerClientConfig.createDefaultConfigBuilder()
+                .withDockerHost(dockerHost)
+                .build();
+        DockerHttpClient.Request request = DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path("/_ping")
+                .build();
+        try (DockerHttpClient client = new ApacheDockerHttpClient.Builder()
+                .dockerHost(config.getDockerHost())
+                .sslConfig(config.getSSLConfig())
+                .maxConnections(1)
+                .connectionTimeout(PROBE_TIMEOUT)
+                .responseTimeout(PROBE_TIMEOUT)
+                .build()) {
+            long best = Long.MAX_VALUE;
+            for (int i = 0; i < attempts; i++) {
+                long start = System.nanoTime();
+                try (DockerHttpClient.Response response = client.execute(request);
+                     InputStream body = response.getBody()) {
+                    // Drain the body so the connection is reused by the next attempt
+                    body.readAllBytes();
+                    if (response.getStatusCode() != 200) {
+                        throw new IOException("Ping returned HTTP " + response.getStatusCode());
+                    }
+                }
+                best = Math.min(best, System.nanoTime() - start);
             }
+            return best;
         }
-        return null;
     }
 
     /**
      * Connect with a specific Docker client configuration.
      */
-    private boolean connectWithConfig(DockerClientConfig config, String connectionString) {
+    private synchronized boolean connectWithConfig(DockerClientConfig config, String connectionString) {
+        disconnect();
+        Map<TransportProfile, DockerClient> clients = new EnumMap<>(TransportProfile.class);
+        Map<TransportProfile, MeteredDockerHttpClient> metered = new EnumMap<>(TransportProfile.class);
         try {
-            DockerHttpClient httpClient = new ApacheDockerHttpClient.Builder()
-                    .dockerHost(config.getDockerHost())
-                    .sslConfig(config.getSSLConfig())
-                    .maxConnections(100)
-                    .connectionTimeout(Duration.ofSeconds(30))
-                    // Use longer timeout for log streaming operations which may have long idle periods
-                    .responseTimeout(Duration.ofMinutes(5))
-                    .build();
-            
-            dockerClient = DockerClientBuilder.getInstance(config)
-                    .withDockerHttpClient(httpClient)
-                    .build();
-            
+            for (TransportProfile profile : TransportProfile.values()) {
+                TransportSettings settings = transportSettings.get(profile);
+                MeteredDockerHttpClient httpClient = new MeteredDockerHttpClient(
+                        new ApacheDockerHttpClient.Builder()
+                                .dockerHost(config.getDockerHost())
+                                .sslConfig(config.getSSLConfig())
+                                .maxConnections(settings.maxConnections())
+                                .connectionTimeout(timeout(settings.connectTimeoutSeconds()))
+                                .responseTimeout(timeout(settings.responseTimeoutSeconds()))
+                                .build(),
+                        settings.maxConnections());
+                metered.put(profile, httpClient);
+                clients.put(profile, DockerClientBuilder.getInstance(config)
+                        .withDockerHttpClient(httpClient)
+                        .build());
+            }
+
             // Test connection by pinging
-            dockerClient.pingCmd().exec();
-            
+            final long start = System.nanoTime();
+            clients.get(TransportProfile.REQUEST).pingCmd().exec();
+
+            dockerClients = clients;
+            httpClients = metered;
             currentConnectionString = connectionString;
-            logger.info("Successfully connected to Docker");
+            currentLatencyNanos = System.nanoTime() - start;
+            logger.info("Successfully connected to Docker (pools: {})", transportSettings);
             return true;
         } catch (Exception e) {
             logger.error("Failed to establish Docker connection", e);
-            dockerClient = null;
-            currentConnectionString = null;
+            closeAll(clients);
             return false;
         }
     }
 
-    /**
-     * Disconnect from Docker.
-     */
-    public void disconnect() {
-        if (dockerClient != null) {
+    private static Duration timeout(int seconds) {
+        // The HTTP client treats a missing timeout as no timeout
+        return seconds > 0 ? Duration.ofSeconds(seconds) : null;
+    }
+
+    private static void closeAll(Map<TransportProfile, DockerClient> clients) {
+        for (DockerClient client : clients.values()) {
             try {
-                dockerClient.close();
+                client.close();
             } catch (Exception e) {
                 logger.error("Error closing Docker client", e);
             }
-            dockerClient = null;
+        }
+    }
+
+    /**
+     * Disconnect from Docker.
+     */
+    public synchronized void disconnect() {
+        Map<TransportProfile, DockerClient> clients = dockerClients;
+        if (clients != null) {
+            dockerClients = null;
+            httpClients = null;
             currentConnectionString = null;
+            currentLatencyNanos = -1;
+            closeAll(clients);
         }
     }
 
@@ -170,14 +309,44 @@ public class DockerConnectionManager {
      * Check if connected to Docker.
      */
     public boolean isConnected() {
-        return dockerClient != null;
+        return dockerClients != null;
     }
 
     /**
-     * Get the Docker client.
+     * Get the Docker client for short request/response calls.
      */
     public DockerClient getDockerClient() {
-        return dockerClient;
+        return getDockerClient(TransportProfile.REQUEST);
+    }
+
+    /**
+     * Get the Docker client whose connection pool serves the given kind of traffic.
+     */
+    public DockerClient getDockerClient(TransportProfile profile) {
+        Map<TransportProfile, DockerClient> clients = dockerClients;
+        return clients == null ? null : clients.get(profile);
+    }
+
+    /**
+     * Number of connections currently checked out of a profile's pool, or 0 when not connected.
+     */
+    public int getLeasedConnections(TransportProfile profile) {
+        Map<TransportProfile, MeteredDockerHttpClient> clients = httpClients;
+        return clients == null ? 0 : clients.get(profile).getLeased();
+    }
+
+    /**
+     * Pool utilization of every profile, e.g. "request 1/16 (peak 3), stream 12/64 (peak 12), ...".
+     */
+    public String describePoolUsage() {
+        Map<TransportProfile, MeteredDockerHttpClient> clients = httpClients;
+        if (clients == null) {
+            return "Not connected";
+        }
+        StringJoiner joiner = new StringJoiner(", ");
+        clients.forEach((profile, client) -> joiner.add(String.format("%s %d/%d (peak %d)",
+                profile.getKey(), client.getLeased(), client.getMaxConnections(), client.getPeak())));
+        return joiner.toString();
     }
 
     /**
@@ -187,10 +356,26 @@ public class DockerConnectionManager {
         return currentConnectionString;
     }
 
+    /**
+     * Transport of the current connection, e.g. "npipe", "unix" or "tcp"; null when not connected.
+     */
+    public String getCurrentTransport() {
+        String connection = currentConnectionString;
+        return connection == null ? null : EndpointProbe.transportOf(connection);
+    }
+
+    /**
+     * Ping round-trip time measured when connecting, or -1 when not connected.
+     */
+    public long getCurrentLatencyNanos() {
+        return currentLatencyNanos;
+    }
+
     /**
      * Test connection.
      */
     public boolean testConnection() {
+        DockerClient dockerClient = getDockerClient();
         if (dockerClient == null) {
             return false;
         }
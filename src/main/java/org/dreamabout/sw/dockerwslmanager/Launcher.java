@@ -0,0 +1,16 @@
+package org.dreamabout.sw.dockerwslmanager;
+
+/**
+ * Entry point of the standalone JAR. The java launcher refuses to start a main class extending
+ * {@link javafx.application.Application} from the class path unless JavaFX is on the module path,
+ * so the JAR starts through this plain class instead of {@link Main}.
+ */
+public final class Launcher {
+
+    private Launcher() {
+    }
+
+    public static void main(String[] args) {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,106 @@
+package org.dreamabout.sw.dockerwslmanager;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import org.dreamabout.sw.dockerwslmanager.logic.FormatUtils;
+import org.dreamabout.sw.dockerwslmanager.logic.LogArchive;
+import org.dreamabout.sw.dockerwslmanager.logic.LogArchiveLines;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Scrolls through a whole archived log session, however large, reading only the lines on screen from the
+ * archive's mapped segments, and jumps to the first line at a given local time. Must be used on the FX thread.
+ */
+public final class LogArchiveBrowser extends BorderPane {
+    private static final String ERROR_STYLE = "-fx-text-fill: #d32f2f;";
+
+    private final LogArchive archive;
+    private final LogArchiveLines lines;
+    private final ListView<LogLine> listView = new ListView<>();
+    private final TextField timeField = new TextField();
+    private final Label statusLabel = new Label();
+
+    public LogArchiveBrowser(LogArchive archive) {
+        this.archive = archive;
+        this.lines = new LogArchiveLines(archive);
+        listView.setItems(lines);
+        listView.setFixedCellSize(LogLineCell.LINE_HEIGHT);
+        listView.setCellFactory(lv -> new LogLineCell());
+        listView.setStyle("-fx-control-inner-background: black; -fx-control-inner-background-alt: black; "
+                + "-fx-background-color: black;");
+
+        timeField.setPromptText("HH:mm:ss or yyyy-MM-dd HH:mm:ss");
+        timeField.setOnAction(e -> goToTime());
+        Button goButton = new Button("Go");
+        goButton.setOnAction(e -> goToTime());
+        Button refreshButton = new Button("↻ Refresh");
+        refreshButton.setOnAction(e -> refresh());
+        Button endButton = new Button("⤓ End");
+        endButton.setOnAction(e -> {
+            refresh();
+            listView.scrollTo(Math.max(0, lines.size() - 1));
+        });
+        HBox toolbar = new HBox(6, new Label("Go to time:"), timeField, goButton, refreshButton, endButton,
+                statusLabel);
+        toolbar.setAlignment(Pos.CENTER_LEFT);
+        toolbar.setPadding(new Insets(4, 6, 4, 6));
+        HBox.setHgrow(statusLabel, Priority.ALWAYS);
+
+        setTop(toolbar);
+        setCenter(listView);
+        showStatus();
+    }
+
+    /**
+     * Shows the lines archived since the browser was opened or last refreshed.
+     */
+    public void refresh() {
+        lines.refresh();
+        showStatus();
+    }
+
+    private void goToTime() {
+        String text = timeField.getText().trim();
+        LocalDateTime time;
+        try {
+            time = text.length() <= 8 ? LocalDate.now().atTime(LocalTime.parse(text))
+                    : LocalDateTime.parse(text.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            setStatus("Invalid time: " + text, true);
+            return;
+        }
+        refresh();
+        try {
+            long timestamp = time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() * 1_000_000L;
+            int index = lines.indexAt(timestamp);
+            listView.getSelectionModel().clearAndSelect(index);
+            listView.scrollTo(index);
+        } catch (IOException e) {
+            setStatus("Failed to read archive: " + e.getMessage(), true);
+        }
+    }
+
+    private void showStatus() {
+        setStatus(String.format("%,d lines, %s in %s", lines.size(), FormatUtils.formatSize(archive.getBytesWritten()),
+                archive.getDirectory()), false);
+    }
+
+    private void setStatus(String text, boolean error) {
+        statusLabel.setText(text);
+        statusLabel.setStyle(error ? ERROR_STYLE : "");
+    }
+}
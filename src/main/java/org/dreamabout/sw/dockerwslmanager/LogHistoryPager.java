@@ -0,0 +1,119 @@
+package org.dreamabout.sw.dockerwslmanager;
+
+import javafx.application.Platform;
+import org.dreamabout.sw.dockerwslmanager.logic.LogHistoryWindow;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.dreamabout.sw.dockerwslmanager.service.LogHistoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Scroll-back for a {@link LogView} that starts from a short live tail: when the user scrolls to the first
+ * line, the next older time window is fetched in the background and prepended, leaving the live tail alone.
+ * Empty windows are skipped until lines turn up or the container's creation is reached. Paging stops once
+ * the view's buffer is full. Must be used on the FX thread.
+ */
+public final class LogHistoryPager implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(LogHistoryPager.class);
+    /** Empty windows fetched in one go before waiting for the user to scroll again. */
+    private static final int MAX_EMPTY_WINDOWS = 32;
+    private static final ExecutorService HISTORY_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "log-history");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LogView logView;
+    private final LogHistoryService service;
+    private final String containerId;
+    private final int pageLines;
+    private final LogHistoryWindow window;
+    // Only lines logged before this are fetched: the oldest line shown, in epoch nanoseconds
+    private long before;
+    private Future<?> pending;
+    private boolean full;
+    private boolean closed;
+
+    /**
+     * Attaches to the view, which then loads older lines whenever it is scrolled to the top.
+     *
+     * @param createdSecond epoch second the container was created, where paging ends.
+     * @param pageLines     lines fetched per window.
+     */
+    public LogHistoryPager(LogView logView, LogHistoryService service, String containerId, long createdSecond,
+                           int pageLines) {
+        this.logView = logView;
+        this.service = service;
+        this.containerId = containerId;
+        this.pageLines = pageLines;
+        this.window = new LogHistoryWindow(createdSecond, pageLines);
+        logView.setOnScrolledToTop(this::loadOlder);
+    }
+
+    /**
+     * Fetches the next older page unless one is on its way or there is nothing more to fetch.
+     */
+    public void loadOlder() {
+        if (closed || full || pending != null || window.isExhausted()) {
+            return;
+        }
+        if (!window.isStarted()) {
+            long oldest = logView.getOldestTimestamp();
+            if (oldest == LogLine.NO_TIMESTAMP) {
+                return;
+            }
+            before = oldest;
+            window.start(oldest, logView.getNewestTimestamp(), logView.getLineCount());
+            if (window.isExhausted()) {
+                return;
+            }
+        }
+        fetch(MAX_EMPTY_WINDOWS);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        logView.setOnScrolledToTop(null);
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+
+    private void fetch(int emptyWindowsLeft) {
+        int since = window.getSince();
+        int until = window.getUntil();
+        long fetchBefore = before;
+        pending = HISTORY_EXECUTOR.submit(() -> {
+            try {
+                LogHistoryService.Page page = service.fetch(containerId, since, until, fetchBefore, pageLines);
+                Platform.runLater(() -> completed(page, emptyWindowsLeft));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                logger.warn("Failed to fetch earlier logs for container {}", containerId, e);
+                Platform.runLater(() -> pending = null);
+            }
+        });
+    }
+
+    private void completed(LogHistoryService.Page page, int emptyWindowsLeft) {
+        if (closed) {
+            return;
+        }
+        pending = null;
+        window.completed(page.lines().size(), page.truncated(), page.getOldestTimestamp());
+        if (!page.lines().isEmpty()) {
+            before = page.getOldestTimestamp();
+            full = logView.prependLines(page.lines()) < page.lines().size();
+        } else if (!window.isExhausted() && emptyWindowsLeft > 1) {
+            fetch(emptyWindowsLeft - 1);
+        }
+    }
+}
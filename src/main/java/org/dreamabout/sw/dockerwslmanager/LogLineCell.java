@@ -0,0 +1,66 @@
+package org.dreamabout.sw.dockerwslmanager;
+
+import javafx.scene.control.ListCell;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
+import org.dreamabout.sw.dockerwslmanager.logic.LogStyle;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renders one {@link LogLine} with its colours, for the live log view and the archive browser alike.
+ */
+final class LogLineCell extends ListCell<LogLine> {
+    static final double LINE_HEIGHT = 16;
+    private static final String FONT_FAMILY = "Courier New";
+    private static final Font REGULAR_FONT = Font.font(FONT_FAMILY, 12);
+    private static final Font BOLD_FONT = Font.font(FONT_FAMILY, FontWeight.BOLD, 12);
+    // Cells only exist on the FX thread, so the cache needs no locking
+    private static final Map<Integer, Color> COLORS = new HashMap<>();
+
+    private final TextFlow flow = new TextFlow();
+
+    LogLineCell() {
+        setFont(REGULAR_FONT);
+    }
+
+    @Override
+    protected void updateItem(LogLine line, boolean empty) {
+        super.updateItem(line, empty);
+        if (empty || line == null) {
+            setText(null);
+            setGraphic(null);
+            return;
+        }
+        if (line.getRunCount() <= 1) {
+            int style = line.getRunCount() == 1 ? line.getRunStyle(0) : LogStyle.DEFAULT;
+            setGraphic(null);
+            setText(line.toString());
+            setTextFill(color(style));
+            setFont(LogStyle.isBold(style) ? BOLD_FONT : REGULAR_FONT);
+            return;
+        }
+        // Multi-coloured line: one Text per style run, only for lines currently on screen
+        char[] chars = line.getChars();
+        flow.getChildren().clear();
+        for (int run = 0; run < line.getRunCount(); run++) {
+            int style = line.getRunStyle(run);
+            Text text = new Text(new String(chars, line.getRunOffset(run), line.getRunLength(run)));
+            text.setFill(color(style));
+            text.setFont(LogStyle.isBold(style) ? BOLD_FONT : REGULAR_FONT);
+            flow.getChildren().add(text);
+        }
+        setText(null);
+        setGraphic(flow);
+    }
+
+    private static Color color(int style) {
+        return COLORS.computeIfAbsent(LogStyle.rgb(style),
+                rgb -> Color.rgb((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF));
+    }
+}
@@ -0,0 +1,176 @@
+package org.dreamabout.sw.dockerwslmanager;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import org.dreamabout.sw.dockerwslmanager.logic.LogSearchIndex;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Find bar for a {@link LogView}, opened with Ctrl+F. Searches as the user types, plain text or regex,
+ * shows the match count and steps through matches with Enter / Shift+Enter. Hidden until opened.
+ * Must be used on the FX thread.
+ */
+public final class LogSearchBar extends HBox {
+    private static final String ERROR_STYLE = "-fx-text-fill: #d32f2f;";
+
+    private final LogView logView;
+    private final TextField queryField = new TextField();
+    private final CheckBox regexBox = new CheckBox("Regex");
+    private final CheckBox matchCaseBox = new CheckBox("Match case");
+    private final Label statusLabel = new Label();
+
+    private Pattern pattern;
+    private LogSearchIndex.Matches matches;
+    // Index of the current match in matches, or -1 before the first step
+    private int current = -1;
+
+    public LogSearchBar(LogView logView) {
+        super(6);
+        this.logView = logView;
+        setAlignment(Pos.CENTER_LEFT);
+        setPadding(new Insets(4, 6, 4, 6));
+        setVisible(false);
+        setManaged(false);
+
+        queryField.setPromptText("Find in logs");
+        HBox.setHgrow(queryField, Priority.ALWAYS);
+        Button previousButton = new Button("▲");
+        Button nextButton = new Button("▼");
+        Button closeButton = new Button("✕");
+        previousButton.setOnAction(e -> step(false));
+        nextButton.setOnAction(e -> step(true));
+        closeButton.setOnAction(e -> close());
+        statusLabel.setMinWidth(110);
+        getChildren().addAll(queryField, regexBox, matchCaseBox, statusLabel, previousButton, nextButton,
+                closeButton);
+
+        queryField.textProperty().addListener((obs, oldValue, newValue) -> runSearch());
+        regexBox.selectedProperty().addListener((obs, oldValue, newValue) -> runSearch());
+        matchCaseBox.selectedProperty().addListener((obs, oldValue, newValue) -> runSearch());
+        queryField.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.ENTER) {
+                step(!event.isShiftDown());
+                event.consume();
+            } else if (event.getCode() == KeyCode.ESCAPE) {
+                close();
+                event.consume();
+            }
+        });
+        logView.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+            if (event.isControlDown() && !event.isAltDown() && event.getCode() == KeyCode.F) {
+                open();
+                event.consume();
+            }
+        });
+    }
+
+    public void open() {
+        setVisible(true);
+        setManaged(true);
+        queryField.requestFocus();
+        queryField.selectAll();
+        if (matches == null) {
+            runSearch();
+        }
+    }
+
+    public void close() {
+        setVisible(false);
+        setManaged(false);
+        logView.cancelSearch();
+        logView.requestFocus();
+    }
+
+    private void runSearch() {
+        matches = null;
+        current = -1;
+        String query = queryField.getText();
+        if (query.isEmpty()) {
+            pattern = null;
+            logView.cancelSearch();
+            setStatus("", false);
+            return;
+        }
+        int flags = (regexBox.isSelected() ? 0 : Pattern.LITERAL)
+                | (matchCaseBox.isSelected() ? 0 : Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        try {
+            pattern = Pattern.compile(query, flags);
+        } catch (PatternSyntaxException e) {
+            pattern = null;
+            logView.cancelSearch();
+            setStatus("Invalid regex", true);
+            return;
+        }
+        long anchor = logView.getFirstVisibleLineNumber();
+        logView.search(pattern, result -> show(result, anchor, true));
+    }
+
+    /**
+     * Moves to the next or previous match. If lines arrived since the last search, searches again first
+     * and continues from the current match, so new lines are found without rescanning on every keystroke.
+     */
+    private void step(boolean forward) {
+        if (pattern == null) {
+            return;
+        }
+        if (matches == null || matches.getEndLine() != logView.getNextLineNumber()) {
+            long anchor = current >= 0 ? matches.getLine(current) + (forward ? 1 : 0)
+                    : logView.getFirstVisibleLineNumber();
+            logView.search(pattern, result -> show(result, anchor, forward));
+            return;
+        }
+        if (matches.size() == 0) {
+            return;
+        }
+        if (current < 0) {
+            current = forward ? 0 : matches.size() - 1;
+        } else {
+            current = Math.floorMod(current + (forward ? 1 : -1), matches.size());
+        }
+        reveal();
+    }
+
+    /**
+     * Takes a search result and moves to the first match at or after {@code anchor}, or the last one before
+     * it when going backwards.
+     */
+    private void show(LogSearchIndex.Matches result, long anchor, boolean forward) {
+        matches = result;
+        if (result.size() == 0) {
+            current = -1;
+            setStatus("No matches", true);
+            return;
+        }
+        int index = result.indexAtOrAfter(anchor);
+        if (!forward) {
+            index--;
+        }
+        current = Math.floorMod(index, result.size());
+        reveal();
+    }
+
+    private void reveal() {
+        if (!logView.revealLine(matches.getLine(current))) {
+            // The match has been evicted; continue from the top of the view
+            current = Math.min(matches.indexAtOrAfter(logView.getFirstVisibleLineNumber()), matches.size() - 1);
+            logView.revealLine(matches.getLine(current));
+        }
+        String total = matches.isTruncated() ? matches.size() + "+" : String.valueOf(matches.getTotal());
+        setStatus((current + 1) + " of " + total, false);
+    }
+
+    private void setStatus(String text, boolean error) {
+        statusLabel.setText(text);
+        statusLabel.setStyle(error ? ERROR_STYLE : "");
+    }
+}
@@ -0,0 +1,303 @@
+package org.dreamabout.sw.dockerwslmanager;
+
+import javafx.application.Platform;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SelectionMode;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.ScrollEvent;
+import org.dreamabout.sw.dockerwslmanager.logic.LogLineBuffer;
+import org.dreamabout.sw.dockerwslmanager.logic.LogSearchIndex;
+import org.dreamabout.sw.dockerwslmanager.logic.LogStyle;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Virtualized log viewer backed by a {@link LogLineBuffer}.
+ * Only the visible lines become scene-graph nodes; the view follows the tail while scrolled to the bottom.
+ * A {@link LogSearchIndex} is kept in step with the buffer so searches run on a background thread
+ * without rescanning every line. Older lines can be prepended as the user scrolls back past the first one.
+ */
+public final class LogView extends ListView<LogLine> {
+    /** Lines kept above a revealed match, so it is not glued to the top edge. */
+    private static final int REVEAL_CONTEXT = 3;
+    private static final ExecutorService SEARCH_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "log-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LogLineBuffer buffer;
+    private final LogSearchIndex searchIndex = new LogSearchIndex();
+    private Future<?> pendingSearch;
+    private long searchGeneration;
+    private Runnable onScrolledToTop;
+
+    public LogView(int capacity) {
+        this.buffer = new LogLineBuffer(capacity);
+        setItems(buffer);
+        setFixedCellSize(LogLineCell.LINE_HEIGHT);
+        setCellFactory(lv -> new LogLineCell());
+        getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        setStyle("-fx-control-inner-background: black; -fx-control-inner-background-alt: black; "
+                + "-fx-background-color: black;");
+
+        addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+            if (event.isControlDown() && !event.isAltDown()) {
+                if (event.getCode() == KeyCode.C) {
+                    copySelection();
+                    event.consume();
+                } else if (event.getCode() == KeyCode.A) {
+                    getSelectionModel().selectAll();
+                    event.consume();
+                }
+            }
+        });
+        // Scrolling up while already at the top does not move the flow, so the wheel is watched as well
+        addEventHandler(ScrollEvent.SCROLL, event -> {
+            VirtualFlow<?> flow = getFlow();
+            if (event.getDeltaY() > 0 && flow != null && flow.getPosition() <= 0) {
+                scrolledToTop();
+            }
+        });
+        skinProperty().addListener((obs, oldSkin, newSkin) -> {
+            VirtualFlow<?> flow = getFlow();
+            if (flow != null) {
+                flow.positionProperty().addListener((o, oldPosition, newPosition) -> {
+                    if (newPosition.doubleValue() <= 0 && oldPosition.doubleValue() > 0) {
+                        scrolledToTop();
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Called on the FX thread whenever the user scrolls to the first line, e.g. to load older lines.
+     */
+    public void setOnScrolledToTop(Runnable onScrolledToTop) {
+        this.onScrolledToTop = onScrolledToTop;
+    }
+
+    /**
+     * Appends lines, keeping the tail in view if it was in view before, and otherwise keeping
+     * the lines the user is looking at in place even when old lines are evicted.
+     */
+    public void appendLines(List<LogLine> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        VirtualFlow<?> flow = getFlow();
+        final boolean follow = isAtBottom(flow) && !isPressed();
+        final int firstVisible = firstVisibleIndex(flow);
+        long evictedBefore = buffer.getEvictedCount();
+
+        buffer.appendAll(lines);
+        searchIndex.appendAll(lines);
+        searchIndex.evictBefore(buffer.getFirstLineNumber());
+
+        if (flow == null) {
+            return;
+        }
+        if (follow) {
+            flow.scrollTo(buffer.size() - 1);
+        } else if (firstVisible >= 0) {
+            int evicted = (int) (buffer.getEvictedCount() - evictedBefore);
+            if (evicted > 0) {
+                flow.scrollToTop(Math.max(0, firstVisible - evicted));
+            }
+        }
+    }
+
+    /**
+     * Inserts older lines above the first one without moving what is on screen, so the live tail is not
+     * disturbed. Only free capacity is used; if the lines do not all fit, the newest of them are inserted.
+     *
+     * @return the number of lines inserted; fewer than given once the buffer is full.
+     */
+    public int prependLines(List<LogLine> lines) {
+        VirtualFlow<?> flow = getFlow();
+        int firstVisible = firstVisibleIndex(flow);
+        int inserted = buffer.prependAll(lines);
+        if (inserted == 0) {
+            return 0;
+        }
+        searchIndex.prependAll(lines.subList(lines.size() - inserted, lines.size()));
+        if (flow != null && firstVisible >= 0) {
+            flow.scrollToTop(firstVisible + inserted);
+        }
+        return inserted;
+    }
+
+    /**
+     * Appends a single-colour status line such as "No logs available".
+     */
+    public void appendMessage(String message, int rgb) {
+        List<LogLine> lines = new ArrayList<>();
+        for (String line : message.split("\n", -1)) {
+            lines.add(LogLine.of(line, LogStyle.withColor(LogStyle.DEFAULT, rgb)));
+        }
+        appendLines(lines);
+    }
+
+    public void clear() {
+        getSelectionModel().clearSelection();
+        buffer.clear();
+        searchIndex.clear();
+        cancelSearch();
+    }
+
+    /**
+     * Searches every buffered line on a background thread and hands the matches to {@code onResult}
+     * on the FX thread. A newer search or {@link #clear()} cancels this one, whose result is then dropped.
+     */
+    public void search(Pattern pattern, Consumer<LogSearchIndex.Matches> onResult) {
+        cancelSearch();
+        long generation = searchGeneration;
+        LogSearchIndex.Snapshot snapshot = searchIndex.snapshot();
+        pendingSearch = SEARCH_EXECUTOR.submit(() -> {
+            LogSearchIndex.Matches matches = snapshot.search(pattern);
+            Platform.runLater(() -> {
+                if (generation == searchGeneration) {
+                    pendingSearch = null;
+                    onResult.accept(matches);
+                }
+            });
+        });
+    }
+
+    public void cancelSearch() {
+        searchGeneration++;
+        if (pendingSearch != null) {
+            pendingSearch.cancel(true);
+            pendingSearch = null;
+        }
+    }
+
+    /**
+     * Number the next appended line will get; matches ending below it have seen every line.
+     */
+    public long getNextLineNumber() {
+        return searchIndex.getNextLine();
+    }
+
+    /**
+     * Number of the topmost line on screen, or of the oldest line if the view is not laid out yet.
+     */
+    public long getFirstVisibleLineNumber() {
+        return buffer.getFirstLineNumber() + Math.max(0, firstVisibleIndex(getFlow()));
+    }
+
+    /**
+     * Selects and scrolls to the line with the given number. Returns false if it has been evicted.
+     */
+    public boolean revealLine(long lineNumber) {
+        long index = lineNumber - buffer.getFirstLineNumber();
+        if (index < 0 || index >= buffer.size()) {
+            return false;
+        }
+        getSelectionModel().clearAndSelect((int) index);
+        VirtualFlow<?> flow = getFlow();
+        IndexedCell<?> first = flow != null ? flow.getFirstVisibleCell() : null;
+        IndexedCell<?> last = flow != null ? flow.getLastVisibleCell() : null;
+        if (first == null || last == null || index <= first.getIndex() || index >= last.getIndex()) {
+            scrollTo(Math.max(0, (int) index - REVEAL_CONTEXT));
+        }
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return buffer.isEmpty();
+    }
+
+    public void copySelection() {
+        List<Integer> indices = getSelectionModel().getSelectedIndices().stream().sorted().toList();
+        if (indices.isEmpty()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int index : indices) {
+            sb.append(buffer.get(index).getChars()).append('\n');
+        }
+        putOnClipboard(sb.toString());
+    }
+
+    public void copyAll() {
+        StringBuilder sb = new StringBuilder();
+        for (LogLine line : buffer) {
+            sb.append(line.getChars()).append('\n');
+        }
+        putOnClipboard(sb.toString());
+    }
+
+    private static void putOnClipboard(String text) {
+        ClipboardContent content = new ClipboardContent();
+        content.putString(text);
+        Clipboard.getSystemClipboard().setContent(content);
+    }
+
+    /**
+     * Timestamp of the oldest line that has one, or {@link LogLine#NO_TIMESTAMP}. Status messages have none.
+     */
+    public long getOldestTimestamp() {
+        for (LogLine line : buffer) {
+            if (line.getTimestamp() != LogLine.NO_TIMESTAMP) {
+                return line.getTimestamp();
+            }
+        }
+        return LogLine.NO_TIMESTAMP;
+    }
+
+    /**
+     * Timestamp of the newest line that has one, or {@link LogLine#NO_TIMESTAMP}.
+     */
+    public long getNewestTimestamp() {
+        for (int i = buffer.size() - 1; i >= 0; i--) {
+            if (buffer.get(i).getTimestamp() != LogLine.NO_TIMESTAMP) {
+                return buffer.get(i).getTimestamp();
+            }
+        }
+        return LogLine.NO_TIMESTAMP;
+    }
+
+    public int getLineCount() {
+        return buffer.size();
+    }
+
+    private void scrolledToTop() {
+        if (onScrolledToTop != null && !buffer.isEmpty()) {
+            onScrolledToTop.run();
+        }
+    }
+
+    private VirtualFlow<?> getFlow() {
+        return lookup(".virtual-flow") instanceof VirtualFlow<?> flow ? flow : null;
+    }
+
+    private boolean isAtBottom(VirtualFlow<?> flow) {
+        if (flow == null || buffer.isEmpty()) {
+            return true;
+        }
+        IndexedCell<?> last = flow.getLastVisibleCell();
+        return last == null || last.getIndex() >= buffer.size() - 1;
+    }
+
+    private static int firstVisibleIndex(VirtualFlow<?> flow) {
+        if (flow == null) {
+            return -1;
+        }
+        IndexedCell<?> first = flow.getFirstVisibleCell();
+        return first != null ? first.getIndex() : -1;
+    }
+}
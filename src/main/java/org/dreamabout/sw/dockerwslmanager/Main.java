@@ -1,22 +1,34 @@
 package org.dreamabout.sw.dockerwslmanager;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
+import org.dreamabout.sw.dockerwslmanager.logic.StartupTimeline;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class Main extends Application {
     private static final Logger logger = LoggerFactory.getLogger(Main.class);
 
+    /**
+     * System property that makes the application exit as soon as the container list is first painted.
+     * Used to train the class-data-sharing archive and to measure cold start.
+     */
+    public static final String EXIT_AFTER_STARTUP_PROPERTY = "dwm.exitAfterStartup";
+    private static final String EXIT_AFTER_STARTUP_TIMEOUT_PROPERTY = "dwm.exitAfterStartup.timeoutMs";
+    private static final long DEFAULT_EXIT_AFTER_STARTUP_TIMEOUT_MS = 30_000;
+
     @Override
     public void start(Stage primaryStage) {
+        StartupTimeline.app().mark("FX toolkit started");
         try {
             FXMLLoader loader = new FXMLLoader(Main.class.getResource("/main.fxml"));
             Parent root = loader.load();
+            StartupTimeline.app().mark("FXML loaded");
 
             Scene scene = new Scene(root, 1200, 800);
 
@@ -24,6 +36,10 @@ public class Main extends Application {
             primaryStage.getIcons().add(new Image(Main.class.getResourceAsStream("/app_icon.png")));
             primaryStage.setScene(scene);
             primaryStage.show();
+            StartupTimeline.app().mark("window shown");
+            if (isStartupRun()) {
+                exitAfterStartup();
+            }
         } catch (Exception e) {
             logger.error("Failed to start application", e);
             e.printStackTrace();
@@ -36,7 +52,43 @@ public class Main extends Application {
         logger.info("Application stopping");
     }
 
+    /**
+     * Whether this launch only runs startup and exits, see {@link #EXIT_AFTER_STARTUP_PROPERTY}.
+     */
+    public static boolean isStartupRun() {
+        return Boolean.getBoolean(EXIT_AFTER_STARTUP_PROPERTY);
+    }
+
+    /**
+     * Waits on a daemon thread for the first paint, or the timeout, and then exits the JVM. The exit
+     * goes through System.exit so that shutdown hooks and -XX:ArchiveClassesAtExit run even if
+     * connection threads are still alive. Exits with 1 if the first paint never happened, so
+     * a training run against an unreachable daemon fails the build.
+     */
+    private static void exitAfterStartup() {
+        long timeoutMs = Long.getLong(EXIT_AFTER_STARTUP_TIMEOUT_PROPERTY, DEFAULT_EXIT_AFTER_STARTUP_TIMEOUT_MS);
+        Thread watcher = new Thread(() -> {
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            try {
+                while (!StartupTimeline.app().isMarked(StartupTimeline.FIRST_PAINT)
+                        && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(50);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            boolean painted = StartupTimeline.app().isMarked(StartupTimeline.FIRST_PAINT);
+            logger.info("Startup run {}:\n{}", painted ? "finished" : "timed out before first paint",
+                    StartupTimeline.app().format());
+            Platform.exit();
+            System.exit(painted ? 0 : 1);
+        }, "startup-exit");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
     public static void main(String[] args) {
+        StartupTimeline.app().mark("main() entered");
         launch(args);
     }
 }
@@ -1,5 +1,6 @@
 package org.dreamabout.sw.dockerwslmanager;
 
+import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.InspectVolumeResponse;
 import com.github.dockerjava.api.model.Container;
 import com.github.dockerjava.api.model.ContainerPort;
@@ -8,8 +9,11 @@ import com.github.dockerjava.api.model.Image;
 import com.github.dockerjava.api.model.Network;
 import com.github.dockerjava.api.model.PruneResponse;
 import com.github.dockerjava.api.model.PruneType;
+import com.github.dockerjava.api.model.StreamType;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -27,35 +31,63 @@ import javafx.scene.control.TableView;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 import javafx.scene.control.TextInputDialog;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.control.Tooltip;
 import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeTableCell;
 import javafx.scene.control.TreeTableColumn;
 import javafx.scene.control.TreeTableRow;
 import javafx.scene.control.TreeTableView;
+import javafx.scene.control.skin.VirtualFlow;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
+import org.dreamabout.sw.dockerwslmanager.logic.AnsiParser;
 import org.dreamabout.sw.dockerwslmanager.logic.FormatUtils;
-import org.dreamabout.sw.dockerwslmanager.logic.TextFlowSelectionHandler;
+import org.dreamabout.sw.dockerwslmanager.logic.LogArchive;
+import org.dreamabout.sw.dockerwslmanager.logic.LogHandoffQueue;
+import org.dreamabout.sw.dockerwslmanager.logic.LogTimestamps;
 import org.dreamabout.sw.dockerwslmanager.logic.VolumeLogic;
 import org.dreamabout.sw.dockerwslmanager.logic.VolumePathResolver;
 import org.dreamabout.sw.dockerwslmanager.logic.ConfigLogic;
+import org.dreamabout.sw.dockerwslmanager.logic.ContainerInventory;
+import org.dreamabout.sw.dockerwslmanager.logic.ContainerLogic;
+import org.dreamabout.sw.dockerwslmanager.logic.ContainerTreeReconciler;
+import org.dreamabout.sw.dockerwslmanager.logic.StatsHistory;
+import org.dreamabout.sw.dockerwslmanager.logic.StatsHistoryStore;
+import org.dreamabout.sw.dockerwslmanager.logic.StartupTimeline;
+import org.dreamabout.sw.dockerwslmanager.logic.Utf8StreamDecoder;
 import org.dreamabout.sw.dockerwslmanager.model.ContainerViewItem;
 import org.dreamabout.sw.dockerwslmanager.model.ImageViewItem;
+import org.dreamabout.sw.dockerwslmanager.model.IoRates;
 import org.dreamabout.sw.dockerwslmanager.model.VolumeViewItem;
+import org.dreamabout.sw.dockerwslmanager.model.ContainerIoRates;
 import org.dreamabout.sw.dockerwslmanager.model.ContainerStats;
+import org.dreamabout.sw.dockerwslmanager.model.ContainerUsage;
+import org.dreamabout.sw.dockerwslmanager.model.DiskUsage;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.dreamabout.sw.dockerwslmanager.model.TransportProfile;
+import org.dreamabout.sw.dockerwslmanager.service.BatchOperationExecutor;
+import org.dreamabout.sw.dockerwslmanager.service.ContainerEventService;
+import org.dreamabout.sw.dockerwslmanager.service.ContainerStatsHub;
+import org.dreamabout.sw.dockerwslmanager.service.ContainerStatsSampler;
 import org.dreamabout.sw.dockerwslmanager.service.ContainerStatsService;
-import org.dreamabout.sw.dockerwslmanager.service.VolumeUsageService;
+import org.dreamabout.sw.dockerwslmanager.service.DiscoveryService;
+import org.dreamabout.sw.dockerwslmanager.service.DiskUsageService;
+import org.dreamabout.sw.dockerwslmanager.service.LogHistoryService;
+import org.dreamabout.sw.dockerwslmanager.service.RefreshExecutor;
+import org.dreamabout.sw.dockerwslmanager.service.VolumeSizeCache;
+import org.dreamabout.sw.dockerwslmanager.service.VolumeSizeEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.Desktop;
 import java.io.File;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -65,7 +97,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class MainController {
@@ -79,22 +115,57 @@ public class MainController {
     private static final String CONTAINERS_FAILED_MSG = " containers failed:";
     private static final String CONTAINERS_IN_GROUP_MSG = " containers in group '";
     private static final String ERROR_TITLE = "Error";
+    private static final String LOG_ARCHIVE_DIR = ".docker-wsl-manager/logs";
     private static final String NO_CONTAINERS_TITLE = "No Containers";
     private static final String NO_CONTAINERS_MSG = "The selected group has no containers.";
     private static final String PARTIAL_SUCCESS_TITLE = "Partial Success";
     private static final String STATE_RUNNING = "running";
     private static final String COLOR_GREEN = "-fx-text-fill: green;";
     private static final String COLOR_RED = "-fx-text-fill: red;";
-    private static final String FONT_COURIER_NEW = "Courier New";
+    private static final int RGB_WHITE = 0xFFFFFF;
+    private static final int RGB_RED = 0xFF0000;
+    private static final String REFRESH_CONTAINERS = "containers";
+    private static final String REFRESH_IMAGES = "images";
+    private static final String REFRESH_VOLUMES = "volumes";
+    private static final String REFRESH_NETWORKS = "networks";
+    // A queued full reload must not be replaced by a redraw from the event-fed inventory
+    private static final int PRIORITY_REDRAW = 0;
+    private static final int PRIORITY_RELOAD = 1;
+    private static final int STATS_SAMPLER_THREADS = 4;
+    private static final long HISTORY_SAMPLE_MS = 1000;
+    private static final long HISTORY_WINDOW_MS = 60 * 60 * 1000L;
+    private static final String CALCULATE_SIZES_TEXT = "📊 _Calculate Sizes";
+    private static final String CANCEL_SIZES_TEXT = "⏹ _Cancel Sizing";
     
     private final VolumeLogic volumeLogic = new VolumeLogic();
-    private final VolumeUsageService volumeUsageService = new VolumeUsageService();
     private final ConfigLogic configLogic = new ConfigLogic();
     private VolumePathResolver volumePathResolver;
     private ContainerStatsService containerStatsService;
+    private ContainerStatsHub containerStatsHub;
+    private ContainerStatsSampler containerStatsSampler;
+    private BatchOperationExecutor batchExecutor;
+    private VolumeSizeEngine volumeSizeEngine;
+    private VolumeSizeEngine.Job volumeSizeJob;
+    // Calculated sizes, shown whenever the volume tree is rebuilt; loaded lazily as it reads a file
+    private VolumeSizeCache volumeSizeCache;
+    private final DiskUsageService diskUsageService = new DiskUsageService();
+    // Last 'docker system df' result, source of the unique/shared image size columns
+    private volatile DiskUsage diskUsage;
+    // Latest sampled usage per container, bound by the usage cells of visible rows (FX thread only)
+    private final Map<String, ObjectProperty<ContainerUsage>> containerUsage = new java.util.HashMap<>();
+    private final Map<String, ContainerUsage> pendingUsage = new java.util.concurrent.ConcurrentHashMap<>();
+    private final AtomicBoolean usageFlushScheduled = new AtomicBoolean();
+    private final StatsHistoryStore statsHistoryStore = new StatsHistoryStore();
+    private final ContainerInventory containerInventory = new ContainerInventory();
+    private final ContainerLogic containerLogic = new ContainerLogic();
+    private final ContainerTreeReconciler containerTreeReconciler = new ContainerTreeReconciler(containerLogic);
+    private ContainerEventService containerEventService;
+    private final RefreshExecutor refreshExecutor = new RefreshExecutor(2, Platform::runLater);
+    private long lastContainerResync;
 
     private final ShortcutManager shortcutManager = new ShortcutManager();
     private final SettingsManager settingsManager = new SettingsManager();
+    private final DiscoveryService discoveryService = new DiscoveryService();
     private DockerConnectionManager connectionManager;
 
     // Map to track active stats labels by container ID for updates
@@ -105,7 +176,6 @@ public class MainController {
         final Label ramValue;
         final Label netValue;
         final Label diskValue;
-        long lastUpdateTime = 0;
 
         ContainerStatsLabels(Label cpuValue, Label ramValue, Label netValue, Label diskValue) {
             this.cpuValue = cpuValue;
@@ -118,12 +188,22 @@ public class MainController {
     @FXML
     private Label connectionStatusLabel;
     @FXML
+    private Label transportStatusLabel;
+    @FXML
     private Button connectAutoButton;
     @FXML
     private Button disconnectButton;
 
     @FXML
     private TabPane mainTabPane;
+    @FXML
+    private Tab imagesTab;
+    @FXML
+    private Tab volumesTab;
+    @FXML
+    private Tab networksTab;
+    // Load actions of resource tabs not yet selected (FX thread only)
+    private final Map<Tab, Runnable> pendingTabLoads = new java.util.HashMap<>();
     
     @FXML
     private javafx.scene.control.CheckMenuItem autoRefreshMenuItem;
@@ -143,6 +223,12 @@ public class MainController {
     @FXML
     private TreeTableColumn<ContainerViewItem, String> containerStatusColumn;
     @FXML
+    private TreeTableColumn<ContainerViewItem, ContainerUsage> containerCpuColumn;
+    @FXML
+    private TreeTableColumn<ContainerViewItem, ContainerUsage> containerMemoryColumn;
+    @FXML
+    private TreeTableColumn<ContainerViewItem, ContainerUsage> containerNetColumn;
+    @FXML
     private Button refreshContainersButton;
     @FXML
     private Button startContainerButton;
@@ -169,6 +255,10 @@ public class MainController {
     @FXML
     private TreeTableColumn<ImageViewItem, String> imageSizeColumn;
     @FXML
+    private TreeTableColumn<ImageViewItem, String> imageUniqueSizeColumn;
+    @FXML
+    private TreeTableColumn<ImageViewItem, String> imageSharedSizeColumn;
+    @FXML
     private Button refreshImagesButton;
     @FXML
     private Button removeImageButton;
@@ -183,7 +273,7 @@ public class MainController {
     @FXML
     private TreeTableColumn<VolumeViewItem, javafx.collections.ObservableList<String>> volumeContainersColumn;
     @FXML
-    private TreeTableColumn<VolumeViewItem, String> volumeSizeColumn;
+    private TreeTableColumn<VolumeViewItem, Number> volumeSizeColumn;
     @FXML
     private TreeTableColumn<VolumeViewItem, String> volumeDriverColumn;
     @FXML
@@ -217,8 +307,19 @@ public class MainController {
 
     @FXML
     public void initialize() {
-        connectionManager = new DockerConnectionManager();
-        volumePathResolver = new VolumePathResolver(settingsManager.getWslDistro());
+        // Both WSL probes start now and run alongside the rest of startup
+        discoveryService.start();
+        connectionManager = new DockerConnectionManager(discoveryService);
+        for (TransportProfile profile : TransportProfile.values()) {
+            connectionManager.setTransportSettings(profile, settingsManager.getTransportSettings(profile));
+        }
+        Tooltip poolTooltip = new Tooltip();
+        poolTooltip.setOnShowing(e ->
+                poolTooltip.setText("Connections in use: " + connectionManager.describePoolUsage()));
+        connectionStatusLabel.setTooltip(poolTooltip);
+        volumePathResolver = createVolumePathResolver(settingsManager.getWslDistro());
+        discoveryService.getDefaultDistro().thenAccept(distro ->
+                Platform.runLater(() -> applyDetectedDistro(distro)));
 
         updateConnectionStatus();
 // ...
@@ -366,9 +467,90 @@ public class MainController {
             // Add selection listener to update buttons
             containersTable.getSelectionModel().selectedItemProperty().addListener((obs, oldVal, newVal) -> 
                 updateContainerActionButtons(newVal));
+
+            initContainerUsageColumns();
+        }
+
+        // Images, volumes and networks are set up and loaded when their tab is first selected
+        deferTabLoad(imagesTab, this::initImagesTable, this::refreshImages);
+        deferTabLoad(volumesTab, this::initVolumesTable, this::refreshVolumes);
+        deferTabLoad(networksTab, this::initNetworksTable, this::refreshNetworks);
+
+        // Configure shortcuts
+        configureAllShortcuts();
+        
+        // Auto-refresh default enabled
+        if (autoRefreshMenuItem != null) {
+            autoRefreshMenuItem.setSelected(true);
+        }
+        setupAutoRefreshTimeline();
+
+        // Check for updates on startup, except in runs that only measure or train startup
+        if (!Main.isStartupRun()) {
+            performUpdateCheck(true);
+        }
+
+        // Only stream stats for the active tab and when window is focused
+        mainTabPane.getSelectionModel().selectedItemProperty().addListener((obs, oldTab, newTab) -> {
+            Runnable load = pendingTabLoads.remove(newTab);
+            if (load != null) {
+                load.run();
+            }
+            if (oldTab != null && oldTab.getUserData() instanceof String) {
+                String containerId = (String) oldTab.getUserData();
+                if (!containerId.startsWith(CONFIG_PREFIX)) {
+                    stopStatsStream(containerId);
+                }
+            }
+            if (newTab != null && newTab.getUserData() instanceof String) {
+                String containerId = (String) newTab.getUserData();
+                if (!containerId.startsWith(CONFIG_PREFIX)) {
+                    restartStatsForTab(newTab);
+                }
+            }
+        });
+
+        // Pause stats when window is minimized
+        mainTabPane.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene != null) {
+                newScene.windowProperty().addListener((obsW, oldWindow, newWindow) -> {
+                    if (newWindow instanceof javafx.stage.Stage) {
+                        javafx.stage.Stage stage = (javafx.stage.Stage) newWindow;
+                        stage.iconifiedProperty().addListener((obsI, oldIconified, isMinimized) -> {
+                            if (isMinimized) {
+                                pauseAllStatsStreams();
+                            } else {
+                                resumeActiveTabStatsStream();
+                            }
+                        });
+                    }
+                });
+            }
+        });
+
+        StartupTimeline.app().mark("controller initialized");
+    }
+
+    private void deferTabLoad(Tab tab, Runnable init, Runnable refresh) {
+        if (tab == null) {
+            init.run();
+            return;
         }
+        pendingTabLoads.put(tab, () -> {
+            long start = System.nanoTime();
+            init.run();
+            if (connectionManager.isConnected()) {
+                refresh.run();
+            }
+            logger.debug("Loaded tab '{}' in {} ms", tab.getText(), (System.nanoTime() - start) / 1_000_000);
+        });
+    }
+
+    private boolean isTabLoaded(Tab tab) {
+        return !pendingTabLoads.containsKey(tab);
+    }
 
-        // Initialize images table
+    private void initImagesTable() {
         if (imageRepoColumn != null) {
             imageRepoColumn.setCellValueFactory(data -> 
                     new SimpleStringProperty(data.getValue().getValue().getName()));
@@ -402,9 +584,21 @@ public class MainController {
                 }
                 return new SimpleStringProperty(FormatUtils.formatSize(item.getImage().getSize()));
             });
+
+            if (imageUniqueSizeColumn != null) {
+                imageUniqueSizeColumn.setCellValueFactory(data ->
+                        new SimpleStringProperty(formatImageDiskUsage(data.getValue().getValue(),
+                                DiskUsage.ImageEntry::getUniqueSize)));
+            }
+            if (imageSharedSizeColumn != null) {
+                imageSharedSizeColumn.setCellValueFactory(data ->
+                        new SimpleStringProperty(formatImageDiskUsage(data.getValue().getValue(),
+                                DiskUsage.ImageEntry::getSharedSize)));
+            }
         }
+    }
 
-        // Initialize volumes table
+    private void initVolumesTable() {
         if (volumeNameColumn != null) {
             volumeNameColumn.setCellValueFactory(data ->
                     new SimpleStringProperty(data.getValue().getValue().getName()));
@@ -489,13 +683,16 @@ public class MainController {
                 return list1.get(0).compareTo(list2.get(0));
             });
 
+            // Sorts by bytes but displays the formatted size string
             volumeSizeColumn.setCellValueFactory(data ->
-                    data.getValue().getValue().sizeStringProperty());
-
-            volumeSizeColumn.setComparator((s1, s2) -> {
-                long b1 = VolumeUsageService.parseDockerSize(s1);
-                long b2 = VolumeUsageService.parseDockerSize(s2);
-                return Long.compare(b1, b2);
+                    data.getValue().getValue().sizeBytesProperty());
+            volumeSizeColumn.setCellFactory(column -> new TreeTableCell<VolumeViewItem, Number>() {
+                @Override
+                protected void updateItem(Number bytes, boolean empty) {
+                    super.updateItem(bytes, empty);
+                    VolumeViewItem item = getTableRow() == null ? null : getTableRow().getItem();
+                    setText(empty || item == null ? null : item.getSizeString());
+                }
             });
             
             volumeDriverColumn.setCellValueFactory(data -> {
@@ -551,8 +748,9 @@ public class MainController {
                 return row;
             });
         }
+    }
 
-        // Initialize networks table
+    private void initNetworksTable() {
         if (networkIdColumn != null) {
             networkIdColumn.setCellValueFactory(data ->
                     new SimpleStringProperty(data.getValue().getId()
@@ -564,52 +762,6 @@ public class MainController {
             networkScopeColumn.setCellValueFactory(data ->
                     new SimpleStringProperty(data.getValue().getScope()));
         }
-
-        // Configure shortcuts
-        configureAllShortcuts();
-        
-        // Auto-refresh default enabled
-        if (autoRefreshMenuItem != null) {
-            autoRefreshMenuItem.setSelected(true);
-        }
-        setupAutoRefreshTimeline();
-
-        // Check for updates on startup
-        performUpdateCheck(true);
-
-        // Only stream stats for the active tab and when window is focused
-        mainTabPane.getSelectionModel().selectedItemProperty().addListener((obs, oldTab, newTab) -> {
-            if (oldTab != null && oldTab.getUserData() instanceof String) {
-                String containerId = (String) oldTab.getUserData();
-                if (!containerId.startsWith(CONFIG_PREFIX)) {
-                    stopStatsStream(containerId);
-                }
-            }
-            if (newTab != null && newTab.getUserData() instanceof String) {
-                String containerId = (String) newTab.getUserData();
-                if (!containerId.startsWith(CONFIG_PREFIX)) {
-                    restartStatsForTab(newTab);
-                }
-            }
-        });
-
-        // Pause stats when window is minimized
-        mainTabPane.sceneProperty().addListener((obs, oldScene, newScene) -> {
-            if (newScene != null) {
-                newScene.windowProperty().addListener((obsW, oldWindow, newWindow) -> {
-                    if (newWindow instanceof javafx.stage.Stage) {
-                        javafx.stage.Stage stage = (javafx.stage.Stage) newWindow;
-                        stage.iconifiedProperty().addListener((obsI, oldIconified, isMinimized) -> {
-                            if (isMinimized) {
-                                pauseAllStatsStreams();
-                            } else {
-                                resumeActiveTabStatsStream();
-                            }
-                        });
-                    }
-                });
-            }
-        });
     }
 
     private void configureAllShortcuts() {
@@ -677,7 +829,7 @@ public class MainController {
                 if (connectionManager.isConnected() && 
                     mainTabPane.getSelectionModel().getSelectedItem() != null &&
                     "Containers".equals(mainTabPane.getSelectionModel().getSelectedItem().getText())) {
-                    refreshContainers();
+                    onAutoRefreshTick();
                 }
             })
         );
@@ -688,6 +840,55 @@ public class MainController {
         }
     }
 
+    private void onAutoRefreshTick() {
+        if (containerEventService != null && containerEventService.isStreaming()) {
+            // Events keep the inventory current; only do the slow full resync as a safety net
+            long resyncMs = settingsManager.getContainerResyncInterval() * 1000L;
+            if (System.currentTimeMillis() - lastContainerResync >= resyncMs) {
+                refreshContainers();
+            }
+            return;
+        }
+        // Events stream is down: poll as before and try to resubscribe
+        refreshContainers();
+        startContainerEvents();
+    }
+
+    private void startContainerEvents() {
+        if (!connectionManager.isConnected()) {
+            return;
+        }
+        if (containerEventService == null) {
+            containerEventService = new ContainerEventService(
+                    connectionManager.getDockerClient(TransportProfile.STREAM),
+                    connectionManager.getDockerClient(TransportProfile.REQUEST), containerInventory,
+                    this::scheduleContainerRender);
+        }
+        containerEventService.start();
+    }
+
+    private void stopContainerEvents() {
+        if (containerEventService != null) {
+            containerEventService.close();
+            containerEventService = null;
+        }
+        containerInventory.clear();
+    }
+
+    /**
+     * Called from the events thread; bursts of events collapse into a single redraw on the refresh executor.
+     */
+    private void scheduleContainerRender() {
+        if (autoRefreshMenuItem != null && !autoRefreshMenuItem.isSelected()) {
+            return;
+        }
+        submitRefresh(REFRESH_CONTAINERS, PRIORITY_REDRAW,
+                containerInventory::snapshot,
+                containerTreeReconciler::plan,
+                this::applyContainerTree,
+                "Failed to refresh containers");
+    }
+
     @FXML
     private void handleCheckForUpdatesAction() {
         performUpdateCheck(false);
@@ -728,6 +929,13 @@ public class MainController {
         alert.setHeaderText("Docker WSL Manager v1.1.0");
         alert.setContentText("A JavaFX application to manage Docker instances running in WSL 2.\n\n" +
                 "Source code: https://github.com/dvdmchl/Docker-WSL-Manager");
+
+        // Startup diagnostics, measured from JVM start
+        TextArea timing = new TextArea(StartupTimeline.app().format());
+        timing.setEditable(false);
+        timing.setStyle("-fx-font-family: monospace;");
+        timing.setPrefRowCount(8);
+        alert.getDialogPane().setExpandableContent(new VBox(5, new Label("Startup timing:"), timing));
         alert.showAndWait();
     }
 
@@ -749,6 +957,10 @@ public class MainController {
         TextField intervalField = new TextField(String.valueOf(settingsManager.getAutoRefreshInterval()));
         TextField statsIntervalField = new TextField(String.valueOf(settingsManager.getStatsRefreshInterval()));
         TextField distroField = new TextField(settingsManager.getWslDistro());
+        final TextField parallelismField = new TextField(String.valueOf(settingsManager.getBatchParallelism()));
+        javafx.scene.control.CheckBox composeOrderBox = new javafx.scene.control.CheckBox(
+                "Follow compose depends_on order");
+        composeOrderBox.setSelected(settingsManager.isBatchComposeOrder());
 
         grid.add(new Label("Auto-refresh Interval (seconds):"), 0, 0);
         grid.add(intervalField, 1, 0);
@@ -756,6 +968,9 @@ public class MainController {
         grid.add(statsIntervalField, 1, 1);
         grid.add(new Label("WSL Distro (for volumes):"), 0, 2);
         grid.add(distroField, 1, 2);
+        grid.add(new Label("Parallel Group Operations:"), 0, 3);
+        grid.add(parallelismField, 1, 3);
+        grid.add(composeOrderBox, 1, 4);
 
         dialog.getDialogPane().setContent(grid);
 
@@ -763,8 +978,8 @@ public class MainController {
 
         dialog.setResultConverter(dialogButton -> {
             if (dialogButton == saveButtonType) {
-                return new javafx.util.Pair<>(intervalField.getText() + "|" + statsIntervalField.getText(), 
-                        distroField.getText());
+                return new javafx.util.Pair<>(intervalField.getText() + "|" + statsIntervalField.getText()
+                        + "|" + parallelismField.getText(), distroField.getText());
             }
             return null;
         });
@@ -775,16 +990,24 @@ public class MainController {
                 String[] intervals = settings.getKey().split("\\|");
                 int autoRefreshSecs = Integer.parseInt(intervals[0]);
                 int statsRefreshSecs = Integer.parseInt(intervals[1]);
+                final int parallelism = Integer.parseInt(intervals[2]);
                 
                 if (autoRefreshSecs < 1) autoRefreshSecs = 1;
                 if (statsRefreshSecs < 1) statsRefreshSecs = 1;
 
                 settingsManager.setAutoRefreshInterval(autoRefreshSecs);
                 settingsManager.setStatsRefreshInterval(statsRefreshSecs);
+                settingsManager.setBatchParallelism(Math.max(1, parallelism));
+                settingsManager.setBatchComposeOrder(composeOrderBox.isSelected());
                 settingsManager.setWslDistro(settings.getValue());
                 settingsManager.saveSettings();
-                volumePathResolver = new VolumePathResolver(settings.getValue());
+                volumePathResolver = createVolumePathResolver(settings.getValue());
+                // The next sizing run must look in the new distro
+                closeVolumeSizeEngine();
                 setupAutoRefreshTimeline();
+                // Pick up the new stats interval
+                stopContainerStatsSampler();
+                updateSampledContainers();
             } catch (NumberFormatException e) {
                 showAlert(Alert.AlertType.ERROR, "Invalid Input", "Please enter valid numbers for intervals.");
             } catch (Exception e) {
@@ -850,8 +1073,10 @@ public class MainController {
 
     @FXML
     private void handleConnectAuto() {
+        stopContainerEvents();
         if (connectionManager.connectAutoDiscover()) {
             updateConnectionStatus();
+            startContainerEvents();
             refreshAll();
         } else {
             showAlert(Alert.AlertType.ERROR, "Connection Failed",
@@ -861,10 +1086,19 @@ public class MainController {
 
     @FXML
     private void handleDisconnect() {
+        stopContainerEvents();
+        if (containerStatsHub != null) {
+            containerStatsHub.close();
+            containerStatsHub = null;
+        }
+        stopContainerStatsSampler();
+        containerUsage.clear();
+        closeVolumeSizeEngine();
         connectionManager.disconnect();
         containerStatsService = null;
         activeStatsLabels.clear();
         activeStatsStreams.clear();
+        activeHistoryStreams.clear();
         updateConnectionStatus();
         clearAllTables();
     }
@@ -901,6 +1135,9 @@ public class MainController {
         ContainerStatsLabels labels = activeStatsLabels.get(containerId);
         if (labels != null) {
             startStatsStreaming(containerId, labels.cpuValue, labels.ramValue, labels.netValue, labels.diskValue);
+            // Recording stops when the container does; pick it up again if it was restarted
+            startHistoryRecording(containerId);
+            redrawStatsCharts(containerId);
         }
     }
 
@@ -908,14 +1145,16 @@ public class MainController {
                                      Label netValue, Label diskValue) {
         stopStatsStream(containerId);
 
-        ContainerStatsService service = getContainerStatsService();
-        if (service == null) {
+        ContainerStatsHub hub = getContainerStatsHub();
+        if (hub == null) {
             return;
         }
 
         activeStatsLabels.put(containerId, new ContainerStatsLabels(cpuValue, ramValue, netValue, diskValue));
 
-        java.io.Closeable stream = service.fetchStats(containerId, stats -> {
+        // The hub parses at most one frame per interval and shares the stream with other subscribers
+        long intervalMs = settingsManager.getStatsRefreshInterval() * 1000L;
+        java.io.Closeable stream = hub.subscribe(containerId, intervalMs, stats -> Platform.runLater(() -> {
             // Check if this is the active tab
             Tab selected = mainTabPane.getSelectionModel().getSelectedItem();
             if (selected == null || !containerId.equals(selected.getUserData())) {
@@ -924,33 +1163,53 @@ public class MainController {
 
             ContainerStatsLabels labels = activeStatsLabels.get(containerId);
             if (labels != null) {
-                long now = System.currentTimeMillis();
-                long intervalMs = settingsManager.getStatsRefreshInterval() * 1000L;
-                
-                if (now - labels.lastUpdateTime >= intervalMs) {
-                    labels.lastUpdateTime = now;
-                    Platform.runLater(() -> {
-                        labels.cpuValue.setText(String.format("%.2f%%", stats.getCpuPercentage()));
-                        labels.ramValue.setText(FormatUtils.formatSize(stats.getMemoryUsage()) + " / " 
-                                + FormatUtils.formatSize(stats.getMemoryLimit()));
-                        labels.netValue.setText(FormatUtils.formatSize(stats.getNetworkReadBytes()) + " / " 
-                                + FormatUtils.formatSize(stats.getNetworkWriteBytes()));
-                        labels.diskValue.setText(FormatUtils.formatSize(stats.getDiskReadBytes()) + " / " 
-                                + FormatUtils.formatSize(stats.getDiskWriteBytes()));
-                    });
-                }
+                labels.cpuValue.setText(String.format("%.2f%%", stats.getCpuPercentage()));
+                labels.ramValue.setText(FormatUtils.formatSize(stats.getMemoryUsage()) + " / " 
+                        + FormatUtils.formatSize(stats.getMemoryLimit()));
+                ContainerIoRates rates = stats.getIoRates();
+                showIoRates(labels.netValue, rates.getNetwork(), rates.getInterfaces(), "↓", "↑", "pkt/s");
+                showIoRates(labels.diskValue, rates.getDisk(), rates.getDevices(), "R", "W", "IOPS");
             }
-        }, () -> {
-            // onComplete
-            Platform.runLater(() -> resetStatsLabels(containerId));
-        }, throwable -> {
-            // onError
-            Platform.runLater(() -> resetStatsLabels(containerId));
-        });
+        }), () -> Platform.runLater(() -> resetStatsLabels(containerId)));
 
         activeStatsStreams.put(containerId, stream);
     }
 
+    /**
+     * Shows current rates on the label and the per-interface or per-device breakdown in its tooltip.
+     */
+    private static void showIoRates(Label label, IoRates total, List<IoRates> breakdown,
+                                    String readMark, String writeMark, String opsUnit) {
+        if (!total.isKnown()) {
+            // First sample, or the counters were reset by a restart
+            label.setText("---");
+            return;
+        }
+        label.setText(formatIoRates(total, readMark, writeMark, opsUnit));
+        StringBuilder details = new StringBuilder();
+        for (IoRates item : breakdown) {
+            if (!details.isEmpty()) {
+                details.append('\n');
+            }
+            details.append(item.getName()).append(": ")
+                    .append(item.isKnown() ? formatIoRates(item, readMark, writeMark, opsUnit) : "---");
+        }
+        if (details.isEmpty()) {
+            label.setTooltip(null);
+        } else if (label.getTooltip() == null) {
+            label.setTooltip(new Tooltip(details.toString()));
+        } else {
+            label.getTooltip().setText(details.toString());
+        }
+    }
+
+    private static String formatIoRates(IoRates rates, String readMark, String writeMark, String opsUnit) {
+        return String.format(java.util.Locale.ROOT, "%s %s  %s %s  (%.0f / %.0f %s)",
+                readMark, FormatUtils.formatRate(rates.getReadBytesPerSecond()),
+                writeMark, FormatUtils.formatRate(rates.getWriteBytesPerSecond()),
+                rates.getReadOpsPerSecond(), rates.getWriteOpsPerSecond(), opsUnit);
+    }
+
     private void resetStatsLabels(String containerId) {
         ContainerStatsLabels labels = activeStatsLabels.get(containerId);
         if (labels != null) {
@@ -963,11 +1222,22 @@ public class MainController {
 
     private ContainerStatsService getContainerStatsService() {
         if (containerStatsService == null && connectionManager.isConnected()) {
-            containerStatsService = new ContainerStatsService(connectionManager.getDockerClient());
+            containerStatsService = new ContainerStatsService(
+                    connectionManager.getDockerClient(TransportProfile.STREAM));
         }
         return containerStatsService;
     }
 
+    private ContainerStatsHub getContainerStatsHub() {
+        if (containerStatsHub == null) {
+            ContainerStatsService service = getContainerStatsService();
+            if (service != null) {
+                containerStatsHub = new ContainerStatsHub(service);
+            }
+        }
+        return containerStatsHub;
+    }
+
     @FXML
     private void handleRefreshContainers() {
         refreshContainers();
@@ -1014,34 +1284,8 @@ public class MainController {
     }
 
     private void startContainers(List<Container> containers) {
-        int successCount = 0;
-        int failureCount = 0;
-        StringBuilder errors = new StringBuilder();
-
-        for (Container container : containers) {
-            try {
-                connectionManager.getDockerClient().startContainerCmd(container.getId()).exec();
-                successCount++;
-                logger.info("Started container: {}", getContainerName(container));
-            } catch (Exception e) {
-                failureCount++;
-                logger.error("Failed to start container: {}", getContainerName(container), e);
-                errors.append("\n- ").append(getContainerName(container)).append(": ").append(e.getMessage());
-            }
-        }
-
-        refreshContainers();
-
-        if (failureCount == 0) {
-            // All containers started successfully, no popup needed
-        } else if (successCount == 0) {
-            showAlert(Alert.AlertType.ERROR, ERROR_TITLE, 
-                    "Failed to start all containers:" + errors);
-        } else {
-            showAlert(Alert.AlertType.WARNING, PARTIAL_SUCCESS_TITLE, 
-                    successCount + " containers started successfully.\n" 
-                    + failureCount + CONTAINERS_FAILED_MSG + errors);
-        }
+        DockerClient client = connectionManager.getDockerClient();
+        runContainerBatch(containers, "start", "started", false, id -> client.startContainerCmd(id).exec());
     }
 
     @FXML
@@ -1085,34 +1329,8 @@ public class MainController {
     }
 
     private void stopContainers(List<Container> containers) {
-        int successCount = 0;
-        int failureCount = 0;
-        StringBuilder errors = new StringBuilder();
-
-        for (Container container : containers) {
-            try {
-                connectionManager.getDockerClient().stopContainerCmd(container.getId()).exec();
-                successCount++;
-                logger.info("Stopped container: {}", getContainerName(container));
-            } catch (Exception e) {
-                failureCount++;
-                logger.error("Failed to stop container: {}", getContainerName(container), e);
-                errors.append("\n- ").append(getContainerName(container)).append(": ").append(e.getMessage());
-            }
-        }
-
-        refreshContainers();
-
-        if (failureCount == 0) {
-            // All containers stopped successfully, no popup needed
-        } else if (successCount == 0) {
-            showAlert(Alert.AlertType.ERROR, ERROR_TITLE, 
-                    "Failed to stop all containers:" + errors);
-        } else {
-            showAlert(Alert.AlertType.WARNING, PARTIAL_SUCCESS_TITLE, 
-                    successCount + " containers stopped successfully.\n" 
-                    + failureCount + CONTAINERS_FAILED_MSG + errors);
-        }
+        DockerClient client = connectionManager.getDockerClient();
+        runContainerBatch(containers, "stop", "stopped", true, id -> client.stopContainerCmd(id).exec());
     }
 
     @FXML
@@ -1156,34 +1374,8 @@ public class MainController {
     }
 
     private void restartContainers(List<Container> containers) {
-        int successCount = 0;
-        int failureCount = 0;
-        StringBuilder errors = new StringBuilder();
-
-        for (Container container : containers) {
-            try {
-                connectionManager.getDockerClient().restartContainerCmd(container.getId()).exec();
-                successCount++;
-                logger.info("Restarted container: {}", getContainerName(container));
-            } catch (Exception e) {
-                failureCount++;
-                logger.error("Failed to restart container: {}", getContainerName(container), e);
-                errors.append("\n- ").append(getContainerName(container)).append(": ").append(e.getMessage());
-            }
-        }
-
-        refreshContainers();
-
-        if (failureCount == 0) {
-            // All containers restarted successfully, no popup needed
-        } else if (successCount == 0) {
-            showAlert(Alert.AlertType.ERROR, ERROR_TITLE, 
-                    "Failed to restart all containers:" + errors);
-        } else {
-            showAlert(Alert.AlertType.WARNING, PARTIAL_SUCCESS_TITLE, 
-                    successCount + " containers restarted successfully.\n" 
-                    + failureCount + CONTAINERS_FAILED_MSG + errors);
-        }
+        DockerClient client = connectionManager.getDockerClient();
+        runContainerBatch(containers, "restart", "restarted", false, id -> client.restartContainerCmd(id).exec());
     }
 
     @FXML
@@ -1235,34 +1427,111 @@ public class MainController {
     }
 
     private void removeContainers(List<Container> containers) {
-        int successCount = 0;
-        int failureCount = 0;
-        StringBuilder errors = new StringBuilder();
+        DockerClient client = connectionManager.getDockerClient();
+        runContainerBatch(containers, "remove", "removed", true,
+            id -> client.removeContainerCmd(id).withForce(true).exec());
+    }
 
+    /**
+     * Runs an operation for every container of a group on the batch executor and shows its progress.
+     * With compose ordering enabled, dependencies are started before and stopped after their dependents.
+     *
+     * @param dependentsFirst True for operations that take containers down, e.g. stop and remove.
+     */
+    private void runContainerBatch(List<Container> containers, String verb, String pastTense, boolean dependentsFirst,
+                                   BatchOperationExecutor.Operation operation) {
+        Map<String, String> names = new java.util.LinkedHashMap<>();
         for (Container container : containers) {
-            try {
-                connectionManager.getDockerClient().removeContainerCmd(container.getId()).withForce(true).exec();
-                successCount++;
-                logger.info("Removed container: {}", getContainerName(container));
-            } catch (Exception e) {
-                failureCount++;
-                logger.error("Failed to remove container: {}", getContainerName(container), e);
-                errors.append("\n- ").append(getContainerName(container)).append(": ").append(e.getMessage());
-            }
+            names.put(container.getId(), getContainerName(container));
         }
+        Map<String, Set<String>> waitsFor = Collections.emptyMap();
+        if (settingsManager.isBatchComposeOrder()) {
+            Map<String, Set<String>> dependencies = containerLogic.getComposeDependencies(containers);
+            waitsFor = dependentsFirst ? invert(dependencies) : dependencies;
+        }
+
+        BatchProgressDialog dialog = new BatchProgressDialog(
+                Character.toUpperCase(verb.charAt(0)) + verb.substring(1) + " " + containers.size() + " containers",
+                names);
+        Map<String, String> errors = new java.util.concurrent.ConcurrentHashMap<>();
+        BatchOperationExecutor.Batch batch = getBatchExecutor().submit(new ArrayList<>(names.keySet()), waitsFor,
+                operation, new BatchOperationExecutor.Listener() {
+                    @Override
+                    public void onStatus(String id, BatchOperationExecutor.Status status, Exception error) {
+                        if (error instanceof BatchOperationExecutor.DependencyFailedException skip) {
+                            String reason = BatchProgressDialog.skipReason(skip, names);
+                            logger.warn("Did not {} container {}: {}", verb, names.get(id), reason);
+                            errors.put(id, reason);
+                        } else if (error != null) {
+                            logger.error("Failed to {} container: {}", verb, names.get(id), error);
+                            errors.put(id, String.valueOf(error.getMessage()));
+                        } else if (status == BatchOperationExecutor.Status.SUCCEEDED) {
+                            logger.info("Container {} {}", names.get(id), pastTense);
+                        }
+                        Platform.runLater(() -> dialog.update(id, status, error));
+                    }
+
+                    @Override
+                    public void onFinished(BatchOperationExecutor.Batch finished) {
+                        Platform.runLater(() -> {
+                            dialog.close();
+                            onContainerBatchFinished(finished, verb, pastTense, names, errors);
+                        });
+                    }
+                });
+        dialog.setOnHidden(e -> batch.cancel());
+        dialog.show();
+    }
 
+    private void onContainerBatchFinished(BatchOperationExecutor.Batch batch, String verb, String pastTense,
+                                          Map<String, String> names, Map<String, String> errors) {
+        logger.info("Batch {} of {} containers finished in {} ms", verb, names.size(), batch.getElapsedMs());
         refreshContainers();
 
+        int successCount = batch.count(BatchOperationExecutor.Status.SUCCEEDED);
+        int failureCount = batch.count(BatchOperationExecutor.Status.FAILED);
+        int cancelledCount = batch.count(BatchOperationExecutor.Status.CANCELLED);
+        StringBuilder details = new StringBuilder();
+        for (Map.Entry<String, String> error : errors.entrySet()) {
+            details.append("\n- ").append(names.get(error.getKey())).append(": ").append(error.getValue());
+        }
+        if (cancelledCount > 0) {
+            details.append("\n").append(cancelledCount).append(" containers were cancelled before they were ")
+                    .append(pastTense).append('.');
+        }
+
         if (failureCount == 0) {
-            // All containers removed successfully, no popup needed
+            // All containers succeeded or the user cancelled, no popup needed
         } else if (successCount == 0) {
             showAlert(Alert.AlertType.ERROR, ERROR_TITLE, 
-                    "Failed to remove all containers:" + errors);
+                    "Failed to " + verb + " all containers:" + details);
         } else {
             showAlert(Alert.AlertType.WARNING, PARTIAL_SUCCESS_TITLE, 
-                    successCount + " containers removed successfully.\n" 
-                    + failureCount + CONTAINERS_FAILED_MSG + errors);
+                    successCount + " containers " + pastTense + " successfully.\n" 
+                    + failureCount + CONTAINERS_FAILED_MSG + details);
+        }
+    }
+
+    private static Map<String, Set<String>> invert(Map<String, Set<String>> dependencies) {
+        Map<String, Set<String>> inverted = new java.util.HashMap<>();
+        dependencies.forEach((id, deps) -> {
+            inverted.computeIfAbsent(id, k -> new HashSet<>());
+            for (String dep : deps) {
+                inverted.computeIfAbsent(dep, k -> new HashSet<>()).add(id);
+            }
+        });
+        return inverted;
+    }
+
+    private BatchOperationExecutor getBatchExecutor() {
+        int parallelism = settingsManager.getBatchParallelism();
+        if (batchExecutor == null || batchExecutor.getParallelism() != parallelism) {
+            if (batchExecutor != null) {
+                batchExecutor.close();
+            }
+            batchExecutor = new BatchOperationExecutor(parallelism);
         }
+        return batchExecutor;
     }
 
     @FXML
@@ -1293,8 +1562,15 @@ public class MainController {
 
     // Map to track active log stream callbacks by container ID
     private final Map<String, java.io.Closeable> activeLogStreams = new java.util.concurrent.ConcurrentHashMap<>();
+    // Scroll-back of each details tab's log, replaced whenever its stream restarts
+    private final Map<String, LogHistoryPager> activeLogPagers = new java.util.concurrent.ConcurrentHashMap<>();
+    // On-disk archives of the log tabs recording one; written from the stream callback threads
+    private final Map<String, LogArchive> activeLogArchives = new java.util.concurrent.ConcurrentHashMap<>();
     // Map to track active stats stream callbacks by container ID
     private final Map<String, java.io.Closeable> activeStatsStreams = new java.util.concurrent.ConcurrentHashMap<>();
+    // History recording runs for as long as a details tab is open, unlike the label updates
+    private final Map<String, java.io.Closeable> activeHistoryStreams = new java.util.concurrent.ConcurrentHashMap<>();
+    private final Map<String, List<SparklineChart>> activeStatsCharts = new java.util.concurrent.ConcurrentHashMap<>();
 
     private void stopLogStream(String containerId) {
         java.io.Closeable callback = activeLogStreams.remove(containerId);
@@ -1307,27 +1583,137 @@ public class MainController {
         }
     }
 
-    private Button createConfiguredButton(String text, String actionKey) {
-        Button button = new Button(text);
-        button.setUserData(actionKey);
-        shortcutManager.configureButton(button, actionKey);
-        return button;
+    private void stopLogPager(String containerId) {
+        LogHistoryPager pager = activeLogPagers.remove(containerId);
+        if (pager != null) {
+            pager.close();
+        }
     }
 
-    private void createDetailsTab(Container container) {
-        String containerId = container.getId();
-        String containerName = getContainerName(container);
-        
-        // Create tab
-        javafx.scene.control.Tab detailsTab = new javafx.scene.control.Tab("Details: " + containerName);
-        detailsTab.setClosable(true);
-        detailsTab.setUserData(containerId); // Store container ID for reference
-        
-        // Create main layout
-        BorderPane layout = new BorderPane();
-        
-        // Create header with container info
-        VBox header = new VBox(5);
+    /**
+     * Starts recording a details tab's incoming log to a new session directory under
+     * {@value #LOG_ARCHIVE_DIR}, first deleting the oldest sessions beyond the configured total size.
+     * Returns false, after telling the user, if it cannot be created.
+     */
+    private boolean startLogArchive(String containerId, String containerName) {
+        stopLogArchive(containerId);
+        java.nio.file.Path root = logArchiveRoot();
+        try {
+            List<java.nio.file.Path> recording = activeLogArchives.values().stream()
+                    .map(LogArchive::getDirectory).toList();
+            int pruned = LogArchive.pruneSessions(root, settingsManager.getLogArchiveMaxMb() * 1024L * 1024L,
+                    recording);
+            if (pruned > 0) {
+                logger.info("Deleted {} old log archive sessions from {}", pruned, root);
+            }
+        } catch (java.io.IOException e) {
+            logger.warn("Failed to prune log archives in {}", root, e);
+        }
+        String session = containerName.replaceAll("[^A-Za-z0-9_.-]", "_") + "-"
+                + java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        java.nio.file.Path directory = root.resolve(session);
+        try {
+            activeLogArchives.put(containerId, new LogArchive(directory));
+            logger.info("Archiving logs of {} to {}", containerName, directory);
+            return true;
+        } catch (java.io.IOException e) {
+            logger.error("Failed to create log archive {}", directory, e);
+            showAlert(Alert.AlertType.ERROR, ERROR_TITLE, "Failed to create log archive: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void stopLogArchive(String containerId) {
+        LogArchive archive = activeLogArchives.remove(containerId);
+        if (archive != null) {
+            try {
+                archive.close();
+            } catch (java.io.IOException e) {
+                logger.error("Error closing log archive {}", archive.getDirectory(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes lines from a stream callback to the tab's archive, if it is recording one. A failed write
+     * stops the recording.
+     */
+    private void archiveLogLines(String containerId, List<LogLine> lines, ToggleButton archiveButton) {
+        LogArchive archive = activeLogArchives.get(containerId);
+        if (archive == null || lines.isEmpty()) {
+            return;
+        }
+        try {
+            archive.appendAll(lines);
+        } catch (java.io.IOException e) {
+            logger.error("Failed to archive logs to {}", archive.getDirectory(), e);
+            Platform.runLater(() -> {
+                // Unless the user has since restarted the recording, which writes to a new archive
+                if (activeLogArchives.get(containerId) == archive) {
+                    archiveButton.setSelected(false);
+                }
+            });
+        }
+    }
+
+    private static java.nio.file.Path logArchiveRoot() {
+        return java.nio.file.Path.of(System.getProperty("user.home"), LOG_ARCHIVE_DIR);
+    }
+
+    /**
+     * Browses the tab's current recording, or, when it is not recording, a past session the user picks.
+     */
+    private void openLogArchive(String containerId, String containerName) {
+        LogArchive archive = activeLogArchives.get(containerId);
+        String title = containerName;
+        if (archive == null) {
+            javafx.stage.DirectoryChooser chooser = new javafx.stage.DirectoryChooser();
+            chooser.setTitle("Open Log Archive Session");
+            java.io.File root = logArchiveRoot().toFile();
+            if (root.isDirectory()) {
+                chooser.setInitialDirectory(root);
+            }
+            java.io.File selected = chooser.showDialog(mainTabPane.getScene().getWindow());
+            if (selected == null) {
+                return;
+            }
+            try {
+                archive = LogArchive.open(selected.toPath());
+            } catch (java.io.IOException e) {
+                logger.error("Failed to open log archive {}", selected, e);
+                showAlert(Alert.AlertType.ERROR, ERROR_TITLE, "Failed to open log archive: " + e.getMessage());
+                return;
+            }
+            title = selected.getName();
+        }
+        javafx.stage.Stage stage = new javafx.stage.Stage();
+        stage.setTitle("Log Archive: " + title);
+        stage.setScene(new javafx.scene.Scene(new LogArchiveBrowser(archive), 1000, 600));
+        stage.getIcons().add(new javafx.scene.image.Image(getClass().getResourceAsStream("/app_icon.png")));
+        stage.show();
+    }
+
+    private Button createConfiguredButton(String text, String actionKey) {
+        Button button = new Button(text);
+        button.setUserData(actionKey);
+        shortcutManager.configureButton(button, actionKey);
+        return button;
+    }
+
+    private void createDetailsTab(Container container) {
+        String containerId = container.getId();
+        String containerName = getContainerName(container);
+        
+        // Create tab
+        javafx.scene.control.Tab detailsTab = new javafx.scene.control.Tab("Details: " + containerName);
+        detailsTab.setClosable(true);
+        detailsTab.setUserData(containerId); // Store container ID for reference
+        
+        // Create main layout
+        BorderPane layout = new BorderPane();
+        
+        // Create header with container info
+        VBox header = new VBox(5);
         header.setStyle("-fx-background-color: #f4f4f4; -fx-padding: 10;");
         
         GridPane infoGrid = new GridPane();
@@ -1436,38 +1822,34 @@ public class MainController {
         statsGrid.add(diskValue, 3, 1);
 
         header.getChildren().add(statsGrid);
+
+        StatsHistory history = statsHistoryStore.get(containerId);
+        List<SparklineChart> charts = List.of(
+                new SparklineChart("CPU", HISTORY_WINDOW_MS, 100,
+                        v -> String.format("%.1f%%", v), StatsHistory.CPU),
+                new SparklineChart("RAM", HISTORY_WINDOW_MS, 1024 * 1024,
+                        v -> FormatUtils.formatSize((long) v), StatsHistory.MEMORY),
+                new SparklineChart("Net", HISTORY_WINDOW_MS, 1024,
+                        FormatUtils::formatRate, StatsHistory.NET_READ, StatsHistory.NET_WRITE),
+                new SparklineChart("Disk", HISTORY_WINDOW_MS, 1024,
+                        FormatUtils::formatRate, StatsHistory.DISK_READ, StatsHistory.DISK_WRITE));
+        HBox chartsBox = new HBox(10);
+        for (SparklineChart chart : charts) {
+            chart.setHistory(history);
+            HBox.setHgrow(chart, Priority.ALWAYS);
+            chartsBox.getChildren().add(chart);
+        }
+        activeStatsCharts.put(containerId, charts);
+        header.getChildren().add(chartsBox);
         
         layout.setTop(header);
         
         // Create center area with logs
-        javafx.scene.text.TextFlow logTextFlow = new javafx.scene.text.TextFlow();
-        logTextFlow.setStyle("-fx-background-color: black; -fx-font-family: 'Courier New', monospace;");
-        logTextFlow.setPadding(new javafx.geometry.Insets(5));
-
-        javafx.scene.control.ScrollPane logScrollPane = new javafx.scene.control.ScrollPane(logTextFlow);
-        logScrollPane.setFitToWidth(true);
-        logScrollPane.setFitToHeight(false);
-        logScrollPane.setStyle("-fx-background: black; -fx-background-color: black;");
-        
-        layout.setCenter(logScrollPane);
-        
-        // Create selection handler
-        TextFlowSelectionHandler selectionHandler = new TextFlowSelectionHandler(logTextFlow);
-        logTextFlow.setUserData(selectionHandler); // Store for use in log streaming logic
-
-        // Add copy and select all shortcuts
-        layout.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
-            if (event.isControlDown() && !event.isAltDown()) {
-                if (event.getCode() == KeyCode.C) {
-                    selectionHandler.copyToClipboard();
-                    event.consume();
-                } else if (event.getCode() == KeyCode.A) {
-                    selectionHandler.selectAll();
-                    event.consume();
-                }
-            }
-        });
-        
+        LogView logView = new LogView(settingsManager.getLogBufferLines());
+        LogSearchBar searchBar = new LogSearchBar(logView);
+        VBox.setVgrow(logView, Priority.ALWAYS);
+        layout.setCenter(new VBox(searchBar, logView));
+
         // Create footer with control buttons
         HBox footer = new HBox(10);
         footer.setStyle("-fx-padding: 10;");
@@ -1480,7 +1862,23 @@ public class MainController {
         Button openVolumesButton = createConfiguredButton("📂 Open _Volumes", "action.details.volumes");
         Button showProcessesButton = new Button("🔍 Show Processes");
         Button copyAllButton = new Button("📋 Copy All");
-        copyAllButton.setOnAction(e -> selectionHandler.copyAllToClipboard());
+        copyAllButton.setOnAction(e -> logView.copyAll());
+        Button findButton = new Button("🔎 Find");
+        findButton.setOnAction(e -> searchBar.open());
+        ToggleButton archiveButton = new ToggleButton("💾 Archive");
+        archiveButton.setTooltip(new Tooltip("Record this log to disk under ~/" + LOG_ARCHIVE_DIR
+                + ", beyond what the view keeps"));
+        Button browseArchiveButton = new Button("🗄 Browse Archive");
+        browseArchiveButton.setTooltip(new Tooltip("Browse this log's recording, or an earlier recorded session"));
+        browseArchiveButton.setOnAction(e -> openLogArchive(containerId, containerName));
+        archiveButton.selectedProperty().addListener((obs, wasSelected, selected) -> {
+            if (!selected) {
+                stopLogArchive(containerId);
+            } else if (!startLogArchive(containerId, containerName)) {
+                archiveButton.setSelected(false);
+            }
+        });
+        archiveButton.setSelected(settingsManager.isLogArchiveEnabled());
         
         openVolumesButton.setOnAction(e -> handleOpenContainerVolumes(container));
         configButton.setOnAction(e -> openContainerConfig(containerId, containerName));
@@ -1508,8 +1906,8 @@ public class MainController {
                 }
 
                 // Restart logs
-                logTextFlow.getChildren().clear();
-                        startLogStreaming(logTextFlow, logScrollPane, containerId, detailsTab);
+                logView.clear();
+                startLogStreaming(logView, container, detailsTab, archiveButton);
             } catch (Exception ex) {
                 logger.error("Failed to start container", ex);
                 showAlert(Alert.AlertType.ERROR, ERROR_TITLE, "Failed to start container: " + ex.getMessage());
@@ -1559,8 +1957,8 @@ public class MainController {
                 }
                 
                 // Restart logs
-                logTextFlow.getChildren().clear();
-                        startLogStreaming(logTextFlow, logScrollPane, containerId, detailsTab);
+                logView.clear();
+                startLogStreaming(logView, container, detailsTab, archiveButton);
             } catch (Exception ex) {
                 logger.error("Failed to restart container", ex);
                 showAlert(Alert.AlertType.ERROR, ERROR_TITLE, "Failed to restart container: " + ex.getMessage());
@@ -1570,7 +1968,7 @@ public class MainController {
         attachButton.setOnAction(e -> attachToContainer(container));
         
         footer.getChildren().addAll(startButton, stopButton, restartButton, attachButton, configButton, 
-                openVolumesButton, showProcessesButton, copyAllButton);
+                openVolumesButton, showProcessesButton, copyAllButton, findButton, archiveButton, browseArchiveButton);
         layout.setBottom(footer);
         
         detailsTab.setContent(layout);
@@ -1582,14 +1980,52 @@ public class MainController {
         // Set cleanup
         detailsTab.setOnClosed(e -> {
             stopLogStream(containerId);
+            stopLogPager(containerId);
+            stopLogArchive(containerId);
             stopStatsStream(containerId);
+            stopHistoryRecording(containerId);
             activeStatsLabels.remove(containerId);
+            activeStatsCharts.remove(containerId);
         });
 
         // Start streaming logs in follow mode
-        startLogStreaming(logTextFlow, logScrollPane, containerId, detailsTab);
+        startLogStreaming(logView, container, detailsTab, archiveButton);
         // Start streaming stats
         startStatsStreaming(containerId, cpuValue, ramValue, netValue, diskValue);
+        startHistoryRecording(containerId);
+    }
+
+    private void startHistoryRecording(String containerId) {
+        ContainerStatsHub hub = getContainerStatsHub();
+        if (hub == null || activeHistoryStreams.containsKey(containerId)) {
+            return;
+        }
+        StatsHistory history = statsHistoryStore.get(containerId);
+        java.io.Closeable stream = hub.subscribe(containerId, HISTORY_SAMPLE_MS, stats -> {
+            history.record(System.currentTimeMillis(), stats);
+            Platform.runLater(() -> redrawStatsCharts(containerId));
+        }, () -> activeHistoryStreams.remove(containerId));
+        activeHistoryStreams.put(containerId, stream);
+    }
+
+    private void stopHistoryRecording(String containerId) {
+        java.io.Closeable stream = activeHistoryStreams.remove(containerId);
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (Exception e) {
+                logger.error("Error closing stats history stream for container {}", containerId, e);
+            }
+        }
+    }
+
+    private void redrawStatsCharts(String containerId) {
+        // Charts of background tabs catch up when their tab is selected
+        Tab selected = mainTabPane.getSelectionModel().getSelectedItem();
+        List<SparklineChart> charts = activeStatsCharts.get(containerId);
+        if (charts != null && selected != null && containerId.equals(selected.getUserData())) {
+            charts.forEach(SparklineChart::redraw);
+        }
     }
 
     private void handleOpenContainerVolumes(Container container) {
@@ -1702,86 +2138,79 @@ public class MainController {
         }
     }
 
-    private void startLogStreaming(javafx.scene.text.TextFlow logTextFlow, 
-                                   javafx.scene.control.ScrollPane logScrollPane, 
-                                   String containerId, 
-                                   javafx.scene.control.Tab logTab) {
+    private void startLogStreaming(LogView logView, Container container, javafx.scene.control.Tab logTab,
+                                   ToggleButton archiveButton) {
+        String containerId = container.getId();
         // Stop any existing stream for this container first
         stopLogStream(containerId);
+        stopLogPager(containerId);
+        logTab.setGraphic(null);
+        // Starts from a short tail; earlier lines are fetched as the user scrolls up
+        int initialTail = settingsManager.getLogInitialTail();
+        long createdSecond = container.getCreated() != null ? container.getCreated() : 0;
+        activeLogPagers.put(containerId, new LogHistoryPager(logView,
+                new LogHistoryService(connectionManager.getDockerClient(TransportProfile.STREAM)), containerId,
+                createdSecond, initialTail));
 
         Thread logThread = new Thread(() -> {
             try {
-                // Buffer for incoming log chunks
-                StringBuilder pendingLogs = new StringBuilder();
-                // Object to synchronize access to pendingLogs and updatePending flag
-                Object lock = new Object();
+                // Bounded hand-off to the FX thread, so a log storm cannot outgrow memory while the UI is busy
+                LogHandoffQueue handoff = new LogHandoffQueue(settingsManager.getLogHandoffLines(),
+                        settingsManager.getLogHandoffChars(), settingsManager.getLogOverflowPolicy(),
+                        Platform::runLater, (lines, dropped) -> {
+                            logView.appendLines(lines);
+                            showDroppedLogLines(logTab, dropped);
+                        });
+                // Only touched from the callback thread, which delivers frames sequentially
+                List<LogLine> parsedLines = new ArrayList<>();
+                // Timestamps are requested so older windows can be fetched by time; they are not shown
+                AnsiParser.LineSink sink = LogTimestamps.stripping(parsedLines::add);
+                // One decoder and parser per stream, so neither a character or line split across stdout frames
+                // nor colour state can leak into stderr, and vice versa
+                AnsiParser stdoutParser = new AnsiParser(sink);
+                AnsiParser stderrParser = new AnsiParser(sink);
+                Utf8StreamDecoder stdoutDecoder = new Utf8StreamDecoder(stdoutParser::feed);
+                Utf8StreamDecoder stderrDecoder = new Utf8StreamDecoder(stderrParser::feed);
 
                 com.github.dockerjava.api.async.ResultCallback.Adapter<Frame> callback =
                     new com.github.dockerjava.api.async.ResultCallback.Adapter<Frame>() {
-                        private boolean updatePending = false;
-
                         @Override
                         public void onNext(Frame frame) {
-                            String logLine = new String(frame.getPayload(), StandardCharsets.UTF_8);
-                            
-                            synchronized (lock) {
-                                pendingLogs.append(logLine);
-                                if (!updatePending) {
-                                    updatePending = true;
-                                    Platform.runLater(this::updateUI);
-                                }
-                            }
+                            (frame.getStreamType() == StreamType.STDERR ? stderrDecoder : stdoutDecoder)
+                                    .decode(frame.getPayload());
+                            enqueueParsed();
                         }
 
-                        private void updateUI() {
-                            String textToAppend;
-                            synchronized (lock) {
-                                textToAppend = pendingLogs.toString();
-                                pendingLogs.setLength(0);
-                                updatePending = false;
-                            }
-
-                            if (textToAppend.isEmpty()) {
-                                return;
-                            }
-
-                            // Check if we are at the bottom BEFORE adding content
-                            // We are at the bottom if:
-                            // 1. Content fits within the viewport (no scrollbar needed yet)
-                            // 2. OR the scrollbar is near the bottom
-                            double contentHeight = logTextFlow.getBoundsInLocal().getHeight();
-                            double viewportHeight = logScrollPane.getViewportBounds().getHeight();
-                            boolean contentFits = contentHeight <= viewportHeight;
-                            boolean scrollAtBottom = logScrollPane.getVvalue() >= 0.99;
-                            
-                            boolean wasAtBottom = contentFits || scrollAtBottom;
-
-                            appendAnsiText(logTextFlow, textToAppend);
-
-                            // Auto-scroll ONLY if we were already at the bottom AND not currently selecting text
-                            boolean isSelecting = false;
-                            if (logTextFlow.getUserData() instanceof TextFlowSelectionHandler handler) {
-                                isSelecting = handler.isSelecting();
+                        private void enqueueParsed() {
+                            archiveLogLines(containerId, parsedLines, archiveButton);
+                            try {
+                                handoff.offer(parsedLines);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            } finally {
+                                parsedLines.clear();
                             }
+                        }
 
-                            if (wasAtBottom && !isSelecting) {
-                                // Defer scroll to ensure layout is updated
-                                Platform.runLater(() -> {
-                                    logScrollPane.layout(); // Force layout update
-                                    logScrollPane.setVvalue(1.0);
-                                });
-                            }
+                        @Override
+                        public void close() throws java.io.IOException {
+                            // Releases the callback thread if it is waiting for the view
+                            handoff.close();
+                            super.close();
                         }
 
                         @Override
                         public void onComplete() {
                             super.onComplete();
                             activeLogStreams.remove(containerId); // Clean up map
+                            stdoutDecoder.flush();
+                            stdoutParser.flush();
+                            stderrDecoder.flush();
+                            stderrParser.flush();
+                            enqueueParsed();
                             Platform.runLater(() -> {
-                                if (logTextFlow.getChildren().isEmpty()) {
-                                    javafx.scene.text.Text text = new javafx.scene.text.Text("No logs available for this container.");
-                                    text.setFill(javafx.scene.paint.Color.WHITE);
-                                    logTextFlow.getChildren().add(text);
+                                if (logView.isEmpty()) {
+                                    logView.appendMessage("No logs available for this container.", RGB_WHITE);
                                 }
                             });
                         }
@@ -1794,11 +2223,8 @@ public class MainController {
                             if (!(throwable instanceof java.net.SocketTimeoutException) && 
                                 !throwable.getMessage().contains("Closed")) {
                                 logger.error("Error in log stream", throwable);
-                                Platform.runLater(() -> {
-                                    javafx.scene.text.Text text = new javafx.scene.text.Text("\n\nError in log stream: " + throwable.getMessage());
-                                    text.setFill(javafx.scene.paint.Color.RED);
-                                    logTextFlow.getChildren().add(text);
-                                });
+                                Platform.runLater(() -> logView.appendMessage(
+                                        "\nError in log stream: " + throwable.getMessage(), RGB_RED));
                             } else {
                                 logger.debug("Log stream timed out or closed");
                             }
@@ -1808,20 +2234,17 @@ public class MainController {
                 // Register the callback so we can stop it later
                 activeLogStreams.put(containerId, callback);
 
-                connectionManager.getDockerClient().logContainerCmd(containerId)
+                connectionManager.getDockerClient(TransportProfile.STREAM).logContainerCmd(containerId)
                         .withStdOut(true)
                         .withStdErr(true)
                         .withFollowStream(true)  // Follow stream for continuous updates
-                        .withTail(1000)
+                        .withTimestamps(true)
+                        .withTail(initialTail)
                         .exec(callback);
 
             } catch (Exception e) {
                 logger.error("Failed to stream logs", e);
-                Platform.runLater(() -> {
-                    javafx.scene.text.Text text = new javafx.scene.text.Text("Error streaming logs: " + e.getMessage());
-                    text.setFill(javafx.scene.paint.Color.RED);
-                    logTextFlow.getChildren().add(text);
-                });
+                Platform.runLater(() -> logView.appendMessage("Error streaming logs: " + e.getMessage(), RGB_RED));
             }
         });
 
@@ -1829,77 +2252,21 @@ public class MainController {
         logThread.start();
     }
 
-    private void appendAnsiText(javafx.scene.text.TextFlow textFlow, String text) {
-        // Basic ANSI split regex
-        String[] parts = text.split("\u001B\\[");
-        
-        if (parts.length == 0) {
+    /**
+     * Shows how many log lines the tab's stream has dropped, next to the tab title.
+     */
+    private void showDroppedLogLines(javafx.scene.control.Tab logTab, long dropped) {
+        if (dropped == 0) {
             return;
         }
-
-        // Default color
-        javafx.scene.paint.Color currentColor = javafx.scene.paint.Color.LIGHTGRAY;
-        
-        // Handle first part (no escape code prefix usually, or empty if string starts with one)
-        if (!parts[0].isEmpty()) {
-             javafx.scene.text.Text node = new javafx.scene.text.Text(parts[0]);
-             node.setFill(currentColor);
-             node.setFont(javafx.scene.text.Font.font(FONT_COURIER_NEW, 12));
-             textFlow.getChildren().add(node);
-        }
-
-        for (int i = 1; i < parts.length; i++) {
-            String part = parts[i];
-            int mIndex = part.indexOf('m');
-            
-            if (mIndex > -1) {
-                String codeStr = part.substring(0, mIndex);
-                String content = part.substring(mIndex + 1);
-
-                // Parse codes
-                String[] codes = codeStr.split(";");
-                for (String code : codes) {
-                    try {
-                        if (code.isEmpty()) continue;
-                        int c = Integer.parseInt(code);
-                        switch (c) {
-                            case 0: currentColor = javafx.scene.paint.Color.LIGHTGRAY; break; // Reset
-                            case 30: currentColor = javafx.scene.paint.Color.BLACK; break;
-                            case 31: currentColor = javafx.scene.paint.Color.RED; break;
-                            case 32: currentColor = javafx.scene.paint.Color.GREEN; break;
-                            case 33: currentColor = javafx.scene.paint.Color.YELLOW; break;
-                            case 34: currentColor = javafx.scene.paint.Color.BLUE; break;
-                            case 35: currentColor = javafx.scene.paint.Color.MAGENTA; break;
-                            case 36: currentColor = javafx.scene.paint.Color.CYAN; break;
-                            case 37: 
-                            case 97: currentColor = javafx.scene.paint.Color.WHITE; break;
-                            case 90: currentColor = javafx.scene.paint.Color.GRAY; break;
-                            case 91: currentColor = javafx.scene.paint.Color.INDIANRED; break;
-                            case 92: currentColor = javafx.scene.paint.Color.LIGHTGREEN; break;
-                            case 93: currentColor = javafx.scene.paint.Color.LIGHTYELLOW; break;
-                            case 94: currentColor = javafx.scene.paint.Color.LIGHTBLUE; break;
-                            case 95: currentColor = javafx.scene.paint.Color.VIOLET; break;
-                            case 96: currentColor = javafx.scene.paint.Color.LIGHTCYAN; break;
-                            default: break; // Ignore unknown codes
-                        }
-                    } catch (NumberFormatException ignored) {
-                        // Ignore malformed codes
-                    }
-                }
-
-                if (!content.isEmpty()) {
-                    javafx.scene.text.Text node = new javafx.scene.text.Text(content);
-                    node.setFill(currentColor);
-                    node.setFont(javafx.scene.text.Font.font(FONT_COURIER_NEW, 12));
-                    textFlow.getChildren().add(node);
-                }
-            } else {
-                // No 'm' terminator, treat whole part as text (fallback)
-                javafx.scene.text.Text node = new javafx.scene.text.Text("\u001B[" + part);
-                node.setFill(currentColor);
-                node.setFont(javafx.scene.text.Font.font(FONT_COURIER_NEW, 12));
-                textFlow.getChildren().add(node);
-            }
+        String text = String.format("⚠ %,d dropped", dropped);
+        if (logTab.getGraphic() instanceof Label label) {
+            label.setText(text);
+        } else {
+            Label label = new Label(text);
+            label.setStyle(COLOR_RED);
+            label.setTooltip(new Tooltip("Log lines dropped because the view could not keep up with the stream"));
+            logTab.setGraphic(label);
         }
     }
 
@@ -1993,7 +2360,7 @@ public class MainController {
                                     "Pulling image " + imageName
                                             + "... This may take a while."));
 
-                    connectionManager.getDockerClient().pullImageCmd(imageName)
+                    connectionManager.getDockerClient(TransportProfile.BULK).pullImageCmd(imageName)
                             .exec(new com.github.dockerjava.api.async.ResultCallback.Adapter<>())
                             .awaitCompletion();
 
@@ -2039,6 +2406,37 @@ public class MainController {
         }
     }
 
+    @FXML
+    private void handleShowDiskUsage() {
+        new Thread(() -> {
+            try {
+                DiskUsage usage = diskUsageService.fetchDiskUsage();
+                diskUsage = usage;
+                Platform.runLater(() -> {
+                    imagesTable.refresh();
+                    new DiskUsageDialog(usage).show();
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.error("Fetching disk usage was interrupted", e);
+            } catch (Exception e) {
+                logger.error("Failed to fetch disk usage", e);
+                Platform.runLater(() ->
+                        showAlert(Alert.AlertType.ERROR, ERROR_TITLE, "Failed to fetch disk usage: " + e.getMessage()));
+            }
+        }).start();
+    }
+
+    private String formatImageDiskUsage(ImageViewItem item,
+                                        java.util.function.ToLongFunction<DiskUsage.ImageEntry> size) {
+        if (item.isGroup()) {
+            return "";
+        }
+        DiskUsage usage = diskUsage;
+        DiskUsage.ImageEntry entry = usage == null ? null : usage.findImage(item.getImage().getId());
+        return entry == null ? "-" : FormatUtils.formatSize(size.applyAsLong(entry));
+    }
+
     @FXML
     private void handleRefreshVolumes() {
         refreshVolumes();
@@ -2046,53 +2444,117 @@ public class MainController {
 
     @FXML
     private void handleCalculateVolumeSizes() {
+        if (volumeSizeJob != null) {
+            // The button doubles as the cancel button while a run is in progress
+            volumeSizeJob.cancel();
+            return;
+        }
         if (!checkConnection()) {
             return;
         }
+        TreeItem<VolumeViewItem> root = volumesTable.getRoot();
+        if (root == null) {
+            return;
+        }
 
-        calculateVolumeSizesButton.setDisable(true);
-        new Thread(() -> {
-            try {
-                Map<String, Long> sizes = volumeUsageService.fetchVolumeSizes();
-                Platform.runLater(() -> {
-                    updateVolumeSizes(sizes);
-                    calculateVolumeSizesButton.setDisable(false);
-                });
-            } catch (Exception e) {
-                logger.error("Failed to calculate volume sizes", e);
-                Platform.runLater(() -> {
-                    showAlert(Alert.AlertType.ERROR, ERROR_TITLE, "Failed to calculate volume sizes: " + e.getMessage());
-                    calculateVolumeSizesButton.setDisable(false);
-                });
+        // Size volumes in the order they are listed, so the top of the table fills in first
+        List<VolumeSizeEngine.Target> targets = new ArrayList<>();
+        for (TreeItem<VolumeViewItem> group : root.getChildren()) {
+            for (TreeItem<VolumeViewItem> item : group.getChildren()) {
+                VolumeViewItem vol = item.getValue();
+                if (!vol.isGroup()) {
+                    targets.add(new VolumeSizeEngine.Target(vol.getName(), getVolumeDirectory(vol),
+                            volumeLogic.getCreatedAt(vol.getVolume())));
+                }
             }
-        }).start();
+        }
+        calculateVolumeSizesButton.setText(CANCEL_SIZES_TEXT);
+        volumeSizeJob = getVolumeSizeEngine().calculate(targets, new VolumeSizeEngine.Listener() {
+            @Override
+            public void onSize(String volumeName, long bytes) {
+                Platform.runLater(() -> applyVolumeSize(volumeName, bytes));
+            }
+
+            @Override
+            public void onFinished(VolumeSizeEngine.Job job) {
+                Platform.runLater(() -> onVolumeSizingFinished(job));
+            }
+        });
     }
 
-    private void updateVolumeSizes(Map<String, Long> sizes) {
+    private static String getVolumeDirectory(VolumeViewItem vol) {
+        String mountpoint = vol.getVolume() != null ? vol.getVolume().getMountpoint() : null;
+        if (mountpoint == null || mountpoint.isEmpty()) {
+            return "/var/lib/docker/volumes/" + vol.getName() + "/_data";
+        }
+        return mountpoint;
+    }
+
+    private VolumeSizeEngine getVolumeSizeEngine() {
+        if (volumeSizeEngine == null) {
+            String distro = volumePathResolver.getWslDistro();
+            volumeSizeEngine = new VolumeSizeEngine(VolumeSizeEngine.wslDuCommand(distro),
+                    VolumeSizeEngine.wslMtimeCommand(distro), getVolumeSizeCache(),
+                    VolumeSizeEngine.DEFAULT_PARALLELISM, VolumeSizeEngine.DEFAULT_BATCH_SIZE);
+        }
+        return volumeSizeEngine;
+    }
+
+    private synchronized VolumeSizeCache getVolumeSizeCache() {
+        if (volumeSizeCache == null) {
+            long ttlMs = settingsManager.getVolumeSizeCacheTtlHours() * 60L * 60 * 1000;
+            volumeSizeCache = new VolumeSizeCache(ttlMs);
+        }
+        return volumeSizeCache;
+    }
+
+    private void closeVolumeSizeEngine() {
+        if (volumeSizeJob != null) {
+            volumeSizeJob.cancel();
+        }
+        if (volumeSizeEngine != null) {
+            volumeSizeEngine.close();
+            volumeSizeEngine = null;
+        }
+    }
+
+    private void applyVolumeSize(String volumeName, long bytes) {
         TreeItem<VolumeViewItem> root = volumesTable.getRoot();
         if (root == null) {
-            logger.warn("Volumes table root is null, cannot update sizes");
             return;
         }
-
-        int updatedCount = 0;
         for (TreeItem<VolumeViewItem> group : root.getChildren()) {
-            long groupTotal = 0;
             for (TreeItem<VolumeViewItem> item : group.getChildren()) {
-                VolumeViewItem vol = item.getValue();
-                if (!vol.isGroup()) {
-                    Long size = sizes.get(vol.getName());
-                    if (size != null) {
-                        vol.setSizeBytes(size);
-                        groupTotal += size;
-                        updatedCount++;
-                    }
+                if (item.getValue().getName().equals(volumeName)) {
+                    item.getValue().setSizeBytes(bytes);
+                    updateVolumeGroupSize(group);
+                    return;
                 }
             }
-            // Update group size as well
-            group.getValue().setSizeBytes(groupTotal);
         }
-        logger.info("Updated sizes for {} volumes in UI", updatedCount);
+    }
+
+    private static void updateVolumeGroupSize(TreeItem<VolumeViewItem> group) {
+        long groupTotal = 0;
+        for (TreeItem<VolumeViewItem> item : group.getChildren()) {
+            groupTotal += item.getValue().getSizeBytes();
+        }
+        group.getValue().setSizeBytes(groupTotal);
+    }
+
+    private void onVolumeSizingFinished(VolumeSizeEngine.Job job) {
+        if (volumeSizeJob != job) {
+            return;
+        }
+        volumeSizeJob = null;
+        calculateVolumeSizesButton.setText(CALCULATE_SIZES_TEXT);
+        logger.info("Sized {} of {} volumes ({} from cache) in {} ms{}", job.getSized(), job.getTotal(),
+                job.getCached(), job.getElapsedMs(), job.isCancelled() ? " (cancelled)" : "");
+        if (!job.isCancelled() && job.getTotal() > 0 && job.getSized() == 0) {
+            showAlert(Alert.AlertType.ERROR, ERROR_TITLE,
+                    "Failed to calculate volume sizes. Check that 'wsl -u root du' works in distro '"
+                            + volumePathResolver.getWslDistro() + "'.");
+        }
     }
 
     @FXML
@@ -2284,78 +2746,185 @@ public class MainController {
             return;
         }
 
-        // Capture current selection
-        TreeItem<ContainerViewItem> currentSelection = containersTable.getSelectionModel().getSelectedItem();
-        String selectedId = null;
-        if (currentSelection != null && !currentSelection.getValue().isGroup()) {
-            selectedId = currentSelection.getValue().getContainer().getId();
+        DockerClient client = connectionManager.getDockerClient();
+        submitRefresh(REFRESH_CONTAINERS, PRIORITY_RELOAD,
+                () -> {
+                    List<Container> containers = client.listContainersCmd()
+                            .withShowAll(true)
+                            .exec();
+                    containerInventory.replaceAll(containers);
+                    return containers;
+                },
+                containerTreeReconciler::plan,
+                root -> {
+                    lastContainerResync = System.currentTimeMillis();
+                    applyContainerTree(root);
+                },
+                "Failed to refresh containers");
+    }
+
+    /**
+     * Records the first layout pulse after the container list was set, i.e. when it first appears.
+     */
+    private void markFirstPaint() {
+        javafx.scene.Scene scene = containersTable.getScene();
+        if (scene == null) {
+            return;
         }
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            StartupTimeline.app().mark(StartupTimeline.FIRST_PAINT);
+            scene.removePostLayoutPulseListener(listener[0]);
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
 
-        try {
-            List<Container> containers = connectionManager.getDockerClient()
-                    .listContainersCmd()
-                    .withShowAll(true)
-                    .exec();
+    private void applyContainerTree(ContainerTreeReconciler.Plan plan) {
+        TreeItem<ContainerViewItem> root = containerTreeReconciler.getRoot();
+        boolean firstLoad = containersTable.getRoot() != root;
+        if (firstLoad) {
+            containersTable.setRoot(root);
+            if (StartupTimeline.app().mark("containers listed")) {
+                markFirstPaint();
+            }
+        }
+        if (!containerTreeReconciler.apply(plan) && !firstLoad) {
+            return;
+        }
+        // Drop usage of removed containers and re-target the sampler at the rows now on screen
+        containerUsage.keySet().retainAll(plan.getContainerIds());
+        updateSampledContainers();
 
-            // Group containers
-            Map<String, List<Container>> grouped = new TreeMap<>();
-            List<Container> ungrouped = new ArrayList<>();
+        // Unchanged rows keep their TreeItems, so the selection survives; only fall back to the first row
+        TreeItem<ContainerViewItem> selected = containersTable.getSelectionModel().getSelectedItem();
+        if (selected == null && !root.getChildren().isEmpty()) {
+            containersTable.getSelectionModel().select(0);
+            containersTable.requestFocus();
+        } else {
+            // The selected row may have been updated in place (e.g. stopped), refresh the buttons
+            updateContainerActionButtons(selected);
+        }
+    }
+
+    private void initContainerUsageColumns() {
+        containerCpuColumn.setCellValueFactory(data -> usageProperty(data.getValue().getValue()));
+        containerCpuColumn.setCellFactory(column -> usageCell(usage ->
+                String.format("%.1f%%", usage.getCpuPercentage())));
+        containerMemoryColumn.setCellValueFactory(data -> usageProperty(data.getValue().getValue()));
+        containerMemoryColumn.setCellFactory(column -> usageCell(usage ->
+                FormatUtils.formatSize(usage.getMemoryUsage()) + " / "
+                        + FormatUtils.formatSize(usage.getMemoryLimit())));
+        containerNetColumn.setCellValueFactory(data -> usageProperty(data.getValue().getValue()));
+        containerNetColumn.setCellFactory(column -> usageCell(usage -> usage.hasNetworkRates()
+                ? FormatUtils.formatSize(usage.getNetworkReadRate()) + " / "
+                        + FormatUtils.formatSize(usage.getNetworkWriteRate())
+                : "…"));
+
+        // Only rows on screen are sampled; re-evaluate whenever that set can change
+        containersTable.skinProperty().addListener((obs, oldSkin, newSkin) -> {
+            if (containersTable.lookup(".virtual-flow") instanceof VirtualFlow<?> flow) {
+                flow.positionProperty().addListener((o, oldPos, newPos) -> updateSampledContainers());
+            }
+        });
+        containersTable.heightProperty().addListener((obs, oldVal, newVal) -> updateSampledContainers());
+        containersTable.expandedItemCountProperty().addListener((obs, oldVal, newVal) -> updateSampledContainers());
+        for (TreeTableColumn<ContainerViewItem, ContainerUsage> column
+                : List.of(containerCpuColumn, containerMemoryColumn, containerNetColumn)) {
+            column.visibleProperty().addListener((obs, oldVal, newVal) -> updateSampledContainers());
+        }
+    }
 
-            for (Container c : containers) {
-                String project = null;
-                if (c.getLabels() != null) {
-                    project = c.getLabels().get("com.docker.compose.project");
-                }
-                
-                if (project != null && !project.isEmpty()) {
-                    grouped.computeIfAbsent(project, k -> new ArrayList<>()).add(c);
-                } else {
-                    ungrouped.add(c);
-                }
+    private ObjectProperty<ContainerUsage> usageProperty(ContainerViewItem item) {
+        if (item.isGroup()) {
+            return new SimpleObjectProperty<>();
+        }
+        return containerUsage.computeIfAbsent(item.getContainer().getId(), id -> new SimpleObjectProperty<>());
+    }
+
+    private static TreeTableCell<ContainerViewItem, ContainerUsage> usageCell(Function<ContainerUsage, String> format) {
+        return new TreeTableCell<>() {
+            @Override
+            protected void updateItem(ContainerUsage usage, boolean empty) {
+                super.updateItem(usage, empty);
+                setText(empty || usage == null ? null : format.apply(usage));
+            }
+        };
+    }
+
+    /**
+     * Points the sampler at the running containers currently on screen. Runs after the next layout
+     * pass, so the visible cells reflect the latest scroll position and tree contents.
+     */
+    private void updateSampledContainers() {
+        Platform.runLater(() -> {
+            if (!connectionManager.isConnected()) {
+                return;
             }
-            if (!ungrouped.isEmpty()) {
-                grouped.put(UNGROUPED_LABEL, ungrouped);
+            boolean anyVisible = containerCpuColumn.isVisible() || containerMemoryColumn.isVisible()
+                    || containerNetColumn.isVisible();
+            List<String> visibleIds = anyVisible ? visibleRunningContainerIds() : List.of();
+            ContainerStatsSampler sampler = getContainerStatsSampler();
+            if (sampler != null) {
+                sampler.setTargets(visibleIds);
             }
+        });
+    }
 
-            TreeItem<ContainerViewItem> root = new TreeItem<>(new ContainerViewItem("Root"));
-            root.setExpanded(true);
+    private List<String> visibleRunningContainerIds() {
+        if (!(containersTable.lookup(".virtual-flow") instanceof VirtualFlow<?> flow)
+                || flow.getFirstVisibleCell() == null || flow.getLastVisibleCell() == null) {
+            return List.of();
+        }
+        List<String> ids = new ArrayList<>();
+        for (int i = flow.getFirstVisibleCell().getIndex(); i <= flow.getLastVisibleCell().getIndex(); i++) {
+            TreeItem<ContainerViewItem> treeItem = containersTable.getTreeItem(i);
+            if (treeItem == null || treeItem.getValue().isGroup()) {
+                continue;
+            }
+            Container container = treeItem.getValue().getContainer();
+            if (STATE_RUNNING.equalsIgnoreCase(container.getState())) {
+                ids.add(container.getId());
+            }
+        }
+        return ids;
+    }
 
-            for (Map.Entry<String, List<Container>> entry : grouped.entrySet()) {
-                TreeItem<ContainerViewItem> groupItem = new TreeItem<>(new ContainerViewItem(entry.getKey()));
-                groupItem.setExpanded(true);
-                for (Container c : entry.getValue()) {
-                    groupItem.getChildren().add(new TreeItem<>(new ContainerViewItem(c, getContainerName(c))));
-                }
-                root.getChildren().add(groupItem);
+    private ContainerStatsSampler getContainerStatsSampler() {
+        if (containerStatsSampler == null) {
+            ContainerStatsService service = getContainerStatsService();
+            if (service != null) {
+                containerStatsSampler = new ContainerStatsSampler(service, STATS_SAMPLER_THREADS,
+                        settingsManager.getStatsRefreshInterval() * 1000L, this::onUsageSampled);
             }
+        }
+        return containerStatsSampler;
+    }
 
-            containersTable.setRoot(root);
-            
-            // Restore selection or default to first
-            boolean restored = false;
-            if (selectedId != null) {
-                for (TreeItem<ContainerViewItem> group : root.getChildren()) {
-                    for (TreeItem<ContainerViewItem> item : group.getChildren()) {
-                        if (!item.getValue().isGroup() && item.getValue().getContainer().getId().equals(selectedId)) {
-                            containersTable.getSelectionModel().select(item);
-                            restored = true;
-                            break;
-                        }
-                    }
-                    if (restored) {
-                        break;
+    /**
+     * Called from sampler threads; samples arriving together are applied in a single UI pulse.
+     */
+    private void onUsageSampled(ContainerUsage usage) {
+        pendingUsage.put(usage.getContainerId(), usage);
+        if (usageFlushScheduled.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                usageFlushScheduled.set(false);
+                for (String containerId : new ArrayList<>(pendingUsage.keySet())) {
+                    ContainerUsage latest = pendingUsage.remove(containerId);
+                    ObjectProperty<ContainerUsage> property = containerUsage.get(containerId);
+                    if (latest != null && property != null) {
+                        property.set(latest);
                     }
                 }
-            }
+            });
+        }
+    }
 
-            if (!restored && !root.getChildren().isEmpty()) {
-                containersTable.getSelectionModel().select(0);
-                containersTable.requestFocus();
-            }
-        } catch (RuntimeException e) {
-            logger.error("Failed to refresh containers", e);
-            showAlert(Alert.AlertType.ERROR, ERROR_TITLE, "Failed to refresh containers: " + e.getMessage());
+    private void stopContainerStatsSampler() {
+        if (containerStatsSampler != null) {
+            containerStatsSampler.close();
+            containerStatsSampler = null;
         }
+        pendingUsage.clear();
     }
 
     private void refreshImages() {
@@ -2363,64 +2932,67 @@ public class MainController {
             return;
         }
 
-        try {
-            List<Image> images = connectionManager.getDockerClient()
-                    .listImagesCmd()
-                    .exec();
-
-            // Group images
-            Map<String, List<Image>> grouped = new TreeMap<>();
-            List<Image> ungrouped = new ArrayList<>();
+        DockerClient client = connectionManager.getDockerClient();
+        submitRefresh(REFRESH_IMAGES, PRIORITY_RELOAD,
+                () -> client.listImagesCmd().exec(),
+                this::buildImageTree,
+                imagesTable::setRoot,
+                "Failed to refresh images");
+    }
 
-            for (Image img : images) {
-                String groupName = null;
-                // Try compose project label first
-                if (img.getLabels() != null) {
-                    groupName = img.getLabels().get("com.docker.compose.project");
-                }
-                // Fallback to repository name
-                if (groupName == null && img.getRepoTags() != null && img.getRepoTags().length > 0) {
-                    String[] parts = img.getRepoTags()[0].split(":");
-                    if (parts.length > 0 && !parts[0].isEmpty()) {
-                        groupName = parts[0];
-                    }
-                }
+    private TreeItem<ImageViewItem> buildImageTree(List<Image> images) {
+        // Group images
+        Map<String, List<Image>> grouped = new TreeMap<>();
+        List<Image> ungrouped = new ArrayList<>();
 
-                if (groupName != null) {
-                    grouped.computeIfAbsent(groupName, k -> new ArrayList<>()).add(img);
-                } else {
-                    ungrouped.add(img);
+        for (Image img : images) {
+            String groupName = null;
+            // Try compose project label first
+            if (img.getLabels() != null) {
+                groupName = img.getLabels().get("com.docker.compose.project");
+            }
+            // Fallback to repository name
+            if (groupName == null && img.getRepoTags() != null && img.getRepoTags().length > 0) {
+                String[] parts = img.getRepoTags()[0].split(":");
+                if (parts.length > 0 && !parts[0].isEmpty()) {
+                    groupName = parts[0];
                 }
             }
-            if (!ungrouped.isEmpty()) {
-                grouped.put(UNGROUPED_LABEL, ungrouped);
+
+            if (groupName != null) {
+                grouped.computeIfAbsent(groupName, k -> new ArrayList<>()).add(img);
+            } else {
+                ungrouped.add(img);
             }
+        }
+        if (!ungrouped.isEmpty()) {
+            grouped.put(UNGROUPED_LABEL, ungrouped);
+        }
 
-            TreeItem<ImageViewItem> root = new TreeItem<>(new ImageViewItem("Root"));
-            root.setExpanded(true);
+        TreeItem<ImageViewItem> root = new TreeItem<>(new ImageViewItem("Root"));
+        root.setExpanded(true);
 
-            for (Map.Entry<String, List<Image>> entry : grouped.entrySet()) {
-                TreeItem<ImageViewItem> groupItem = new TreeItem<>(new ImageViewItem(entry.getKey()));
-                groupItem.setExpanded(true);
-                for (Image img : entry.getValue()) {
-                    String tagName = "<none>";
-                    if (img.getRepoTags() != null && img.getRepoTags().length > 0) {
-                        // Use full repo:tag or just tag? Table shows repo and tag separately.
-                        // Name in tree can be repo:tag or just tag if grouped by repo.
-                        // Let's use repo:tag for clarity or just tag if parent is repo.
-                        // Since we grouped by repo, let's just show tag or full name if it was grouped by project.
-                        tagName = img.getRepoTags()[0];
-                    }
-                    groupItem.getChildren().add(new TreeItem<>(new ImageViewItem(img, tagName)));
+        for (Map.Entry<String, List<Image>> entry : grouped.entrySet()) {
+            TreeItem<ImageViewItem> groupItem = new TreeItem<>(new ImageViewItem(entry.getKey()));
+            groupItem.setExpanded(true);
+            for (Image img : entry.getValue()) {
+                String tagName = "<none>";
+                if (img.getRepoTags() != null && img.getRepoTags().length > 0) {
+                    // Use full repo:tag or just tag? Table shows repo and tag separately.
+                    // Name in tree can be repo:tag or just tag if grouped by repo.
+                    // Let's use repo:tag for clarity or just tag if parent is repo.
+                    // Since we grouped by repo, let's just show tag or full name if it was grouped by project.
+                    tagName = img.getRepoTags()[0];
                 }
-                root.getChildren().add(groupItem);
+                groupItem.getChildren().add(new TreeItem<>(new ImageViewItem(img, tagName)));
             }
-
-            imagesTable.setRoot(root);
-        } catch (RuntimeException e) {
-            logger.error("Failed to refresh images", e);
-            showAlert(Alert.AlertType.ERROR, ERROR_TITLE, "Failed to refresh images: " + e.getMessage());
+            root.getChildren().add(groupItem);
         }
+        return root;
+    }
+
+    private record VolumeSnapshot(List<InspectVolumeResponse> volumes, List<Container> containers,
+                                  Set<String> danglingNames) {
     }
 
     private void refreshVolumes() {
@@ -2428,55 +3000,63 @@ public class MainController {
             return;
         }
 
-        try {
-            List<InspectVolumeResponse> volumes = connectionManager.getDockerClient()
-                    .listVolumesCmd()
-                    .exec()
-                    .getVolumes();
-
-            List<Container> containers = connectionManager.getDockerClient()
-                    .listContainersCmd()
-                    .withShowAll(true)
-                    .exec();
-
-            Map<String, List<String>> volumeToContainers = volumeLogic.mapVolumesToContainers(containers);
-            Set<String> runningVolumeNames = volumeLogic.getRunningContainerVolumeNames(containers);
-            logger.info("Running container volume names: {}", runningVolumeNames);
-            Set<String> danglingNames = getDanglingVolumeNames();
-            Map<String, List<InspectVolumeResponse>> grouped = volumeLogic.groupVolumes(volumes);
-
-            TreeItem<VolumeViewItem> root = new TreeItem<>(new VolumeViewItem("Root"));
-            root.setExpanded(true);
-
-            for (Map.Entry<String, List<InspectVolumeResponse>> entry : grouped.entrySet()) {
-                TreeItem<VolumeViewItem> groupItem = new TreeItem<>(new VolumeViewItem(entry.getKey()));
-                groupItem.setExpanded(true);
-                for (InspectVolumeResponse vol : entry.getValue()) {
-                    boolean unused = danglingNames.contains(vol.getName());
-                    VolumeViewItem item = new VolumeViewItem(vol, vol.getName(), unused);
-                    
-                    List<String> containerNames = volumeToContainers.get(vol.getName());
-                    if (containerNames != null) {
-                        item.getContainerNames().setAll(containerNames);
-                    }
-                    
-                    item.setInUseByRunningContainer(runningVolumeNames.contains(vol.getName()));
-                    
-                    groupItem.getChildren().add(new TreeItem<>(item));
+        DockerClient client = connectionManager.getDockerClient();
+        submitRefresh(REFRESH_VOLUMES, PRIORITY_RELOAD,
+                () -> new VolumeSnapshot(
+                        client.listVolumesCmd().exec().getVolumes(),
+                        client.listContainersCmd().withShowAll(true).exec(),
+                        getDanglingVolumeNames(client)),
+                this::buildVolumeTree,
+                volumesTable::setRoot,
+                "Failed to refresh volumes");
+    }
+
+    private TreeItem<VolumeViewItem> buildVolumeTree(VolumeSnapshot snapshot) {
+        List<Container> containers = snapshot.containers();
+        Map<String, List<String>> volumeToContainers = volumeLogic.mapVolumesToContainers(containers);
+        Set<String> runningVolumeNames = volumeLogic.getRunningContainerVolumeNames(containers);
+        logger.info("Running container volume names: {}", runningVolumeNames);
+        Set<String> danglingNames = snapshot.danglingNames();
+        Map<String, List<InspectVolumeResponse>> grouped = volumeLogic.groupVolumes(snapshot.volumes());
+
+        TreeItem<VolumeViewItem> root = new TreeItem<>(new VolumeViewItem("Root"));
+        root.setExpanded(true);
+        VolumeSizeCache sizeCache = getVolumeSizeCache();
+        sizeCache.retain(volumeLogic.extractVolumeNames(snapshot.volumes()));
+
+        for (Map.Entry<String, List<InspectVolumeResponse>> entry : grouped.entrySet()) {
+            TreeItem<VolumeViewItem> groupItem = new TreeItem<>(new VolumeViewItem(entry.getKey()));
+            groupItem.setExpanded(true);
+            boolean sized = false;
+            for (InspectVolumeResponse vol : entry.getValue()) {
+                boolean unused = danglingNames.contains(vol.getName());
+                VolumeViewItem item = new VolumeViewItem(vol, vol.getName(), unused);
+                
+                List<String> containerNames = volumeToContainers.get(vol.getName());
+                if (containerNames != null) {
+                    item.getContainerNames().setAll(containerNames);
                 }
-                root.getChildren().add(groupItem);
+                
+                item.setInUseByRunningContainer(runningVolumeNames.contains(vol.getName()));
+                long size = sizeCache.lookup(vol.getName(), volumeLogic.getCreatedAt(vol));
+                if (size >= 0) {
+                    item.setSizeBytes(size);
+                    sized = true;
+                }
+                
+                groupItem.getChildren().add(new TreeItem<>(item));
             }
-
-            volumesTable.setRoot(root);
-        } catch (RuntimeException e) {
-            logger.error("Failed to refresh volumes", e);
-            showAlert(Alert.AlertType.ERROR, ERROR_TITLE, "Failed to refresh volumes: " + e.getMessage());
+            if (sized) {
+                updateVolumeGroupSize(groupItem);
+            }
+            root.getChildren().add(groupItem);
         }
+        return root;
     }
 
-    private Set<String> getDanglingVolumeNames() {
+    private Set<String> getDanglingVolumeNames(DockerClient client) {
         try {
-            List<InspectVolumeResponse> danglingVolumes = connectionManager.getDockerClient()
+            List<InspectVolumeResponse> danglingVolumes = client
                     .listVolumesCmd()
                     .withFilter("dangling", Collections.singletonList("true"))
                     .exec()
@@ -2494,29 +3074,55 @@ public class MainController {
             return;
         }
 
-        try {
-            List<Network> networks = connectionManager.getDockerClient()
-                    .listNetworksCmd()
-                    .exec();
+        DockerClient client = connectionManager.getDockerClient();
+        submitRefresh(REFRESH_NETWORKS, PRIORITY_RELOAD,
+                () -> client.listNetworksCmd().exec(),
+                FXCollections::observableArrayList,
+                networksTable::setItems,
+                "Failed to refresh networks");
+    }
 
-            ObservableList<Network> networkList = FXCollections.observableArrayList(networks);
-            networksTable.setItems(networkList);
-        } catch (Exception e) {
-            logger.error("Failed to refresh networks", e);
-            showAlert(Alert.AlertType.ERROR, ERROR_TITLE, "Failed to refresh networks: " + e.getMessage());
-        }
+    /**
+     * Runs fetch and compute on the refresh executor and applies the result on the FX thread,
+     * unless the connection was closed in the meantime.
+     */
+    private <T, R> void submitRefresh(String key, int priority, Callable<T> fetch, Function<T, R> compute,
+                                      Consumer<R> apply, String errorMessage) {
+        refreshExecutor.submit(key, priority, fetch, compute,
+                result -> {
+                    if (connectionManager.isConnected()) {
+                        apply.accept(result);
+                    }
+                },
+                e -> {
+                    logger.error(errorMessage, e);
+                    if (connectionManager.isConnected()) {
+                        showAlert(Alert.AlertType.ERROR, ERROR_TITLE, errorMessage + ": " + e.getMessage());
+                    }
+                });
     }
 
+    /**
+     * Refreshes the containers and every other resource tab that has been opened; the rest load
+     * when first selected.
+     */
     private void refreshAll() {
         refreshContainers();
-        refreshImages();
-        refreshVolumes();
-        refreshNetworks();
+        if (isTabLoaded(imagesTab)) {
+            refreshImages();
+        }
+        if (isTabLoaded(volumesTab)) {
+            refreshVolumes();
+        }
+        if (isTabLoaded(networksTab)) {
+            refreshNetworks();
+        }
     }
 
     private void clearAllTables() {
         if (containersTable != null) {
             containersTable.setRoot(null);
+            containerTreeReconciler.reset();
         }
         if (imagesTable != null) {
             imagesTable.setRoot(null);
@@ -2533,12 +3139,15 @@ public class MainController {
         if (connectionManager.isConnected()) {
             connectionStatusLabel.setText("Connected: " + connectionManager.getCurrentConnectionString());
             connectionStatusLabel.setStyle(COLOR_GREEN);
+            transportStatusLabel.setText(String.format("Transport: %s · ping %.2f ms",
+                    connectionManager.getCurrentTransport(), connectionManager.getCurrentLatencyNanos() / 1_000_000.0));
             connectAutoButton.setDisable(true);
             disconnectButton.setDisable(false);
             mainTabPane.setDisable(false);
         } else {
             connectionStatusLabel.setText("Not Connected");
             connectionStatusLabel.setStyle(COLOR_RED);
+            transportStatusLabel.setText("Transport: -");
             connectAutoButton.setDisable(false);
             disconnectButton.setDisable(true);
             mainTabPane.setDisable(true);
@@ -2554,11 +3163,7 @@ public class MainController {
     }
 
     private String getContainerName(Container container) {
-        if (container.getNames() != null && container.getNames().length > 0) {
-            String name = container.getNames()[0];
-            return name.startsWith("/") ? name.substring(1) : name;
-        }
-        return container.getId().substring(0, Math.min(12, container.getId().length()));
+        return containerLogic.getContainerName(container);
     }
 
     private Container getSelectedContainer() {
@@ -2645,17 +3250,49 @@ public class MainController {
         alert.showAndWait();
     }
 
+    /**
+     * Resolves the "auto-detect" distro setting to the detected distro, or to the one detected on a
+     * previous launch while detection is still running.
+     */
+    private VolumePathResolver createVolumePathResolver(String distroSetting) {
+        if (!VolumePathResolver.isAutoDetect(distroSetting)) {
+            return new VolumePathResolver(distroSetting);
+        }
+        String detected = discoveryService.getDefaultDistro().getNow(null);
+        return new VolumePathResolver(detected != null ? detected : discoveryService.getCachedDistro());
+    }
+
+    private void applyDetectedDistro(String distro) {
+        if (distro == null || !VolumePathResolver.isAutoDetect(settingsManager.getWslDistro())
+                || distro.equals(volumePathResolver.getWslDistro())) {
+            return;
+        }
+        volumePathResolver = new VolumePathResolver(distro);
+        // The next sizing run must look in the detected distro
+        closeVolumeSizeEngine();
+    }
+
     private void autoConnectOnStartup() {
         // Try auto-discover connection in background
         new Thread(() -> {
             logger.info("Attempting auto-connect on startup...");
-            
-            if (connectionManager.connectAutoDiscover()) {
+            long start = System.nanoTime();
+
+            // Connect optimistically to last launch's endpoint; discover only if that fails
+            boolean cached = connectionManager.connectCached();
+            if (cached || connectionManager.connectAutoDiscover()) {
+                logger.info("Connected to Docker {} ms after startup began",
+                        (System.nanoTime() - start) / 1_000_000);
+                StartupTimeline.app().mark("connected");
                 Platform.runLater(() -> {
                     updateConnectionStatus();
+                    startContainerEvents();
                     refreshAll();
                     logger.info("Auto-connected to Docker successfully");
                 });
+                if (cached) {
+                    connectionManager.revalidateEndpoint();
+                }
             } else {
                 Platform.runLater(() -> {
                     updateConnectionStatus();
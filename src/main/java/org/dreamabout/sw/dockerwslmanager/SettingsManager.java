@@ -1,5 +1,8 @@
 package org.dreamabout.sw.dockerwslmanager;
 
+import org.dreamabout.sw.dockerwslmanager.model.LogOverflowPolicy;
+import org.dreamabout.sw.dockerwslmanager.model.TransportProfile;
+import org.dreamabout.sw.dockerwslmanager.model.TransportSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +71,143 @@ public final class SettingsManager {
         settings.setProperty("stats.refresh.interval", String.valueOf(seconds));
     }
 
+    public int getContainerResyncInterval() {
+        return Math.max(1, getInt("container.resync.interval", 60));
+    }
+
+    public void setContainerResyncInterval(int seconds) {
+        settings.setProperty("container.resync.interval", String.valueOf(seconds));
+    }
+
+    public int getLogBufferLines() {
+        return Math.max(1, getInt("log.buffer.lines", 100000));
+    }
+
+    public void setLogBufferLines(int lines) {
+        settings.setProperty("log.buffer.lines", String.valueOf(lines));
+    }
+
+    /**
+     * Lines a log view starts with, read from {@code log.initial.tail}; older ones are fetched on scrolling up.
+     */
+    public int getLogInitialTail() {
+        return Math.max(1, getInt("log.initial.tail", 500));
+    }
+
+    public void setLogInitialTail(int lines) {
+        settings.setProperty("log.initial.tail", String.valueOf(lines));
+    }
+
+    /**
+     * Whether new details tabs start recording their log to disk, read from {@code log.archive.enabled}.
+     */
+    public boolean isLogArchiveEnabled() {
+        return Boolean.parseBoolean(settings.getProperty("log.archive.enabled", "false"));
+    }
+
+    public void setLogArchiveEnabled(boolean enabled) {
+        settings.setProperty("log.archive.enabled", String.valueOf(enabled));
+    }
+
+    /**
+     * Megabytes all archived log sessions may take together, read from {@code log.archive.max.mb}; the oldest
+     * sessions are deleted when a new recording starts.
+     */
+    public int getLogArchiveMaxMb() {
+        return Math.max(1, getInt("log.archive.max.mb", 1024));
+    }
+
+    public void setLogArchiveMaxMb(int megabytes) {
+        settings.setProperty("log.archive.max.mb", String.valueOf(megabytes));
+    }
+
+    /**
+     * Lines a log stream may queue for the view, read from {@code log.handoff.lines}.
+     */
+    public int getLogHandoffLines() {
+        return Math.max(1, getInt("log.handoff.lines", 10000));
+    }
+
+    public void setLogHandoffLines(int lines) {
+        settings.setProperty("log.handoff.lines", String.valueOf(lines));
+    }
+
+    /**
+     * Characters a log stream may queue for the view, read from {@code log.handoff.chars}.
+     */
+    public int getLogHandoffChars() {
+        return Math.max(1, getInt("log.handoff.chars", 4_000_000));
+    }
+
+    public void setLogHandoffChars(int chars) {
+        settings.setProperty("log.handoff.chars", String.valueOf(chars));
+    }
+
+    /**
+     * What a log stream does when its queue is full, read from {@code log.handoff.policy}:
+     * {@code block}, {@code drop-oldest} or {@code sample}.
+     */
+    public LogOverflowPolicy getLogOverflowPolicy() {
+        return LogOverflowPolicy.fromKey(settings.getProperty("log.handoff.policy"), LogOverflowPolicy.DROP_OLDEST);
+    }
+
+    public void setLogOverflowPolicy(LogOverflowPolicy policy) {
+        settings.setProperty("log.handoff.policy", policy.getKey());
+    }
+
+    public int getBatchParallelism() {
+        return Math.max(1, getInt("batch.parallelism", 8));
+    }
+
+    public void setBatchParallelism(int parallelism) {
+        settings.setProperty("batch.parallelism", String.valueOf(parallelism));
+    }
+
+    public boolean isBatchComposeOrder() {
+        return Boolean.parseBoolean(settings.getProperty("batch.compose.order", "true"));
+    }
+
+    public void setBatchComposeOrder(boolean composeOrder) {
+        settings.setProperty("batch.compose.order", String.valueOf(composeOrder));
+    }
+
+    public int getVolumeSizeCacheTtlHours() {
+        return Math.max(1, getInt("volume.size.cache.ttl.hours", 24));
+    }
+
+    public void setVolumeSizeCacheTtlHours(int hours) {
+        settings.setProperty("volume.size.cache.ttl.hours", String.valueOf(hours));
+    }
+
+    /**
+     * Pool size and timeouts of a transport profile, read from
+     * {@code transport.<profile>.max.connections}, {@code .connect.timeout.seconds} and
+     * {@code .response.timeout.seconds}. Missing or invalid values fall back to the profile defaults.
+     */
+    public TransportSettings getTransportSettings(TransportProfile profile) {
+        TransportSettings defaults = profile.getDefaults();
+        String prefix = "transport." + profile.getKey() + ".";
+        return new TransportSettings(
+                Math.max(1, getInt(prefix + "max.connections", defaults.maxConnections())),
+                getInt(prefix + "connect.timeout.seconds", defaults.connectTimeoutSeconds()),
+                getInt(prefix + "response.timeout.seconds", defaults.responseTimeoutSeconds()));
+    }
+
+    public void setTransportSettings(TransportProfile profile, TransportSettings transport) {
+        String prefix = "transport." + profile.getKey() + ".";
+        settings.setProperty(prefix + "max.connections", String.valueOf(transport.maxConnections()));
+        settings.setProperty(prefix + "connect.timeout.seconds", String.valueOf(transport.connectTimeoutSeconds()));
+        settings.setProperty(prefix + "response.timeout.seconds", String.valueOf(transport.responseTimeoutSeconds()));
+    }
+
+    private int getInt(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(settings.getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     public String getWslDistro() {
         return settings.getProperty("wsl.distro", "docker-desktop-data");
     }
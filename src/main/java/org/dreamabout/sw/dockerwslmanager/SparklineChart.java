@@ -0,0 +1,131 @@
+package org.dreamabout.sw.dockerwslmanager;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import org.dreamabout.sw.dockerwslmanager.logic.StatsHistory;
+
+import java.util.function.DoubleFunction;
+
+/**
+ * Small canvas chart of one or two {@link StatsHistory} series over a fixed time window.
+ * The window is downsampled to one min/max bucket per pixel column, so drawing cost depends on
+ * the chart width rather than on the number of samples.
+ */
+public final class SparklineChart extends Region {
+    private static final Color[] SERIES_COLORS = {Color.web("#1f77b4"), Color.web("#ff7f0e")};
+    private static final Font LABEL_FONT = Font.font(11);
+    private static final double LABEL_HEIGHT = 14;
+
+    private final Canvas canvas = new Canvas();
+    private final String title;
+    private final int[] series;
+    private final long windowMs;
+    private final double minScale;
+    private final DoubleFunction<String> formatter;
+    private StatsHistory history;
+    // Reused per-series bucket arrays, one entry per pixel column
+    private double[][] min = new double[0][];
+    private double[][] max = new double[0][];
+
+    /**
+     * Creates an empty chart; it draws once a history is set.
+     *
+     * @param series   Series indices as defined by {@link StatsHistory}, at most two.
+     * @param minScale Lowest value the vertical axis reaches, so idle series are not blown up.
+     */
+    public SparklineChart(String title, long windowMs, double minScale, DoubleFunction<String> formatter,
+                          int... series) {
+        this.title = title;
+        this.windowMs = windowMs;
+        this.minScale = minScale;
+        this.formatter = formatter;
+        this.series = series.clone();
+        getChildren().add(canvas);
+        setMinSize(80, 48);
+        setPrefSize(200, 60);
+        widthProperty().addListener((obs, oldVal, newVal) -> redraw());
+        heightProperty().addListener((obs, oldVal, newVal) -> redraw());
+    }
+
+    public void setHistory(StatsHistory history) {
+        this.history = history;
+        redraw();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        canvas.setWidth(getWidth());
+        canvas.setHeight(getHeight());
+    }
+
+    /**
+     * Redraws the window ending now.
+     */
+    public void redraw() {
+        double width = getWidth();
+        double height = getHeight();
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.setFill(Color.web("#fafafa"));
+        gc.fillRect(0, 0, width, height);
+        gc.setStroke(Color.LIGHTGRAY);
+        gc.strokeRect(0.5, 0.5, width - 1, height - 1);
+        if (history == null || width < 2 || height <= LABEL_HEIGHT + 2) {
+            return;
+        }
+
+        int columns = (int) width;
+        if (min.length == 0 || min[0].length != columns) {
+            min = new double[series.length][columns];
+            max = new double[series.length][columns];
+        }
+        long now = System.currentTimeMillis();
+        double peak = minScale;
+        for (int i = 0; i < series.length; i++) {
+            double seriesPeak = history.downsample(series[i], now - windowMs, now, min[i], max[i]);
+            if (seriesPeak > peak) {
+                peak = seriesPeak;
+            }
+        }
+
+        double top = LABEL_HEIGHT;
+        double plotHeight = height - top - 1;
+        StringBuilder label = new StringBuilder(title);
+        for (int i = 0; i < series.length; i++) {
+            plot(gc, SERIES_COLORS[i % SERIES_COLORS.length], min[i], max[i], top, plotHeight, peak);
+            double latest = history.latest(series[i]);
+            label.append(i == 0 ? "  " : " / ").append(Double.isNaN(latest) ? "---" : formatter.apply(latest));
+        }
+
+        gc.setFill(Color.DIMGRAY);
+        gc.setFont(LABEL_FONT);
+        gc.setTextBaseline(VPos.TOP);
+        gc.fillText(label.toString(), 3, 1);
+        gc.fillText("max " + formatter.apply(peak), Math.max(3, width - 80), 1);
+    }
+
+    private static void plot(GraphicsContext gc, Color color, double[] min, double[] max,
+                             double top, double plotHeight, double peak) {
+        gc.setStroke(color);
+        gc.setLineWidth(1);
+        double previousY = Double.NaN;
+        for (int x = 0; x < min.length; x++) {
+            if (Double.isNaN(min[x])) {
+                previousY = Double.NaN;
+                continue;
+            }
+            double lowY = top + plotHeight * (1 - min[x] / peak);
+            double highY = top + plotHeight * (1 - max[x] / peak);
+            // Spread within the column, then join to the previous column
+            gc.strokeLine(x + 0.5, lowY, x + 0.5, highY);
+            if (!Double.isNaN(previousY)) {
+                gc.strokeLine(x - 0.5, previousY, x + 0.5, (lowY + highY) / 2);
+            }
+            previousY = (lowY + highY) / 2;
+        }
+    }
+}
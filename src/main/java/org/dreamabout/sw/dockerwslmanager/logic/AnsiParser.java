@@ -0,0 +1,256 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import java.util.Arrays;
+
+/**
+ * Single-pass state-machine parser for log text containing ANSI escape sequences.
+ * SGR sequences (ESC [ ... m) update the current style; other CSI and OSC sequences are dropped.
+ * Parser state, including a half-received escape sequence or line, carries over between
+ * {@code feed} calls, so frames may be split at any character.
+ *
+ * <p>Completed lines are handed to a {@link LineSink} as reusable buffers: characters plus style runs
+ * packed as (offset, length, styleId) triplets, with style IDs as defined by {@link LogStyle}.
+ * The buffers are only valid during the callback. Not thread-safe.
+ */
+public final class AnsiParser {
+
+    /**
+     * Receives completed lines; the arrays are reused after the call returns.
+     */
+    @FunctionalInterface
+    public interface LineSink {
+        void line(char[] text, int length, int[] runs, int runsLength);
+    }
+
+    private static final char ESC = '\u001B';
+    private static final char BEL = '\u0007';
+    private static final int MAX_PARAMS = 16;
+    // Longer lines (e.g. binary output without newlines) are wrapped to keep the buffer bounded
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private static final int STATE_TEXT = 0;
+    private static final int STATE_ESCAPE = 1;
+    private static final int STATE_CSI = 2;
+    private static final int STATE_OSC = 3;
+
+    // Colours for SGR 30-37 and 90-97, matching what the log view has always used
+    private static final int[] BASIC_PALETTE = {
+        0x000000, 0xFF0000, 0x008000, 0xFFFF00, 0x0000FF, 0xFF00FF, 0x00FFFF, 0xFFFFFF,
+        0x808080, 0xCD5C5C, 0x90EE90, 0xFFFFE0, 0xADD8E6, 0xEE82EE, 0xE0FFFF, 0xFFFFFF
+    };
+    private static final int[] CUBE_LEVELS = {0, 95, 135, 175, 215, 255};
+
+    private final LineSink sink;
+    private char[] text = new char[256];
+    private int textLength;
+    private int[] runs = new int[24];
+    private int runsLength;
+    private int style = LogStyle.DEFAULT;
+
+    private int state = STATE_TEXT;
+    private final int[] params = new int[MAX_PARAMS];
+    private int paramCount;
+    private int currentParam = -1;
+
+    public AnsiParser(LineSink sink) {
+        this.sink = sink;
+    }
+
+    public void feed(CharSequence input) {
+        for (int i = 0, n = input.length(); i < n; i++) {
+            accept(input.charAt(i));
+        }
+    }
+
+    public void feed(char[] input, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            accept(input[i]);
+        }
+    }
+
+    /**
+     * Emits the pending unterminated line, if any. Style and escape state are kept.
+     */
+    public void flush() {
+        if (textLength > 0) {
+            emitLine();
+        }
+    }
+
+    /**
+     * Drops any pending line and escape state and returns to the default style.
+     */
+    public void reset() {
+        textLength = 0;
+        runsLength = 0;
+        style = LogStyle.DEFAULT;
+        state = STATE_TEXT;
+        paramCount = 0;
+        currentParam = -1;
+    }
+
+    private void accept(char c) {
+        switch (state) {
+            case STATE_TEXT -> acceptText(c);
+            case STATE_ESCAPE -> acceptEscape(c);
+            case STATE_CSI -> acceptCsi(c);
+            default -> acceptOsc(c);
+        }
+    }
+
+    private void acceptText(char c) {
+        if (c == ESC) {
+            state = STATE_ESCAPE;
+        } else if (c == '\n') {
+            emitLine();
+        } else if (c != '\r') {
+            appendChar(c);
+        }
+    }
+
+    private void acceptEscape(char c) {
+        if (c == '[') {
+            state = STATE_CSI;
+            paramCount = 0;
+            currentParam = -1;
+        } else if (c == ']') {
+            state = STATE_OSC;
+        } else {
+            // Two-character escape such as ESC c: drop it
+            state = STATE_TEXT;
+            if (c == '\n') {
+                emitLine();
+            }
+        }
+    }
+
+    private void acceptCsi(char c) {
+        if (c >= '0' && c <= '9') {
+            int digit = c - '0';
+            currentParam = currentParam < 0 ? digit : Math.min(currentParam * 10 + digit, 0xFFFF);
+        } else if (c == ';' || c == ':') {
+            pushParam();
+        } else if (c >= 0x40 && c <= 0x7E) {
+            pushParam();
+            if (c == 'm') {
+                applySgr();
+            }
+            state = STATE_TEXT;
+        } else if (c == '\n') {
+            // Malformed sequence; never let it swallow a line break
+            state = STATE_TEXT;
+            emitLine();
+        }
+        // Intermediate and private-marker bytes (e.g. '?') are ignored
+    }
+
+    private void acceptOsc(char c) {
+        if (c == BEL) {
+            state = STATE_TEXT;
+        } else if (c == ESC) {
+            // ESC \ terminates the OSC; the backslash is dropped by the escape state
+            state = STATE_ESCAPE;
+        } else if (c == '\n') {
+            state = STATE_TEXT;
+            emitLine();
+        }
+    }
+
+    private void pushParam() {
+        if (paramCount < MAX_PARAMS) {
+            // An omitted parameter means 0
+            params[paramCount++] = Math.max(currentParam, 0);
+        }
+        currentParam = -1;
+    }
+
+    private void applySgr() {
+        int i = 0;
+        while (i < paramCount) {
+            int code = params[i++];
+            if (code == 0) {
+                style = LogStyle.DEFAULT;
+            } else if (code == 1) {
+                style = LogStyle.withBold(style, true);
+            } else if (code == 22) {
+                style = LogStyle.withBold(style, false);
+            } else if (code >= 30 && code <= 37) {
+                style = LogStyle.withColor(style, BASIC_PALETTE[code - 30]);
+            } else if (code >= 90 && code <= 97) {
+                style = LogStyle.withColor(style, BASIC_PALETTE[code - 90 + 8]);
+            } else if (code == 39) {
+                style = LogStyle.withDefaultColor(style);
+            } else if (code == 38 || code == 48) {
+                i = applyExtendedColor(code == 38, i);
+            }
+            // Background colours and other attributes are not rendered
+        }
+    }
+
+    /**
+     * Handles 38;5;n and 38;2;r;g;b (and the 48 background forms, which are skipped).
+     *
+     * @return index of the next parameter to process.
+     */
+    private int applyExtendedColor(boolean foreground, int i) {
+        if (i >= paramCount) {
+            return i;
+        }
+        int mode = params[i++];
+        if (mode == 5 && i < paramCount) {
+            int index = params[i++];
+            if (foreground) {
+                style = LogStyle.withColor(style, paletteColor(index));
+            }
+        } else if (mode == 2 && i + 2 < paramCount) {
+            int rgb = (clamp(params[i]) << 16) | (clamp(params[i + 1]) << 8) | clamp(params[i + 2]);
+            i += 3;
+            if (foreground) {
+                style = LogStyle.withColor(style, rgb);
+            }
+        }
+        return i;
+    }
+
+    static int paletteColor(int index) {
+        if (index < 16) {
+            return BASIC_PALETTE[Math.max(index, 0)];
+        }
+        if (index < 232) {
+            int cube = index - 16;
+            return (CUBE_LEVELS[cube / 36] << 16) | (CUBE_LEVELS[(cube / 6) % 6] << 8) | CUBE_LEVELS[cube % 6];
+        }
+        int gray = 8 + 10 * (Math.min(index, 255) - 232);
+        return (gray << 16) | (gray << 8) | gray;
+    }
+
+    private static int clamp(int value) {
+        return Math.min(value, 255);
+    }
+
+    private void appendChar(char c) {
+        if (textLength == MAX_LINE_LENGTH) {
+            emitLine();
+        }
+        if (textLength == text.length) {
+            text = Arrays.copyOf(text, text.length * 2);
+        }
+        if (runsLength > 0 && runs[runsLength - 1] == style) {
+            runs[runsLength - 2]++;
+        } else {
+            if (runsLength + 3 > runs.length) {
+                runs = Arrays.copyOf(runs, runs.length * 2);
+            }
+            runs[runsLength++] = textLength;
+            runs[runsLength++] = 1;
+            runs[runsLength++] = style;
+        }
+        text[textLength++] = c;
+    }
+
+    private void emitLine() {
+        sink.line(text, textLength, runs, runsLength);
+        textLength = 0;
+        runsLength = 0;
+    }
+}
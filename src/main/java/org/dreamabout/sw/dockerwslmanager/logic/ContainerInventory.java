@@ -0,0 +1,73 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import com.github.dockerjava.api.model.Container;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Thread-safe in-memory view of all containers known to the daemon.
+ * Kept up to date by full resyncs and by single-container updates driven from the events stream.
+ */
+public class ContainerInventory {
+    private final LinkedHashMap<String, Container> containers = new LinkedHashMap<>();
+
+    /**
+     * Replaces the whole inventory with the result of a full container listing.
+     */
+    public synchronized void replaceAll(List<Container> latest) {
+        containers.clear();
+        if (latest != null) {
+            for (Container container : latest) {
+                containers.put(container.getId(), container);
+            }
+        }
+    }
+
+    /**
+     * Inserts or updates a single container. New containers are placed first, matching the
+     * newest-first order of the list endpoint.
+     *
+     * @return true if the inventory changed.
+     */
+    public synchronized boolean upsert(Container container) {
+        if (container == null || container.getId() == null) {
+            return false;
+        }
+        Container previous = containers.get(container.getId());
+        if (previous == null) {
+            containers.putFirst(container.getId(), container);
+        } else if (Objects.equals(previous, container)) {
+            return false;
+        } else {
+            containers.put(container.getId(), container);
+        }
+        return true;
+    }
+
+    /**
+     * Removes a container from the inventory.
+     *
+     * @return true if the container was present.
+     */
+    public synchronized boolean remove(String containerId) {
+        if (containerId == null || containers.remove(containerId) == null) {
+            return false;
+        }
+        return true;
+    }
+
+    public synchronized void clear() {
+        containers.clear();
+    }
+
+    public synchronized List<Container> snapshot() {
+        return new ArrayList<>(containers.values());
+    }
+
+    public synchronized int size() {
+        return containers.size();
+    }
+}
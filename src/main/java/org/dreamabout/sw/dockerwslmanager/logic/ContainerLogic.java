@@ -0,0 +1,103 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import com.github.dockerjava.api.model.Container;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class ContainerLogic {
+    public static final String COMPOSE_PROJECT_LABEL = "com.docker.compose.project";
+    public static final String COMPOSE_SERVICE_LABEL = "com.docker.compose.service";
+    // Written by Compose v2, e.g. "db:service_healthy:false,cache:service_started:true"
+    public static final String COMPOSE_DEPENDS_ON_LABEL = "com.docker.compose.depends_on";
+
+    /**
+     * Groups containers by compose project; containers without a project go to the ungrouped bucket.
+     * Groups are sorted by name and keep the order of the input list inside each group.
+     */
+    public Map<String, List<Container>> groupContainers(List<Container> containers) {
+        if (containers == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, List<Container>> grouped = new TreeMap<>();
+        List<Container> ungrouped = new ArrayList<>();
+
+        for (Container c : containers) {
+            String project = null;
+            if (c.getLabels() != null) {
+                project = c.getLabels().get(COMPOSE_PROJECT_LABEL);
+            }
+
+            if (project != null && !project.isEmpty()) {
+                grouped.computeIfAbsent(project, k -> new ArrayList<>()).add(c);
+            } else {
+                ungrouped.add(c);
+            }
+        }
+        if (!ungrouped.isEmpty()) {
+            grouped.put(VolumeLogic.UNGROUPED_LABEL, ungrouped);
+        }
+        return grouped;
+    }
+
+    public String getContainerName(Container container) {
+        if (container.getNames() != null && container.getNames().length > 0) {
+            String name = container.getNames()[0];
+            return name.startsWith("/") ? name.substring(1) : name;
+        }
+        return container.getId().substring(0, Math.min(12, container.getId().length()));
+    }
+
+    /**
+     * Maps each container ID to the IDs of the given containers it depends on according to the compose
+     * depends_on label. Dependencies are resolved by service name within the same compose project;
+     * services that are not among the given containers are ignored.
+     */
+    public Map<String, Set<String>> getComposeDependencies(List<Container> containers) {
+        Map<String, List<String>> idsByService = new HashMap<>();
+        for (Container c : containers) {
+            Map<String, String> labels = labelsOf(c);
+            String key = serviceKey(labels, labels.get(COMPOSE_SERVICE_LABEL));
+            if (key != null) {
+                idsByService.computeIfAbsent(key, k -> new ArrayList<>()).add(c.getId());
+            }
+        }
+
+        Map<String, Set<String>> dependencies = new HashMap<>();
+        for (Container c : containers) {
+            Set<String> dependsOn = new HashSet<>();
+            Map<String, String> labels = labelsOf(c);
+            String label = labels.get(COMPOSE_DEPENDS_ON_LABEL);
+            if (label != null) {
+                for (String entry : label.split(",")) {
+                    String service = entry.split(":", 2)[0].trim();
+                    String key = serviceKey(labels, service);
+                    if (key != null) {
+                        dependsOn.addAll(idsByService.getOrDefault(key, List.of()));
+                    }
+                }
+            }
+            dependsOn.remove(c.getId());
+            dependencies.put(c.getId(), dependsOn);
+        }
+        return dependencies;
+    }
+
+    private static Map<String, String> labelsOf(Container container) {
+        return container.getLabels() != null ? container.getLabels() : Collections.emptyMap();
+    }
+
+    private static String serviceKey(Map<String, String> labels, String service) {
+        if (service == null || service.isEmpty()) {
+            return null;
+        }
+        return labels.getOrDefault(COMPOSE_PROJECT_LABEL, "") + "/" + service;
+    }
+}
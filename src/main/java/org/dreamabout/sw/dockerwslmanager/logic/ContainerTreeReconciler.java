@@ -0,0 +1,179 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import com.github.dockerjava.api.model.Container;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TreeItem;
+import org.dreamabout.sw.dockerwslmanager.model.ContainerViewItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Keeps one long-lived container tree and applies each new container listing to it as a keyed diff.
+ * Rows are keyed by container ID and groups by compose project, so unchanged rows keep their
+ * {@link TreeItem} instances and with them selection, expansion state and cell caches.
+ *
+ * <p>{@link #plan(List)} may run on any thread and {@link #apply(Plan)} must run on the FX thread.
+ * Only one plan may be in flight at a time, which the refresh executor guarantees per key.
+ */
+public class ContainerTreeReconciler {
+    private final ContainerLogic containerLogic;
+    private final TreeItem<ContainerViewItem> root = new TreeItem<>(new ContainerViewItem("Root"));
+    private final Map<String, TreeItem<ContainerViewItem>> groupItems = new HashMap<>();
+    private final Map<String, TreeItem<ContainerViewItem>> rowItems = new HashMap<>();
+
+    // State of the last applied plan, replaced as a whole so plan() can read it from a worker thread
+    private volatile Map<String, Container> appliedContainers = Collections.emptyMap();
+    private volatile Map<String, List<String>> appliedLayout = Collections.emptyMap();
+
+    /**
+     * Desired tree shape plus the rows whose container data changed since the last apply.
+     */
+    public static final class Plan {
+        private final Map<String, List<Container>> groups;
+        private final Map<String, List<String>> layout;
+        private final Map<String, Container> containersById;
+        private final Set<String> changedIds;
+        private final boolean unchanged;
+
+        Plan(Map<String, List<Container>> groups, Map<String, List<String>> layout,
+             Map<String, Container> containersById, Set<String> changedIds, boolean unchanged) {
+            this.groups = groups;
+            this.layout = layout;
+            this.containersById = containersById;
+            this.changedIds = changedIds;
+            this.unchanged = unchanged;
+        }
+
+        public Set<String> getChangedIds() {
+            return Collections.unmodifiableSet(changedIds);
+        }
+
+        public Set<String> getContainerIds() {
+            return Collections.unmodifiableSet(containersById.keySet());
+        }
+
+        public boolean isUnchanged() {
+            return unchanged;
+        }
+    }
+
+    public ContainerTreeReconciler(ContainerLogic containerLogic) {
+        this.containerLogic = containerLogic;
+        root.setExpanded(true);
+    }
+
+    public TreeItem<ContainerViewItem> getRoot() {
+        return root;
+    }
+
+    /**
+     * Diffs the listing against the last applied state without touching the tree.
+     */
+    public Plan plan(List<Container> containers) {
+        Map<String, List<Container>> grouped = containerLogic.groupContainers(containers);
+        Map<String, Container> previous = appliedContainers;
+
+        Map<String, List<String>> layout = new LinkedHashMap<>();
+        Map<String, Container> byId = new HashMap<>();
+        Set<String> changedIds = new HashSet<>();
+        for (Map.Entry<String, List<Container>> entry : grouped.entrySet()) {
+            List<String> ids = new ArrayList<>(entry.getValue().size());
+            for (Container c : entry.getValue()) {
+                ids.add(c.getId());
+                byId.put(c.getId(), c);
+                Container old = previous.get(c.getId());
+                if (old != null && !Objects.equals(old, c)) {
+                    changedIds.add(c.getId());
+                }
+            }
+            layout.put(entry.getKey(), ids);
+        }
+        boolean unchanged = changedIds.isEmpty() && layout.equals(appliedLayout);
+        return new Plan(grouped, layout, byId, changedIds, unchanged);
+    }
+
+    /**
+     * Applies a plan to the tree, touching only groups and rows that differ.
+     *
+     * @return true if the tree changed.
+     */
+    public boolean apply(Plan plan) {
+        if (plan.unchanged) {
+            return false;
+        }
+
+        // Detach rows and groups that are gone or moved first, so a row moving between groups
+        // is never a child of two groups at once
+        root.getChildren().removeIf(group -> !plan.layout.containsKey(group.getValue().getName()));
+        for (TreeItem<ContainerViewItem> group : root.getChildren()) {
+            List<String> ids = plan.layout.get(group.getValue().getName());
+            Set<String> wanted = new HashSet<>(ids);
+            group.getChildren().removeIf(row -> !wanted.contains(row.getValue().getContainer().getId()));
+        }
+        groupItems.keySet().retainAll(plan.layout.keySet());
+        rowItems.keySet().retainAll(plan.containersById.keySet());
+
+        List<TreeItem<ContainerViewItem>> desiredGroups = new ArrayList<>(plan.groups.size());
+        for (Map.Entry<String, List<Container>> entry : plan.groups.entrySet()) {
+            TreeItem<ContainerViewItem> groupItem = groupItems.computeIfAbsent(entry.getKey(), name -> {
+                TreeItem<ContainerViewItem> item = new TreeItem<>(new ContainerViewItem(name));
+                item.setExpanded(true);
+                return item;
+            });
+            List<TreeItem<ContainerViewItem>> desiredRows = new ArrayList<>(entry.getValue().size());
+            for (Container c : entry.getValue()) {
+                TreeItem<ContainerViewItem> row = rowItems.get(c.getId());
+                if (row == null) {
+                    row = new TreeItem<>(new ContainerViewItem(c, containerLogic.getContainerName(c)));
+                    rowItems.put(c.getId(), row);
+                } else if (plan.changedIds.contains(c.getId())) {
+                    row.setValue(new ContainerViewItem(c, containerLogic.getContainerName(c)));
+                }
+                desiredRows.add(row);
+            }
+            setIfDifferent(groupItem.getChildren(), desiredRows);
+            desiredGroups.add(groupItem);
+        }
+        setIfDifferent(root.getChildren(), desiredGroups);
+
+        appliedContainers = plan.containersById;
+        appliedLayout = plan.layout;
+        return true;
+    }
+
+    /**
+     * Forgets all rows, e.g. after disconnecting.
+     */
+    public void reset() {
+        root.getChildren().clear();
+        groupItems.clear();
+        rowItems.clear();
+        appliedContainers = Collections.emptyMap();
+        appliedLayout = Collections.emptyMap();
+    }
+
+    private static void setIfDifferent(ObservableList<TreeItem<ContainerViewItem>> current,
+                                       List<TreeItem<ContainerViewItem>> desired) {
+        if (current.size() == desired.size()) {
+            boolean same = true;
+            for (int i = 0; i < desired.size(); i++) {
+                if (current.get(i) != desired.get(i)) {
+                    same = false;
+                    break;
+                }
+            }
+            if (same) {
+                return;
+            }
+        }
+        current.setAll(desired);
+    }
+}
@@ -0,0 +1,127 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+/**
+ * Decodes the human-readable sizes printed by the Docker CLI, such as "1.11GB", "903.1kB" or "9B".
+ * Docker prints decimal SI units (1 kB = 1000 B); binary units such as "KiB" are accepted too.
+ * The character-range overload allocates nothing, so it can run over a JSON parser's own buffer
+ * for every entry of a large {@code docker system df -v} listing.
+ */
+public final class DockerSizes {
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+    // Digits beyond this are dropped; Docker prints at most four significant digits anyway
+    private static final long MAX_MANTISSA = Long.MAX_VALUE / 10;
+    private static final int MAX_FRACTION_DIGITS = POWERS_OF_TEN.length - 1;
+
+    private DockerSizes() {}
+
+    /**
+     * Decodes a size; returns 0 for null, empty, "N/A" and anything else that is not a size.
+     */
+    public static long parse(String text) {
+        return text == null ? 0 : parse(text.toCharArray(), 0, text.length());
+    }
+
+    /**
+     * Decodes a size from {@code length} characters starting at {@code offset}. Text after the unit,
+     * separated by whitespace, is ignored, so "12.3kB (virtual 100MB)" decodes as 12300.
+     */
+    public static long parse(char[] text, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        while (i < end && text[i] == ' ') {
+            i++;
+        }
+
+        long mantissa = 0;
+        int fractionDigits = 0;
+        boolean digits = false;
+        boolean dot = false;
+        for (; i < end; i++) {
+            char c = text[i];
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                if (mantissa < MAX_MANTISSA && fractionDigits < MAX_FRACTION_DIGITS) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (dot) {
+                        fractionDigits++;
+                    }
+                } else if (!dot) {
+                    return 0;
+                }
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (!digits) {
+            return 0;
+        }
+        while (i < end && text[i] == ' ') {
+            i++;
+        }
+
+        int unitEnd = i;
+        while (unitEnd < end && text[unitEnd] != ' ') {
+            unitEnd++;
+        }
+        long factor = unitFactor(text, i, unitEnd - i);
+        if (factor <= 0) {
+            return 0;
+        }
+        return scale(mantissa, factor, fractionDigits);
+    }
+
+    /**
+     * Bytes per unit for "", "B", "k", "kB", "KiB", "M", "MB", "MiB" and so on up to peta, case-insensitively.
+     *
+     * @return the factor, or -1 for an unknown unit.
+     */
+    private static long unitFactor(char[] text, int offset, int length) {
+        if (length == 0) {
+            return 1;
+        }
+        int exponent = switch (Character.toLowerCase(text[offset])) {
+            case 'b' -> length == 1 ? 0 : -1;
+            case 'k' -> 1;
+            case 'm' -> 2;
+            case 'g' -> 3;
+            case 't' -> 4;
+            case 'p' -> 5;
+            default -> -1;
+        };
+        if (exponent <= 0) {
+            return exponent == 0 ? 1 : -1;
+        }
+        int i = offset + 1;
+        int end = offset + length;
+        boolean binary = i < end && Character.toLowerCase(text[i]) == 'i';
+        if (binary) {
+            i++;
+        }
+        if (i < end && Character.toLowerCase(text[i]) == 'b') {
+            i++;
+        }
+        if (i != end) {
+            return -1;
+        }
+        long base = binary ? 1024 : 1000;
+        long factor = 1;
+        for (int n = 0; n < exponent; n++) {
+            factor *= base;
+        }
+        return factor;
+    }
+
+    private static long scale(long mantissa, long factor, int fractionDigits) {
+        long divisor = POWERS_OF_TEN[fractionDigits];
+        long high = Math.multiplyHigh(mantissa, factor);
+        if (high == 0 && mantissa * factor >= 0) {
+            return mantissa * factor / divisor;
+        }
+        // Only reachable for absurd sizes; precision no longer matters there
+        return (long) ((double) mantissa * factor / divisor);
+    }
+}
@@ -24,4 +24,11 @@ public final class FormatUtils {
         }
         return String.format(Locale.US, "%.2f GB", size / (1024.0 * 1024 * 1024));
     }
+
+    /**
+     * Formats a rate in bytes per second, e.g. "1.50 MB/s".
+     */
+    public static String formatRate(double bytesPerSecond) {
+        return formatSize(Math.round(bytesPerSecond)) + "/s";
+    }
 }
@@ -0,0 +1,106 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.ContainerIoRates;
+import org.dreamabout.sw.dockerwslmanager.model.IoCounters;
+import org.dreamabout.sw.dockerwslmanager.model.IoRates;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns the cumulative I/O counters of successive samples into per-second rates, per container.
+ * Any counter going backwards, which happens when a container restarts or an interface is recreated,
+ * makes the affected rate unknown for that one interval instead of producing a huge or negative spike.
+ * Remembers the last sample of at most {@code maxContainers} containers. Each consumer with its own sampling
+ * cadence needs its own calculator, or interleaved samples make for short and noisy intervals.
+ */
+public final class IoRateCalculator {
+    public static final int DEFAULT_MAX_CONTAINERS = 1024;
+    private static final String NETWORK = "network";
+    private static final String DISK = "disk";
+
+    private final Map<String, Sample> previous;
+
+    private record Sample(long timeMs, IoCounters network, IoCounters disk,
+                          Map<String, IoCounters> interfaces, Map<String, IoCounters> devices) {
+    }
+
+    public IoRateCalculator() {
+        this(DEFAULT_MAX_CONTAINERS);
+    }
+
+    public IoRateCalculator(int maxContainers) {
+        this.previous = new LruMap<>(maxContainers);
+    }
+
+    /**
+     * Records a sample and returns the rates since the container's previous sample. A sample not taken after
+     * the previous one, e.g. one delivered late, has unknown rates and does not replace it.
+     *
+     * @param timeMs When the daemon took the sample.
+     */
+    public synchronized ContainerIoRates update(String containerId, long timeMs,
+                                                List<IoCounters> interfaces, List<IoCounters> devices) {
+        Sample last = previous.get(containerId);
+        if (last != null && timeMs <= last.timeMs) {
+            return ContainerIoRates.unknown();
+        }
+        Sample current = new Sample(timeMs, sum(NETWORK, interfaces), sum(DISK, devices),
+                byName(interfaces), byName(devices));
+        previous.put(containerId, current);
+        if (last == null) {
+            return ContainerIoRates.unknown();
+        }
+        double seconds = (timeMs - last.timeMs) / 1000.0;
+        return new ContainerIoRates(
+                rates(current.network, last.network, seconds),
+                rates(current.disk, last.disk, seconds),
+                rates(interfaces, last.interfaces, seconds),
+                rates(devices, last.devices, seconds));
+    }
+
+    static IoRates rates(IoCounters current, IoCounters last, double seconds) {
+        if (last == null || seconds <= 0
+                || current.getReadBytes() < last.getReadBytes() || current.getWriteBytes() < last.getWriteBytes()
+                || current.getReadOps() < last.getReadOps() || current.getWriteOps() < last.getWriteOps()) {
+            return IoRates.unknown(current.getName());
+        }
+        return new IoRates(current.getName(),
+                (current.getReadBytes() - last.getReadBytes()) / seconds,
+                (current.getWriteBytes() - last.getWriteBytes()) / seconds,
+                (current.getReadOps() - last.getReadOps()) / seconds,
+                (current.getWriteOps() - last.getWriteOps()) / seconds);
+    }
+
+    private static List<IoRates> rates(List<IoCounters> current, Map<String, IoCounters> last, double seconds) {
+        List<IoRates> result = new ArrayList<>(current.size());
+        for (IoCounters counters : current) {
+            result.add(rates(counters, last.get(counters.getName()), seconds));
+        }
+        return result;
+    }
+
+    private static IoCounters sum(String name, List<IoCounters> items) {
+        long readBytes = 0;
+        long writeBytes = 0;
+        long readOps = 0;
+        long writeOps = 0;
+        for (IoCounters item : items) {
+            readBytes += item.getReadBytes();
+            writeBytes += item.getWriteBytes();
+            readOps += item.getReadOps();
+            writeOps += item.getWriteOps();
+        }
+        return new IoCounters(name, readBytes, writeBytes, readOps, writeOps);
+    }
+
+    private static Map<String, IoCounters> byName(List<IoCounters> items) {
+        Map<String, IoCounters> map = new HashMap<>();
+        for (IoCounters item : items) {
+            map.put(item.getName(), item);
+        }
+        return map;
+    }
+}
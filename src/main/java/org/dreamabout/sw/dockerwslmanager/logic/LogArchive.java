@@ -0,0 +1,477 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Append-only on-disk archive of a log stream, for sessions longer than any in-memory buffer.
+ * Lines are written as binary records, keeping their style runs and timestamp, to segment files of at most
+ * {@code segmentBytes} in one directory. Every {@value #INDEX_INTERVAL}th line is entered in a sparse
+ * in-memory index of segment, offset and timestamp, so reading any line or finding the first line at a time
+ * scans at most one interval after an O(log n) or O(1) index lookup. Reads go through memory-mapped segments,
+ * so the heap only holds the index and the lines actually read, and keep working after the archive is closed
+ * for writing. A closed session can be reopened for reading with {@link #open(Path)}. Thread-safe.
+ */
+public final class LogArchive implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(LogArchive.class);
+    public static final long DEFAULT_SEGMENT_BYTES = 64L * 1024 * 1024;
+    /** Lines per index entry; 20 bytes of heap index per this many lines. */
+    public static final int INDEX_INTERVAL = 256;
+    // Record: timestamp, char count, run int count, then the runs and the UTF-16 chars
+    private static final int RECORD_HEADER_BYTES = Long.BYTES + 2 * Integer.BYTES;
+    private static final int WRITE_BUFFER_BYTES = 256 * 1024;
+    private static final int MAX_MAPPED_SEGMENTS = 8;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+    // Least recently used mappings of whole segments, or of the written part of the open one
+    private final Map<Integer, MappedByteBuffer> mapped = new LruMap<>(MAX_MAPPED_SEGMENTS);
+
+    private long[] segmentLengths = new long[8];
+    private int segmentCount;
+    private FileChannel writer;
+    private int[] entrySegments = new int[64];
+    private long[] entryOffsets = new long[64];
+    private long[] entryTimestamps = new long[64];
+    private int entryCount;
+    private long lineCount;
+    private long lastTimestamp = LogLine.NO_TIMESTAMP;
+    private long bytesWritten;
+    private boolean closed;
+
+    /**
+     * Creates an archive in {@code directory}, which is created if needed and should be empty.
+     */
+    public LogArchive(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public LogArchive(Path directory, long segmentBytes) throws IOException {
+        this(directory, segmentBytes, true);
+    }
+
+    private LogArchive(Path directory, long segmentBytes, boolean create) throws IOException {
+        if (segmentBytes <= 0 || segmentBytes > Integer.MAX_VALUE) {
+            // A mapping cannot be larger than 2 GiB
+            throw new IllegalArgumentException("Segment size must be positive and at most 2 GiB: " + segmentBytes);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        if (create) {
+            Files.createDirectories(directory);
+            openSegment();
+        } else {
+            closed = true;
+        }
+    }
+
+    /**
+     * Opens a session archived earlier for reading only, rebuilding its index by scanning the segment files.
+     * A record cut short, e.g. by a crash while writing it, ends the archive.
+     */
+    public static LogArchive open(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            throw new NoSuchFileException(directory.toString());
+        }
+        LogArchive archive = new LogArchive(directory, DEFAULT_SEGMENT_BYTES, false);
+        archive.load();
+        return archive;
+    }
+
+    /**
+     * Deletes the least recently written session directories under {@code root} until the sessions left take
+     * at most {@code maxBytes}, never deleting those in {@code keep}. Returns the number of sessions deleted.
+     */
+    public static int pruneSessions(Path root, long maxBytes, Collection<Path> keep) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        List<Session> sessions = new ArrayList<>();
+        long total = 0;
+        try (Stream<Path> children = Files.list(root)) {
+            for (Path child : children.filter(Files::isDirectory).toList()) {
+                Session session = Session.of(child);
+                sessions.add(session);
+                total += session.bytes();
+            }
+        }
+        sessions.sort(Comparator.comparing(Session::lastModified));
+        int deleted = 0;
+        for (Session session : sessions) {
+            if (total <= maxBytes) {
+                break;
+            }
+            if (keep.contains(session.directory())) {
+                continue;
+            }
+            try {
+                session.delete();
+                total -= session.bytes();
+                deleted++;
+            } catch (IOException e) {
+                logger.warn("Failed to delete log archive {}", session.directory(), e);
+            }
+        }
+        return deleted;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Appends lines. They are staged in memory and reach the segment file when the stage fills up, on a read,
+     * or on {@link #flush()}.
+     */
+    public synchronized void appendAll(List<LogLine> lines) throws IOException {
+        if (closed) {
+            throw new IOException("Log archive is closed: " + directory);
+        }
+        for (LogLine line : lines) {
+            int recordBytes = recordBytes(line);
+            int segment = segmentCount - 1;
+            if (segmentLengths[segment] > 0 && segmentLengths[segment] + recordBytes > segmentBytes) {
+                flush();
+                writer.close();
+                openSegment();
+                segment++;
+            }
+            index(segment, segmentLengths[segment], line.getTimestamp());
+            write(line, recordBytes);
+            segmentLengths[segment] += recordBytes;
+            bytesWritten += recordBytes;
+            lineCount++;
+        }
+    }
+
+    /**
+     * Writes staged lines to the open segment.
+     */
+    public synchronized void flush() throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            writer.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+
+    public synchronized long size() {
+        return lineCount;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segmentCount;
+    }
+
+    public synchronized long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Reads up to {@code count} lines from line {@code firstLine} on.
+     */
+    public synchronized List<LogLine> read(long firstLine, int count) throws IOException {
+        if (firstLine < 0 || firstLine > lineCount) {
+            throw new IndexOutOfBoundsException("Line " + firstLine + " out of bounds for size " + lineCount);
+        }
+        int n = (int) Math.min(count, lineCount - firstLine);
+        List<LogLine> lines = new ArrayList<>(n);
+        if (n == 0) {
+            return lines;
+        }
+        flushIfStaged();
+        Cursor cursor = cursorAt((int) (firstLine / INDEX_INTERVAL));
+        for (long line = firstLine - firstLine % INDEX_INTERVAL; line < firstLine; line++) {
+            cursor.skip();
+        }
+        for (int i = 0; i < n; i++) {
+            lines.add(cursor.next());
+        }
+        return lines;
+    }
+
+    /**
+     * Number of the first line logged at or after {@code timestamp} in epoch nanoseconds, or {@link #size()} if
+     * there is none. Lines without a timestamp count as logged with the line before them.
+     */
+    public synchronized long findLine(long timestamp) throws IOException {
+        if (lineCount == 0) {
+            return 0;
+        }
+        // Last entry starting before the timestamp; the line wanted is in its interval or the next one
+        int low = 0;
+        int high = entryCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (entryTimestamps[mid] < timestamp) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        flushIfStaged();
+        Cursor cursor = cursorAt(low);
+        long running = entryTimestamps[low];
+        for (long line = (long) low * INDEX_INTERVAL; line < lineCount; line++) {
+            long lineTimestamp = cursor.nextTimestamp();
+            if (lineTimestamp != LogLine.NO_TIMESTAMP) {
+                running = Math.max(running, lineTimestamp);
+            }
+            if (running != LogLine.NO_TIMESTAMP && running >= timestamp) {
+                return line;
+            }
+        }
+        return lineCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+        } finally {
+            writer.close();
+            mapped.clear();
+        }
+    }
+
+    private synchronized void openSegment() throws IOException {
+        writer = FileChannel.open(segmentPath(segmentCount), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+        addSegment(0);
+    }
+
+    private synchronized void addSegment(long length) {
+        if (segmentCount == segmentLengths.length) {
+            segmentLengths = Arrays.copyOf(segmentLengths, segmentCount * 2);
+        }
+        segmentLengths[segmentCount++] = length;
+    }
+
+    private synchronized void load() throws IOException {
+        while (Files.isRegularFile(segmentPath(segmentCount))) {
+            int segment = segmentCount;
+            long fileLength = Files.size(segmentPath(segment));
+            addSegment(fileLength);
+            MappedByteBuffer buffer = map(segment);
+            long offset = 0;
+            while (offset + RECORD_HEADER_BYTES <= fileLength) {
+                int at = (int) offset;
+                int length = buffer.getInt(at + Long.BYTES);
+                int runInts = buffer.getInt(at + Long.BYTES + Integer.BYTES);
+                long recordBytes = RECORD_HEADER_BYTES + (long) runInts * Integer.BYTES
+                        + (long) length * Character.BYTES;
+                if (length < 0 || runInts < 0 || offset + recordBytes > fileLength) {
+                    break;
+                }
+                index(segment, offset, buffer.getLong(at));
+                offset += recordBytes;
+                lineCount++;
+            }
+            segmentLengths[segment] = offset;
+            bytesWritten += offset;
+            if (offset < fileLength) {
+                logger.warn("Log archive {} ends with a cut record in segment {}", directory, segment);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Enters the next line in the index if it starts an interval.
+     */
+    private void index(int segment, long offset, long timestamp) {
+        if (timestamp != LogLine.NO_TIMESTAMP) {
+            // Kept monotonic, so the index can be binary searched even if streams interleave out of order
+            lastTimestamp = Math.max(lastTimestamp, timestamp);
+        }
+        if (lineCount % INDEX_INTERVAL == 0) {
+            addEntry(segment, offset, lastTimestamp);
+        }
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(String.format("segment-%06d.log", segment));
+    }
+
+    private void addEntry(int segment, long offset, long timestamp) {
+        if (entryCount == entrySegments.length) {
+            int capacity = entryCount * 2;
+            entrySegments = Arrays.copyOf(entrySegments, capacity);
+            entryOffsets = Arrays.copyOf(entryOffsets, capacity);
+            entryTimestamps = Arrays.copyOf(entryTimestamps, capacity);
+        }
+        entrySegments[entryCount] = segment;
+        entryOffsets[entryCount] = offset;
+        entryTimestamps[entryCount] = timestamp;
+        entryCount++;
+    }
+
+    private static int recordBytes(LogLine line) {
+        return RECORD_HEADER_BYTES + line.getRuns().length * Integer.BYTES + line.length() * Character.BYTES;
+    }
+
+    private void write(LogLine line, int recordBytes) throws IOException {
+        ByteBuffer target = writeBuffer;
+        if (recordBytes > writeBuffer.remaining()) {
+            flush();
+            if (recordBytes > writeBuffer.capacity()) {
+                // A line longer than the stage goes out on its own
+                target = ByteBuffer.allocate(recordBytes);
+            }
+        }
+        target.putLong(line.getTimestamp()).putInt(line.length()).putInt(line.getRuns().length);
+        for (int run : line.getRuns()) {
+            target.putInt(run);
+        }
+        for (char c : line.getChars()) {
+            target.putChar(c);
+        }
+        if (target != writeBuffer) {
+            target.flip();
+            while (target.hasRemaining()) {
+                writer.write(target);
+            }
+        }
+    }
+
+    private void flushIfStaged() throws IOException {
+        // Once closed, everything staged has been written and the segments are only ever mapped for reading
+        if (!closed && writeBuffer.position() > 0) {
+            flush();
+        }
+    }
+
+    private Cursor cursorAt(int entry) {
+        return new Cursor(entrySegments[entry], entryOffsets[entry]);
+    }
+
+    /**
+     * Maps a segment, or its written part if it is the open one; a cached mapping of the open segment is
+     * replaced once it no longer covers everything written.
+     */
+    private synchronized MappedByteBuffer map(int segment) throws IOException {
+        long length = segmentLength(segment);
+        MappedByteBuffer buffer = mapped.get(segment);
+        if (buffer == null || buffer.capacity() < length) {
+            try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            }
+            mapped.put(segment, buffer);
+        }
+        return buffer;
+    }
+
+    // Only called with the lock held already, by readers and their cursors
+    private synchronized long segmentLength(int segment) {
+        return segmentLengths[segment];
+    }
+
+    /**
+     * A session directory, with the total size and newest modification time of its files.
+     */
+    private record Session(Path directory, long bytes, FileTime lastModified) {
+        static Session of(Path directory) throws IOException {
+            long bytes = 0;
+            FileTime lastModified = Files.getLastModifiedTime(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(Files::isRegularFile).toList()) {
+                    bytes += Files.size(file);
+                    FileTime modified = Files.getLastModifiedTime(file);
+                    if (modified.compareTo(lastModified) > 0) {
+                        lastModified = modified;
+                    }
+                }
+            }
+            return new Session(directory, bytes, lastModified);
+        }
+
+        void delete() throws IOException {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Reads records one after another, moving on to the next segment at the end of one.
+     */
+    private final class Cursor {
+        private int segment;
+        private int offset;
+        private MappedByteBuffer buffer;
+
+        Cursor(int segment, long offset) {
+            this.segment = segment;
+            this.offset = (int) offset;
+        }
+
+        LogLine next() throws IOException {
+            position();
+            final long timestamp = buffer.getLong(offset);
+            int length = buffer.getInt(offset + Long.BYTES);
+            int[] runs = new int[buffer.getInt(offset + Long.BYTES + Integer.BYTES)];
+            int at = offset + RECORD_HEADER_BYTES;
+            for (int i = 0; i < runs.length; i++, at += Integer.BYTES) {
+                runs[i] = buffer.getInt(at);
+            }
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++, at += Character.BYTES) {
+                chars[i] = buffer.getChar(at);
+            }
+            offset = at;
+            return new LogLine(chars, runs, timestamp);
+        }
+
+        long nextTimestamp() throws IOException {
+            position();
+            long timestamp = buffer.getLong(offset);
+            skip();
+            return timestamp;
+        }
+
+        void skip() throws IOException {
+            position();
+            int length = buffer.getInt(offset + Long.BYTES);
+            int runInts = buffer.getInt(offset + Long.BYTES + Integer.BYTES);
+            offset += RECORD_HEADER_BYTES + runInts * Integer.BYTES + length * Character.BYTES;
+        }
+
+        private void position() throws IOException {
+            while (offset >= segmentLength(segment)) {
+                segment++;
+                offset = 0;
+                buffer = null;
+            }
+            if (buffer == null || offset >= buffer.capacity()) {
+                buffer = map(segment);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import javafx.collections.ObservableListBase;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Observable list view of a {@link LogArchive}, so a ListView can scroll through a whole archived session.
+ * Only the pages of lines the control asks for are read, and only the most recently used pages stay in
+ * memory. The size is taken when created and on {@link #refresh()}; lines archived since are not visible
+ * until then. Lists are int-indexed, so at most {@link Integer#MAX_VALUE} lines are shown.
+ * Must be used on the FX thread.
+ */
+public final class LogArchiveLines extends ObservableListBase<LogLine> {
+    private static final Logger logger = LoggerFactory.getLogger(LogArchiveLines.class);
+    public static final int PAGE_LINES = LogArchive.INDEX_INTERVAL;
+    private static final int MAX_PAGES = 64;
+
+    private final LogArchive archive;
+    private final Map<Long, List<LogLine>> pages = new LruMap<>(MAX_PAGES);
+    private int size;
+
+    public LogArchiveLines(LogArchive archive) {
+        this.archive = archive;
+        this.size = visibleSize();
+    }
+
+    @Override
+    public LogLine get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        long page = index / PAGE_LINES;
+        List<LogLine> lines = pages.get(page);
+        if (lines == null) {
+            try {
+                lines = archive.read(page * PAGE_LINES, PAGE_LINES);
+            } catch (IOException e) {
+                logger.warn("Failed to read archived log lines from {}", archive.getDirectory(), e);
+                return LogLine.of("<unreadable: " + e.getMessage() + ">", LogStyle.DEFAULT);
+            }
+            pages.put(page, lines);
+        }
+        return lines.get(index % PAGE_LINES);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Shows the lines archived since the list was created or last refreshed.
+     */
+    public void refresh() {
+        int newSize = visibleSize();
+        if (newSize == size) {
+            return;
+        }
+        // The last page may have been read while it was still filling up
+        pages.remove((long) (size / PAGE_LINES));
+        beginChange();
+        try {
+            nextAdd(size, newSize);
+            size = newSize;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Index of the first line logged at or after {@code timestamp}, in epoch nanoseconds.
+     */
+    public int indexAt(long timestamp) throws IOException {
+        return (int) Math.min(archive.findLine(timestamp), size == 0 ? 0 : size - 1);
+    }
+
+    private int visibleSize() {
+        return (int) Math.min(archive.size(), Integer.MAX_VALUE);
+    }
+}
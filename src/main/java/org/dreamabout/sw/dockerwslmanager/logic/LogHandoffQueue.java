@@ -0,0 +1,152 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.dreamabout.sw.dockerwslmanager.model.LogOverflowPolicy;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Bounded hand-off of parsed log lines from a stream callback thread to the consumer, normally the FX thread.
+ * Holds at most {@code maxLines} lines and {@code maxChars} characters, so its memory use stays bounded
+ * however fast the stream runs and however long the consumer is busy; what happens on overflow is
+ * decided by the {@link LogOverflowPolicy}. Pending lines are delivered in one batch per consumer run.
+ */
+public final class LogHandoffQueue implements Closeable {
+    /**
+     * Under {@link LogOverflowPolicy#SAMPLE}, one line in this many is kept while the queue is full.
+     */
+    public static final int SAMPLE_EVERY = 10;
+
+    /**
+     * Receives queued lines on the consumer executor. The list is reused after the call returns.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        void drained(List<LogLine> lines, long droppedTotal);
+    }
+
+    private final LogLine[] ring;
+    private final long maxChars;
+    private final LogOverflowPolicy policy;
+    private final Executor consumerExecutor;
+    private final Sink sink;
+    // Only touched by the consumer, which runs one drain at a time
+    private final List<LogLine> batch = new ArrayList<>();
+
+    private int head;
+    private int size;
+    private long chars;
+    private long dropped;
+    private long sampleCounter;
+    private boolean drainScheduled;
+    private boolean closed;
+
+    public LogHandoffQueue(int maxLines, long maxChars, LogOverflowPolicy policy, Executor consumerExecutor,
+                           Sink sink) {
+        if (maxLines <= 0 || maxChars <= 0) {
+            throw new IllegalArgumentException("Limits must be positive: " + maxLines + " lines, " + maxChars
+                    + " chars");
+        }
+        this.ring = new LogLine[maxLines];
+        this.maxChars = maxChars;
+        this.policy = policy;
+        this.consumerExecutor = consumerExecutor;
+        this.sink = sink;
+    }
+
+    /**
+     * Queues lines from the producer thread. Under {@link LogOverflowPolicy#BLOCK} this waits while the
+     * queue is full, until the consumer drains it or the queue is closed; lines offered after closing are
+     * discarded.
+     */
+    public synchronized void offer(List<LogLine> lines) throws InterruptedException {
+        for (LogLine line : lines) {
+            if (closed) {
+                return;
+            }
+            if (isFullFor(line)) {
+                if (policy == LogOverflowPolicy.BLOCK) {
+                    while (isFullFor(line) && !closed) {
+                        wait();
+                    }
+                    if (closed) {
+                        return;
+                    }
+                } else if (policy == LogOverflowPolicy.SAMPLE && sampleCounter++ % SAMPLE_EVERY != 0) {
+                    dropped++;
+                    continue;
+                } else {
+                    while (isFullFor(line)) {
+                        removeOldest();
+                        dropped++;
+                    }
+                }
+            }
+            ring[(head + size) % ring.length] = line;
+            size++;
+            chars += line.length();
+            if (!drainScheduled) {
+                drainScheduled = true;
+                consumerExecutor.execute(this::drain);
+            }
+        }
+    }
+
+    /**
+     * Lines discarded so far because the queue was full.
+     */
+    public synchronized long getDroppedCount() {
+        return dropped;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Discards pending lines and releases a blocked producer; nothing more is delivered.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        while (size > 0) {
+            removeOldest();
+        }
+        notifyAll();
+    }
+
+    private boolean isFullFor(LogLine line) {
+        return size == ring.length || (size > 0 && chars + line.length() > maxChars);
+    }
+
+    private void removeOldest() {
+        chars -= ring[head].length();
+        ring[head] = null;
+        head = (head + 1) % ring.length;
+        size--;
+    }
+
+    private void drain() {
+        long droppedTotal;
+        synchronized (this) {
+            drainScheduled = false;
+            if (closed) {
+                return;
+            }
+            while (size > 0) {
+                batch.add(ring[head]);
+                removeOldest();
+            }
+            droppedTotal = dropped;
+            notifyAll();
+        }
+        try {
+            sink.drained(batch, droppedTotal);
+        } finally {
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+/**
+ * Chooses the {@code since}/{@code until} windows used to page a container's log backwards in time.
+ * Docker can only filter logs by time, so the window length adapts to the log rate: it starts from the rate
+ * seen in the initial tail, doubles while pages come back small (quiet periods) and shrinks when a window
+ * holds more than a page. Paging ends at the container's creation time.
+ */
+public final class LogHistoryWindow {
+    /** Window used when the initial tail says nothing about the rate. */
+    public static final long DEFAULT_WINDOW_SECONDS = 3600;
+    public static final long MAX_WINDOW_SECONDS = 7 * 24 * 3600;
+
+    private final long createdSecond;
+    private final int pageLines;
+    private long windowSeconds = DEFAULT_WINDOW_SECONDS;
+    private long untilSecond;
+    private boolean started;
+    private boolean exhausted;
+
+    /**
+     * Creates the windows for one container.
+     *
+     * @param createdSecond epoch second the container was created, before which there are no logs.
+     * @param pageLines     lines a page should have.
+     */
+    public LogHistoryWindow(long createdSecond, int pageLines) {
+        this.createdSecond = createdSecond;
+        this.pageLines = Math.max(1, pageLines);
+    }
+
+    /**
+     * Starts paging before the lines already shown, sizing the first window from their rate.
+     *
+     * @param oldest timestamp of the oldest line shown, in epoch nanoseconds.
+     * @param newest timestamp of the newest line shown.
+     * @param lines  number of lines shown.
+     */
+    public void start(long oldest, long newest, int lines) {
+        untilSecond = LogTimestamps.toEpochSecond(oldest) + 1;
+        long spanSeconds = LogTimestamps.toEpochSecond(newest) - LogTimestamps.toEpochSecond(oldest);
+        if (lines > 1 && spanSeconds > 0) {
+            windowSeconds = clamp(spanSeconds * pageLines / lines);
+        }
+        started = true;
+        exhausted = untilSecond <= createdSecond;
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * Whether the windows have reached the container's creation, so there is nothing older.
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * Lower bound of the next window, inclusive, in epoch seconds.
+     */
+    public int getSince() {
+        return (int) Math.max(createdSecond, untilSecond - windowSeconds);
+    }
+
+    /**
+     * Upper bound of the next window in epoch seconds. Docker includes lines logged exactly at this second,
+     * so lines already shown must be filtered out by timestamp.
+     */
+    public int getUntil() {
+        return (int) untilSecond;
+    }
+
+    /**
+     * Moves past the window just fetched.
+     *
+     * @param lines     lines the page got.
+     * @param truncated whether the window held more lines than a page may keep, so only its newest were kept.
+     * @param oldest    timestamp of the oldest line kept; only used when truncated.
+     */
+    public void completed(int lines, boolean truncated, long oldest) {
+        if (truncated) {
+            // Continue right before the oldest line kept, with a much shorter window
+            untilSecond = LogTimestamps.toEpochSecond(oldest) + 1;
+            windowSeconds = Math.max(1, windowSeconds / 4);
+            return;
+        }
+        long since = getSince();
+        untilSecond = since;
+        exhausted = since <= createdSecond;
+        if (lines < pageLines / 2) {
+            windowSeconds = clamp(windowSeconds * 2);
+        }
+    }
+
+    private static long clamp(long seconds) {
+        return Math.max(1, Math.min(MAX_WINDOW_SECONDS, seconds));
+    }
+}
@@ -0,0 +1,151 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import javafx.collections.ObservableListBase;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fixed-capacity ring of log lines exposed as an observable list, so a ListView can virtualize it.
+ * Appending past the capacity evicts the oldest lines; memory use is bounded by the capacity.
+ * Like any list backing a control it must only be modified on the FX thread.
+ */
+public final class LogLineBuffer extends ObservableListBase<LogLine> {
+    private final LogLine[] ring;
+    private int head;
+    private int size;
+    private long evictedCount;
+    private long prependedCount;
+
+    public LogLineBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.ring = new LogLine[capacity];
+    }
+
+    @Override
+    public LogLine get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return ring[(head + index) % ring.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    /**
+     * Number of lines evicted from the head since creation. This only counts evictions; the absolute number of
+     * line 0, which prepended lines lower, is {@link #getFirstLineNumber()}.
+     */
+    public long getEvictedCount() {
+        return evictedCount;
+    }
+
+    /**
+     * Absolute number of line 0. Appended lines count up from 0; lines prepended as scroll-back count down,
+     * so every line keeps its number while the buffer changes at both ends.
+     */
+    public long getFirstLineNumber() {
+        return evictedCount - prependedCount;
+    }
+
+    public void append(LogLine line) {
+        appendAll(Collections.singletonList(line));
+    }
+
+    /**
+     * Appends lines as a single change, evicting the oldest lines if the capacity is exceeded.
+     */
+    public void appendAll(List<LogLine> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        // Lines that would be evicted within the same batch never need to be stored
+        int skip = Math.max(0, lines.size() - ring.length);
+        int incoming = lines.size() - skip;
+        int evict = Math.max(0, size + incoming - ring.length);
+
+        beginChange();
+        try {
+            if (evict > 0) {
+                List<LogLine> removed = new ArrayList<>(evict);
+                for (int i = 0; i < evict; i++) {
+                    int slot = (head + i) % ring.length;
+                    removed.add(ring[slot]);
+                    ring[slot] = null;
+                }
+                head = (head + evict) % ring.length;
+                size -= evict;
+                evictedCount += evict + skip;
+                nextRemove(0, removed);
+            } else {
+                evictedCount += skip;
+            }
+            int from = size;
+            for (int i = skip; i < lines.size(); i++) {
+                ring[(head + size) % ring.length] = lines.get(i);
+                size++;
+            }
+            nextAdd(from, size);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Inserts older lines before line 0 as a single change. Only the free capacity is used, never evicting:
+     * if the lines do not all fit, the newest of them are kept.
+     *
+     * @return the number of lines inserted.
+     */
+    public int prependAll(List<LogLine> lines) {
+        int count = Math.min(lines.size(), ring.length - size);
+        if (count == 0) {
+            return 0;
+        }
+        beginChange();
+        try {
+            head = Math.floorMod(head - count, ring.length);
+            int skip = lines.size() - count;
+            for (int i = 0; i < count; i++) {
+                ring[(head + i) % ring.length] = lines.get(skip + i);
+            }
+            size += count;
+            prependedCount += count;
+            nextAdd(0, count);
+        } finally {
+            endChange();
+        }
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        beginChange();
+        try {
+            final List<LogLine> removed = new ArrayList<>(this);
+            Arrays.fill(ring, null);
+            head = 0;
+            size = 0;
+            evictedCount = 0;
+            prependedCount = 0;
+            nextRemove(0, removed);
+        } finally {
+            endChange();
+        }
+    }
+}
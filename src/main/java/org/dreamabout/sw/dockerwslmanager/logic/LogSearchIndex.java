@@ -0,0 +1,437 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+
+import java.nio.CharBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Search index over the lines of a log view, maintained incrementally as batches arrive.
+ * Lines are grouped into blocks of {@code blockLines}, each with a bitmap of the lower-cased character trigrams
+ * it contains. A query only runs its regex over the blocks whose bitmap holds every trigram of a literal the
+ * pattern requires, so a rare term in a large buffer touches a handful of blocks instead of every line.
+ * Lines are numbered absolutely, like {@link LogLineBuffer#getEvictedCount()}, and evicted in step with it.
+ * Like the buffer it must only be modified on the FX thread; {@link #snapshot()} is safe to search elsewhere.
+ */
+public final class LogSearchIndex {
+    public static final int DEFAULT_BLOCK_LINES = 64;
+    /** Matches beyond this are counted but their positions are not kept. */
+    public static final int MAX_MATCHES = 100_000;
+    /** Bitmap bits per block: 1 KiB, keeping false positives rare for typical 64-line blocks. */
+    private static final int BITMAP_BITS = 8192;
+    private static final int BITMAP_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(BITMAP_BITS);
+    private static final int MIN_LITERAL = 3;
+
+    private final int blockLines;
+    private final ArrayDeque<Block> blocks = new ArrayDeque<>();
+    private long firstLine;
+    private long nextLine;
+
+    public LogSearchIndex() {
+        this(DEFAULT_BLOCK_LINES);
+    }
+
+    public LogSearchIndex(int blockLines) {
+        if (blockLines <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockLines);
+        }
+        this.blockLines = blockLines;
+    }
+
+    /**
+     * Indexes lines appended to the view; the first gets number {@link #getNextLine()}.
+     */
+    public void appendAll(List<LogLine> lines) {
+        for (LogLine line : lines) {
+            Block block = blocks.peekLast();
+            if (block == null || block.isFull()) {
+                block = new Block(nextLine, blockLines);
+                blocks.addLast(block);
+            }
+            block.add(line);
+            nextLine++;
+        }
+    }
+
+    /**
+     * Indexes older lines inserted before the oldest one, numbering them downwards from {@link #getFirstLine()}.
+     */
+    public void prependAll(List<LogLine> lines) {
+        Block first = blocks.peekFirst();
+        if (first != null && first.firstLine < firstLine) {
+            // Keep numbers unique: drop the evicted head of the first block before numbering below it
+            blocks.removeFirst();
+            blocks.addFirst(first.tail(firstLine));
+        }
+        int end = lines.size();
+        while (end > 0) {
+            int start = Math.max(0, end - blockLines);
+            firstLine -= end - start;
+            Block block = new Block(firstLine, end - start);
+            for (int i = start; i < end; i++) {
+                block.add(lines.get(i));
+            }
+            blocks.addFirst(block);
+            end = start;
+        }
+    }
+
+    /**
+     * Forgets every line numbered below {@code line}, dropping blocks once all of their lines are gone.
+     */
+    public void evictBefore(long line) {
+        firstLine = Math.max(firstLine, Math.min(line, nextLine));
+        while (!blocks.isEmpty() && blocks.peekFirst().endLine() <= firstLine) {
+            blocks.removeFirst();
+        }
+    }
+
+    public void clear() {
+        blocks.clear();
+        firstLine = 0;
+        nextLine = 0;
+    }
+
+    /**
+     * Number of the oldest line still indexed.
+     */
+    public long getFirstLine() {
+        return firstLine;
+    }
+
+    /**
+     * Number the next appended line will get.
+     */
+    public long getNextLine() {
+        return nextLine;
+    }
+
+    /**
+     * Immutable view of the index as it is now. Sealed blocks are shared; only the open block is copied.
+     */
+    public Snapshot snapshot() {
+        List<Block> copy = new ArrayList<>(blocks.size());
+        for (Block block : blocks) {
+            copy.add(block.isFull() ? block : block.copy());
+        }
+        return new Snapshot(copy, firstLine, nextLine);
+    }
+
+    /**
+     * Longest literal of at least three characters every match of the pattern must contain, or null
+     * if there is none or the pattern is too involved to tell. Groups and classes are skipped, a top-level
+     * alternation gives up, and a character followed by an optional quantifier breaks the literal.
+     */
+    static String requiredLiteral(Pattern pattern) {
+        String regex = pattern.pattern();
+        if ((pattern.flags() & Pattern.LITERAL) != 0) {
+            return regex.length() >= MIN_LITERAL ? regex : null;
+        }
+        if ((pattern.flags() & Pattern.COMMENTS) != 0 || regex.contains("\\Q")) {
+            return null;
+        }
+        String best = "";
+        StringBuilder run = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            int next;
+            char literal;
+            if (c == '\\' && i + 1 < regex.length()) {
+                char escaped = regex.charAt(i + 1);
+                if (Character.isLetterOrDigit(escaped)) {
+                    // \d, \w, \b, back-references and the like
+                    best = longer(best, run);
+                    i += 2;
+                    continue;
+                }
+                literal = escaped;
+                next = i + 2;
+            } else if (c == '|') {
+                return null;
+            } else if (c == '[' || c == '(') {
+                best = longer(best, run);
+                i = skipGroup(regex, i);
+                continue;
+            } else if (".^$*+?{}".indexOf(c) >= 0) {
+                best = longer(best, run);
+                i = c == '{' ? Math.max(regex.indexOf('}', i), i) + 1 : i + 1;
+                continue;
+            } else {
+                literal = c;
+                next = i + 1;
+            }
+            char quantifier = next < regex.length() ? regex.charAt(next) : 0;
+            if (quantifier == '*' || quantifier == '?' || quantifier == '{') {
+                best = longer(best, run);
+            } else {
+                run.append(literal);
+                if (quantifier == '+') {
+                    best = longer(best, run);
+                }
+            }
+            i = next;
+        }
+        best = longer(best, run);
+        return best.length() >= MIN_LITERAL ? best : null;
+    }
+
+    private static String longer(String best, StringBuilder run) {
+        String candidate = run.length() > best.length() ? run.toString() : best;
+        run.setLength(0);
+        return candidate;
+    }
+
+    /**
+     * Index just past the group or character class opening at {@code start}.
+     */
+    private static int skipGroup(String regex, int start) {
+        int depth = 0;
+        boolean inClass = false;
+        for (int i = start; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                if (c == ']') {
+                    inClass = false;
+                    if (depth == 0) {
+                        return i + 1;
+                    }
+                }
+            } else if (c == '[') {
+                inClass = true;
+                // A ']' right after '[' or '[^' is a literal member
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == '^') {
+                    i++;
+                }
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == ']') {
+                    i++;
+                }
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i + 1;
+            }
+        }
+        return regex.length();
+    }
+
+    static int bit(char a, char b, char c) {
+        long trigram = ((long) Character.toLowerCase(a) << 32) | ((long) Character.toLowerCase(b) << 16)
+                | Character.toLowerCase(c);
+        return (int) ((trigram * 0x9E3779B97F4A7C15L) >>> BITMAP_SHIFT);
+    }
+
+    private static int[] requiredBits(Pattern pattern) {
+        String literal = requiredLiteral(pattern);
+        if (literal == null) {
+            return new int[0];
+        }
+        int[] bits = new int[literal.length() - 2];
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = bit(literal.charAt(i), literal.charAt(i + 1), literal.charAt(i + 2));
+        }
+        return bits;
+    }
+
+    private static final class Block {
+        private final long firstLine;
+        private final LogLine[] lines;
+        private final long[] bitmap;
+        private int count;
+
+        Block(long firstLine, int capacity) {
+            this(firstLine, new LogLine[capacity], new long[BITMAP_BITS / Long.SIZE], 0);
+        }
+
+        private Block(long firstLine, LogLine[] lines, long[] bitmap, int count) {
+            this.firstLine = firstLine;
+            this.lines = lines;
+            this.bitmap = bitmap;
+            this.count = count;
+        }
+
+        boolean isFull() {
+            return count == lines.length;
+        }
+
+        long endLine() {
+            return firstLine + count;
+        }
+
+        void add(LogLine line) {
+            lines[count++] = line;
+            char[] chars = line.getChars();
+            for (int i = 2; i < chars.length; i++) {
+                int bit = bit(chars[i - 2], chars[i - 1], chars[i]);
+                bitmap[bit >>> 6] |= 1L << bit;
+            }
+        }
+
+        boolean mayContain(int[] bits) {
+            for (int bit : bits) {
+                if ((bitmap[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Block copy() {
+            return new Block(firstLine, Arrays.copyOf(lines, count), bitmap.clone(), count);
+        }
+
+        /**
+         * Sealed copy holding the lines from {@code line} on; the bitmap may still have bits of the others.
+         */
+        Block tail(long line) {
+            int skip = (int) (line - firstLine);
+            return new Block(line, Arrays.copyOfRange(lines, skip, count), bitmap.clone(), count - skip);
+        }
+    }
+
+    /**
+     * Point-in-time view of the index, searchable from any thread.
+     */
+    public static final class Snapshot {
+        private final List<Block> blocks;
+        private final long firstLine;
+        private final long endLine;
+
+        private Snapshot(List<Block> blocks, long firstLine, long endLine) {
+            this.blocks = blocks;
+            this.firstLine = firstLine;
+            this.endLine = endLine;
+        }
+
+        /**
+         * Finds every non-empty match of the pattern, oldest first. Stops early, returning the matches found
+         * so far, if the calling thread is interrupted.
+         */
+        public Matches search(Pattern pattern) {
+            int[] required = requiredBits(pattern);
+            Matcher matcher = pattern.matcher("");
+            Matches matches = new Matches(endLine);
+            for (Block block : blocks) {
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                if (!block.mayContain(required)) {
+                    continue;
+                }
+                for (int i = 0; i < block.count; i++) {
+                    long line = block.firstLine + i;
+                    if (line < firstLine) {
+                        continue;
+                    }
+                    matches.scannedLines++;
+                    matcher.reset(CharBuffer.wrap(block.lines[i].getChars()));
+                    while (matcher.find()) {
+                        if (matcher.end() > matcher.start()) {
+                            matches.add(line, matcher.start(), matcher.end());
+                        }
+                    }
+                }
+            }
+            return matches;
+        }
+    }
+
+    /**
+     * Result of a search: the total count plus the positions of the first {@link #MAX_MATCHES} matches.
+     */
+    public static final class Matches {
+        private final long endLine;
+        private long[] lines = new long[16];
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private int size;
+        private long total;
+        private long scannedLines;
+
+        private Matches(long endLine) {
+            this.endLine = endLine;
+        }
+
+        private void add(long line, int start, int end) {
+            total++;
+            if (size == MAX_MATCHES) {
+                return;
+            }
+            if (size == lines.length) {
+                int capacity = Math.min(MAX_MATCHES, size * 2);
+                lines = Arrays.copyOf(lines, capacity);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+            }
+            lines[size] = line;
+            starts[size] = start;
+            ends[size] = end;
+            size++;
+        }
+
+        /**
+         * Number of matches whose positions are known.
+         */
+        public int size() {
+            return size;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public boolean isTruncated() {
+            return total > size;
+        }
+
+        public long getLine(int match) {
+            return lines[match];
+        }
+
+        public int getStart(int match) {
+            return starts[match];
+        }
+
+        public int getEnd(int match) {
+            return ends[match];
+        }
+
+        /**
+         * Number the next appended line had when the search ran; lines from there on were not searched.
+         */
+        public long getEndLine() {
+            return endLine;
+        }
+
+        /**
+         * Lines the regex actually ran over, after the trigram filter.
+         */
+        public long getScannedLines() {
+            return scannedLines;
+        }
+
+        /**
+         * Index of the first match on or after {@code line}, or {@link #size()} if there is none.
+         */
+        public int indexAtOrAfter(long line) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (lines[mid] < line) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+/**
+ * Packs a log text style into an int so style runs stay primitive.
+ * Bits 0-23 hold the RGB foreground, bit 24 marks an explicit foreground and bit 25 bold.
+ */
+public final class LogStyle {
+    public static final int DEFAULT = 0;
+    public static final int DEFAULT_RGB = 0xD3D3D3;
+
+    private static final int RGB_MASK = 0xFFFFFF;
+    private static final int HAS_COLOR = 1 << 24;
+    private static final int BOLD = 1 << 25;
+
+    private LogStyle() {
+    }
+
+    public static int withColor(int style, int rgb) {
+        return (style & ~RGB_MASK) | HAS_COLOR | (rgb & RGB_MASK);
+    }
+
+    public static int withDefaultColor(int style) {
+        return style & ~(RGB_MASK | HAS_COLOR);
+    }
+
+    public static int withBold(int style, boolean bold) {
+        return bold ? style | BOLD : style & ~BOLD;
+    }
+
+    public static boolean isBold(int style) {
+        return (style & BOLD) != 0;
+    }
+
+    /**
+     * Foreground colour as 0xRRGGBB, falling back to the default log colour.
+     */
+    public static int rgb(int style) {
+        return (style & HAS_COLOR) != 0 ? style & RGB_MASK : DEFAULT_RGB;
+    }
+}
@@ -0,0 +1,116 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+
+import java.util.function.Consumer;
+
+/**
+ * Parses the RFC 3339 timestamp Docker puts in front of every log line when asked for timestamps,
+ * e.g. {@code 2024-05-01T12:00:00.123456789Z}, straight from the parser's character buffer.
+ */
+public final class LogTimestamps {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    // Shortest and longest timestamp: without a fraction, and with nanoseconds and a numeric offset
+    private static final int MIN_LENGTH = 20;
+    private static final int MAX_LENGTH = 35;
+
+    private LogTimestamps() {
+    }
+
+    /**
+     * Sink for an {@link AnsiParser} that moves each line's timestamp prefix into
+     * {@link LogLine#getTimestamp()}. Lines without one are passed on unchanged.
+     */
+    public static AnsiParser.LineSink stripping(Consumer<LogLine> lines) {
+        return (text, length, runs, runsLength) -> {
+            int space = indexOfSpace(text, length);
+            long timestamp = space > 0 ? parse(text, space) : LogLine.NO_TIMESTAMP;
+            int from = timestamp != LogLine.NO_TIMESTAMP ? space + 1 : 0;
+            lines.accept(LogLine.copyOf(text, from, length, runs, runsLength, timestamp));
+        };
+    }
+
+    /**
+     * Parses a timestamp filling {@code text[0, end)} into epoch nanoseconds, or returns
+     * {@link LogLine#NO_TIMESTAMP} if it is not one.
+     */
+    public static long parse(char[] text, int end) {
+        if (end < MIN_LENGTH || end > MAX_LENGTH || text[4] != '-' || text[7] != '-' || text[10] != 'T'
+                || text[13] != ':' || text[16] != ':') {
+            return LogLine.NO_TIMESTAMP;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31 || hour < 0 || hour > 23
+                || minute < 0 || minute > 59 || second < 0 || second > 60) {
+            return LogLine.NO_TIMESTAMP;
+        }
+        int i = 19;
+        long nanos = 0;
+        if (text[i] == '.') {
+            i++;
+            long scale = NANOS_PER_SECOND / 10;
+            for (; i < end && text[i] >= '0' && text[i] <= '9'; i++) {
+                nanos += (text[i] - '0') * scale;
+                scale /= 10;
+            }
+        }
+        int offsetSeconds;
+        if (i == end - 1 && (text[i] == 'Z' || text[i] == 'z')) {
+            offsetSeconds = 0;
+        } else if (i == end - 6 && (text[i] == '+' || text[i] == '-') && text[i + 3] == ':') {
+            int offsetHours = digits(text, i + 1, 2);
+            int offsetMinutes = digits(text, i + 4, 2);
+            if (offsetHours < 0 || offsetMinutes < 0) {
+                return LogLine.NO_TIMESTAMP;
+            }
+            offsetSeconds = (text[i] == '-' ? -1 : 1) * (offsetHours * 3600 + offsetMinutes * 60);
+        } else {
+            return LogLine.NO_TIMESTAMP;
+        }
+        long epochSecond = daysFromCivil(year, month, day) * 86_400L + hour * 3600L + minute * 60L + second
+                - offsetSeconds;
+        return epochSecond * NANOS_PER_SECOND + nanos;
+    }
+
+    public static long toEpochSecond(long timestamp) {
+        return Math.floorDiv(timestamp, NANOS_PER_SECOND);
+    }
+
+    private static int indexOfSpace(char[] text, int length) {
+        for (int i = MIN_LENGTH, limit = Math.min(length, MAX_LENGTH + 1); i < limit; i++) {
+            if (text[i] == ' ') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int digits(char[] text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = text[i];
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic Gregorian date.
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468L;
+    }
+}
@@ -0,0 +1,84 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Records when each startup phase finished, measured from JVM start, so cold-launch time can be
+ * logged and shown in the About dialog. Each phase is recorded once; later marks are ignored.
+ */
+public final class StartupTimeline {
+    /**
+     * The last phase: the container list has been laid out on screen.
+     */
+    public static final String FIRST_PAINT = "first paint";
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimeline.class);
+    private static final StartupTimeline APP = new StartupTimeline(
+            ManagementFactory.getRuntimeMXBean().getStartTime(), System::currentTimeMillis);
+
+    /**
+     * A finished phase: when it ended and how long it took after the previous one.
+     */
+    public record Phase(String name, long atMs, long durationMs) {
+    }
+
+    private final long originMs;
+    private final LongSupplier clock;
+    private final List<Phase> phases = new ArrayList<>();
+
+    StartupTimeline(long originMs, LongSupplier clock) {
+        this.originMs = originMs;
+        this.clock = clock;
+    }
+
+    /**
+     * The timeline of this application launch.
+     */
+    public static StartupTimeline app() {
+        return APP;
+    }
+
+    /**
+     * Records that a phase has just finished.
+     *
+     * @return false if the phase was already recorded.
+     */
+    public synchronized boolean mark(String name) {
+        if (isMarked(name)) {
+            return false;
+        }
+        long atMs = clock.getAsLong() - originMs;
+        long durationMs = phases.isEmpty() ? atMs : atMs - phases.get(phases.size() - 1).atMs();
+        phases.add(new Phase(name, atMs, durationMs));
+        logger.info("Startup: {} at {} ms (+{} ms)", name, atMs, durationMs);
+        return true;
+    }
+
+    public synchronized boolean isMarked(String name) {
+        return phases.stream().anyMatch(phase -> phase.name().equals(name));
+    }
+
+    public synchronized List<Phase> getPhases() {
+        return List.copyOf(phases);
+    }
+
+    /**
+     * One line per phase, e.g. "FXML loaded          412 ms  (+230 ms)".
+     */
+    public synchronized String format() {
+        if (phases.isEmpty()) {
+            return "No startup phases recorded";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Phase phase : phases) {
+            sb.append(String.format("%-22s %6d ms  (+%d ms)%n", phase.name(), phase.atMs(), phase.durationMs()));
+        }
+        return sb.toString().stripTrailing();
+    }
+}
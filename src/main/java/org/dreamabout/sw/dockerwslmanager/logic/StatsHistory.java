@@ -0,0 +1,118 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.ContainerStats;
+import org.dreamabout.sw.dockerwslmanager.model.IoRates;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size time series of one container's stats, kept in primitive ring buffers so recording a sample
+ * allocates nothing. Network and disk I/O is stored as the sample's rates in bytes per second; unknown rates
+ * (the first sample, or one after a counter reset) leave a gap ({@code NaN}).
+ *
+ * <p>Values are floats: charts need no more precision, and it halves the footprint to
+ * {@value #BYTES_PER_SAMPLE} bytes per sample. Recording and reading may happen on different threads.
+ */
+public final class StatsHistory {
+    public static final int CPU = 0;
+    public static final int MEMORY = 1;
+    public static final int NET_READ = 2;
+    public static final int NET_WRITE = 3;
+    public static final int DISK_READ = 4;
+    public static final int DISK_WRITE = 5;
+    private static final int SERIES_COUNT = 6;
+    /** One long timestamp plus one float per series. */
+    public static final int BYTES_PER_SAMPLE = Long.BYTES + SERIES_COUNT * Float.BYTES;
+
+    private final long[] timestamps;
+    private final float[][] values;
+    private int head;
+    private int size;
+
+    public StatsHistory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.timestamps = new long[capacity];
+        this.values = new float[SERIES_COUNT][capacity];
+    }
+
+    public int capacity() {
+        return timestamps.length;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Records a sample, overwriting the oldest one once the history is full.
+     */
+    public synchronized void record(long timeMs, ContainerStats stats) {
+        int slot = (head + size) % timestamps.length;
+        if (size == timestamps.length) {
+            head = (head + 1) % timestamps.length;
+        } else {
+            size++;
+        }
+        timestamps[slot] = timeMs;
+        values[CPU][slot] = (float) stats.getCpuPercentage();
+        values[MEMORY][slot] = stats.getMemoryUsage();
+
+        IoRates network = stats.getIoRates().getNetwork();
+        IoRates disk = stats.getIoRates().getDisk();
+        values[NET_READ][slot] = (float) network.getReadBytesPerSecond();
+        values[NET_WRITE][slot] = (float) network.getWriteBytesPerSecond();
+        values[DISK_READ][slot] = (float) disk.getReadBytesPerSecond();
+        values[DISK_WRITE][slot] = (float) disk.getWriteBytesPerSecond();
+    }
+
+    /**
+     * Most recent value of a series, or {@code NaN} if there is none.
+     */
+    public synchronized double latest(int series) {
+        return size == 0 ? Double.NaN : values[series][(head + size - 1) % timestamps.length];
+    }
+
+    /**
+     * Reduces the samples in {@code [fromMs, toMs)} to {@code min.length} equal-width time buckets, keeping
+     * the minimum and maximum of each so short spikes survive. Buckets without samples are set to {@code NaN}.
+     *
+     * @return the largest value seen in the window, or {@code NaN} if there was none.
+     */
+    public synchronized double downsample(int series, long fromMs, long toMs, double[] min, double[] max) {
+        int buckets = min.length;
+        Arrays.fill(min, Double.NaN);
+        Arrays.fill(max, Double.NaN);
+        double peak = Double.NaN;
+        long span = toMs - fromMs;
+        if (buckets == 0 || span <= 0) {
+            return peak;
+        }
+        float[] seriesValues = values[series];
+        for (int i = 0; i < size; i++) {
+            int slot = (head + i) % timestamps.length;
+            long time = timestamps[slot];
+            float value = seriesValues[slot];
+            if (time < fromMs || time >= toMs || Float.isNaN(value)) {
+                continue;
+            }
+            int bucket = (int) ((time - fromMs) * buckets / span);
+            if (Double.isNaN(min[bucket]) || value < min[bucket]) {
+                min[bucket] = value;
+            }
+            if (Double.isNaN(max[bucket]) || value > max[bucket]) {
+                max[bucket] = value;
+            }
+            if (Double.isNaN(peak) || value > peak) {
+                peak = value;
+            }
+        }
+        return peak;
+    }
+
+    public synchronized void clear() {
+        head = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,41 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import java.util.Map;
+
+/**
+ * Stats histories by container ID. Holds at most {@code maxContainers} histories of a fixed capacity,
+ * evicting the least recently used, so its memory use never exceeds
+ * {@code maxContainers * capacity * StatsHistory.BYTES_PER_SAMPLE}.
+ */
+public final class StatsHistoryStore {
+    /** One hour at one sample per second. */
+    public static final int DEFAULT_CAPACITY = 3600;
+    public static final int DEFAULT_MAX_CONTAINERS = 200;
+
+    private final int capacity;
+    private final Map<String, StatsHistory> histories;
+
+    public StatsHistoryStore() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_CONTAINERS);
+    }
+
+    public StatsHistoryStore(int capacity, int maxContainers) {
+        this.capacity = capacity;
+        this.histories = new LruMap<>(maxContainers);
+    }
+
+    /**
+     * Returns the container's history, creating an empty one if needed.
+     */
+    public synchronized StatsHistory get(String containerId) {
+        return histories.computeIfAbsent(containerId, id -> new StatsHistory(capacity));
+    }
+
+    public synchronized int size() {
+        return histories.size();
+    }
+
+    public synchronized void clear() {
+        histories.clear();
+    }
+}
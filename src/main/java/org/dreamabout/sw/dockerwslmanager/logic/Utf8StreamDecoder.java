@@ -0,0 +1,117 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streaming UTF-8 decoder for log frames. A multi-byte character split across frames is carried over
+ * and completed by the next frame instead of turning into replacement characters, and decoded text is
+ * handed to a {@link CharSink} straight from one reused buffer, so no String is built per frame.
+ * Malformed input becomes U+FFFD. One decoder per byte stream; not thread-safe.
+ */
+public final class Utf8StreamDecoder {
+
+    /**
+     * Receives decoded text; the array is reused after the call returns.
+     */
+    @FunctionalInterface
+    public interface CharSink {
+        void chars(char[] chars, int offset, int length);
+    }
+
+    public static final int DEFAULT_BUFFER_CHARS = 8192;
+    // Longest UTF-8 sequence, twice: an incomplete tail plus enough new bytes to complete it
+    private static final int CARRY_BYTES = 8;
+
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer carry = ByteBuffer.allocate(CARRY_BYTES);
+    private final CharBuffer chars;
+    private final CharSink sink;
+
+    public Utf8StreamDecoder(CharSink sink) {
+        this(sink, DEFAULT_BUFFER_CHARS);
+    }
+
+    public Utf8StreamDecoder(CharSink sink, int bufferChars) {
+        // Room for at least one surrogate pair, which the decoder writes in one step
+        this.chars = CharBuffer.allocate(Math.max(2, bufferChars));
+        this.sink = sink;
+    }
+
+    public void decode(byte[] bytes) {
+        decode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Decodes the bytes and emits every complete character. A trailing incomplete sequence is kept
+     * for the next call.
+     */
+    public void decode(byte[] bytes, int offset, int length) {
+        int position = offset;
+        int end = offset + length;
+        if (carry.position() > 0) {
+            // Complete the carried sequence first, through the small carry buffer
+            final int carried = carry.position();
+            int taken = Math.min(carry.remaining(), length);
+            carry.put(bytes, offset, taken);
+            carry.flip();
+            decodeAll(carry, false);
+            int consumed = carry.position() - carried;
+            if (consumed < 0) {
+                // Still incomplete: everything taken stays carried
+                carry.compact();
+                emit();
+                return;
+            }
+            carry.clear();
+            position += consumed;
+        }
+        if (position < end) {
+            ByteBuffer input = ByteBuffer.wrap(bytes, position, end - position);
+            decodeAll(input, false);
+            carry.put(input);
+        }
+        emit();
+    }
+
+    /**
+     * Ends the stream: an incomplete trailing sequence becomes U+FFFD and the decoder is ready for a new stream.
+     */
+    public void flush() {
+        carry.flip();
+        decodeAll(carry, true);
+        CoderResult result;
+        do {
+            result = decoder.flush(chars);
+            if (result.isOverflow()) {
+                emit();
+            }
+        } while (result.isOverflow());
+        emit();
+        carry.clear();
+        decoder.reset();
+    }
+
+    private void decodeAll(ByteBuffer input, boolean endOfInput) {
+        CoderResult result;
+        do {
+            result = decoder.decode(input, chars, endOfInput);
+            if (result.isOverflow()) {
+                emit();
+            }
+        } while (result.isOverflow());
+    }
+
+    private void emit() {
+        if (chars.position() > 0) {
+            sink.chars(chars.array(), 0, chars.position());
+            chars.clear();
+        }
+    }
+}
@@ -47,6 +47,15 @@ public class VolumeLogic {
         return grouped;
     }
 
+    /**
+     * Creation time as reported by Docker, or null if unknown. The typed response has no field for it,
+     * so it is read from the raw JSON values.
+     */
+    public String getCreatedAt(InspectVolumeResponse volume) {
+        Object createdAt = volume.getRawValues().get("CreatedAt");
+        return createdAt != null ? createdAt.toString() : null;
+    }
+
     public Set<String> extractVolumeNames(List<InspectVolumeResponse> volumes) {
         if (volumes == null) {
             return Collections.emptySet();
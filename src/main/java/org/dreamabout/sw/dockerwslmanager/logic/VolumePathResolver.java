@@ -3,42 +3,34 @@ package org.dreamabout.sw.dockerwslmanager.logic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 public class VolumePathResolver {
     private static final Logger logger = LoggerFactory.getLogger(VolumePathResolver.class);
 
-    private String wslDistro;
+    public static final String DEFAULT_DISTRO = "docker-desktop-data";
+    private static final String AUTO_DETECT = "auto-detect";
 
+    private final String wslDistro;
+
+    /**
+     * Creates a resolver for a distro. The "auto-detect" setting is resolved by the caller, see
+     * {@code DiscoveryService}; if it is passed here anyway, the Docker Desktop data distro is used.
+     */
     public VolumePathResolver(String wslDistro) {
-        if (wslDistro == null || wslDistro.isEmpty() || wslDistro.equalsIgnoreCase("auto-detect")) {
-            this.wslDistro = detectDefaultDistro();
-        } else {
-            this.wslDistro = wslDistro;
-        }
+        this.wslDistro = isAutoDetect(wslDistro) ? DEFAULT_DISTRO : wslDistro;
     }
 
-    private String detectDefaultDistro() {
-        try {
-            Process process = new ProcessBuilder("wsl", "--list", "--quiet").start();
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_16LE))) {
-                String line = reader.readLine();
-                if (line != null && !line.isEmpty()) {
-                    // The first line of wsl -l -q is the default distro
-                    String distro = line.trim();
-                    logger.info("Auto-detected default WSL distro: {}", distro);
-                    return distro;
-                }
-            }
-        } catch (Exception e) {
-            logger.warn("Failed to auto-detect WSL distro, falling back to docker-desktop-data", e);
-        }
-        return "docker-desktop-data";
+    /**
+     * Whether a distro setting asks for the default distro to be detected.
+     */
+    public static boolean isAutoDetect(String wslDistro) {
+        return wslDistro == null || wslDistro.isEmpty() || wslDistro.equalsIgnoreCase(AUTO_DETECT);
+    }
+
+    public String getWslDistro() {
+        return wslDistro;
     }
 
     /**
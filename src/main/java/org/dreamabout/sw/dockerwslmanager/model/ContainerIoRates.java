@@ -0,0 +1,40 @@
+package org.dreamabout.sw.dockerwslmanager.model;
+
+import java.util.List;
+
+/**
+ * Network and block I/O rates of a container, in total and broken down per interface and per device.
+ */
+public class ContainerIoRates {
+    private final IoRates network;
+    private final IoRates disk;
+    private final List<IoRates> interfaces;
+    private final List<IoRates> devices;
+
+    public ContainerIoRates(IoRates network, IoRates disk, List<IoRates> interfaces, List<IoRates> devices) {
+        this.network = network;
+        this.disk = disk;
+        this.interfaces = List.copyOf(interfaces);
+        this.devices = List.copyOf(devices);
+    }
+
+    public static ContainerIoRates unknown() {
+        return new ContainerIoRates(IoRates.unknown("network"), IoRates.unknown("disk"), List.of(), List.of());
+    }
+
+    public IoRates getNetwork() {
+        return network;
+    }
+
+    public IoRates getDisk() {
+        return disk;
+    }
+
+    public List<IoRates> getInterfaces() {
+        return interfaces;
+    }
+
+    public List<IoRates> getDevices() {
+        return devices;
+    }
+}
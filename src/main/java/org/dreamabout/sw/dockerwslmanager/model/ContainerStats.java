@@ -1,5 +1,7 @@
 package org.dreamabout.sw.dockerwslmanager.model;
 
+import java.util.List;
+
 /**
  * Model representing container resource consumption statistics.
  */
@@ -12,10 +14,22 @@ public class ContainerStats {
     private final long networkWriteBytes;
     private final long diskReadBytes;
     private final long diskWriteBytes;
+    private final List<IoCounters> networkInterfaces;
+    private final List<IoCounters> blockDevices;
+    private final ContainerIoRates ioRates;
 
     @SuppressWarnings("java:S107")
     public ContainerStats(String containerId, double cpuPercentage, long memoryUsage, long memoryLimit,
                           long networkReadBytes, long networkWriteBytes, long diskReadBytes, long diskWriteBytes) {
+        this(containerId, cpuPercentage, memoryUsage, memoryLimit, networkReadBytes, networkWriteBytes,
+                diskReadBytes, diskWriteBytes, List.of(), List.of(), ContainerIoRates.unknown());
+    }
+
+    @SuppressWarnings("java:S107")
+    public ContainerStats(String containerId, double cpuPercentage, long memoryUsage, long memoryLimit,
+                          long networkReadBytes, long networkWriteBytes, long diskReadBytes, long diskWriteBytes,
+                          List<IoCounters> networkInterfaces, List<IoCounters> blockDevices,
+                          ContainerIoRates ioRates) {
         this.containerId = containerId;
         this.cpuPercentage = cpuPercentage;
         this.memoryUsage = memoryUsage;
@@ -24,6 +38,9 @@ public class ContainerStats {
         this.networkWriteBytes = networkWriteBytes;
         this.diskReadBytes = diskReadBytes;
         this.diskWriteBytes = diskWriteBytes;
+        this.networkInterfaces = List.copyOf(networkInterfaces);
+        this.blockDevices = List.copyOf(blockDevices);
+        this.ioRates = ioRates;
     }
 
     public String getContainerId() {
@@ -57,4 +74,19 @@ public class ContainerStats {
     public long getDiskWriteBytes() {
         return diskWriteBytes;
     }
+
+    public List<IoCounters> getNetworkInterfaces() {
+        return networkInterfaces;
+    }
+
+    public List<IoCounters> getBlockDevices() {
+        return blockDevices;
+    }
+
+    /**
+     * Rates since the previous sample of this container; unknown for the first sample.
+     */
+    public ContainerIoRates getIoRates() {
+        return ioRates;
+    }
 }
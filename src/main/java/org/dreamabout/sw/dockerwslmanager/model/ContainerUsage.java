@@ -0,0 +1,54 @@
+package org.dreamabout.sw.dockerwslmanager.model;
+
+/**
+ * Point-in-time resource usage of a container as shown in the containers table.
+ * Network figures are rates in bytes per second, or {@link #UNKNOWN} until two samples are available.
+ */
+public class ContainerUsage {
+    public static final long UNKNOWN = -1;
+
+    private final String containerId;
+    private final double cpuPercentage;
+    private final long memoryUsage;
+    private final long memoryLimit;
+    private final long networkReadRate;
+    private final long networkWriteRate;
+
+    public ContainerUsage(String containerId, double cpuPercentage, long memoryUsage, long memoryLimit,
+                          long networkReadRate, long networkWriteRate) {
+        this.containerId = containerId;
+        this.cpuPercentage = cpuPercentage;
+        this.memoryUsage = memoryUsage;
+        this.memoryLimit = memoryLimit;
+        this.networkReadRate = networkReadRate;
+        this.networkWriteRate = networkWriteRate;
+    }
+
+    public String getContainerId() {
+        return containerId;
+    }
+
+    public double getCpuPercentage() {
+        return cpuPercentage;
+    }
+
+    public long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    public long getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    public long getNetworkReadRate() {
+        return networkReadRate;
+    }
+
+    public long getNetworkWriteRate() {
+        return networkWriteRate;
+    }
+
+    public boolean hasNetworkRates() {
+        return networkReadRate != UNKNOWN && networkWriteRate != UNKNOWN;
+    }
+}
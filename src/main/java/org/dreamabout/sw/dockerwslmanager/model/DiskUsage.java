@@ -0,0 +1,358 @@
+package org.dreamabout.sw.dockerwslmanager.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of {@code docker system df -v}: every image, container, volume and build cache record
+ * with its size, plus per-category totals computed the way {@code docker system df} does.
+ */
+public class DiskUsage {
+    private static final int SHORT_ID_LENGTH = 12;
+
+    private final List<ImageEntry> images;
+    private final Map<String, ImageEntry> imagesByShortId = new HashMap<>();
+    private final List<ContainerEntry> containers;
+    private final List<VolumeEntry> volumes;
+    private final List<BuildCacheEntry> buildCache;
+
+    public DiskUsage(List<ImageEntry> images, List<ContainerEntry> containers, List<VolumeEntry> volumes,
+                     List<BuildCacheEntry> buildCache) {
+        this.images = List.copyOf(images);
+        this.containers = List.copyOf(containers);
+        this.volumes = List.copyOf(volumes);
+        this.buildCache = List.copyOf(buildCache);
+        for (ImageEntry image : this.images) {
+            if (image.getId() != null) {
+                imagesByShortId.put(shortId(image.getId()), image);
+            }
+        }
+    }
+
+    /**
+     * Finds an image by ID in any of the forms Docker uses: full or truncated, with or without "sha256:".
+     */
+    public ImageEntry findImage(String imageId) {
+        return imageId == null ? null : imagesByShortId.get(shortId(imageId));
+    }
+
+    private static String shortId(String imageId) {
+        String hex = imageId.startsWith("sha256:") ? imageId.substring("sha256:".length()) : imageId;
+        return hex.length() > SHORT_ID_LENGTH ? hex.substring(0, SHORT_ID_LENGTH) : hex;
+    }
+
+    public List<ImageEntry> getImages() {
+        return images;
+    }
+
+    public List<ContainerEntry> getContainers() {
+        return containers;
+    }
+
+    public List<VolumeEntry> getVolumes() {
+        return volumes;
+    }
+
+    public List<BuildCacheEntry> getBuildCache() {
+        return buildCache;
+    }
+
+    /**
+     * Images in use by at least one container are active. Only unique sizes are summed, since layers
+     * shared between images would otherwise be counted once per image; removing an unused image
+     * frees its unique size.
+     */
+    public Summary getImagesSummary() {
+        long size = 0;
+        long reclaimable = 0;
+        int active = 0;
+        for (ImageEntry image : images) {
+            size += image.getUniqueSize();
+            if (image.getContainers() > 0) {
+                active++;
+            } else {
+                reclaimable += image.getUniqueSize();
+            }
+        }
+        return new Summary("Images", images.size(), active, size, reclaimable);
+    }
+
+    /**
+     * Running containers are active; the writable layers of all others are reclaimable.
+     */
+    public Summary getContainersSummary() {
+        long size = 0;
+        long reclaimable = 0;
+        int active = 0;
+        for (ContainerEntry container : containers) {
+            size += container.getSize();
+            if (container.isRunning()) {
+                active++;
+            } else {
+                reclaimable += container.getSize();
+            }
+        }
+        return new Summary("Containers", containers.size(), active, size, reclaimable);
+    }
+
+    /**
+     * Volumes referenced by at least one container are active.
+     */
+    public Summary getVolumesSummary() {
+        long size = 0;
+        long reclaimable = 0;
+        int active = 0;
+        for (VolumeEntry volume : volumes) {
+            size += volume.getSize();
+            if (volume.getLinks() > 0) {
+                active++;
+            } else {
+                reclaimable += volume.getSize();
+            }
+        }
+        return new Summary("Local Volumes", volumes.size(), active, size, reclaimable);
+    }
+
+    /**
+     * Records in use by a running build are active. Shared records are left out of both totals,
+     * as their space belongs to other records too.
+     */
+    public Summary getBuildCacheSummary() {
+        long size = 0;
+        long reclaimable = 0;
+        int active = 0;
+        for (BuildCacheEntry entry : buildCache) {
+            if (entry.isInUse()) {
+                active++;
+            }
+            if (!entry.isShared()) {
+                size += entry.getSize();
+                if (!entry.isInUse()) {
+                    reclaimable += entry.getSize();
+                }
+            }
+        }
+        return new Summary("Build Cache", buildCache.size(), active, size, reclaimable);
+    }
+
+    public List<Summary> getSummaries() {
+        return List.of(getImagesSummary(), getContainersSummary(), getVolumesSummary(), getBuildCacheSummary());
+    }
+
+    /**
+     * One row of the {@code docker system df} overview.
+     */
+    public static class Summary {
+        private final String type;
+        private final int totalCount;
+        private final int active;
+        private final long size;
+        private final long reclaimable;
+
+        public Summary(String type, int totalCount, int active, long size, long reclaimable) {
+            this.type = type;
+            this.totalCount = totalCount;
+            this.active = active;
+            this.size = size;
+            this.reclaimable = reclaimable;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public int getTotalCount() {
+            return totalCount;
+        }
+
+        public int getActive() {
+            return active;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getReclaimable() {
+            return reclaimable;
+        }
+    }
+
+    public static class ImageEntry {
+        private final String id;
+        private final String repository;
+        private final String tag;
+        private final long size;
+        private final long sharedSize;
+        private final long uniqueSize;
+        private final int containers;
+
+        public ImageEntry(String id, String repository, String tag, long size, long sharedSize, long uniqueSize,
+                          int containers) {
+            this.id = id;
+            this.repository = repository;
+            this.tag = tag;
+            this.size = size;
+            this.sharedSize = sharedSize;
+            this.uniqueSize = uniqueSize;
+            this.containers = containers;
+        }
+
+        /**
+         * Image ID as printed by the CLI, usually truncated to 12 hex digits.
+         */
+        public String getId() {
+            return id;
+        }
+
+        public String getRepository() {
+            return repository;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getSharedSize() {
+            return sharedSize;
+        }
+
+        public long getUniqueSize() {
+            return uniqueSize;
+        }
+
+        public int getContainers() {
+            return containers;
+        }
+    }
+
+    public static class ContainerEntry {
+        private final String id;
+        private final String names;
+        private final String image;
+        private final long size;
+        private final String status;
+
+        public ContainerEntry(String id, String names, String image, long size, String status) {
+            this.id = id;
+            this.names = names;
+            this.image = image;
+            this.size = size;
+            this.status = status;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getNames() {
+            return names;
+        }
+
+        public String getImage() {
+            return image;
+        }
+
+        /**
+         * Size of the writable layer.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public boolean isRunning() {
+            return status != null && status.startsWith("Up");
+        }
+    }
+
+    public static class VolumeEntry {
+        private final String name;
+        private final int links;
+        private final long size;
+
+        public VolumeEntry(String name, int links, long size) {
+            this.name = name;
+            this.links = links;
+            this.size = size;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Number of containers referencing the volume.
+         */
+        public int getLinks() {
+            return links;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+
+    public static class BuildCacheEntry {
+        private final String id;
+        private final String cacheType;
+        private final String description;
+        private final long size;
+        private final String lastUsedSince;
+        private final int usageCount;
+        private final boolean inUse;
+        private final boolean shared;
+
+        public BuildCacheEntry(String id, String cacheType, String description, long size, String lastUsedSince,
+                               int usageCount, boolean inUse, boolean shared) {
+            this.id = id;
+            this.cacheType = cacheType;
+            this.description = description;
+            this.size = size;
+            this.lastUsedSince = lastUsedSince;
+            this.usageCount = usageCount;
+            this.inUse = inUse;
+            this.shared = shared;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getCacheType() {
+            return cacheType;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getLastUsedSince() {
+            return lastUsedSince;
+        }
+
+        public int getUsageCount() {
+            return usageCount;
+        }
+
+        public boolean isInUse() {
+            return inUse;
+        }
+
+        public boolean isShared() {
+            return shared;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.dreamabout.sw.dockerwslmanager.model;
+
+/**
+ * Outcome of pinging one Docker endpoint: its best round-trip time, or why it could not be reached.
+ */
+public class EndpointProbe {
+    private final String dockerHost;
+    private final long latencyNanos;
+    private final String error;
+
+    private EndpointProbe(String dockerHost, long latencyNanos, String error) {
+        this.dockerHost = dockerHost;
+        this.latencyNanos = latencyNanos;
+        this.error = error;
+    }
+
+    public static EndpointProbe reachable(String dockerHost, long latencyNanos) {
+        return new EndpointProbe(dockerHost, latencyNanos, null);
+    }
+
+    public static EndpointProbe unreachable(String dockerHost, String error) {
+        return new EndpointProbe(dockerHost, -1, error);
+    }
+
+    /**
+     * Scheme of a Docker host URI, e.g. "unix", "npipe" or "tcp".
+     */
+    public static String transportOf(String dockerHost) {
+        int colon = dockerHost.indexOf("://");
+        return colon > 0 ? dockerHost.substring(0, colon) : "tcp";
+    }
+
+    public String getDockerHost() {
+        return dockerHost;
+    }
+
+    public String getTransport() {
+        return transportOf(dockerHost);
+    }
+
+    public boolean isReachable() {
+        return error == null;
+    }
+
+    /**
+     * Best ping round-trip time, or -1 when unreachable.
+     */
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return isReachable()
+                ? String.format("%s %.2f ms", dockerHost, latencyNanos / 1_000_000.0)
+                : dockerHost + " unreachable (" + error + ")";
+    }
+}
@@ -0,0 +1,41 @@
+package org.dreamabout.sw.dockerwslmanager.model;
+
+/**
+ * Cumulative I/O counters of one network interface or block device, as reported by the daemon.
+ * For interfaces, read is received and write is transmitted, and operations are packets.
+ */
+public class IoCounters {
+    private final String name;
+    private final long readBytes;
+    private final long writeBytes;
+    private final long readOps;
+    private final long writeOps;
+
+    public IoCounters(String name, long readBytes, long writeBytes, long readOps, long writeOps) {
+        this.name = name;
+        this.readBytes = readBytes;
+        this.writeBytes = writeBytes;
+        this.readOps = readOps;
+        this.writeOps = writeOps;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getReadBytes() {
+        return readBytes;
+    }
+
+    public long getWriteBytes() {
+        return writeBytes;
+    }
+
+    public long getReadOps() {
+        return readOps;
+    }
+
+    public long getWriteOps() {
+        return writeOps;
+    }
+}
@@ -0,0 +1,51 @@
+package org.dreamabout.sw.dockerwslmanager.model;
+
+/**
+ * Per-second I/O rates of a network interface, block device or a whole container, derived from two
+ * consecutive {@link IoCounters}. Rates are {@code NaN} when unknown, i.e. for the first sample and
+ * right after a counter reset.
+ */
+public class IoRates {
+    private final String name;
+    private final double readBytesPerSecond;
+    private final double writeBytesPerSecond;
+    private final double readOpsPerSecond;
+    private final double writeOpsPerSecond;
+
+    public IoRates(String name, double readBytesPerSecond, double writeBytesPerSecond,
+                   double readOpsPerSecond, double writeOpsPerSecond) {
+        this.name = name;
+        this.readBytesPerSecond = readBytesPerSecond;
+        this.writeBytesPerSecond = writeBytesPerSecond;
+        this.readOpsPerSecond = readOpsPerSecond;
+        this.writeOpsPerSecond = writeOpsPerSecond;
+    }
+
+    public static IoRates unknown(String name) {
+        return new IoRates(name, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getReadBytesPerSecond() {
+        return readBytesPerSecond;
+    }
+
+    public double getWriteBytesPerSecond() {
+        return writeBytesPerSecond;
+    }
+
+    public double getReadOpsPerSecond() {
+        return readOpsPerSecond;
+    }
+
+    public double getWriteOpsPerSecond() {
+        return writeOpsPerSecond;
+    }
+
+    public boolean isKnown() {
+        return !Double.isNaN(readBytesPerSecond) && !Double.isNaN(writeBytesPerSecond);
+    }
+}
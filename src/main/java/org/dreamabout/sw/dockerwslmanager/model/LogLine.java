@@ -0,0 +1,107 @@
+package org.dreamabout.sw.dockerwslmanager.model;
+
+import java.util.Arrays;
+
+/**
+ * One rendered log line: its characters plus style runs packed as (offset, length, styleId) triplets,
+ * and the time Docker logged it when the stream carried timestamps.
+ * Lines are immutable once built and the arrays are shared, not copied.
+ */
+public final class LogLine {
+    /** Timestamp of a line that came without one. */
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final int[] NO_RUNS = new int[0];
+
+    private final char[] text;
+    private final int[] runs;
+    private final long timestamp;
+
+    public LogLine(char[] text, int[] runs) {
+        this(text, runs, NO_TIMESTAMP);
+    }
+
+    public LogLine(char[] text, int[] runs, long timestamp) {
+        this.text = text;
+        this.runs = runs != null ? runs : NO_RUNS;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Single-style line, e.g. a status message.
+     */
+    public static LogLine of(String text, int styleId) {
+        char[] chars = text.toCharArray();
+        return new LogLine(chars, chars.length == 0 ? NO_RUNS : new int[]{0, chars.length, styleId});
+    }
+
+    /**
+     * Copies a line out of reusable parser buffers.
+     */
+    public static LogLine copyOf(char[] text, int length, int[] runs, int runsLength) {
+        return new LogLine(Arrays.copyOf(text, length), runsLength == 0 ? NO_RUNS : Arrays.copyOf(runs, runsLength));
+    }
+
+    /**
+     * Copies the characters {@code from} up to {@code length} out of reusable parser buffers, e.g. to drop a
+     * timestamp prefix. Runs are clipped to the copied range.
+     */
+    public static LogLine copyOf(char[] text, int from, int length, int[] runs, int runsLength, long timestamp) {
+        if (from == 0) {
+            return new LogLine(Arrays.copyOf(text, length),
+                    runsLength == 0 ? NO_RUNS : Arrays.copyOf(runs, runsLength), timestamp);
+        }
+        int[] clipped = new int[runsLength];
+        int clippedLength = 0;
+        for (int i = 0; i < runsLength; i += 3) {
+            int start = Math.max(runs[i], from);
+            int end = Math.min(runs[i] + runs[i + 1], length);
+            if (end > start) {
+                clipped[clippedLength++] = start - from;
+                clipped[clippedLength++] = end - start;
+                clipped[clippedLength++] = runs[i + 2];
+            }
+        }
+        return new LogLine(Arrays.copyOfRange(text, from, Math.max(from, length)),
+                clippedLength == 0 ? NO_RUNS : Arrays.copyOf(clipped, clippedLength), timestamp);
+    }
+
+    public int length() {
+        return text.length;
+    }
+
+    public char[] getChars() {
+        return text;
+    }
+
+    public int[] getRuns() {
+        return runs;
+    }
+
+    /**
+     * Epoch nanoseconds Docker logged the line at, or {@link #NO_TIMESTAMP}.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getRunCount() {
+        return runs.length / 3;
+    }
+
+    public int getRunOffset(int run) {
+        return runs[run * 3];
+    }
+
+    public int getRunLength(int run) {
+        return runs[run * 3 + 1];
+    }
+
+    public int getRunStyle(int run) {
+        return runs[run * 3 + 2];
+    }
+
+    @Override
+    public String toString() {
+        return new String(text);
+    }
+}
@@ -0,0 +1,40 @@
+package org.dreamabout.sw.dockerwslmanager.model;
+
+/**
+ * What a log stream does when the view falls behind and its hand-off queue is full.
+ */
+public enum LogOverflowPolicy {
+    /** Stop reading the stream until the view catches up; nothing is lost, the log lags instead. */
+    BLOCK("block"),
+    /** Discard the oldest queued lines, so the view stays current. */
+    DROP_OLDEST("drop-oldest"),
+    /** Keep only every n-th incoming line while full, so a storm stays visible in thinned-out form. */
+    SAMPLE("sample");
+
+    private final String key;
+
+    LogOverflowPolicy(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Name used in settings.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Policy with the given key, ignoring case, or {@code defaultPolicy} if there is none.
+     */
+    public static LogOverflowPolicy fromKey(String key, LogOverflowPolicy defaultPolicy) {
+        if (key != null) {
+            for (LogOverflowPolicy policy : values()) {
+                if (policy.key.equalsIgnoreCase(key.trim())) {
+                    return policy;
+                }
+            }
+        }
+        return defaultPolicy;
+    }
+}
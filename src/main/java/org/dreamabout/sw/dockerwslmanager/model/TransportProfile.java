@@ -0,0 +1,33 @@
+package org.dreamabout.sw.dockerwslmanager.model;
+
+/**
+ * Kinds of Docker API traffic, each served by its own connection pool so that one kind cannot
+ * starve another, e.g. dozens of followed log streams holding every connection a refresh needs.
+ */
+public enum TransportProfile {
+    /** Short request/response calls such as list, inspect, start or ping. */
+    REQUEST("request", new TransportSettings(16, 5, 60)),
+    /** Long-lived streams (logs, stats, events) that hold their connection until closed. */
+    STREAM("stream", new TransportSettings(64, 10, 300)),
+    /** Large transfers such as image pulls; no response timeout by default. */
+    BULK("bulk", new TransportSettings(4, 30, 0));
+
+    private final String key;
+    private final TransportSettings defaults;
+
+    TransportProfile(String key, TransportSettings defaults) {
+        this.key = key;
+        this.defaults = defaults;
+    }
+
+    /**
+     * Name used in settings keys and status text.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public TransportSettings getDefaults() {
+        return defaults;
+    }
+}
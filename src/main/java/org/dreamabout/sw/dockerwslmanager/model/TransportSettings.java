@@ -0,0 +1,7 @@
+package org.dreamabout.sw.dockerwslmanager.model;
+
+/**
+ * Pool size and timeouts of one {@link TransportProfile}. A timeout of zero or less means none.
+ */
+public record TransportSettings(int maxConnections, int connectTimeoutSeconds, int responseTimeoutSeconds) {
+}
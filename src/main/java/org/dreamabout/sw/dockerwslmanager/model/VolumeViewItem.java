@@ -62,8 +62,9 @@ public class VolumeViewItem {
     }
 
     public void setSizeBytes(long sizeBytes) {
-        this.sizeBytes.set(sizeBytes);
+        // The string first, since the size column renders it when the number changes
         this.sizeString.set(FormatUtils.formatSize(sizeBytes));
+        this.sizeBytes.set(sizeBytes);
     }
 
     public String getSizeString() {
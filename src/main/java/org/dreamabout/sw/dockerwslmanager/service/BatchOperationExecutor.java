@@ -0,0 +1,363 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs one blocking Docker operation (start, stop, ...) for each of a set of containers on a fixed
+ * number of worker threads, so a batch takes about as long as its slowest item rather than the sum of all.
+ * Items may declare dependencies; an item only starts once everything it waits for has succeeded, and is
+ * cancelled, along with everything waiting for it, if one of them fails or is cancelled.
+ * Listener callbacks run on worker threads.
+ */
+public final class BatchOperationExecutor implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(BatchOperationExecutor.class);
+
+    public enum Status { PENDING, RUNNING, SUCCEEDED, FAILED, CANCELLED }
+
+    /**
+     * The operation to run for one item, e.g. stopping a container by ID.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        void run(String id) throws InterruptedException;
+    }
+
+    /**
+     * Receives progress of a batch.
+     */
+    public interface Listener {
+        /**
+         * Called whenever an item changes status; {@code error} is set for {@link Status#FAILED}, and is a
+         * {@link DependencyFailedException} for an item cancelled because of one of its dependencies.
+         */
+        void onStatus(String id, Status status, Exception error);
+
+        /**
+         * Called once when every item has succeeded, failed or been cancelled.
+         */
+        void onFinished(Batch batch);
+    }
+
+    /**
+     * Why an item was cancelled without running: an item it waits for, directly or not, failed or was cancelled.
+     */
+    public static final class DependencyFailedException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private final String dependency;
+        private final Status dependencyStatus;
+
+        public DependencyFailedException(String dependency, Status dependencyStatus) {
+            super("Dependency " + dependency + " " + (dependencyStatus == Status.FAILED ? "failed" : "was cancelled"),
+                    null, false, false);
+            this.dependency = dependency;
+            this.dependencyStatus = dependencyStatus;
+        }
+
+        /**
+         * The item whose failure or cancellation this item could not run without.
+         */
+        public String getDependency() {
+            return dependency;
+        }
+
+        public Status getDependencyStatus() {
+            return dependencyStatus;
+        }
+    }
+
+    private final ExecutorService pool;
+    private final int parallelism;
+
+    public BatchOperationExecutor(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(this.parallelism, r -> {
+            Thread thread = new Thread(r, "batch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Starts a batch.
+     *
+     * @param ids       Items in the order they should preferably run.
+     * @param waitsFor  For each item, the items that must finish before it starts; entries for items
+     *                  outside the batch are ignored. If the dependencies form a cycle they are ignored entirely.
+     * @param operation Runs one item.
+     */
+    public Batch submit(List<String> ids, Map<String, Set<String>> waitsFor, Operation operation, Listener listener) {
+        Batch batch = new Batch(ids, waitsFor, operation, listener);
+        batch.start();
+        return batch;
+    }
+
+    @Override
+    public void close() {
+        // Running operations are left to finish; the daemon would complete them anyway
+        pool.shutdown();
+    }
+
+    /**
+     * One submitted batch. Statuses may be read from any thread.
+     */
+    public final class Batch {
+        private final Map<String, Status> statuses = new LinkedHashMap<>();
+        private final Map<String, Set<String>> waiting = new HashMap<>();
+        private final Map<String, List<String>> dependents = new HashMap<>();
+        // Handed to the pool but not picked up by a worker yet; still PENDING and still cancellable
+        private final Set<String> queued = new HashSet<>();
+        private final Operation operation;
+        private final Listener listener;
+        private final long startNanos = System.nanoTime();
+        private int remaining;
+        // Final statuses not yet passed to the listener; onFinished comes after all of them
+        private int unreported;
+        private boolean cancelled;
+        private long elapsedMs = -1;
+
+        Batch(List<String> ids, Map<String, Set<String>> waitsFor, Operation operation, Listener listener) {
+            this.operation = operation;
+            this.listener = listener;
+            for (String id : ids) {
+                statuses.put(id, Status.PENDING);
+            }
+            remaining = statuses.size();
+            unreported = remaining;
+            for (String id : statuses.keySet()) {
+                Set<String> deps = new HashSet<>(waitsFor.getOrDefault(id, Collections.emptySet()));
+                deps.retainAll(statuses.keySet());
+                deps.remove(id);
+                waiting.put(id, deps);
+                for (String dep : deps) {
+                    dependents.computeIfAbsent(dep, d -> new ArrayList<>()).add(id);
+                }
+            }
+            if (hasCycle()) {
+                logger.warn("Dependency cycle in batch, running items without ordering");
+                waiting.values().forEach(Set::clear);
+                dependents.clear();
+            }
+        }
+
+        private boolean hasCycle() {
+            Map<String, Integer> inDegree = new HashMap<>();
+            waiting.forEach((id, deps) -> inDegree.put(id, deps.size()));
+            Deque<String> ready = new ArrayDeque<>();
+            inDegree.forEach((id, degree) -> {
+                if (degree == 0) {
+                    ready.add(id);
+                }
+            });
+            int visited = 0;
+            while (!ready.isEmpty()) {
+                String id = ready.poll();
+                visited++;
+                for (String dependent : dependents.getOrDefault(id, List.of())) {
+                    if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                        ready.add(dependent);
+                    }
+                }
+            }
+            return visited < inDegree.size();
+        }
+
+        void start() {
+            List<String> ready = new ArrayList<>();
+            boolean empty;
+            synchronized (this) {
+                // Keep the caller's order among items that are ready at the same time
+                for (String id : statuses.keySet()) {
+                    if (waiting.get(id).isEmpty()) {
+                        ready.add(id);
+                    }
+                }
+                queued.addAll(ready);
+                empty = remaining == 0;
+            }
+            ready.forEach(this::launch);
+            if (empty) {
+                finish();
+            }
+        }
+
+        private void launch(String id) {
+            try {
+                pool.execute(() -> {
+                    boolean skip;
+                    synchronized (this) {
+                        queued.remove(id);
+                        skip = cancelled;
+                        if (!skip) {
+                            statuses.put(id, Status.RUNNING);
+                        }
+                    }
+                    if (skip) {
+                        completed(id, Status.CANCELLED, null);
+                        return;
+                    }
+                    listener.onStatus(id, Status.RUNNING, null);
+                    try {
+                        operation.run(id);
+                        completed(id, Status.SUCCEEDED, null);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        completed(id, Status.FAILED, e);
+                    } catch (RuntimeException e) {
+                        completed(id, Status.FAILED, e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // The executor was closed while the batch was still running
+                synchronized (this) {
+                    queued.remove(id);
+                }
+                completed(id, Status.FAILED, e);
+            }
+        }
+
+        private void completed(String id, Status status, Exception error) {
+            List<String> ready = new ArrayList<>();
+            List<String> skipped = new ArrayList<>();
+            synchronized (this) {
+                statuses.put(id, status);
+                remaining--;
+                if (status == Status.SUCCEEDED) {
+                    for (String dependent : dependents.getOrDefault(id, List.of())) {
+                        Set<String> deps = waiting.get(dependent);
+                        deps.remove(id);
+                        if (deps.isEmpty() && !cancelled && statuses.get(dependent) == Status.PENDING) {
+                            queued.add(dependent);
+                            ready.add(dependent);
+                        }
+                    }
+                } else {
+                    skipDependents(id, skipped);
+                }
+            }
+            listener.onStatus(id, status, error);
+            for (String dependent : skipped) {
+                listener.onStatus(dependent, Status.CANCELLED, new DependencyFailedException(id, status));
+            }
+            ready.forEach(this::launch);
+            reported(1 + skipped.size());
+        }
+
+        /**
+         * Cancels everything still pending that waits for {@code id}, directly or not. Such items are never
+         * queued, as they still wait for {@code id}.
+         */
+        private void skipDependents(String id, List<String> skipped) {
+            Deque<String> failed = new ArrayDeque<>(List.of(id));
+            while (!failed.isEmpty()) {
+                for (String dependent : dependents.getOrDefault(failed.poll(), List.of())) {
+                    if (statuses.get(dependent) == Status.PENDING) {
+                        statuses.put(dependent, Status.CANCELLED);
+                        remaining--;
+                        skipped.add(dependent);
+                        failed.add(dependent);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Cancels every item that has not started yet. Items already running are allowed to finish,
+         * as interrupting a request does not stop the daemon from carrying it out.
+         */
+        public void cancel() {
+            List<String> cancelledIds = new ArrayList<>();
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                // Queued items are cancelled by the worker that picks them up
+                for (Map.Entry<String, Status> entry : statuses.entrySet()) {
+                    if (entry.getValue() == Status.PENDING && !queued.contains(entry.getKey())) {
+                        entry.setValue(Status.CANCELLED);
+                        cancelledIds.add(entry.getKey());
+                    }
+                }
+                remaining -= cancelledIds.size();
+            }
+            cancelledIds.forEach(id -> listener.onStatus(id, Status.CANCELLED, null));
+            if (!cancelledIds.isEmpty()) {
+                reported(cancelledIds.size());
+            }
+        }
+
+        /**
+         * Finishes the batch once the last final status has been passed to the listener, whichever worker
+         * passed it.
+         */
+        private void reported(int count) {
+            boolean last;
+            synchronized (this) {
+                unreported -= count;
+                last = unreported == 0;
+            }
+            if (last) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            synchronized (this) {
+                elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+            }
+            listener.onFinished(this);
+        }
+
+        public synchronized Map<String, Status> getStatuses() {
+            return new LinkedHashMap<>(statuses);
+        }
+
+        public synchronized int count(Status status) {
+            int count = 0;
+            for (Status s : statuses.values()) {
+                if (s == status) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        public synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        public synchronized boolean isDone() {
+            return remaining == 0;
+        }
+
+        /**
+         * Wall-clock duration of the batch, or -1 while it is still running.
+         */
+        public synchronized long getElapsedMs() {
+            return elapsedMs;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventActor;
+import com.github.dockerjava.api.model.EventType;
+import org.dreamabout.sw.dockerwslmanager.logic.ContainerInventory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps a {@link ContainerInventory} current by subscribing to the Docker events stream.
+ * Each relevant event re-queries only the affected container instead of listing the whole fleet.
+ */
+public class ContainerEventService implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(ContainerEventService.class);
+
+    // Actions that change what the containers table shows (state, status text or name)
+    private static final Set<String> REFRESH_ACTIONS = Set.of(
+            "create", "start", "restart", "die", "stop", "kill", "pause", "unpause", "rename", "update", "oom");
+    private static final String HEALTH_STATUS_PREFIX = "health_status";
+    private static final String DESTROY_ACTION = "destroy";
+
+    private final DockerClient eventsClient;
+    private final DockerClient lookupClient;
+    private final ContainerInventory inventory;
+    private final Runnable onChange;
+    private final ExecutorService lookupExecutor;
+    private volatile ResultCallback.Adapter<Event> callback;
+    private volatile boolean streaming;
+
+    /**
+     * Creates the service without subscribing yet.
+     *
+     * @param eventsClient Client for the long-lived events subscription.
+     * @param lookupClient Client for the short per-event container lookups.
+     */
+    public ContainerEventService(DockerClient eventsClient, DockerClient lookupClient, ContainerInventory inventory,
+                                 Runnable onChange) {
+        this.eventsClient = eventsClient;
+        this.lookupClient = lookupClient;
+        this.inventory = inventory;
+        this.onChange = onChange;
+        this.lookupExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "container-event-lookup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Subscribes to container events. Safe to call again after the stream ended to resubscribe.
+     */
+    public synchronized void start() {
+        if (streaming) {
+            return;
+        }
+        ResultCallback.Adapter<Event> newCallback = new ResultCallback.Adapter<>() {
+            @Override
+            public void onNext(Event event) {
+                lookupExecutor.execute(() -> handleEvent(event));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                streaming = false;
+                logger.warn("Container events stream failed, falling back to polling: {}", throwable.getMessage());
+                super.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                streaming = false;
+                logger.info("Container events stream completed");
+                super.onComplete();
+            }
+        };
+        try {
+            streaming = true;
+            callback = eventsClient.eventsCmd()
+                    .withEventTypeFilter(EventType.CONTAINER)
+                    .exec(newCallback);
+            logger.info("Subscribed to container events");
+        } catch (RuntimeException e) {
+            streaming = false;
+            logger.warn("Failed to subscribe to container events", e);
+        }
+    }
+
+    /**
+     * Whether the events stream is currently delivering updates.
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    void handleEvent(Event event) {
+        if (event == null || event.getType() != EventType.CONTAINER) {
+            return;
+        }
+        String action = event.getAction() != null ? event.getAction() : event.getStatus();
+        EventActor actor = event.getActor();
+        String containerId = actor != null ? actor.getId() : event.getId();
+        if (action == null || containerId == null) {
+            return;
+        }
+
+        boolean changed;
+        if (DESTROY_ACTION.equals(action)) {
+            changed = inventory.remove(containerId);
+        } else if (REFRESH_ACTIONS.contains(action) || action.startsWith(HEALTH_STATUS_PREFIX)) {
+            changed = refreshSingle(containerId);
+        } else {
+            return;
+        }
+
+        if (changed && onChange != null) {
+            onChange.run();
+        }
+    }
+
+    private boolean refreshSingle(String containerId) {
+        try {
+            List<Container> result = lookupClient.listContainersCmd()
+                    .withShowAll(true)
+                    .withIdFilter(Collections.singleton(containerId))
+                    .exec();
+            if (result == null || result.isEmpty()) {
+                return inventory.remove(containerId);
+            }
+            return inventory.upsert(result.get(0));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to re-query container {} after event", containerId, e);
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        streaming = false;
+        ResultCallback.Adapter<Event> current = callback;
+        callback = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (Exception e) {
+                logger.error("Error closing container events stream", e);
+            }
+        }
+        lookupExecutor.shutdownNow();
+    }
+}
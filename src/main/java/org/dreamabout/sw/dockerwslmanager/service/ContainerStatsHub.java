@@ -0,0 +1,251 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import com.github.dockerjava.api.model.Statistics;
+import org.dreamabout.sw.dockerwslmanager.model.ContainerStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Multiplexes container stats streams: at most one Docker stream per container, shared by all subscribers.
+ * Stream callbacks only keep a reference to the newest frame; a single aggregation thread parses a
+ * frame only when some subscriber is due, and hands the parsed sample to every due subscriber.
+ * Subscriber callbacks run on the aggregation thread and must not block.
+ */
+public final class ContainerStatsHub implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(ContainerStatsHub.class);
+    static final long TICK_MS = 250;
+
+    private final ContainerStatsService statsService;
+    private final ScheduledExecutorService aggregator;
+    private final Map<String, Feed> feeds = new HashMap<>();
+    private boolean closed;
+
+    /**
+     * A subscription to one container's stats; closing it releases the stream once nobody else needs it.
+     */
+    public final class Subscription implements Closeable {
+        private final String containerId;
+        private final long intervalMs;
+        private final Consumer<ContainerStats> onStats;
+        private final Runnable onEnd;
+        private long nextDueMs;
+        private long deliveredSequence;
+
+        Subscription(String containerId, long intervalMs, Consumer<ContainerStats> onStats, Runnable onEnd) {
+            this.containerId = containerId;
+            this.intervalMs = intervalMs;
+            this.onStats = onStats;
+            this.onEnd = onEnd;
+        }
+
+        public String getContainerId() {
+            return containerId;
+        }
+
+        @Override
+        public void close() {
+            unsubscribe(this);
+        }
+    }
+
+    private static final class Feed {
+        final List<Subscription> subscriptions = new ArrayList<>();
+        Closeable stream;
+        // Written by the stream callback, read by the aggregation thread
+        final AtomicLong received = new AtomicLong();
+        volatile Statistics latest;
+        // Aggregation thread only, apart from the parse counter read for logging
+        final AtomicLong parses = new AtomicLong();
+        long parsedSequence;
+        ContainerStats parsed;
+    }
+
+    public ContainerStatsHub(ContainerStatsService statsService) {
+        this.statsService = statsService;
+        this.aggregator = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "stats-aggregator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        aggregator.scheduleWithFixedDelay(this::tick, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Subscribes to a container's stats.
+     *
+     * @param intervalMs Minimum time between two samples delivered to this subscriber.
+     * @param onStats    Receives parsed samples on the aggregation thread.
+     * @param onEnd      Called once if the underlying stream completes or fails; may be null.
+     */
+    public Subscription subscribe(String containerId, long intervalMs, Consumer<ContainerStats> onStats,
+                                  Runnable onEnd) {
+        Subscription subscription = new Subscription(containerId, Math.max(intervalMs, TICK_MS), onStats, onEnd);
+        boolean openStream;
+        Feed feed;
+        synchronized (feeds) {
+            if (closed) {
+                throw new IllegalStateException("Stats hub is closed");
+            }
+            feed = feeds.get(containerId);
+            openStream = feed == null;
+            if (openStream) {
+                feed = new Feed();
+                feeds.put(containerId, feed);
+            }
+            feed.subscriptions.add(subscription);
+        }
+        if (openStream) {
+            openStream(containerId, feed);
+        }
+        return subscription;
+    }
+
+    /**
+     * Number of open Docker stats streams.
+     */
+    public int getStreamCount() {
+        synchronized (feeds) {
+            return feeds.size();
+        }
+    }
+
+    private void openStream(String containerId, Feed feed) {
+        Closeable stream = statsService.fetchRawStats(containerId, statistics -> {
+            feed.latest = statistics;
+            feed.received.incrementAndGet();
+        }, () -> endFeed(containerId, feed), throwable -> endFeed(containerId, feed));
+        boolean stillWanted;
+        synchronized (feeds) {
+            stillWanted = feeds.get(containerId) == feed;
+            if (stillWanted) {
+                feed.stream = stream;
+            }
+        }
+        if (!stillWanted) {
+            // Everyone unsubscribed while the stream was being opened
+            closeQuietly(containerId, stream);
+        }
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        Closeable toClose = null;
+        synchronized (feeds) {
+            Feed feed = feeds.get(subscription.containerId);
+            if (feed == null || !feed.subscriptions.remove(subscription)) {
+                return;
+            }
+            if (feed.subscriptions.isEmpty()) {
+                feeds.remove(subscription.containerId);
+                toClose = feed.stream;
+                logger.debug("Closing stats stream for {}: {} frames received, {} parsed",
+                        subscription.containerId, feed.received.get(), feed.parses.get());
+            }
+        }
+        closeQuietly(subscription.containerId, toClose);
+    }
+
+    private void endFeed(String containerId, Feed feed) {
+        List<Subscription> ended;
+        synchronized (feeds) {
+            if (feeds.get(containerId) != feed) {
+                return;
+            }
+            feeds.remove(containerId);
+            ended = new ArrayList<>(feed.subscriptions);
+            feed.subscriptions.clear();
+        }
+        for (Subscription subscription : ended) {
+            if (subscription.onEnd != null) {
+                subscription.onEnd.run();
+            }
+        }
+    }
+
+    /**
+     * One aggregation pass; package-private so tests can drive it without waiting for the scheduler.
+     */
+    void tick() {
+        long now = System.currentTimeMillis();
+        List<String> containerIds;
+        synchronized (feeds) {
+            containerIds = new ArrayList<>(feeds.keySet());
+        }
+        for (String containerId : containerIds) {
+            try {
+                deliver(containerId, now);
+            } catch (RuntimeException e) {
+                logger.error("Error aggregating stats for container {}", containerId, e);
+            }
+        }
+    }
+
+    private void deliver(String containerId, long now) {
+        Feed feed;
+        List<Subscription> due = new ArrayList<>();
+        synchronized (feeds) {
+            feed = feeds.get(containerId);
+            if (feed == null) {
+                return;
+            }
+            for (Subscription subscription : feed.subscriptions) {
+                if (now >= subscription.nextDueMs) {
+                    due.add(subscription);
+                }
+            }
+        }
+        long sequence = feed.received.get();
+        Statistics latest = feed.latest;
+        if (due.isEmpty() || latest == null) {
+            return;
+        }
+
+        // Parse at most once per new frame, however many subscribers are due
+        if (sequence != feed.parsedSequence) {
+            feed.parsed = statsService.parseStatistics(containerId, latest);
+            feed.parsedSequence = sequence;
+            feed.parses.incrementAndGet();
+        }
+        for (Subscription subscription : due) {
+            if (subscription.deliveredSequence == sequence) {
+                continue;
+            }
+            subscription.deliveredSequence = sequence;
+            subscription.nextDueMs = now + subscription.intervalMs;
+            subscription.onStats.accept(feed.parsed);
+        }
+    }
+
+    private static void closeQuietly(String containerId, Closeable stream) {
+        if (stream == null) {
+            return;
+        }
+        try {
+            stream.close();
+        } catch (Exception e) {
+            logger.error("Error closing stats stream for container {}", containerId, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        Map<String, Feed> toClose;
+        synchronized (feeds) {
+            closed = true;
+            toClose = new HashMap<>(feeds);
+            feeds.clear();
+        }
+        toClose.forEach((containerId, feed) -> closeQuietly(containerId, feed.stream));
+        aggregator.shutdownNow();
+    }
+}
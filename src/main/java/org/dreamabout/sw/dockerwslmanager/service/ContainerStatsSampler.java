@@ -0,0 +1,126 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.dreamabout.sw.dockerwslmanager.model.ContainerStats;
+import org.dreamabout.sw.dockerwslmanager.model.ContainerUsage;
+import org.dreamabout.sw.dockerwslmanager.model.IoRates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Periodically samples usage of a changing set of containers with one-shot ({@code --no-stream}) stats
+ * requests, so no stream is held open per container. A round is spread evenly over the interval and runs
+ * on a small fixed pool, which bounds the number of concurrent requests to the daemon. A new round only
+ * starts once the previous one has finished, so a slow daemon stretches rounds instead of queueing them.
+ */
+public final class ContainerStatsSampler implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(ContainerStatsSampler.class);
+    static final long SAMPLE_TIMEOUT_MS = 5000;
+
+    private final ContainerStatsService statsService;
+    private final long intervalMs;
+    private final Consumer<ContainerUsage> onSample;
+    private final ScheduledThreadPoolExecutor pool;
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile List<String> targets = List.of();
+
+    /**
+     * Creates the sampler and starts its rounds; it samples nothing until targets are set.
+     *
+     * @param threads    Maximum number of concurrent stats requests.
+     * @param intervalMs Time between the starts of two rounds.
+     * @param onSample   Receives samples on a pool thread and must not block.
+     */
+    public ContainerStatsSampler(ContainerStatsService statsService, int threads, long intervalMs,
+                                 Consumer<ContainerUsage> onSample) {
+        this(statsService, threads, intervalMs, 0, onSample);
+    }
+
+    /**
+     * Creates the sampler with a delay before the first round; package-private for tests, which drive
+     * sampling directly and must not race the first round.
+     */
+    ContainerStatsSampler(ContainerStatsService statsService, int threads, long intervalMs, long initialDelayMs,
+                          Consumer<ContainerUsage> onSample) {
+        this.statsService = statsService;
+        this.intervalMs = intervalMs;
+        this.onSample = onSample;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ScheduledThreadPoolExecutor(threads, r -> {
+            Thread thread = new Thread(r, "stats-sampler-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.setRemoveOnCancelPolicy(true);
+        pool.scheduleWithFixedDelay(this::startRound, initialDelayMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Replaces the set of containers to sample, e.g. the running containers currently on screen.
+     */
+    public void setTargets(Collection<String> containerIds) {
+        targets = List.copyOf(new LinkedHashSet<>(containerIds));
+    }
+
+    /**
+     * Starts a round unless the previous one is still running; package-private for tests.
+     */
+    void startRound() {
+        List<String> ids = targets;
+        if (ids.isEmpty() || pending.get() > 0) {
+            return;
+        }
+        pending.set(ids.size());
+        long spacing = intervalMs / ids.size();
+        for (int i = 0; i < ids.size(); i++) {
+            String containerId = ids.get(i);
+            pool.schedule(() -> sample(containerId), i * spacing, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Samples one container; package-private for tests.
+     */
+    void sample(String containerId) {
+        try {
+            if (!targets.contains(containerId)) {
+                // Scrolled out of view since the round started
+                return;
+            }
+            ContainerStats stats = statsService.sampleStats(containerId, SAMPLE_TIMEOUT_MS);
+            if (stats != null) {
+                onSample.accept(toUsage(stats));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // Typically the container stopped or was removed since it was listed
+            logger.debug("Could not sample stats for container {}", containerId, e);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    private static ContainerUsage toUsage(ContainerStats stats) {
+        // The stats service derives rates from the container's previous one-shot sample
+        IoRates network = stats.getIoRates().getNetwork();
+        long readRate = network.isKnown() ? Math.round(network.getReadBytesPerSecond()) : ContainerUsage.UNKNOWN;
+        long writeRate = network.isKnown() ? Math.round(network.getWriteBytesPerSecond()) : ContainerUsage.UNKNOWN;
+        return new ContainerUsage(stats.getContainerId(), stats.getCpuPercentage(), stats.getMemoryUsage(),
+                stats.getMemoryLimit(), readRate, writeRate);
+    }
+
+    @Override
+    public void close() {
+        targets = List.of();
+        pool.shutdownNow();
+    }
+}
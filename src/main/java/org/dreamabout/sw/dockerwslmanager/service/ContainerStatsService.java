@@ -3,18 +3,28 @@ package org.dreamabout.sw.dockerwslmanager.service;
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.async.ResultCallback;
 import com.github.dockerjava.api.model.BlkioStatEntry;
+import com.github.dockerjava.api.model.BlkioStatsConfig;
 import com.github.dockerjava.api.model.CpuStatsConfig;
 import com.github.dockerjava.api.model.MemoryStatsConfig;
 import com.github.dockerjava.api.model.StatisticNetworksConfig;
 import com.github.dockerjava.api.model.Statistics;
+import org.dreamabout.sw.dockerwslmanager.logic.IoRateCalculator;
+import org.dreamabout.sw.dockerwslmanager.model.ContainerIoRates;
 import org.dreamabout.sw.dockerwslmanager.model.ContainerStats;
+import org.dreamabout.sw.dockerwslmanager.model.IoCounters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 /**
@@ -23,38 +33,36 @@ import java.util.function.Consumer;
 public class ContainerStatsService {
     private static final Logger logger = LoggerFactory.getLogger(ContainerStatsService.class);
     private final DockerClient dockerClient;
+    // Streams and one-shot samples arrive at different cadences, so each keeps its own previous samples.
+    // ContainerStatsHub holds the only stream per container, so only its frames drive the stream rates.
+    private final IoRateCalculator streamRates = new IoRateCalculator();
+    private final IoRateCalculator sampleRates = new IoRateCalculator();
 
     public ContainerStatsService(DockerClient dockerClient) {
         this.dockerClient = dockerClient;
     }
 
     /**
-     * Starts an asynchronous stream of statistics for the given container.
+     * Starts an asynchronous stream of unparsed statistics frames for the given container.
+     * Lets callers decide whether a frame is worth parsing at all.
      *
-     * @param containerId     The ID of the container.
-     * @param onStatsReceived Callback to be invoked when new stats are available.
-     * @param onComplete      Callback to be invoked when the stream completes.
-     * @param onError         Callback to be invoked when an error occurs.
      * @return A Closeable that can be used to stop the stream.
      */
-    public Closeable fetchStats(String containerId, Consumer<ContainerStats> onStatsReceived, 
-                                Runnable onComplete, Consumer<Throwable> onError) {
+    public Closeable fetchRawStats(String containerId, Consumer<Statistics> onFrame,
+                                   Runnable onComplete, Consumer<Throwable> onError) {
         logger.info("Starting stats stream for container: {}", containerId);
-        return dockerClient.statsCmd(containerId).exec(new ResultCallback<Statistics>() {
+        // Adapter.close() really closes the HTTP stream, so unsubscribing frees the connection
+        return dockerClient.statsCmd(containerId).exec(new ResultCallback.Adapter<Statistics>() {
             @Override
             public void onStart(Closeable closeable) {
+                super.onStart(closeable);
                 logger.debug("Stats stream started for {}", containerId);
             }
 
             @Override
             public void onNext(Statistics statistics) {
                 if (statistics != null) {
-                    try {
-                        ContainerStats parsedStats = parseStatistics(containerId, statistics);
-                        onStatsReceived.accept(parsedStats);
-                    } catch (Exception e) {
-                        logger.error("Error parsing stats for container: {}", containerId, e);
-                    }
+                    onFrame.accept(statistics);
                 }
             }
 
@@ -64,6 +72,7 @@ public class ContainerStatsService {
                 if (onError != null) {
                     onError.accept(throwable);
                 }
+                super.onError(throwable);
             }
 
             @Override
@@ -72,26 +81,54 @@ public class ContainerStatsService {
                 if (onComplete != null) {
                     onComplete.run();
                 }
+                super.onComplete();
             }
 
             @Override
             public void close() throws IOException {
                 logger.debug("Closing stats stream for {}", containerId);
+                super.close();
             }
         });
     }
 
     /**
-     * Starts an asynchronous stream of statistics for the given container with default handlers.
+     * Takes a single stats sample without keeping a stream open ({@code --no-stream}).
+     * The daemon needs about one second to fill in the previous CPU reading, so this blocks the caller.
+     *
+     * @return The parsed sample, or null if none arrived within the timeout.
      */
-    public Closeable fetchStats(String containerId, Consumer<ContainerStats> onStatsReceived) {
-        return fetchStats(containerId, onStatsReceived, null, null);
+    public ContainerStats sampleStats(String containerId, long timeoutMs) throws InterruptedException {
+        AtomicReference<Statistics> frame = new AtomicReference<>();
+        ResultCallback.Adapter<Statistics> callback = new ResultCallback.Adapter<>() {
+            @Override
+            public void onNext(Statistics statistics) {
+                if (statistics != null) {
+                    frame.compareAndSet(null, statistics);
+                }
+            }
+        };
+        try (callback) {
+            dockerClient.statsCmd(containerId).withNoStream(true).exec(callback);
+            if (!callback.awaitCompletion(timeoutMs, TimeUnit.MILLISECONDS)) {
+                logger.debug("Stats sample for {} timed out after {} ms", containerId, timeoutMs);
+            }
+        } catch (IOException e) {
+            logger.debug("Error closing stats sample for {}", containerId, e);
+        }
+        Statistics statistics = frame.get();
+        return statistics != null ? parseStatistics(containerId, statistics, sampleRates) : null;
     }
 
     /**
-     * Parses Docker Statistics into our internal ContainerStats model.
+     * Parses Docker Statistics of a container's stream into our internal ContainerStats model. Rates are taken
+     * against the previous frame parsed for the container, so only the one consumer of its stream may call this.
      */
     public ContainerStats parseStatistics(String containerId, Statistics stats) {
+        return parseStatistics(containerId, stats, streamRates);
+    }
+
+    private ContainerStats parseStatistics(String containerId, Statistics stats, IoRateCalculator ioRateCalculator) {
         long memUsage = 0L;
         long memLimit = 0L;
         MemoryStatsConfig mem = stats.getMemoryStats();
@@ -106,49 +143,97 @@ public class ContainerStatsService {
             }
         }
 
+        List<IoCounters> interfaces = parseNetworks(stats.getNetworks());
+        List<IoCounters> devices = parseBlockDevices(stats.getBlkioStats());
         long netRead = 0L;
         long netWrite = 0L;
-        Map<String, StatisticNetworksConfig> networks = stats.getNetworks();
-        if (networks != null) {
-            for (StatisticNetworksConfig net : networks.values()) {
-                if (net != null) {
-                    Long rx = net.getRxBytes();
-                    if (rx != null) {
-                        netRead += rx;
-                    }
-                    Long tx = net.getTxBytes();
-                    if (tx != null) {
-                        netWrite += tx;
-                    }
-                }
-            }
+        for (IoCounters counters : interfaces) {
+            netRead += counters.getReadBytes();
+            netWrite += counters.getWriteBytes();
         }
-
         long diskRead = 0L;
         long diskWrite = 0L;
-        if (stats.getBlkioStats() != null) {
-            List<BlkioStatEntry> ioBytes = stats.getBlkioStats().getIoServiceBytesRecursive();
-            if (ioBytes != null) {
-                for (BlkioStatEntry bio : ioBytes) {
-                    if (bio != null && bio.getOp() != null) {
-                        if ("Read".equalsIgnoreCase(bio.getOp())) {
-                            Long val = bio.getValue();
-                            if (val != null) {
-                                diskRead += val;
-                            }
-                        } else if ("Write".equalsIgnoreCase(bio.getOp())) {
-                            Long val = bio.getValue();
-                            if (val != null) {
-                                diskWrite += val;
-                            }
-                        }
-                    }
-                }
-            }
+        for (IoCounters counters : devices) {
+            diskRead += counters.getReadBytes();
+            diskWrite += counters.getWriteBytes();
         }
+        ContainerIoRates rates = ioRateCalculator.update(containerId, sampleTime(stats), interfaces, devices);
 
         double cpuPercent = calculateCpuPercent(stats);
-        return new ContainerStats(containerId, cpuPercent, memUsage, memLimit, netRead, netWrite, diskRead, diskWrite);
+        return new ContainerStats(containerId, cpuPercent, memUsage, memLimit, netRead, netWrite, diskRead, diskWrite,
+                interfaces, devices, rates);
+    }
+
+    private static List<IoCounters> parseNetworks(Map<String, StatisticNetworksConfig> networks) {
+        if (networks == null) {
+            return List.of();
+        }
+        List<IoCounters> result = new ArrayList<>(networks.size());
+        for (Map.Entry<String, StatisticNetworksConfig> entry : new TreeMap<>(networks).entrySet()) {
+            StatisticNetworksConfig net = entry.getValue();
+            if (net != null) {
+                result.add(new IoCounters(entry.getKey(), valueOf(net.getRxBytes()), valueOf(net.getTxBytes()),
+                        valueOf(net.getRxPackets()), valueOf(net.getTxPackets())));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Groups the blkio byte and operation counters by device (major:minor). Covers both the cgroup v1
+     * ("Read"/"Write") and v2 ("read"/"write") spelling of the operations.
+     */
+    private static List<IoCounters> parseBlockDevices(BlkioStatsConfig blkio) {
+        if (blkio == null) {
+            return List.of();
+        }
+        Map<String, long[]> byDevice = new TreeMap<>();
+        addBlkioEntries(byDevice, blkio.getIoServiceBytesRecursive(), 0);
+        addBlkioEntries(byDevice, blkio.getIoServicedRecursive(), 2);
+        List<IoCounters> result = new ArrayList<>(byDevice.size());
+        byDevice.forEach((device, v) -> result.add(new IoCounters(device, v[0], v[1], v[2], v[3])));
+        return result;
+    }
+
+    private static void addBlkioEntries(Map<String, long[]> byDevice, List<BlkioStatEntry> entries, int offset) {
+        if (entries == null) {
+            return;
+        }
+        for (BlkioStatEntry bio : entries) {
+            if (bio == null || bio.getOp() == null) {
+                continue;
+            }
+            int index;
+            if ("Read".equalsIgnoreCase(bio.getOp())) {
+                index = offset;
+            } else if ("Write".equalsIgnoreCase(bio.getOp())) {
+                index = offset + 1;
+            } else {
+                continue;
+            }
+            String device = valueOf(bio.getMajor()) + ":" + valueOf(bio.getMinor());
+            byDevice.computeIfAbsent(device, d -> new long[4])[index] += valueOf(bio.getValue());
+        }
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * When the daemon read the counters; rates must use this rather than the arrival time,
+     * as frames can queue up on a slow connection.
+     */
+    private static long sampleTime(Statistics stats) {
+        String read = stats.getRead();
+        if (read != null && !read.startsWith("0001-")) {
+            try {
+                return Instant.parse(read).toEpochMilli();
+            } catch (DateTimeParseException e) {
+                logger.debug("Unparseable stats timestamp: {}", read);
+            }
+        }
+        return System.currentTimeMillis();
     }
 
     private double calculateCpuPercent(Statistics stats) {
@@ -0,0 +1,216 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Discovers the WSL environment: the VM's IP address ({@code wsl hostname -I}) and the default
+ * distro ({@code wsl --list --quiet}). Both commands are slow while WSL cold-starts, so they run in
+ * parallel in the background, and the last known-good endpoint and distro are kept in
+ * {@code ~/.docker-wsl-manager/discovery.properties} for the next launch to start from.
+ */
+public final class DiscoveryService implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(DiscoveryService.class);
+    private static final String ENDPOINT_KEY = "endpoint";
+    private static final String DISTRO_KEY = "distro";
+    private static final long WAIT_SECONDS = 10;
+
+    /**
+     * Runs a command and returns the first line it prints, or null if it printed nothing.
+     */
+    @FunctionalInterface
+    interface CommandRunner {
+        String firstLine(Charset charset, String... command) throws IOException, InterruptedException;
+    }
+
+    private final Path file;
+    private final CommandRunner runner;
+    private final boolean wslAvailable;
+    private final Properties cache = new Properties();
+    private final ExecutorService pool;
+    private volatile CompletableFuture<String> wslIp = CompletableFuture.completedFuture(null);
+    private volatile CompletableFuture<String> defaultDistro = CompletableFuture.completedFuture(null);
+
+    public DiscoveryService() {
+        this(Path.of(System.getProperty("user.home"), ".docker-wsl-manager", "discovery.properties"),
+                DiscoveryService::runFirstLine, System.getProperty("os.name", "").startsWith("Windows"));
+    }
+
+    DiscoveryService(Path file, CommandRunner runner, boolean wslAvailable) {
+        this.file = file;
+        this.runner = runner;
+        this.wslAvailable = wslAvailable;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(2, r -> {
+            Thread thread = new Thread(r, "discovery-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        load();
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            cache.load(reader);
+        } catch (IOException e) {
+            logger.warn("Failed to read discovery cache {}", file, e);
+        }
+    }
+
+    /**
+     * Starts both WSL probes at once. Does nothing where there is no WSL.
+     */
+    public synchronized void start() {
+        if (!wslAvailable) {
+            return;
+        }
+        wslIp = CompletableFuture.supplyAsync(() -> parseWslIp(run(StandardCharsets.UTF_8,
+                "wsl", "hostname", "-I")), pool);
+        // wsl.exe prints its own output in UTF-16LE
+        defaultDistro = CompletableFuture.supplyAsync(() -> parseDistro(run(StandardCharsets.UTF_16LE,
+                "wsl", "--list", "--quiet")), pool);
+        defaultDistro.thenAccept(distro -> {
+            if (distro != null) {
+                logger.info("Auto-detected default WSL distro: {}", distro);
+                remember(DISTRO_KEY, distro);
+            }
+        });
+    }
+
+    private String run(Charset charset, String... command) {
+        long start = System.nanoTime();
+        try {
+            String line = runner.firstLine(charset, command);
+            logger.debug("'{}' took {} ms", String.join(" ", command), (System.nanoTime() - start) / 1_000_000);
+            return line;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (IOException e) {
+            logger.warn("Failed to run '{}'", String.join(" ", command), e);
+            return null;
+        }
+    }
+
+    /**
+     * First address printed by {@code hostname -I}, which may print several.
+     */
+    static String parseWslIp(String line) {
+        if (line == null || line.isBlank()) {
+            return null;
+        }
+        return line.trim().split("\\s+")[0];
+    }
+
+    /**
+     * The default distro is the first line of {@code wsl --list --quiet}.
+     */
+    static String parseDistro(String line) {
+        if (line == null) {
+            return null;
+        }
+        String distro = line.replace("\uFEFF", "").replace("\0", "").trim();
+        return distro.isEmpty() ? null : distro;
+    }
+
+    /**
+     * Completes with the detected default distro, or null if there is none.
+     */
+    public CompletableFuture<String> getDefaultDistro() {
+        // A copy, so callers cannot complete the probe's own future
+        return defaultDistro.copy();
+    }
+
+    /**
+     * Waits for the WSL IP probe; null if there is no WSL, the probe failed or it took too long.
+     */
+    public String awaitWslIp() {
+        try {
+            return wslIp.get(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("WSL IP discovery did not complete", e);
+            return null;
+        }
+    }
+
+    /**
+     * Docker host of the last successful connection, or null on first launch.
+     */
+    public String getCachedEndpoint() {
+        return cache.getProperty(ENDPOINT_KEY);
+    }
+
+    /**
+     * Default distro detected on a previous launch, or null.
+     */
+    public String getCachedDistro() {
+        return cache.getProperty(DISTRO_KEY);
+    }
+
+    public void rememberEndpoint(String dockerHost) {
+        remember(ENDPOINT_KEY, dockerHost);
+    }
+
+    private synchronized void remember(String key, String value) {
+        if (Objects.equals(cache.getProperty(key), value)) {
+            return;
+        }
+        cache.setProperty(key, value);
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                cache.store(writer, "Last known-good Docker discovery results");
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to write discovery cache {}", file, e);
+        }
+    }
+
+    private static String runFirstLine(Charset charset, String... command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try (InputStream in = process.getInputStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset))) {
+            String line = reader.readLine();
+            return process.waitFor() == 0 ? line : null;
+        } finally {
+            process.destroy();
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,186 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.dreamabout.sw.dockerwslmanager.logic.DockerSizes;
+import org.dreamabout.sw.dockerwslmanager.model.DiskUsage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs {@code docker system df -v} and reads its JSON output into a {@link DiskUsage}.
+ * The output is parsed as a token stream straight from the process, without buffering it or
+ * building a tree, and sizes are decoded from the parser's character buffer.
+ */
+public class DiskUsageService {
+    private static final Logger logger = LoggerFactory.getLogger(DiskUsageService.class);
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * Fetches disk usage using 'wsl docker system df -v --format "{{json .}}"'.
+     *
+     * @throws IOException if the command cannot be run, fails or prints something unexpected.
+     */
+    public DiskUsage fetchDiskUsage() throws IOException, InterruptedException {
+        logger.info("Executing 'wsl docker system df -v' to fetch disk usage...");
+        Process process = new ProcessBuilder("wsl", "docker", "system", "df", "-v", "--format", "{{json .}}")
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            DiskUsage usage;
+            try (InputStream in = process.getInputStream()) {
+                usage = parse(in);
+            }
+            int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                throw new IOException("'docker system df' failed with exit code: " + exitCode);
+            }
+            logger.info("Fetched disk usage: {} images, {} containers, {} volumes, {} build cache records",
+                    usage.getImages().size(), usage.getContainers().size(), usage.getVolumes().size(),
+                    usage.getBuildCache().size());
+            return usage;
+        } finally {
+            process.destroy();
+        }
+    }
+
+    /**
+     * Parses the JSON object printed by {@code docker system df -v --format "{{json .}}"}.
+     * Unknown fields are skipped; missing sections are empty.
+     */
+    public DiskUsage parse(InputStream in) throws IOException {
+        List<DiskUsage.ImageEntry> images = new ArrayList<>();
+        List<DiskUsage.ContainerEntry> containers = new ArrayList<>();
+        List<DiskUsage.VolumeEntry> volumes = new ArrayList<>();
+        List<DiskUsage.BuildCacheEntry> buildCache = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("'docker system df' did not print a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String section = parser.currentName();
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    switch (section) {
+                        case "Images" -> images.add(parseImage(parser));
+                        case "Containers" -> containers.add(parseContainer(parser));
+                        case "Volumes" -> volumes.add(parseVolume(parser));
+                        case "BuildCache" -> buildCache.add(parseBuildCache(parser));
+                        default -> parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return new DiskUsage(images, containers, volumes, buildCache);
+    }
+
+    private static DiskUsage.ImageEntry parseImage(JsonParser parser) throws IOException {
+        String id = null;
+        String repository = null;
+        String tag = null;
+        long size = 0;
+        long sharedSize = 0;
+        long uniqueSize = 0;
+        int containerCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "ID" -> id = parser.getValueAsString();
+                case "Repository" -> repository = parser.getValueAsString();
+                case "Tag" -> tag = parser.getValueAsString();
+                case "Size" -> size = size(parser);
+                case "SharedSize" -> sharedSize = size(parser);
+                case "UniqueSize" -> uniqueSize = size(parser);
+                case "Containers" -> containerCount = parser.getValueAsInt();
+                default -> parser.skipChildren();
+            }
+        }
+        return new DiskUsage.ImageEntry(id, repository, tag, size, sharedSize, uniqueSize, containerCount);
+    }
+
+    private static DiskUsage.ContainerEntry parseContainer(JsonParser parser) throws IOException {
+        String id = null;
+        String names = null;
+        String image = null;
+        long size = 0;
+        String status = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "ID" -> id = parser.getValueAsString();
+                case "Names" -> names = parser.getValueAsString();
+                case "Image" -> image = parser.getValueAsString();
+                case "Size" -> size = size(parser);
+                case "Status" -> status = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new DiskUsage.ContainerEntry(id, names, image, size, status);
+    }
+
+    private static DiskUsage.VolumeEntry parseVolume(JsonParser parser) throws IOException {
+        String name = null;
+        int links = 0;
+        long size = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "Name" -> name = parser.getValueAsString();
+                case "Links" -> links = parser.getValueAsInt();
+                case "Size" -> size = size(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new DiskUsage.VolumeEntry(name, links, size);
+    }
+
+    private static DiskUsage.BuildCacheEntry parseBuildCache(JsonParser parser) throws IOException {
+        String id = null;
+        String cacheType = null;
+        String description = null;
+        long size = 0;
+        String lastUsedSince = null;
+        int usageCount = 0;
+        boolean inUse = false;
+        boolean shared = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "ID" -> id = parser.getValueAsString();
+                case "CacheType" -> cacheType = parser.getValueAsString();
+                case "Description" -> description = parser.getValueAsString();
+                case "Size" -> size = size(parser);
+                case "LastUsedSince" -> lastUsedSince = parser.getValueAsString();
+                case "UsageCount" -> usageCount = parser.getValueAsInt();
+                case "InUse" -> inUse = parser.getValueAsBoolean();
+                case "Shared" -> shared = parser.getValueAsBoolean();
+                default -> parser.skipChildren();
+            }
+        }
+        return new DiskUsage.BuildCacheEntry(id, cacheType, description, size, lastUsedSince, usageCount,
+                inUse, shared);
+    }
+
+    /**
+     * Decodes a size field in place; numbers are taken as bytes.
+     */
+    private static long size(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return DockerSizes.parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        return parser.getValueAsLong();
+    }
+}
@@ -0,0 +1,90 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.dreamabout.sw.dockerwslmanager.model.EndpointProbe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pings candidate Docker endpoints in parallel and ranks them by round-trip time, so the connection
+ * can use the fastest transport available, e.g. a local socket or pipe over TCP into the WSL VM.
+ */
+public final class EndpointProber {
+    private static final Logger logger = LoggerFactory.getLogger(EndpointProber.class);
+    public static final int DEFAULT_ATTEMPTS = 3;
+
+    /**
+     * Pings one endpoint.
+     */
+    @FunctionalInterface
+    public interface Pinger {
+        /**
+         * Pings {@code dockerHost} {@code attempts} times over one connection and returns the best
+         * round-trip time in nanoseconds; the first ping also pays for opening the connection.
+         */
+        long ping(String dockerHost, int attempts) throws IOException;
+    }
+
+    private final Pinger pinger;
+    private final int attempts;
+
+    public EndpointProber(Pinger pinger) {
+        this(pinger, DEFAULT_ATTEMPTS);
+    }
+
+    public EndpointProber(Pinger pinger, int attempts) {
+        this.pinger = pinger;
+        this.attempts = Math.max(1, attempts);
+    }
+
+    /**
+     * Probes all endpoints at once and returns the results fastest first, unreachable ones last.
+     * Endpoints listed twice are probed once.
+     */
+    public List<EndpointProbe> probe(List<String> dockerHosts) {
+        List<String> hosts = dockerHosts.stream().distinct().toList();
+        if (hosts.isEmpty()) {
+            return List.of();
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(hosts.size(), r -> {
+            Thread thread = new Thread(r, "endpoint-probe-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<EndpointProbe>> futures = new ArrayList<>();
+            for (String host : hosts) {
+                futures.add(CompletableFuture.supplyAsync(() -> probe(host), pool));
+            }
+            List<EndpointProbe> probes = new ArrayList<>();
+            for (CompletableFuture<EndpointProbe> future : futures) {
+                probes.add(future.join());
+            }
+            // Stable sort: equally fast endpoints keep the caller's order of preference
+            probes.sort(Comparator.comparing((EndpointProbe p) -> !p.isReachable())
+                    .thenComparingLong(EndpointProbe::getLatencyNanos));
+            logger.info("Endpoint probes: {}", probes);
+            return probes;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private EndpointProbe probe(String dockerHost) {
+        try {
+            return EndpointProbe.reachable(dockerHost, pinger.ping(dockerHost, attempts));
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Endpoint {} is not reachable", dockerHost, e);
+            return EndpointProbe.unreachable(dockerHost, String.valueOf(e.getMessage()));
+        }
+    }
+}
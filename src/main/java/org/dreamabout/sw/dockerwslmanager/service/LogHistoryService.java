@@ -0,0 +1,103 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import org.dreamabout.sw.dockerwslmanager.logic.AnsiParser;
+import org.dreamabout.sw.dockerwslmanager.logic.LogTimestamps;
+import org.dreamabout.sw.dockerwslmanager.logic.Utf8StreamDecoder;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * Fetches one time window of a container's earlier log, for scrolling back past the live tail.
+ * Docker can only filter logs by whole seconds, so lines at or after a given timestamp, which the view
+ * already shows, are dropped here, and only the newest lines of a window are kept when it holds more
+ * than a page.
+ */
+public class LogHistoryService {
+    private final DockerClient dockerClient;
+
+    /**
+     * One window of log lines, oldest first.
+     *
+     * @param truncated whether the window held more lines than requested, so older ones were left out.
+     */
+    public record Page(List<LogLine> lines, boolean truncated) {
+        public Page {
+            lines = List.copyOf(lines);
+        }
+
+        public long getOldestTimestamp() {
+            return lines.isEmpty() ? LogLine.NO_TIMESTAMP : lines.get(0).getTimestamp();
+        }
+    }
+
+    public LogHistoryService(DockerClient dockerClient) {
+        this.dockerClient = dockerClient;
+    }
+
+    /**
+     * Fetches the lines logged between {@code since} and {@code until}, blocking until they have all arrived.
+     *
+     * @param since    first epoch second, inclusive.
+     * @param until    last epoch second, inclusive.
+     * @param before   only lines logged before this, in epoch nanoseconds, are kept.
+     * @param maxLines most lines to keep; the newest are kept.
+     */
+    public Page fetch(String containerId, int since, int until, long before, int maxLines)
+            throws IOException, InterruptedException {
+        ArrayDeque<LogLine> kept = new ArrayDeque<>();
+        boolean[] truncated = {false};
+        boolean[] keepUntimed = {false};
+        AnsiParser.LineSink sink = LogTimestamps.stripping(line -> {
+            long timestamp = line.getTimestamp();
+            // A line without a timestamp is the rest of a line split by Docker; it goes with the previous one
+            boolean keep = timestamp == LogLine.NO_TIMESTAMP ? keepUntimed[0] : timestamp < before;
+            keepUntimed[0] = keep;
+            if (!keep) {
+                return;
+            }
+            if (kept.size() == maxLines) {
+                kept.removeFirst();
+                truncated[0] = true;
+            }
+            kept.addLast(line);
+        });
+        // Each stream keeps its own partial line, colour state and split character
+        AnsiParser stdoutParser = new AnsiParser(sink);
+        AnsiParser stderrParser = new AnsiParser(sink);
+        Utf8StreamDecoder stdoutDecoder = new Utf8StreamDecoder(stdoutParser::feed);
+        Utf8StreamDecoder stderrDecoder = new Utf8StreamDecoder(stderrParser::feed);
+
+        // Closing the callback ends the request if the wait is interrupted
+        try (ResultCallback.Adapter<Frame> callback = dockerClient.logContainerCmd(containerId)
+                .withStdOut(true)
+                .withStdErr(true)
+                .withTimestamps(true)
+                .withSince(since)
+                .withUntil(until)
+                .exec(new ResultCallback.Adapter<>() {
+                    @Override
+                    public void onNext(Frame frame) {
+                        (frame.getStreamType() == StreamType.STDERR ? stderrDecoder : stdoutDecoder)
+                                .decode(frame.getPayload());
+                    }
+                })) {
+            callback.awaitCompletion();
+        }
+        stdoutDecoder.flush();
+        stdoutParser.flush();
+        stderrDecoder.flush();
+        stderrParser.flush();
+        // Drop an untimed head whose timestamped line was pushed out
+        while (!kept.isEmpty() && kept.peekFirst().getTimestamp() == LogLine.NO_TIMESTAMP) {
+            kept.removeFirst();
+        }
+        return new Page(List.copyOf(kept), truncated[0]);
+    }
+}
@@ -0,0 +1,100 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the connections checked out of a {@link DockerHttpClient}'s pool. A connection counts as
+ * leased from the moment a request is sent until its response is closed, which for a followed
+ * stream is when the stream ends.
+ */
+public final class MeteredDockerHttpClient implements DockerHttpClient {
+    private final DockerHttpClient delegate;
+    private final int maxConnections;
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+
+    public MeteredDockerHttpClient(DockerHttpClient delegate, int maxConnections) {
+        this.delegate = delegate;
+        this.maxConnections = maxConnections;
+    }
+
+    @Override
+    public Response execute(Request request) {
+        peak.accumulateAndGet(leased.incrementAndGet(), Math::max);
+        Response response = null;
+        try {
+            response = delegate.execute(request);
+            return new MeteredResponse(response);
+        } finally {
+            if (response == null) {
+                // The request failed, so no response will ever release the connection
+                leased.decrementAndGet();
+            }
+        }
+    }
+
+    public int getLeased() {
+        return leased.get();
+    }
+
+    /**
+     * Highest number of connections leased at the same time since the client was created.
+     */
+    public int getPeak() {
+        return peak.get();
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private final class MeteredResponse implements Response {
+        private final Response response;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        MeteredResponse(Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaders() {
+            return response.getHeaders();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return response.getHeader(name);
+        }
+
+        @Override
+        public InputStream getBody() {
+            return response.getBody();
+        }
+
+        @Override
+        public void close() {
+            // docker-java may close a response more than once; release the count only the first time
+            if (closed.compareAndSet(false, true)) {
+                leased.decrementAndGet();
+            }
+            response.close();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs table refreshes off the JavaFX Application Thread.
+ * Each refresh is split into a fetch phase (daemon calls) and a compute phase (grouping, diffing,
+ * building the view model), both on a bounded worker pool, followed by an apply phase on the UI
+ * executor. Requests for a key that arrive while that key is already refreshing collapse into a
+ * single follow-up run.
+ */
+public class RefreshExecutor implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(RefreshExecutor.class);
+    private static final long SLOW_REFRESH_MS = 1000;
+
+    private final ThreadPoolExecutor workers;
+    private final Executor uiExecutor;
+    private final Map<String, KeyState> states = new HashMap<>();
+    private final Map<String, Timings> lastTimings = new ConcurrentHashMap<>();
+
+    /**
+     * Phase durations of a single refresh run, in milliseconds.
+     */
+    public static final class Timings {
+        private final long fetchMs;
+        private final long computeMs;
+        private final long uiWaitMs;
+        private final long applyMs;
+
+        Timings(long fetchMs, long computeMs, long uiWaitMs, long applyMs) {
+            this.fetchMs = fetchMs;
+            this.computeMs = computeMs;
+            this.uiWaitMs = uiWaitMs;
+            this.applyMs = applyMs;
+        }
+
+        public long getFetchMs() {
+            return fetchMs;
+        }
+
+        public long getComputeMs() {
+            return computeMs;
+        }
+
+        public long getUiWaitMs() {
+            return uiWaitMs;
+        }
+
+        public long getApplyMs() {
+            return applyMs;
+        }
+
+        public long getTotalMs() {
+            return fetchMs + computeMs + uiWaitMs + applyMs;
+        }
+
+        @Override
+        public String toString() {
+            return "fetch=" + fetchMs + "ms compute=" + computeMs + "ms uiWait=" + uiWaitMs
+                    + "ms apply=" + applyMs + "ms";
+        }
+    }
+
+    private static final class Request<T, R> {
+        final int priority;
+        final Callable<T> fetch;
+        final Function<T, R> compute;
+        final Consumer<R> apply;
+        final Consumer<Exception> onError;
+
+        Request(int priority, Callable<T> fetch, Function<T, R> compute, Consumer<R> apply,
+                Consumer<Exception> onError) {
+            this.priority = priority;
+            this.fetch = fetch;
+            this.compute = compute;
+            this.apply = apply;
+            this.onError = onError;
+        }
+    }
+
+    private static final class KeyState {
+        boolean running;
+        Request<?, ?> pending;
+        int coalesced;
+    }
+
+    public RefreshExecutor(int threads, Executor uiExecutor) {
+        AtomicInteger counter = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(32), r -> {
+                    Thread thread = new Thread(r, "refresh-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.workers.allowCoreThreadTimeOut(true);
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Requests a refresh for the given key.
+     *
+     * @param key      Identifies what is refreshed (e.g. "containers"); runs for one key never overlap.
+     * @param priority When a run is already queued for the key, a request only replaces it if its
+     *                 priority is at least as high (so a cheap redraw never swallows a full reload).
+     * @param fetch    Worker-thread phase that talks to the daemon.
+     * @param compute  Worker-thread phase that turns the fetched data into a ready-to-apply model.
+     * @param apply    UI-thread phase that installs the model.
+     * @param onError  UI-thread callback for failures in fetch or compute.
+     */
+    public <T, R> void submit(String key, int priority, Callable<T> fetch, Function<T, R> compute,
+                              Consumer<R> apply, Consumer<Exception> onError) {
+        Request<T, R> request = new Request<>(priority, fetch, compute, apply, onError);
+        synchronized (states) {
+            KeyState state = states.computeIfAbsent(key, k -> new KeyState());
+            if (state.running) {
+                if (state.pending == null || priority >= state.pending.priority) {
+                    state.pending = request;
+                }
+                state.coalesced++;
+                return;
+            }
+            state.running = true;
+        }
+        dispatch(key, request);
+    }
+
+    /**
+     * Timings of the most recent completed run for the key, or null if none completed yet.
+     */
+    public Timings getLastTimings(String key) {
+        return lastTimings.get(key);
+    }
+
+    public Map<String, Timings> getAllLastTimings() {
+        return Map.copyOf(lastTimings);
+    }
+
+    private void dispatch(String key, Request<?, ?> request) {
+        try {
+            workers.execute(() -> run(key, request));
+        } catch (RejectedExecutionException e) {
+            logger.error("Refresh for {} rejected", key, e);
+            synchronized (states) {
+                KeyState state = states.get(key);
+                state.running = false;
+                state.pending = null;
+            }
+        }
+    }
+
+    private <T, R> void run(String key, Request<T, R> request) {
+        long start = System.nanoTime();
+        R model;
+        long fetched;
+        long computed;
+        try {
+            T data = request.fetch.call();
+            fetched = System.nanoTime();
+            model = request.compute.apply(data);
+            computed = System.nanoTime();
+        } catch (Exception e) {
+            uiExecutor.execute(() -> {
+                try {
+                    request.onError.accept(e);
+                } finally {
+                    finish(key);
+                }
+            });
+            return;
+        }
+
+        uiExecutor.execute(() -> {
+            long applyStart = System.nanoTime();
+            try {
+                request.apply.accept(model);
+            } catch (RuntimeException e) {
+                logger.error("Failed to apply refresh for {}", key, e);
+            } finally {
+                long applied = System.nanoTime();
+                recordTimings(key, new Timings(toMillis(fetched - start), toMillis(computed - fetched),
+                        toMillis(applyStart - computed), toMillis(applied - applyStart)));
+                finish(key);
+            }
+        });
+    }
+
+    private void recordTimings(String key, Timings timings) {
+        lastTimings.put(key, timings);
+        if (timings.getTotalMs() >= SLOW_REFRESH_MS) {
+            logger.info("Slow refresh of {}: {}", key, timings);
+        } else {
+            logger.debug("Refreshed {}: {}", key, timings);
+        }
+    }
+
+    private void finish(String key) {
+        Request<?, ?> next;
+        synchronized (states) {
+            KeyState state = states.get(key);
+            next = state.pending;
+            state.pending = null;
+            if (next == null) {
+                state.running = false;
+            } else if (state.coalesced > 1) {
+                logger.debug("Collapsed {} refresh requests for {} into one", state.coalesced, key);
+            }
+            state.coalesced = 0;
+        }
+        if (next != null) {
+            dispatch(key, next);
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,161 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Volume sizes remembered across restarts, stored as JSON under {@code ~/.docker-wsl-manager/}.
+ * Entries are keyed by volume name and only match a volume with the same creation time, so a volume
+ * that was removed and recreated under the same name is measured again. An entry is fresh while the
+ * volume directory's mtime is unchanged and the entry is younger than the TTL; the TTL covers changes
+ * deep inside the volume, which do not touch the top directory's mtime. Thread-safe.
+ */
+public final class VolumeSizeCache {
+    private static final Logger logger = LoggerFactory.getLogger(VolumeSizeCache.class);
+    private static final String CACHE_FILE_PATH =
+            System.getProperty("user.home") + "/.docker-wsl-manager/volume-sizes.json";
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path file;
+    private final long ttlMs;
+    private final LongSupplier clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private boolean dirty;
+
+    private static final class Entry {
+        final String createdAt;
+        final long mtime;
+        final long bytes;
+        final long measuredAtMs;
+
+        Entry(String createdAt, long mtime, long bytes, long measuredAtMs) {
+            this.createdAt = createdAt;
+            this.mtime = mtime;
+            this.bytes = bytes;
+            this.measuredAtMs = measuredAtMs;
+        }
+    }
+
+    public VolumeSizeCache(long ttlMs) {
+        this(Paths.get(CACHE_FILE_PATH), ttlMs, System::currentTimeMillis);
+    }
+
+    VolumeSizeCache(Path file, long ttlMs, LongSupplier clock) {
+        this.file = file;
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+        load();
+    }
+
+    /**
+     * Size to show for a volume before its directory has been checked, or -1 if there is no
+     * entry for this incarnation of the volume or the entry has expired.
+     */
+    public synchronized long lookup(String volumeName, String createdAt) {
+        Entry entry = entries.get(volumeName);
+        return isValid(entry, createdAt) ? entry.bytes : -1;
+    }
+
+    /**
+     * Size of a volume if its directory has not changed since it was measured, otherwise -1.
+     */
+    public synchronized long lookupFresh(String volumeName, String createdAt, long mtime) {
+        Entry entry = entries.get(volumeName);
+        return isValid(entry, createdAt) && entry.mtime == mtime ? entry.bytes : -1;
+    }
+
+    public synchronized void put(String volumeName, String createdAt, long mtime, long bytes) {
+        entries.put(volumeName, new Entry(createdAt, mtime, bytes, clock.getAsLong()));
+        dirty = true;
+    }
+
+    /**
+     * Drops entries of volumes that no longer exist.
+     */
+    public synchronized void retain(Set<String> volumeNames) {
+        if (entries.keySet().retainAll(volumeNames)) {
+            dirty = true;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean isValid(Entry entry, String createdAt) {
+        return entry != null
+                && Objects.equals(entry.createdAt, createdAt)
+                && clock.getAsLong() - entry.measuredAtMs < ttlMs;
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            JsonNode root = objectMapper.readTree(file.toFile());
+            if (root.path("version").asInt() != FORMAT_VERSION) {
+                logger.info("Ignoring volume size cache with unknown format: {}", file);
+                return;
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = root.path("volumes").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode node = field.getValue();
+                entries.put(field.getKey(), new Entry(node.path("createdAt").asText(null),
+                        node.path("mtime").asLong(-1), node.path("bytes").asLong(), node.path("measuredAt").asLong()));
+            }
+            logger.info("Loaded {} cached volume sizes", entries.size());
+        } catch (IOException e) {
+            logger.warn("Failed to load volume size cache {}", file, e);
+        }
+    }
+
+    /**
+     * Writes the cache if it changed since it was loaded or last saved.
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("version", FORMAT_VERSION);
+        ObjectNode volumes = root.putObject("volumes");
+        entries.forEach((name, entry) -> {
+            ObjectNode node = volumes.putObject(name);
+            node.put("createdAt", entry.createdAt);
+            node.put("mtime", entry.mtime);
+            node.put("bytes", entry.bytes);
+            node.put("measuredAt", entry.measuredAtMs);
+        });
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // Write and rename so a crash never leaves a truncated cache behind
+            Path tmp = Paths.get(file + ".tmp");
+            objectMapper.writeValue(tmp.toFile(), root);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            logger.warn("Failed to save volume size cache {}", file, e);
+        }
+    }
+}
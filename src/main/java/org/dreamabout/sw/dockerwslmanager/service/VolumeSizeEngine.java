@@ -0,0 +1,390 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Sizes Docker volumes one directory at a time instead of waiting for {@code docker system df -v},
+ * which sizes every image, container and volume before printing anything.
+ * Volumes are split into batches; each batch is one {@code du} process, and at most
+ * {@code parallelism} batches run at once. Every size is reported as soon as {@code du} prints it.
+ * With a {@link VolumeSizeCache}, each batch first reads the mtime of its volume directories and only
+ * measures the volumes whose cache entry is missing or stale.
+ * Listener callbacks run on worker threads.
+ */
+public final class VolumeSizeEngine implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(VolumeSizeEngine.class);
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int DEFAULT_BATCH_SIZE = 16;
+    private static final long PROCESS_EXIT_TIMEOUT_MS = 5000;
+
+    /**
+     * Starts a process that prints {@code <number>\t<path>} for each of the given directories.
+     */
+    @FunctionalInterface
+    public interface SizeCommand {
+        Process start(List<String> paths) throws IOException;
+    }
+
+    /**
+     * A volume to size.
+     *
+     * @param path      Volume directory as seen by the size command.
+     * @param createdAt Creation time reported by Docker; identifies the volume in the cache.
+     */
+    public record Target(String name, String path, String createdAt) {
+    }
+
+    /**
+     * Receives the progress of a job.
+     */
+    public interface Listener {
+        /**
+         * Called once per volume as soon as its size is known.
+         */
+        void onSize(String volumeName, long bytes);
+
+        /**
+         * Called once when every batch has finished, failed or been cancelled.
+         */
+        void onFinished(Job job);
+    }
+
+    private final SizeCommand sizeCommand;
+    private final SizeCommand mtimeCommand;
+    private final VolumeSizeCache cache;
+    private final int batchSize;
+    private final ExecutorService pool;
+
+    public VolumeSizeEngine(SizeCommand sizeCommand, int parallelism, int batchSize) {
+        this(sizeCommand, null, null, parallelism, batchSize);
+    }
+
+    /**
+     * Creates an engine that skips volumes whose cached size is still fresh.
+     *
+     * @param mtimeCommand Prints the mtime of each directory; may be null together with {@code cache}.
+     * @param cache        Consulted before and updated after measuring; may be null.
+     */
+    public VolumeSizeEngine(SizeCommand sizeCommand, SizeCommand mtimeCommand, VolumeSizeCache cache,
+                            int parallelism, int batchSize) {
+        this.sizeCommand = sizeCommand;
+        this.mtimeCommand = mtimeCommand;
+        this.cache = cache;
+        this.batchSize = Math.max(1, batchSize);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(Math.max(1, parallelism), r -> {
+            Thread thread = new Thread(r, "volume-size-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sizes volume directories with {@code du} inside a WSL distro, as root since
+     * {@code /var/lib/docker} is not readable by other users.
+     *
+     * @param wslDistro Distro holding the volume directories, or null for the default distro.
+     */
+    public static SizeCommand wslDuCommand(String wslDistro) {
+        return paths -> startInWsl(wslDistro, List.of("du", "-sb", "--"), paths);
+    }
+
+    /**
+     * Prints the mtime in epoch seconds of volume directories inside a WSL distro, in {@code du} format.
+     */
+    public static SizeCommand wslMtimeCommand(String wslDistro) {
+        return paths -> startInWsl(wslDistro, List.of("stat", "--printf", "%Y\\t%n\\n", "--"), paths);
+    }
+
+    private static Process startInWsl(String wslDistro, List<String> program, List<String> paths)
+            throws IOException {
+        List<String> cmd = new ArrayList<>(List.of("wsl"));
+        if (wslDistro != null && !wslDistro.isEmpty()) {
+            cmd.add("-d");
+            cmd.add(wslDistro);
+        }
+        cmd.addAll(List.of("-u", "root", "--exec"));
+        cmd.addAll(program);
+        cmd.addAll(paths);
+        // --exec bypasses the shell, so paths and format strings arrive unmangled; errors for
+        // unreadable paths are not needed, as both tools carry on with the next one
+        return new ProcessBuilder(cmd).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+    }
+
+    /**
+     * Starts sizing volumes.
+     *
+     * @param targets Volumes in the order sizes are wanted.
+     */
+    public Job calculate(List<Target> targets, Listener listener) {
+        Job job = new Job(targets, listener);
+        job.start();
+        return job;
+    }
+
+    /**
+     * Parses one line of {@code du -sb} output.
+     *
+     * @return the size in bytes, or -1 if the line is not a size line.
+     */
+    static long parseDuSize(String line) {
+        int tab = line.indexOf('\t');
+        if (tab <= 0) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(line.substring(0, tab).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    static String parseDuPath(String line) {
+        int tab = line.indexOf('\t');
+        return tab < 0 ? null : line.substring(tab + 1);
+    }
+
+    /**
+     * Stops accepting jobs. Batches already queued still run, so cancel running jobs first.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * One sizing run. Counters may be read from any thread.
+     */
+    public final class Job {
+        private final Listener listener;
+        private final List<List<Target>> batches = new ArrayList<>();
+        private final Set<Process> running = new HashSet<>();
+        private final long startNanos = System.nanoTime();
+        private final int total;
+        private int remainingBatches;
+        private int sized;
+        private int cached;
+        private boolean cancelled;
+        private long elapsedMs = -1;
+
+        Job(List<Target> targets, Listener listener) {
+            this.listener = listener;
+            this.total = targets.size();
+            for (int i = 0; i < targets.size(); i += batchSize) {
+                batches.add(List.copyOf(targets.subList(i, Math.min(i + batchSize, targets.size()))));
+            }
+            remainingBatches = batches.size();
+        }
+
+        void start() {
+            if (batches.isEmpty()) {
+                finish();
+                return;
+            }
+            for (List<Target> batch : batches) {
+                try {
+                    pool.execute(() -> runBatch(batch));
+                } catch (RejectedExecutionException e) {
+                    // The engine was closed while the job was being submitted
+                    batchDone();
+                }
+            }
+        }
+
+        private void runBatch(List<Target> batch) {
+            try {
+                // Keyed by path, since that is what du and stat print back
+                Map<String, Target> stale = new LinkedHashMap<>();
+                batch.forEach(target -> stale.put(target.path(), target));
+                Map<String, Long> mtimes = new HashMap<>();
+                if (cache != null && mtimeCommand != null) {
+                    run(mtimeCommand, stale.keySet(), mtimes::put);
+                    reportCached(stale, mtimes);
+                }
+                if (!stale.isEmpty()) {
+                    run(sizeCommand, stale.keySet(), (path, bytes) -> {
+                        Target target = stale.remove(path);
+                        if (target == null) {
+                            return;
+                        }
+                        if (cache != null) {
+                            cache.put(target.name(), target.createdAt(), mtimes.getOrDefault(path, -1L), bytes);
+                        }
+                        report(target.name(), bytes, false);
+                    });
+                }
+                if (!stale.isEmpty() && !isCancelled()) {
+                    logger.warn("No size reported for volumes {}", stale.values().stream().map(Target::name).toList());
+                }
+            } catch (IOException e) {
+                if (!isCancelled()) {
+                    logger.warn("Failed to size volumes {}", batch.stream().map(Target::name).toList(), e);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                batchDone();
+            }
+        }
+
+        private void reportCached(Map<String, Target> stale, Map<String, Long> mtimes) {
+            Iterator<Target> it = stale.values().iterator();
+            while (it.hasNext()) {
+                Target target = it.next();
+                Long mtime = mtimes.get(target.path());
+                long bytes = mtime != null ? cache.lookupFresh(target.name(), target.createdAt(), mtime) : -1;
+                if (bytes >= 0) {
+                    it.remove();
+                    report(target.name(), bytes, true);
+                }
+            }
+        }
+
+        /**
+         * Runs one command over the given paths and hands every {@code <number>\t<path>} line to the consumer.
+         */
+        private void run(SizeCommand command, Collection<String> paths, BiConsumer<String, Long> onLine)
+                throws IOException, InterruptedException {
+            if (isCancelled()) {
+                return;
+            }
+            Process process = command.start(new ArrayList<>(paths));
+            try {
+                synchronized (this) {
+                    if (cancelled) {
+                        return;
+                    }
+                    running.add(process);
+                }
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        long value = parseDuSize(line);
+                        if (value >= 0) {
+                            onLine.accept(parseDuPath(line), value);
+                        }
+                    }
+                }
+                if (!process.waitFor(PROCESS_EXIT_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    logger.warn("Size command did not exit after its output ended");
+                }
+            } finally {
+                synchronized (this) {
+                    running.remove(process);
+                }
+                process.destroy();
+            }
+        }
+
+        private void report(String volumeName, long bytes, boolean fromCache) {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                sized++;
+                if (fromCache) {
+                    cached++;
+                }
+            }
+            listener.onSize(volumeName, bytes);
+        }
+
+        private void batchDone() {
+            boolean done;
+            synchronized (this) {
+                remainingBatches--;
+                done = remainingBatches == 0;
+            }
+            if (done) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            if (cache != null) {
+                cache.save();
+            }
+            synchronized (this) {
+                elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+            }
+            listener.onFinished(this);
+        }
+
+        /**
+         * Stops the job: batches not started yet are skipped and running {@code du} processes are killed.
+         * Sizes already reported stay valid; no further sizes are reported.
+         */
+        public void cancel() {
+            List<Process> toKill;
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                toKill = new ArrayList<>(running);
+            }
+            // Queued batches still run, but return at once, so the job finishes through the usual path
+            toKill.forEach(Process::destroyForcibly);
+        }
+
+        public synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        public synchronized boolean isDone() {
+            return remainingBatches == 0;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * Number of volumes whose size has been reported so far.
+         */
+        public synchronized int getSized() {
+            return sized;
+        }
+
+        /**
+         * Number of reported sizes that came from the cache without running {@code du}.
+         */
+        public synchronized int getCached() {
+            return cached;
+        }
+
+        public int getBatchCount() {
+            return batches.size();
+        }
+
+        /**
+         * Wall-clock duration of the job, or -1 while it is still running.
+         */
+        public synchronized long getElapsedMs() {
+            return elapsedMs;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package org.dreamabout.sw.dockerwslmanager;
 
+import org.dreamabout.sw.dockerwslmanager.model.LogOverflowPolicy;
+import org.dreamabout.sw.dockerwslmanager.model.TransportProfile;
+import org.dreamabout.sw.dockerwslmanager.model.TransportSettings;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -17,4 +20,35 @@ class SettingsManagerTest {
         settingsManager.setStatsRefreshInterval(10);
         assertEquals(10, settingsManager.getStatsRefreshInterval());
     }
+
+    @Test
+    void testTransportSettingsRoundTrip() {
+        SettingsManager settingsManager = new SettingsManager();
+        TransportSettings custom = new TransportSettings(8, 3, 0);
+        settingsManager.setTransportSettings(TransportProfile.BULK, custom);
+        assertEquals(custom, settingsManager.getTransportSettings(TransportProfile.BULK));
+    }
+
+    @Test
+    void testLogOverflowPolicyRoundTrip() {
+        SettingsManager settingsManager = new SettingsManager();
+        assertEquals(LogOverflowPolicy.DROP_OLDEST, settingsManager.getLogOverflowPolicy());
+        settingsManager.setLogOverflowPolicy(LogOverflowPolicy.SAMPLE);
+        assertEquals(LogOverflowPolicy.SAMPLE, settingsManager.getLogOverflowPolicy());
+        assertEquals(LogOverflowPolicy.BLOCK, LogOverflowPolicy.fromKey(" Block ", LogOverflowPolicy.SAMPLE));
+        assertEquals(LogOverflowPolicy.SAMPLE, LogOverflowPolicy.fromKey("unknown", LogOverflowPolicy.SAMPLE));
+    }
+
+    @Test
+    void testNonPositiveIntegersFallBackToOne() {
+        SettingsManager settingsManager = new SettingsManager();
+        settingsManager.setContainerResyncInterval(0);
+        assertEquals(1, settingsManager.getContainerResyncInterval());
+        settingsManager.setLogBufferLines(0);
+        assertEquals(1, settingsManager.getLogBufferLines());
+        settingsManager.setBatchParallelism(0);
+        assertEquals(1, settingsManager.getBatchParallelism());
+        settingsManager.setVolumeSizeCacheTtlHours(0);
+        assertEquals(1, settingsManager.getVolumeSizeCacheTtlHours());
+    }
 }
@@ -0,0 +1,120 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnsiParserTest {
+
+    private List<LogLine> lines;
+    private AnsiParser parser;
+
+    @BeforeEach
+    void setUp() {
+        lines = new ArrayList<>();
+        parser = new AnsiParser((text, length, runs, runsLength) ->
+                lines.add(LogLine.copyOf(text, length, runs, runsLength)));
+    }
+
+    @Test
+    void testPlainLines() {
+        parser.feed("first\r\nsecond\n");
+
+        assertEquals(2, lines.size());
+        assertEquals("first", lines.get(0).toString());
+        assertEquals("second", lines.get(1).toString());
+        assertEquals(1, lines.get(0).getRunCount());
+        assertEquals(LogStyle.DEFAULT_RGB, LogStyle.rgb(lines.get(0).getRunStyle(0)));
+    }
+
+    @Test
+    void testBasicColourRuns() {
+        parser.feed("INFO \u001B[31merror\u001B[0m done\n");
+
+        LogLine line = lines.get(0);
+        assertEquals("INFO error done", line.toString());
+        assertEquals(3, line.getRunCount());
+        assertEquals(5, line.getRunOffset(1));
+        assertEquals(5, line.getRunLength(1));
+        assertEquals(0xFF0000, LogStyle.rgb(line.getRunStyle(1)));
+        assertEquals(LogStyle.DEFAULT_RGB, LogStyle.rgb(line.getRunStyle(2)));
+    }
+
+    @Test
+    void testBoldAndBrightColours() {
+        parser.feed("\u001B[1;92mok\u001B[22mplain\u001B[mdefault\n");
+
+        LogLine line = lines.get(0);
+        assertEquals(3, line.getRunCount());
+        assertTrue(LogStyle.isBold(line.getRunStyle(0)));
+        assertEquals(0x90EE90, LogStyle.rgb(line.getRunStyle(0)));
+        assertFalse(LogStyle.isBold(line.getRunStyle(1)));
+        assertEquals(0x90EE90, LogStyle.rgb(line.getRunStyle(1)));
+        assertEquals(LogStyle.DEFAULT, line.getRunStyle(2));
+    }
+
+    @Test
+    void testExtendedColours() {
+        parser.feed("\u001B[38;5;196ma\u001B[38;5;244mb\u001B[38;2;10;20;30mc\u001B[48;5;17;39md\n");
+
+        LogLine line = lines.get(0);
+        assertEquals("abcd", line.toString());
+        assertEquals(0xFF0000, LogStyle.rgb(line.getRunStyle(0)));
+        assertEquals(0x808080, LogStyle.rgb(line.getRunStyle(1)));
+        assertEquals(0x0A141E, LogStyle.rgb(line.getRunStyle(2)));
+        assertEquals(LogStyle.DEFAULT_RGB, LogStyle.rgb(line.getRunStyle(3)));
+    }
+
+    @Test
+    void testPaletteColor() {
+        assertEquals(0x000000, AnsiParser.paletteColor(16));
+        assertEquals(0xFFFFFF, AnsiParser.paletteColor(231));
+        assertEquals(0x080808, AnsiParser.paletteColor(232));
+        assertEquals(0xEEEEEE, AnsiParser.paletteColor(255));
+    }
+
+    @Test
+    void testEscapeSplitAcrossFrames() {
+        parser.feed("a\u001B");
+        parser.feed("[3");
+        parser.feed("4mb\n");
+
+        LogLine line = lines.get(0);
+        assertEquals("ab", line.toString());
+        assertEquals(0x0000FF, LogStyle.rgb(line.getRunStyle(1)));
+    }
+
+    @Test
+    void testNonSgrSequencesAreDropped() {
+        parser.feed("\u001B[2K\u001B[?25lprogress\u001B]0;title\u0007 done\n");
+
+        assertEquals("progress done", lines.get(0).toString());
+        assertEquals(1, lines.get(0).getRunCount());
+    }
+
+    @Test
+    void testPartialLineCarriesOverAndFlushes() {
+        parser.feed("hello ");
+        assertTrue(lines.isEmpty());
+        parser.feed("world\nnext");
+
+        assertEquals(1, lines.size());
+        assertEquals("hello world", lines.get(0).toString());
+        parser.flush();
+        assertEquals("next", lines.get(1).toString());
+        parser.flush();
+        assertEquals(2, lines.size());
+    }
+
+    @Test
+    void testStyleCarriesAcrossLines() {
+        parser.feed("\u001B[33mfirst\nsecond\n");
+
+        assertEquals(0xFFFF00, LogStyle.rgb(lines.get(1).getRunStyle(0)));
+    }
+}
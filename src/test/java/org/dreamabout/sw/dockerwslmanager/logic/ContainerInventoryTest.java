@@ -0,0 +1,66 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import com.github.dockerjava.api.model.Container;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContainerInventoryTest {
+
+    private static Container container(String id) {
+        Container c = mock(Container.class);
+        when(c.getId()).thenReturn(id);
+        return c;
+    }
+
+    @Test
+    void testReplaceAllKeepsListOrder() {
+        ContainerInventory inventory = new ContainerInventory();
+        Container a = container("a");
+        Container b = container("b");
+        inventory.replaceAll(Arrays.asList(a, b));
+
+        List<Container> snapshot = inventory.snapshot();
+        assertEquals(2, snapshot.size());
+        assertSame(a, snapshot.get(0));
+        assertSame(b, snapshot.get(1));
+    }
+
+    @Test
+    void testUpsertNewContainerIsPlacedFirst() {
+        ContainerInventory inventory = new ContainerInventory();
+        inventory.replaceAll(Arrays.asList(container("a"), container("b")));
+        Container created = container("c");
+
+        assertTrue(inventory.upsert(created));
+        assertSame(created, inventory.snapshot().get(0));
+        assertEquals(3, inventory.size());
+    }
+
+    @Test
+    void testUpsertSameContainerReportsNoChange() {
+        ContainerInventory inventory = new ContainerInventory();
+        Container a = container("a");
+        inventory.replaceAll(List.of(a));
+
+        assertFalse(inventory.upsert(a));
+        assertSame(a, inventory.snapshot().get(0));
+        assertEquals(1, inventory.size());
+    }
+
+    @Test
+    void testRemove() {
+        ContainerInventory inventory = new ContainerInventory();
+        inventory.replaceAll(List.of(container("a")));
+
+        assertTrue(inventory.remove("a"));
+        assertFalse(inventory.remove("a"));
+        assertFalse(inventory.remove(null));
+        assertTrue(inventory.snapshot().isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import com.github.dockerjava.api.model.Container;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContainerLogicTest {
+
+    private final ContainerLogic containerLogic = new ContainerLogic();
+
+    @Test
+    void testGroupContainers() {
+        Container c1 = mock(Container.class);
+        when(c1.getLabels()).thenReturn(Map.of(ContainerLogic.COMPOSE_PROJECT_LABEL, "proj"));
+        Container c2 = mock(Container.class);
+        when(c2.getLabels()).thenReturn(Collections.emptyMap());
+        Container c3 = mock(Container.class);
+        when(c3.getLabels()).thenReturn(Map.of(ContainerLogic.COMPOSE_PROJECT_LABEL, ""));
+
+        Map<String, List<Container>> grouped = containerLogic.groupContainers(Arrays.asList(c1, c2, c3));
+
+        assertEquals(2, grouped.size());
+        assertEquals(List.of(c1), grouped.get("proj"));
+        assertEquals(List.of(c2, c3), grouped.get(VolumeLogic.UNGROUPED_LABEL));
+    }
+
+    @Test
+    void testGroupContainersNull() {
+        assertTrue(containerLogic.groupContainers(null).isEmpty());
+    }
+
+    @Test
+    void testGetContainerName() {
+        Container named = mock(Container.class);
+        when(named.getNames()).thenReturn(new String[]{"/web"});
+        Container unnamed = mock(Container.class);
+        when(unnamed.getId()).thenReturn("0123456789abcdef");
+
+        assertEquals("web", containerLogic.getContainerName(named));
+        assertEquals("0123456789ab", containerLogic.getContainerName(unnamed));
+    }
+
+    private static Container composeContainer(String id, String project, String service, String dependsOn) {
+        Container c = mock(Container.class);
+        when(c.getId()).thenReturn(id);
+        Map<String, String> labels = new java.util.HashMap<>();
+        labels.put(ContainerLogic.COMPOSE_PROJECT_LABEL, project);
+        labels.put(ContainerLogic.COMPOSE_SERVICE_LABEL, service);
+        if (dependsOn != null) {
+            labels.put(ContainerLogic.COMPOSE_DEPENDS_ON_LABEL, dependsOn);
+        }
+        when(c.getLabels()).thenReturn(labels);
+        return c;
+    }
+
+    @Test
+    void testGetComposeDependencies() {
+        Container db = composeContainer("db1", "proj", "db", null);
+        Container cache = composeContainer("cache1", "proj", "cache", null);
+        Container web = composeContainer("web1", "proj", "web",
+                "db:service_healthy:false,cache:service_started:true,missing:service_started:false");
+        Container otherDb = composeContainer("db2", "other", "db", null);
+
+        Map<String, java.util.Set<String>> deps = containerLogic.getComposeDependencies(
+                List.of(db, cache, web, otherDb));
+
+        assertEquals(java.util.Set.of("db1", "cache1"), deps.get("web1"));
+        assertTrue(deps.get("db1").isEmpty());
+        assertTrue(deps.get("db2").isEmpty());
+    }
+}
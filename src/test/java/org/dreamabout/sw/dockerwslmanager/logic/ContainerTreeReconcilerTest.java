@@ -0,0 +1,119 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import com.github.dockerjava.api.model.Container;
+import javafx.scene.control.TreeItem;
+import org.dreamabout.sw.dockerwslmanager.model.ContainerViewItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContainerTreeReconcilerTest {
+
+    private ContainerTreeReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new ContainerTreeReconciler(new ContainerLogic());
+    }
+
+    @Test
+    void testInitialApplyBuildsGroups() {
+        Container web = container("web", "shop");
+        Container db = container("db", "shop");
+        Container tool = container("tool", null);
+
+        assertTrue(reconciler.apply(reconciler.plan(List.of(web, db, tool))));
+
+        TreeItem<ContainerViewItem> root = reconciler.getRoot();
+        assertEquals(2, root.getChildren().size());
+        assertEquals(VolumeLogic.UNGROUPED_LABEL, root.getChildren().get(0).getValue().getName());
+        TreeItem<ContainerViewItem> shop = root.getChildren().get(1);
+        assertEquals("shop", shop.getValue().getName());
+        assertEquals("web", shop.getChildren().get(0).getValue().getName());
+        assertEquals("db", shop.getChildren().get(1).getValue().getName());
+    }
+
+    @Test
+    void testUnchangedListingKeepsInstancesAndIsNoOp() {
+        Container web = container("web", "shop");
+        Container db = container("db", "shop");
+        reconciler.apply(reconciler.plan(List.of(web, db)));
+        TreeItem<ContainerViewItem> group = reconciler.getRoot().getChildren().get(0);
+        TreeItem<ContainerViewItem> webRow = group.getChildren().get(0);
+
+        ContainerTreeReconciler.Plan plan = reconciler.plan(List.of(web, db));
+
+        assertTrue(plan.isUnchanged());
+        assertFalse(reconciler.apply(plan));
+        assertSame(group, reconciler.getRoot().getChildren().get(0));
+        assertSame(webRow, group.getChildren().get(0));
+    }
+
+    @Test
+    void testChangedContainerUpdatesValueInPlace() {
+        Container web = container("web", "shop");
+        Container db = container("db", "shop");
+        reconciler.apply(reconciler.plan(List.of(web, db)));
+        TreeItem<ContainerViewItem> webRow = reconciler.getRoot().getChildren().get(0).getChildren().get(0);
+        TreeItem<ContainerViewItem> dbRow = reconciler.getRoot().getChildren().get(0).getChildren().get(1);
+        ContainerViewItem dbValue = dbRow.getValue();
+
+        Container webStopped = container("web", "shop");
+        ContainerTreeReconciler.Plan plan = reconciler.plan(List.of(webStopped, db));
+
+        assertEquals(Collections.singleton("web"), plan.getChangedIds());
+        assertTrue(reconciler.apply(plan));
+        assertSame(webRow, reconciler.getRoot().getChildren().get(0).getChildren().get(0));
+        assertSame(webStopped, webRow.getValue().getContainer());
+        assertSame(dbValue, dbRow.getValue());
+    }
+
+    @Test
+    void testAddRemoveAndMoveBetweenGroups() {
+        Container web = container("web", "shop");
+        Container db = container("db", "shop");
+        Container tool = container("tool", null);
+        reconciler.apply(reconciler.plan(List.of(web, db, tool)));
+        TreeItem<ContainerViewItem> dbRow = reconciler.getRoot().getChildren().get(1).getChildren().get(1);
+
+        Container dbMoved = container("db", "billing");
+        Container cache = container("cache", "shop");
+        reconciler.apply(reconciler.plan(List.of(cache, web, dbMoved)));
+
+        TreeItem<ContainerViewItem> root = reconciler.getRoot();
+        assertEquals(2, root.getChildren().size());
+        TreeItem<ContainerViewItem> billing = root.getChildren().get(0);
+        TreeItem<ContainerViewItem> shop = root.getChildren().get(1);
+        assertEquals("billing", billing.getValue().getName());
+        assertSame(dbRow, billing.getChildren().get(0));
+        assertSame(billing, dbRow.getParent());
+        assertEquals(List.of("cache", "web"),
+                shop.getChildren().stream().map(i -> i.getValue().getName()).toList());
+    }
+
+    @Test
+    void testResetClearsTree() {
+        reconciler.apply(reconciler.plan(List.of(container("web", "shop"))));
+
+        reconciler.reset();
+
+        assertTrue(reconciler.getRoot().getChildren().isEmpty());
+        assertFalse(reconciler.plan(List.of(container("web", "shop"))).isUnchanged());
+    }
+
+    private Container container(String id, String project) {
+        Container container = mock(Container.class);
+        when(container.getId()).thenReturn(id);
+        when(container.getNames()).thenReturn(new String[]{"/" + id});
+        when(container.getLabels()).thenReturn(
+                project == null ? Collections.emptyMap() : Map.of(ContainerLogic.COMPOSE_PROJECT_LABEL, project));
+        return container;
+    }
+}
@@ -0,0 +1,54 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DockerSizesTest {
+
+    @Test
+    void testParseDockerSize() {
+        assertEquals(0L, DockerSizes.parse(null));
+        assertEquals(0L, DockerSizes.parse(""));
+        assertEquals(0L, DockerSizes.parse("N/A"));
+
+        assertEquals(9L, DockerSizes.parse("9B"));
+        assertEquals(9L, DockerSizes.parse("9 B"));
+
+        // Docker prints SI units
+        assertEquals(1000L, DockerSizes.parse("1KB"));
+        assertEquals(1000L, DockerSizes.parse("1 KB"));
+        assertEquals(1000000L, DockerSizes.parse("1MB"));
+        assertEquals(1000000000L, DockerSizes.parse("1GB"));
+
+        // From docker system df output examples
+        assertEquals(1110000000L, DockerSizes.parse("1.11GB"));
+        assertEquals(66590000L, DockerSizes.parse("66.59MB"));
+        assertEquals(903100L, DockerSizes.parse("903.1kB"));
+    }
+
+    @Test
+    void testParseBinaryUnits() {
+        assertEquals(1024L, DockerSizes.parse("1KiB"));
+        assertEquals(1536L, DockerSizes.parse("1.5KiB"));
+        assertEquals(1073741824L, DockerSizes.parse("1GiB"));
+    }
+
+    @Test
+    void testParseIgnoresTrailingText() {
+        assertEquals(12300L, DockerSizes.parse("12.3kB (virtual 100MB)"));
+        assertEquals(0L, DockerSizes.parse("0B"));
+    }
+
+    @Test
+    void testParseRejectsGarbage() {
+        assertEquals(0L, DockerSizes.parse("GB"));
+        assertEquals(0L, DockerSizes.parse("12XB"));
+        assertEquals(0L, DockerSizes.parse("1.2.3MB"));
+    }
+
+    @Test
+    void testParseCharRange() {
+        char[] buffer = "xx66.59MByy".toCharArray();
+        assertEquals(66590000L, DockerSizes.parse(buffer, 2, 7));
+    }
+}
@@ -0,0 +1,100 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.ContainerIoRates;
+import org.dreamabout.sw.dockerwslmanager.model.IoCounters;
+import org.dreamabout.sw.dockerwslmanager.model.IoRates;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IoRateCalculatorTest {
+
+    private final IoRateCalculator calculator = new IoRateCalculator();
+
+    private static IoCounters counters(String name, long readBytes, long writeBytes, long readOps, long writeOps) {
+        return new IoCounters(name, readBytes, writeBytes, readOps, writeOps);
+    }
+
+    @Test
+    void testFirstSampleHasUnknownRates() {
+        ContainerIoRates rates = calculator.update("c1", 1000,
+                List.of(counters("eth0", 100, 100, 1, 1)), List.of());
+
+        assertFalse(rates.getNetwork().isKnown());
+        assertFalse(rates.getDisk().isKnown());
+    }
+
+    @Test
+    void testRatesPerSecondInTotalAndPerItem() {
+        calculator.update("c1", 0,
+                List.of(counters("eth0", 1000, 0, 10, 0), counters("eth1", 0, 0, 0, 0)),
+                List.of(counters("8:0", 0, 0, 0, 0)));
+        ContainerIoRates rates = calculator.update("c1", 2000,
+                List.of(counters("eth0", 5000, 2000, 30, 4), counters("eth1", 1000, 0, 2, 0)),
+                List.of(counters("8:0", 4096, 8192, 2, 8)));
+
+        IoRates network = rates.getNetwork();
+        assertEquals(2500.0, network.getReadBytesPerSecond());
+        assertEquals(1000.0, network.getWriteBytesPerSecond());
+        assertEquals(11.0, network.getReadOpsPerSecond());
+        assertEquals(2.0, network.getWriteOpsPerSecond());
+
+        assertEquals(2, rates.getInterfaces().size());
+        assertEquals("eth0", rates.getInterfaces().get(0).getName());
+        assertEquals(2000.0, rates.getInterfaces().get(0).getReadBytesPerSecond());
+        assertEquals(500.0, rates.getInterfaces().get(1).getReadBytesPerSecond());
+
+        IoRates device = rates.getDevices().get(0);
+        assertEquals(2048.0, device.getReadBytesPerSecond());
+        assertEquals(4096.0, device.getWriteBytesPerSecond());
+        assertEquals(4.0, device.getWriteOpsPerSecond());
+        assertEquals(4.0, rates.getDisk().getWriteOpsPerSecond());
+    }
+
+    @Test
+    void testCounterResetGivesUnknownRateForOneInterval() {
+        calculator.update("c1", 0, List.of(counters("eth0", 5000, 5000, 50, 50)), List.of());
+        ContainerIoRates afterRestart = calculator.update("c1", 1000,
+                List.of(counters("eth0", 100, 100, 1, 1)), List.of());
+        ContainerIoRates next = calculator.update("c1", 2000,
+                List.of(counters("eth0", 300, 200, 3, 2)), List.of());
+
+        assertFalse(afterRestart.getNetwork().isKnown());
+        assertFalse(afterRestart.getInterfaces().get(0).isKnown());
+        assertEquals(200.0, next.getNetwork().getReadBytesPerSecond());
+        assertEquals(100.0, next.getNetwork().getWriteBytesPerSecond());
+    }
+
+    @Test
+    void testLateSampleIsUnknownAndKeepsNewerBaseline() {
+        calculator.update("c1", 0, List.of(counters("eth0", 0, 0, 0, 0)), List.of());
+        calculator.update("c1", 2000, List.of(counters("eth0", 2000, 0, 0, 0)), List.of());
+
+        ContainerIoRates late = calculator.update("c1", 1000, List.of(counters("eth0", 1000, 0, 0, 0)), List.of());
+        ContainerIoRates next = calculator.update("c1", 3000, List.of(counters("eth0", 2500, 0, 0, 0)), List.of());
+
+        assertFalse(late.getNetwork().isKnown());
+        assertEquals(500.0, next.getNetwork().getReadBytesPerSecond());
+    }
+
+    @Test
+    void testNewInterfaceIsUnknownUntilItsSecondSample() {
+        calculator.update("c1", 0, List.of(counters("eth0", 0, 0, 0, 0)), List.of());
+        ContainerIoRates rates = calculator.update("c1", 1000,
+                List.of(counters("eth0", 100, 0, 0, 0), counters("eth1", 0, 0, 0, 0)), List.of());
+
+        assertTrue(rates.getInterfaces().get(0).isKnown());
+        assertFalse(rates.getInterfaces().get(1).isKnown());
+    }
+
+    @Test
+    void testContainersAreTrackedSeparately() {
+        calculator.update("c1", 0, List.of(counters("eth0", 0, 0, 0, 0)), List.of());
+
+        ContainerIoRates other = calculator.update("c2", 1000, List.of(counters("eth0", 100, 0, 0, 0)), List.of());
+
+        assertFalse(other.getNetwork().isKnown());
+    }
+}
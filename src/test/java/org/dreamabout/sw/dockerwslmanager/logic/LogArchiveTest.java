@@ -0,0 +1,184 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogArchiveTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @TempDir
+    Path directory;
+
+    private static List<LogLine> lines(int from, int count) {
+        List<LogLine> lines = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            char[] text = ("line " + i).toCharArray();
+            lines.add(new LogLine(text, new int[]{0, 4, LogStyle.withColor(LogStyle.DEFAULT, 0xFF0000)}, i * SECOND));
+        }
+        return lines;
+    }
+
+    @Test
+    void testReadsBackLinesWithStylesAndTimestamps() throws IOException {
+        try (LogArchive archive = new LogArchive(directory)) {
+            archive.appendAll(lines(0, 1000));
+
+            assertEquals(1000, archive.size());
+            List<LogLine> read = archive.read(300, 3);
+            assertEquals(List.of("line 300", "line 301", "line 302"), read.stream().map(LogLine::toString).toList());
+            assertEquals(300 * SECOND, read.get(0).getTimestamp());
+            assertArrayEquals(new int[]{0, 4, LogStyle.withColor(LogStyle.DEFAULT, 0xFF0000)}, read.get(0).getRuns());
+            assertEquals(1, archive.read(999, 10).size());
+            assertTrue(archive.read(1000, 10).isEmpty());
+        }
+    }
+
+    @Test
+    void testRollsSegmentsAndReadsAcrossThem() throws IOException {
+        try (LogArchive archive = new LogArchive(directory, 4096)) {
+            for (int i = 0; i < 2000; i += 100) {
+                archive.appendAll(lines(i, 100));
+            }
+
+            assertTrue(archive.getSegmentCount() > 10);
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(archive.getSegmentCount(), files.count());
+            }
+            for (int line = 0; line < 2000; line += 97) {
+                assertEquals("line " + line, archive.read(line, 1).get(0).toString());
+            }
+            List<LogLine> all = archive.read(0, 2000);
+            assertEquals("line 1999", all.get(1999).toString());
+        }
+    }
+
+    @Test
+    void testFindsFirstLineAtTimestamp() throws IOException {
+        try (LogArchive archive = new LogArchive(directory)) {
+            archive.appendAll(lines(0, 5000));
+
+            assertEquals(0, archive.findLine(Long.MIN_VALUE + 1));
+            assertEquals(1234, archive.findLine(1234 * SECOND));
+            assertEquals(1235, archive.findLine(1234 * SECOND + 1));
+            assertEquals(4999, archive.findLine(4999 * SECOND));
+            assertEquals(5000, archive.findLine(5000 * SECOND));
+        }
+    }
+
+    @Test
+    void testUntimedLinesCountWithPreviousLine() throws IOException {
+        try (LogArchive archive = new LogArchive(directory)) {
+            archive.appendAll(lines(0, 10));
+            archive.appendAll(List.of(LogLine.of("continued", LogStyle.DEFAULT)));
+            archive.appendAll(lines(20, 1));
+
+            assertEquals(9, archive.findLine(9 * SECOND));
+            assertEquals(11, archive.findLine(9 * SECOND + 1));
+            assertEquals("continued", archive.read(10, 1).get(0).toString());
+            assertEquals(LogLine.NO_TIMESTAMP, archive.read(10, 1).get(0).getTimestamp());
+        }
+    }
+
+    @Test
+    void testArchiveListShowsNewLinesOnRefresh() throws IOException {
+        try (LogArchive archive = new LogArchive(directory)) {
+            archive.appendAll(lines(0, 300));
+            LogArchiveLines list = new LogArchiveLines(archive);
+            assertEquals("line 299", list.get(299).toString());
+
+            archive.appendAll(lines(300, 10));
+            assertEquals(300, list.size());
+            list.refresh();
+
+            assertEquals(310, list.size());
+            assertEquals("line 309", list.get(309).toString());
+            assertEquals(305, list.indexAt(305 * SECOND));
+        }
+    }
+
+    @Test
+    void testReadsAfterClose() throws IOException {
+        LogArchive archive = new LogArchive(directory);
+        archive.appendAll(lines(0, 300));
+        LogArchiveLines list = new LogArchiveLines(archive);
+        archive.appendAll(lines(300, 10));
+        archive.close();
+
+        list.refresh();
+        assertEquals("line 309", list.get(309).toString());
+        assertEquals(305, archive.findLine(305 * SECOND));
+    }
+
+    @Test
+    void testReopensClosedSession() throws IOException {
+        try (LogArchive archive = new LogArchive(directory, 4096)) {
+            archive.appendAll(lines(0, 1000));
+        }
+
+        try (LogArchive reopened = LogArchive.open(directory)) {
+            assertEquals(1000, reopened.size());
+            assertTrue(reopened.getSegmentCount() > 1);
+            assertEquals("line 777", reopened.read(777, 1).get(0).toString());
+            assertEquals(640, reopened.findLine(640 * SECOND));
+            assertThrows(IOException.class, () -> reopened.appendAll(lines(1000, 1)));
+        }
+    }
+
+    @Test
+    void testReopenedSessionEndsAtCutRecord() throws IOException {
+        try (LogArchive archive = new LogArchive(directory)) {
+            archive.appendAll(lines(0, 10));
+        }
+        Path segment = directory.resolve("segment-000000.log");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(segment) - 3);
+        }
+
+        try (LogArchive reopened = LogArchive.open(directory)) {
+            assertEquals(9, reopened.size());
+            assertEquals("line 8", reopened.read(8, 5).get(0).toString());
+        }
+    }
+
+    @Test
+    void testPrunesOldestSessionsBeyondSize() throws IOException {
+        for (int i = 0; i < 4; i++) {
+            Path session = directory.resolve("session-" + i);
+            try (LogArchive archive = new LogArchive(session)) {
+                archive.appendAll(lines(0, 100));
+            }
+            FileTime time = FileTime.fromMillis(1_000_000L * (i + 1));
+            Files.setLastModifiedTime(session.resolve("segment-000000.log"), time);
+            Files.setLastModifiedTime(session, time);
+        }
+        long sessionBytes = Files.size(directory.resolve("session-0").resolve("segment-000000.log"));
+
+        int deleted = LogArchive.pruneSessions(directory, 2 * sessionBytes, List.of(directory.resolve("session-0")));
+
+        assertEquals(2, deleted);
+        assertTrue(Files.exists(directory.resolve("session-0")));
+        assertFalse(Files.exists(directory.resolve("session-1")));
+        assertFalse(Files.exists(directory.resolve("session-2")));
+        assertTrue(Files.exists(directory.resolve("session-3")));
+    }
+
+    @Test
+    void testRejectsAppendAfterClose() throws IOException {
+        LogArchive archive = new LogArchive(directory);
+        archive.close();
+        assertThrows(IOException.class, () -> archive.appendAll(lines(0, 1)));
+    }
+}
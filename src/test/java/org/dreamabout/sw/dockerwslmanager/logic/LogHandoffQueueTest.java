@@ -0,0 +1,140 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.dreamabout.sw.dockerwslmanager.model.LogOverflowPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogHandoffQueueTest {
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final List<String> delivered = new ArrayList<>();
+    private long droppedSeen;
+
+    private LogHandoffQueue queue(int maxLines, long maxChars, LogOverflowPolicy policy) {
+        return new LogHandoffQueue(maxLines, maxChars, policy, scheduled::add, (lines, dropped) -> {
+            lines.forEach(line -> delivered.add(line.toString()));
+            droppedSeen = dropped;
+        });
+    }
+
+    private void runScheduled() {
+        List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    void testDeliversInOrderWithOneDrainPerBatch() throws InterruptedException {
+        LogHandoffQueue queue = queue(10, 1000, LogOverflowPolicy.DROP_OLDEST);
+        queue.offer(lines("a", "b"));
+        queue.offer(lines("c"));
+
+        assertEquals(1, scheduled.size());
+        runScheduled();
+        assertEquals(List.of("a", "b", "c"), delivered);
+        assertEquals(0, queue.size());
+
+        queue.offer(lines("d"));
+        assertEquals(1, scheduled.size());
+    }
+
+    @Test
+    void testDropOldestKeepsNewestLines() throws InterruptedException {
+        LogHandoffQueue queue = queue(3, 1000, LogOverflowPolicy.DROP_OLDEST);
+        queue.offer(lines("1", "2", "3", "4", "5"));
+        runScheduled();
+
+        assertEquals(List.of("3", "4", "5"), delivered);
+        assertEquals(2, queue.getDroppedCount());
+        assertEquals(2, droppedSeen);
+    }
+
+    @Test
+    void testCharacterLimitBoundsQueue() throws InterruptedException {
+        LogHandoffQueue queue = queue(100, 10, LogOverflowPolicy.DROP_OLDEST);
+        queue.offer(lines("aaaa", "bbbb", "cccc"));
+        runScheduled();
+
+        assertEquals(List.of("bbbb", "cccc"), delivered);
+        assertEquals(1, queue.getDroppedCount());
+    }
+
+    @Test
+    void testSampleKeepsOneInTenWhileFull() throws InterruptedException {
+        LogHandoffQueue queue = queue(5, 1000, LogOverflowPolicy.SAMPLE);
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 105; i++) {
+            texts.add(String.valueOf(i));
+        }
+        queue.offer(lines(texts.toArray(new String[0])));
+        runScheduled();
+
+        assertEquals(5, delivered.size());
+        // 100 lines arrived while full; every tenth was kept, each pushing out the oldest
+        assertEquals(List.of("55", "65", "75", "85", "95"), delivered);
+        assertEquals(100, queue.getDroppedCount());
+    }
+
+    @Test
+    void testBlockWaitsForConsumer() throws Exception {
+        LogHandoffQueue queue = new LogHandoffQueue(2, 1000, LogOverflowPolicy.BLOCK, scheduled::add,
+                (lines, dropped) -> lines.forEach(line -> delivered.add(line.toString())));
+        queue.offer(lines("a", "b"));
+        CountDownLatch done = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                queue.offer(lines("c"));
+                done.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertFalse(done.await(100, TimeUnit.MILLISECONDS), "producer should block while full");
+        runScheduled();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        runScheduled();
+
+        assertEquals(List.of("a", "b", "c"), delivered);
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    void testCloseReleasesBlockedProducerAndDiscards() throws Exception {
+        LogHandoffQueue queue = queue(1, 1000, LogOverflowPolicy.BLOCK);
+        queue.offer(lines("a"));
+        Thread producer = new Thread(() -> {
+            try {
+                queue.offer(lines("b"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        Thread.sleep(50);
+
+        queue.close();
+        producer.join(5000);
+        runScheduled();
+
+        assertFalse(producer.isAlive());
+        assertTrue(delivered.isEmpty());
+        queue.offer(lines("c"));
+        assertTrue(scheduled.isEmpty());
+    }
+
+    private static List<LogLine> lines(String... texts) {
+        List<LogLine> lines = new ArrayList<>();
+        for (String text : texts) {
+            lines.add(LogLine.of(text, LogStyle.DEFAULT));
+        }
+        return lines;
+    }
+}
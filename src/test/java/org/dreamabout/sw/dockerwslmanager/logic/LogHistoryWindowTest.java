@@ -0,0 +1,67 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogHistoryWindowTest {
+    private static final long NANOS = 1_000_000_000L;
+    private static final long CREATED = 1_000_000;
+
+    @Test
+    void testFirstWindowFollowsInitialRate() {
+        LogHistoryWindow window = new LogHistoryWindow(CREATED, 1000);
+        // 200 lines over 20 seconds: 10 lines/s, so a 1000-line page is 100 seconds
+        window.start((CREATED + 5000) * NANOS + 500, (CREATED + 5020) * NANOS, 200);
+
+        assertEquals(CREATED + 5001, window.getUntil());
+        assertEquals(CREATED + 4901, window.getSince());
+        assertFalse(window.isExhausted());
+    }
+
+    @Test
+    void testQuietWindowsDoubleAndEndAtCreation() {
+        LogHistoryWindow window = new LogHistoryWindow(CREATED, 1000);
+        window.start((CREATED + 10_000) * NANOS, (CREATED + 10_000) * NANOS, 1);
+        assertEquals(CREATED + 10_001 - LogHistoryWindow.DEFAULT_WINDOW_SECONDS, window.getSince());
+
+        window.completed(0, false, 0);
+        assertEquals(CREATED + 10_001 - LogHistoryWindow.DEFAULT_WINDOW_SECONDS, window.getUntil());
+        assertEquals(CREATED, window.getSince());
+        assertFalse(window.isExhausted());
+
+        window.completed(0, false, 0);
+        assertTrue(window.isExhausted());
+    }
+
+    @Test
+    void testTruncatedPageContinuesBeforeOldestKeptLine() {
+        LogHistoryWindow window = new LogHistoryWindow(CREATED, 100);
+        window.start((CREATED + 1000) * NANOS, (CREATED + 1010) * NANOS, 100);
+        assertEquals(10, window.getUntil() - window.getSince());
+
+        window.completed(400, true, (CREATED + 995) * NANOS + 7);
+
+        assertEquals(CREATED + 996, window.getUntil());
+        assertEquals(CREATED + 994, window.getSince());
+    }
+
+    @Test
+    void testFullPageKeepsWindow() {
+        LogHistoryWindow window = new LogHistoryWindow(CREATED, 100);
+        window.start((CREATED + 1000) * NANOS, (CREATED + 1010) * NANOS, 100);
+
+        window.completed(100, false, 0);
+
+        assertEquals(CREATED + 991, window.getUntil());
+        assertEquals(CREATED + 981, window.getSince());
+    }
+
+    @Test
+    void testNothingBeforeCreation() {
+        LogHistoryWindow window = new LogHistoryWindow(CREATED, 100);
+        window.start((CREATED - 1) * NANOS, CREATED * NANOS, 2);
+
+        assertTrue(window.isExhausted());
+    }
+}
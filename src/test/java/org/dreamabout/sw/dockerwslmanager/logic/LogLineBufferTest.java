@@ -0,0 +1,110 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import javafx.collections.ListChangeListener;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogLineBufferTest {
+
+    @Test
+    void testAppendWithinCapacity() {
+        LogLineBuffer buffer = new LogLineBuffer(5);
+        buffer.appendAll(lines("a", "b", "c"));
+
+        assertEquals(3, buffer.size());
+        assertEquals("a", buffer.get(0).toString());
+        assertEquals("c", buffer.get(2).toString());
+        assertEquals(0, buffer.getEvictedCount());
+    }
+
+    @Test
+    void testEvictsOldestLines() {
+        LogLineBuffer buffer = new LogLineBuffer(3);
+        buffer.appendAll(lines("a", "b", "c"));
+        buffer.appendAll(lines("d", "e"));
+
+        assertEquals(3, buffer.size());
+        assertEquals(List.of("c", "d", "e"), texts(buffer));
+        assertEquals(2, buffer.getEvictedCount());
+    }
+
+    @Test
+    void testBatchLargerThanCapacityKeepsTail() {
+        LogLineBuffer buffer = new LogLineBuffer(2);
+        buffer.append(LogLine.of("old", LogStyle.DEFAULT));
+        buffer.appendAll(lines("a", "b", "c", "d"));
+
+        assertEquals(List.of("c", "d"), texts(buffer));
+        assertEquals(3, buffer.getEvictedCount());
+    }
+
+    @Test
+    void testChangeEventReportsEvictionAndAppend() {
+        LogLineBuffer buffer = new LogLineBuffer(3);
+        buffer.appendAll(lines("a", "b", "c"));
+        List<String> events = new ArrayList<>();
+        buffer.addListener((ListChangeListener<LogLine>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    events.add("removed " + change.getFrom() + " x" + change.getRemovedSize());
+                }
+                if (change.wasAdded()) {
+                    events.add("added " + change.getFrom() + ".." + change.getTo());
+                }
+            }
+        });
+
+        buffer.appendAll(lines("d"));
+
+        assertEquals(List.of("removed 0 x1", "added 2..3"), events);
+    }
+
+    @Test
+    void testClear() {
+        LogLineBuffer buffer = new LogLineBuffer(3);
+        buffer.appendAll(lines("a", "b", "c", "d"));
+        buffer.clear();
+
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.getEvictedCount());
+        buffer.appendAll(lines("x"));
+        assertEquals(List.of("x"), texts(buffer));
+    }
+
+    @Test
+    void testPrependUsesFreeCapacityOnly() {
+        LogLineBuffer buffer = new LogLineBuffer(4);
+        buffer.appendAll(lines("c", "d"));
+
+        assertEquals(2, buffer.prependAll(lines("x", "a", "b")));
+        assertEquals(List.of("a", "b", "c", "d"), texts(buffer));
+        assertEquals(-2, buffer.getFirstLineNumber());
+        assertEquals(0, buffer.prependAll(lines("older")));
+
+        buffer.appendAll(lines("e"));
+        assertEquals(List.of("b", "c", "d", "e"), texts(buffer));
+        assertEquals(-1, buffer.getFirstLineNumber());
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LogLineBuffer(0));
+    }
+
+    private static List<LogLine> lines(String... texts) {
+        List<LogLine> result = new ArrayList<>();
+        for (String text : texts) {
+            result.add(LogLine.of(text, LogStyle.DEFAULT));
+        }
+        return result;
+    }
+
+    private static List<String> texts(LogLineBuffer buffer) {
+        return buffer.stream().map(LogLine::toString).toList();
+    }
+}
@@ -0,0 +1,146 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSearchIndexTest {
+
+    @Test
+    void testFindsMatchPositionsInOrder() {
+        LogSearchIndex index = new LogSearchIndex(2);
+        index.appendAll(lines("INFO start", "ERROR disk full", "INFO ok", "ERROR again, ERROR twice"));
+
+        LogSearchIndex.Matches matches = index.snapshot().search(Pattern.compile("ERROR"));
+
+        assertEquals(3, matches.getTotal());
+        assertEquals(3, matches.size());
+        assertEquals(1, matches.getLine(0));
+        assertEquals(0, matches.getStart(0));
+        assertEquals(5, matches.getEnd(0));
+        assertEquals(3, matches.getLine(2));
+        assertEquals(13, matches.getStart(2));
+        assertEquals(4, matches.getEndLine());
+    }
+
+    @Test
+    void testRegexAndCaseInsensitiveSearch() {
+        LogSearchIndex index = new LogSearchIndex();
+        index.appendAll(lines("took 12ms", "Took 7ms", "took long"));
+
+        assertEquals(2, index.snapshot().search(Pattern.compile("took \\d+ms", Pattern.CASE_INSENSITIVE)).getTotal());
+        assertEquals(1, index.snapshot().search(Pattern.compile("took \\d+ms")).getTotal());
+    }
+
+    @Test
+    void testSkipsBlocksWithoutRequiredTrigrams() {
+        LogSearchIndex index = new LogSearchIndex(10);
+        List<LogLine> batch = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            batch.add(LogLine.of(i == 555 ? "connection refused" : "GET /health 200", LogStyle.DEFAULT));
+        }
+        index.appendAll(batch);
+
+        LogSearchIndex.Matches matches = index.snapshot().search(Pattern.compile("conn\\w+ refused"));
+
+        assertEquals(1, matches.getTotal());
+        assertEquals(555, matches.getLine(0));
+        assertTrue(matches.getScannedLines() <= 20, "scanned " + matches.getScannedLines());
+    }
+
+    @Test
+    void testEvictedLinesAreNotReported() {
+        LogSearchIndex index = new LogSearchIndex(2);
+        index.appendAll(lines("hit 0", "hit 1", "hit 2", "hit 3", "hit 4"));
+        index.evictBefore(3);
+
+        LogSearchIndex.Matches matches = index.snapshot().search(Pattern.compile("hit"));
+
+        assertEquals(3, index.getFirstLine());
+        assertEquals(2, matches.getTotal());
+        assertEquals(3, matches.getLine(0));
+        assertEquals(4, matches.getLine(1));
+    }
+
+    @Test
+    void testPrependNumbersLinesDownwards() {
+        LogSearchIndex index = new LogSearchIndex(2);
+        index.appendAll(lines("hit new"));
+        index.prependAll(lines("hit a", "miss", "hit b"));
+
+        LogSearchIndex.Matches matches = index.snapshot().search(Pattern.compile("hit"));
+
+        assertEquals(-3, index.getFirstLine());
+        assertEquals(3, matches.getTotal());
+        assertEquals(-3, matches.getLine(0));
+        assertEquals(-1, matches.getLine(1));
+        assertEquals(0, matches.getLine(2));
+    }
+
+    @Test
+    void testSnapshotIgnoresLaterAppends() {
+        LogSearchIndex index = new LogSearchIndex(4);
+        index.appendAll(lines("match", "other"));
+        LogSearchIndex.Snapshot snapshot = index.snapshot();
+        index.appendAll(lines("match", "match"));
+
+        assertEquals(1, snapshot.search(Pattern.compile("match")).getTotal());
+        assertEquals(3, index.snapshot().search(Pattern.compile("match")).getTotal());
+    }
+
+    @Test
+    void testClearRestartsNumbering() {
+        LogSearchIndex index = new LogSearchIndex();
+        index.appendAll(lines("a", "b"));
+        index.evictBefore(1);
+        index.clear();
+        index.appendAll(lines("needle"));
+
+        LogSearchIndex.Matches matches = index.snapshot().search(Pattern.compile("needle"));
+        assertEquals(0, matches.getLine(0));
+        assertEquals(0, index.getFirstLine());
+    }
+
+    @Test
+    void testIndexAtOrAfter() {
+        LogSearchIndex index = new LogSearchIndex();
+        index.appendAll(lines("x", "x", "y", "x"));
+        LogSearchIndex.Matches matches = index.snapshot().search(Pattern.compile("x"));
+
+        assertEquals(0, matches.indexAtOrAfter(0));
+        assertEquals(2, matches.indexAtOrAfter(2));
+        assertEquals(3, matches.indexAtOrAfter(4));
+    }
+
+    @Test
+    void testRequiredLiteral() {
+        assertEquals("error", literal("error"));
+        assertEquals("ection", literal("con+ection"));
+        assertEquals(" refused", literal("conn\\w+ refused"));
+        assertEquals("[WARN]", literal("\\[WARN\\]"));
+        assertEquals("xyz", literal("(a|b)xyz"));
+        assertEquals("bcd", literal("[xy]+bcd"));
+        assertEquals("a.b", LogSearchIndex.requiredLiteral(Pattern.compile("a.b", Pattern.LITERAL)));
+        assertNull(literal("ab?cd"));
+        assertNull(literal("timeout|error"));
+        assertNull(literal("\\d+ms"));
+        assertEquals("colo", literal("colou?r"));
+    }
+
+    private static String literal(String regex) {
+        return LogSearchIndex.requiredLiteral(Pattern.compile(regex));
+    }
+
+    private static List<LogLine> lines(String... texts) {
+        List<LogLine> lines = new ArrayList<>();
+        for (String text : texts) {
+            lines.add(LogLine.of(text, LogStyle.DEFAULT));
+        }
+        return lines;
+    }
+}
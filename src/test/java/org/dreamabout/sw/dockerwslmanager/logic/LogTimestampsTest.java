@@ -0,0 +1,60 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogTimestampsTest {
+
+    @Test
+    void testParsesDockerTimestamps() {
+        assertEquals(nanos("2024-05-01T12:00:00.123456789Z"), parse("2024-05-01T12:00:00.123456789Z"));
+        assertEquals(nanos("2024-02-29T23:59:59Z"), parse("2024-02-29T23:59:59Z"));
+        assertEquals(nanos("1999-12-31T00:00:00.5Z"), parse("1999-12-31T00:00:00.5Z"));
+        assertEquals(nanos("2024-05-01T10:30:00Z"), parse("2024-05-01T12:00:00+01:30"));
+    }
+
+    @Test
+    void testRejectsOtherText() {
+        assertEquals(LogLine.NO_TIMESTAMP, parse("INFO starting application"));
+        assertEquals(LogLine.NO_TIMESTAMP, parse("2024-13-01T12:00:00Z"));
+        assertEquals(LogLine.NO_TIMESTAMP, parse("2024-05-01T12:00:00"));
+        assertEquals(LogLine.NO_TIMESTAMP, parse("2024-05-01 12:00:00Z"));
+    }
+
+    @Test
+    void testStrippingSinkMovesPrefixIntoTimestamp() {
+        List<LogLine> lines = new ArrayList<>();
+        AnsiParser parser = new AnsiParser(LogTimestamps.stripping(lines::add));
+        parser.feed("2024-05-01T12:00:00.000000001Z \u001B[31mERROR\u001B[0m failed\nplain line\n");
+
+        assertEquals(2, lines.size());
+        LogLine first = lines.get(0);
+        assertEquals("ERROR failed", first.toString());
+        assertEquals(nanos("2024-05-01T12:00:00.000000001Z"), first.getTimestamp());
+        assertEquals(0, first.getRunOffset(0));
+        assertEquals(5, first.getRunLength(0));
+        assertEquals("plain line", lines.get(1).toString());
+        assertEquals(LogLine.NO_TIMESTAMP, lines.get(1).getTimestamp());
+    }
+
+    @Test
+    void testToEpochSecondRoundsDown() {
+        assertEquals(1, LogTimestamps.toEpochSecond(1_999_999_999L));
+        assertEquals(-1, LogTimestamps.toEpochSecond(-1L));
+    }
+
+    private static long parse(String text) {
+        return LogTimestamps.parse(text.toCharArray(), text.length());
+    }
+
+    private static long nanos(String instant) {
+        Instant parsed = Instant.parse(instant);
+        return parsed.getEpochSecond() * 1_000_000_000L + parsed.getNano();
+    }
+}
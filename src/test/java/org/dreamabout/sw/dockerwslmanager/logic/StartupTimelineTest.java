@@ -0,0 +1,42 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupTimelineTest {
+
+    @Test
+    void testPhasesMeasuredFromOrigin() {
+        AtomicLong now = new AtomicLong(1_000);
+        StartupTimeline timeline = new StartupTimeline(1_000, now::get);
+
+        now.set(1_150);
+        assertTrue(timeline.mark("main() entered"));
+        now.set(1_400);
+        assertTrue(timeline.mark("FXML loaded"));
+        now.set(1_500);
+        assertFalse(timeline.mark("main() entered"));
+
+        List<StartupTimeline.Phase> phases = timeline.getPhases();
+        assertEquals(2, phases.size());
+        assertEquals(new StartupTimeline.Phase("main() entered", 150, 150), phases.get(0));
+        assertEquals(new StartupTimeline.Phase("FXML loaded", 400, 250), phases.get(1));
+        assertTrue(timeline.isMarked("FXML loaded"));
+    }
+
+    @Test
+    void testFormat() {
+        AtomicLong now = new AtomicLong(0);
+        StartupTimeline timeline = new StartupTimeline(0, now::get);
+        assertEquals("No startup phases recorded", timeline.format());
+
+        now.set(42);
+        timeline.mark("connected");
+        assertTrue(timeline.format().startsWith("connected"));
+        assertTrue(timeline.format().endsWith("42 ms  (+42 ms)"));
+    }
+}
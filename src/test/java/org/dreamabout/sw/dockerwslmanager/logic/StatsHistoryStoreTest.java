@@ -0,0 +1,31 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsHistoryStoreTest {
+
+    @Test
+    void testReturnsSameHistoryForContainer() {
+        StatsHistoryStore store = new StatsHistoryStore(10, 5);
+
+        StatsHistory history = store.get("c1");
+
+        assertSame(history, store.get("c1"));
+        assertEquals(10, history.capacity());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedContainer() {
+        StatsHistoryStore store = new StatsHistoryStore(10, 2);
+        StatsHistory first = store.get("c1");
+        store.get("c2");
+        store.get("c1");
+
+        store.get("c3");
+
+        assertEquals(2, store.size());
+        assertSame(first, store.get("c1"));
+    }
+}
@@ -0,0 +1,92 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.dreamabout.sw.dockerwslmanager.model.ContainerIoRates;
+import org.dreamabout.sw.dockerwslmanager.model.ContainerStats;
+import org.dreamabout.sw.dockerwslmanager.model.IoRates;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsHistoryTest {
+
+    private static ContainerStats stats(double cpu, long memory, long netRead, long diskRead) {
+        return new ContainerStats("c1", cpu, memory, 0, netRead, 0, diskRead, 0);
+    }
+
+    @Test
+    void testRingOverwritesOldestSamples() {
+        StatsHistory history = new StatsHistory(3);
+        for (int i = 1; i <= 5; i++) {
+            history.record(i * 1000L, stats(i, 0, 0, 0));
+        }
+
+        assertEquals(3, history.size());
+        assertEquals(5.0, history.latest(StatsHistory.CPU));
+
+        double[] min = new double[5];
+        double[] max = new double[5];
+        history.downsample(StatsHistory.CPU, 1000, 6000, min, max);
+        // Samples 1 and 2 have been overwritten
+        assertTrue(Double.isNaN(min[0]));
+        assertTrue(Double.isNaN(min[1]));
+        assertEquals(3.0, min[2]);
+        assertEquals(5.0, max[4]);
+    }
+
+    @Test
+    void testStoresIoRatesOfSample() {
+        StatsHistory history = new StatsHistory(10);
+        ContainerIoRates rates = new ContainerIoRates(new IoRates("network", 2000, 100, 0, 0),
+                new IoRates("disk", 2048, 4096, 0, 0), List.of(), List.of());
+        history.record(1000, new ContainerStats("c1", 0, 0, 0, 0, 0, 0, 0, List.of(), List.of(), rates));
+
+        assertEquals(2000.0, history.latest(StatsHistory.NET_READ));
+        assertEquals(100.0, history.latest(StatsHistory.NET_WRITE));
+        assertEquals(2048.0, history.latest(StatsHistory.DISK_READ));
+        assertEquals(4096.0, history.latest(StatsHistory.DISK_WRITE));
+    }
+
+    @Test
+    void testUnknownRatesLeaveGaps() {
+        StatsHistory history = new StatsHistory(10);
+        history.record(0, stats(10, 0, 1000, 0));
+
+        assertTrue(Double.isNaN(history.latest(StatsHistory.NET_READ)));
+        assertTrue(Double.isNaN(history.latest(StatsHistory.DISK_WRITE)));
+        assertEquals(10.0, history.latest(StatsHistory.CPU));
+    }
+
+    @Test
+    void testDownsampleKeepsMinAndMaxPerBucket() {
+        StatsHistory history = new StatsHistory(100);
+        double[] values = {10, 90, 20, 30, 5, 40};
+        for (int i = 0; i < values.length; i++) {
+            history.record(i * 1000L, stats(values[i], 0, 0, 0));
+        }
+
+        double[] min = new double[2];
+        double[] max = new double[2];
+        double peak = history.downsample(StatsHistory.CPU, 0, 6000, min, max);
+
+        assertEquals(90.0, peak);
+        assertEquals(10.0, min[0]);
+        assertEquals(90.0, max[0]);
+        assertEquals(5.0, min[1]);
+        assertEquals(40.0, max[1]);
+    }
+
+    @Test
+    void testDownsampleOfEmptyWindow() {
+        StatsHistory history = new StatsHistory(10);
+        history.record(1000, stats(50, 0, 0, 0));
+
+        double[] min = new double[4];
+        double[] max = new double[4];
+        double peak = history.downsample(StatsHistory.CPU, 5000, 9000, min, max);
+
+        assertTrue(Double.isNaN(peak));
+        assertTrue(Double.isNaN(max[0]));
+    }
+}
@@ -0,0 +1,76 @@
+package org.dreamabout.sw.dockerwslmanager.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Utf8StreamDecoderTest {
+    private static final String TEXT = "žluťoučký kůň → 日本語 😀 done\n";
+
+    private final StringBuilder out = new StringBuilder();
+
+    @Test
+    void testDecodesWholeInput() {
+        Utf8StreamDecoder decoder = new Utf8StreamDecoder(out::append);
+        decoder.decode(TEXT.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(TEXT, out.toString());
+    }
+
+    @Test
+    void testCharactersSplitAtEveryBoundary() {
+        byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+        for (int split = 0; split <= bytes.length; split++) {
+            out.setLength(0);
+            Utf8StreamDecoder decoder = new Utf8StreamDecoder(out::append);
+            decoder.decode(Arrays.copyOfRange(bytes, 0, split));
+            decoder.decode(Arrays.copyOfRange(bytes, split, bytes.length));
+
+            assertEquals(TEXT, out.toString(), "split at " + split);
+        }
+    }
+
+    @Test
+    void testOneByteFrames() {
+        Utf8StreamDecoder decoder = new Utf8StreamDecoder(out::append);
+        for (byte b : TEXT.getBytes(StandardCharsets.UTF_8)) {
+            decoder.decode(new byte[]{b});
+        }
+
+        assertEquals(TEXT, out.toString());
+    }
+
+    @Test
+    void testOutputLargerThanBuffer() {
+        String text = "ä".repeat(100) + "😀".repeat(50);
+        Utf8StreamDecoder decoder = new Utf8StreamDecoder(out::append, 7);
+        decoder.decode(text.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(text, out.toString());
+    }
+
+    @Test
+    void testMalformedInputIsReplaced() {
+        Utf8StreamDecoder decoder = new Utf8StreamDecoder(out::append);
+        decoder.decode(new byte[]{'a', (byte) 0xFF, 'b'});
+        decoder.decode(new byte[]{(byte) 0xF0, (byte) 0x9F});
+        decoder.decode(new byte[]{'c'});
+
+        assertEquals("a�b�c", out.toString());
+    }
+
+    @Test
+    void testFlushReplacesTruncatedSequenceAndResets() {
+        Utf8StreamDecoder decoder = new Utf8StreamDecoder(out::append);
+        decoder.decode(new byte[]{'x', (byte) 0xE2, (byte) 0x86});
+        assertEquals("x", out.toString());
+
+        decoder.flush();
+        decoder.decode("ok".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("x�ok", out.toString());
+    }
+}
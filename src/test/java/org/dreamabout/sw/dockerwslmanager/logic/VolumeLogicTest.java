@@ -3,6 +3,7 @@ package org.dreamabout.sw.dockerwslmanager.logic;
 import com.github.dockerjava.api.command.InspectVolumeResponse;
 import com.github.dockerjava.api.model.Container;
 import com.github.dockerjava.api.model.ContainerMount;
+import com.github.dockerjava.api.model.DockerObjectAccessor;
 import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
@@ -125,4 +126,14 @@ class VolumeLogicTest {
         assertTrue(names.contains("vol1"));
         assertFalse(names.contains("vol2"));
     }
+
+    @Test
+    void testGetCreatedAt() {
+        // The client keeps fields without a typed getter in the raw values
+        InspectVolumeResponse vol = new InspectVolumeResponse();
+        DockerObjectAccessor.overrideRawValue(vol, "CreatedAt", "2024-05-01T10:00:00Z");
+        assertEquals("2024-05-01T10:00:00Z", logic.getCreatedAt(vol));
+
+        assertNull(logic.getCreatedAt(new InspectVolumeResponse()));
+    }
 }
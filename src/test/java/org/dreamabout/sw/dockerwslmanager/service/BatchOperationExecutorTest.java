@@ -0,0 +1,176 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.dreamabout.sw.dockerwslmanager.service.BatchOperationExecutor.Batch;
+import org.dreamabout.sw.dockerwslmanager.service.BatchOperationExecutor.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchOperationExecutorTest {
+
+    private BatchOperationExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    private static final class RecordingListener implements BatchOperationExecutor.Listener {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final Map<String, Exception> errors = new ConcurrentHashMap<>();
+        final CompletableFuture<Batch> finished = new CompletableFuture<>();
+
+        @Override
+        public void onStatus(String id, Status status, Exception error) {
+            events.add(id + ":" + status);
+            if (error != null) {
+                errors.put(id, error);
+            }
+        }
+
+        @Override
+        public void onFinished(Batch batch) {
+            finished.complete(batch);
+        }
+
+        Batch await() throws Exception {
+            return finished.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testItemsRunInParallel() throws Exception {
+        executor = new BatchOperationExecutor(4);
+        CountDownLatch allRunning = new CountDownLatch(4);
+        RecordingListener listener = new RecordingListener();
+
+        executor.submit(List.of("a", "b", "c", "d"), Map.of(), id -> {
+            allRunning.countDown();
+            // Only completes if all four items are running at the same time
+            if (!allRunning.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("not parallel");
+            }
+        }, listener);
+
+        Batch batch = listener.await();
+        assertEquals(4, batch.count(Status.SUCCEEDED));
+        assertTrue(batch.isDone());
+        assertTrue(batch.getElapsedMs() >= 0);
+    }
+
+    @Test
+    void testDependenciesFinishFirst() throws Exception {
+        executor = new BatchOperationExecutor(4);
+        List<String> order = new CopyOnWriteArrayList<>();
+        RecordingListener listener = new RecordingListener();
+
+        executor.submit(List.of("web", "api", "db"),
+                Map.of("web", Set.of("api"), "api", Set.of("db")),
+                order::add, listener);
+
+        listener.await();
+        assertEquals(List.of("db", "api", "web"), order);
+    }
+
+    @Test
+    void testFailedDependencyCancelsDependents() throws Exception {
+        executor = new BatchOperationExecutor(4);
+        List<String> order = new CopyOnWriteArrayList<>();
+        RecordingListener listener = new RecordingListener();
+
+        executor.submit(List.of("web", "api", "db", "cache"),
+                Map.of("web", Set.of("api"), "api", Set.of("db", "cache")),
+                id -> {
+                    order.add(id);
+                    if (id.equals("db")) {
+                        throw new IllegalStateException("boom");
+                    }
+                }, listener);
+
+        Batch batch = listener.await();
+        assertFalse(order.contains("api"));
+        assertFalse(order.contains("web"));
+        assertEquals(Status.FAILED, batch.getStatuses().get("db"));
+        assertEquals(Status.CANCELLED, batch.getStatuses().get("api"));
+        assertEquals(Status.CANCELLED, batch.getStatuses().get("web"));
+        assertEquals(Status.SUCCEEDED, batch.getStatuses().get("cache"));
+        BatchOperationExecutor.DependencyFailedException cause =
+                assertInstanceOf(BatchOperationExecutor.DependencyFailedException.class, listener.errors.get("web"));
+        assertEquals("db", cause.getDependency());
+        assertEquals(Status.FAILED, cause.getDependencyStatus());
+    }
+
+    @Test
+    void testFailuresAreReported() throws Exception {
+        executor = new BatchOperationExecutor(2);
+        RecordingListener listener = new RecordingListener();
+
+        executor.submit(List.of("ok", "bad"), Map.of(), id -> {
+            if (id.equals("bad")) {
+                throw new IllegalStateException("boom");
+            }
+        }, listener);
+
+        Batch batch = listener.await();
+        assertEquals(1, batch.count(Status.SUCCEEDED));
+        assertEquals(1, batch.count(Status.FAILED));
+        assertEquals(Status.FAILED, batch.getStatuses().get("bad"));
+        assertTrue(listener.events.contains("bad:RUNNING"));
+        assertTrue(listener.events.contains("bad:FAILED"));
+    }
+
+    @Test
+    void testCancelSkipsItemsNotStarted() throws Exception {
+        executor = new BatchOperationExecutor(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener listener = new RecordingListener();
+
+        Batch batch = executor.submit(List.of("a", "b", "c"), Map.of(), id -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+        }, listener);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        batch.cancel();
+        assertFalse(batch.isDone());
+        release.countDown();
+
+        listener.await();
+        assertEquals(1, batch.count(Status.SUCCEEDED));
+        assertEquals(2, batch.count(Status.CANCELLED));
+        assertTrue(batch.isCancelled());
+    }
+
+    @Test
+    void testDependencyCycleIsIgnored() throws Exception {
+        executor = new BatchOperationExecutor(2);
+        RecordingListener listener = new RecordingListener();
+
+        executor.submit(List.of("a", "b"), Map.of("a", Set.of("b"), "b", Set.of("a")), id -> { }, listener);
+
+        assertEquals(2, listener.await().count(Status.SUCCEEDED));
+    }
+
+    @Test
+    void testEmptyBatchFinishesImmediately() throws Exception {
+        executor = new BatchOperationExecutor(2);
+        RecordingListener listener = new RecordingListener();
+
+        executor.submit(List.of(), Map.of(), id -> { }, listener);
+
+        assertTrue(listener.await().isDone());
+    }
+}
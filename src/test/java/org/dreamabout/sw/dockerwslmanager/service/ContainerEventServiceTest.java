@@ -0,0 +1,91 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.ListContainersCmd;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventActor;
+import com.github.dockerjava.api.model.EventType;
+import org.dreamabout.sw.dockerwslmanager.logic.ContainerInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ContainerEventServiceTest {
+
+    private DockerClient eventsClient;
+    private DockerClient dockerClient;
+    private ListContainersCmd listCmd;
+    private ContainerInventory inventory;
+    private AtomicInteger changes;
+    private ContainerEventService service;
+
+    @BeforeEach
+    void setUp() {
+        eventsClient = mock(DockerClient.class);
+        dockerClient = mock(DockerClient.class);
+        listCmd = mock(ListContainersCmd.class);
+        when(dockerClient.listContainersCmd()).thenReturn(listCmd);
+        when(listCmd.withShowAll(anyBoolean())).thenReturn(listCmd);
+        when(listCmd.withIdFilter(any())).thenReturn(listCmd);
+        inventory = new ContainerInventory();
+        changes = new AtomicInteger();
+        service = new ContainerEventService(eventsClient, dockerClient, inventory, changes::incrementAndGet);
+    }
+
+    private static Event event(String action, String id) {
+        return new Event().withType(EventType.CONTAINER).withAction(action)
+                .withEventActor(new EventActor().withId(id));
+    }
+
+    private static Container container(String id) {
+        Container c = mock(Container.class);
+        when(c.getId()).thenReturn(id);
+        return c;
+    }
+
+    @Test
+    void testStartEventRequeriesOnlyAffectedContainer() {
+        Container updated = container("abc");
+        when(listCmd.exec()).thenReturn(List.of(updated));
+
+        service.handleEvent(event("start", "abc"));
+
+        verify(listCmd).withIdFilter(Collections.singleton("abc"));
+        verifyNoInteractions(eventsClient);
+        assertSame(updated, inventory.snapshot().get(0));
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    void testDestroyEventRemovesWithoutQuery() {
+        inventory.replaceAll(List.of(container("abc")));
+
+        service.handleEvent(event("destroy", "abc"));
+
+        verify(listCmd, never()).exec();
+        assertTrue(inventory.snapshot().isEmpty());
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    void testIrrelevantEventIsIgnored() {
+        service.handleEvent(event("exec_start: sh", "abc"));
+        service.handleEvent(new Event().withType(EventType.IMAGE).withAction("pull"));
+
+        verify(listCmd, never()).exec();
+        assertEquals(0, changes.get());
+    }
+}
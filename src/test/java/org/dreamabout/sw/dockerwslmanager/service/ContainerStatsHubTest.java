@@ -0,0 +1,123 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import com.github.dockerjava.api.model.Statistics;
+import org.dreamabout.sw.dockerwslmanager.model.ContainerStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContainerStatsHubTest {
+
+    private ContainerStatsService statsService;
+    private Closeable stream;
+    private ContainerStatsHub hub;
+
+    @BeforeEach
+    void setUp() {
+        statsService = mock(ContainerStatsService.class);
+        stream = mock(Closeable.class);
+        when(statsService.fetchRawStats(anyString(), any(), any(), any())).thenReturn(stream);
+        when(statsService.parseStatistics(anyString(), any()))
+                .thenAnswer(invocation -> new ContainerStats(invocation.getArgument(0), 0, 0, 0, 0, 0, 0, 0));
+        hub = new ContainerStatsHub(statsService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<Statistics> captureFrameConsumer() {
+        ArgumentCaptor<Consumer<Statistics>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(statsService).fetchRawStats(eq("c1"), captor.capture(), any(), any());
+        return captor.getValue();
+    }
+
+    @Test
+    void testSubscribersShareOneStream() {
+        hub.subscribe("c1", 0, stats -> { }, null);
+        hub.subscribe("c1", 0, stats -> { }, null);
+
+        verify(statsService, times(1)).fetchRawStats(eq("c1"), any(), any(), any());
+        assertEquals(1, hub.getStreamCount());
+    }
+
+    @Test
+    void testFrameIsParsedOnceForAllSubscribers() {
+        List<ContainerStats> first = new ArrayList<>();
+        List<ContainerStats> second = new ArrayList<>();
+        hub.subscribe("c1", 0, first::add, null);
+        hub.subscribe("c1", 0, second::add, null);
+        Consumer<Statistics> frames = captureFrameConsumer();
+
+        frames.accept(new Statistics());
+        frames.accept(new Statistics());
+        hub.tick();
+
+        verify(statsService, times(1)).parseStatistics(eq("c1"), any());
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        assertSame(first.get(0), second.get(0));
+    }
+
+    @Test
+    void testSameFrameIsNotDeliveredTwice() {
+        List<ContainerStats> received = new ArrayList<>();
+        hub.subscribe("c1", 0, received::add, null);
+        Consumer<Statistics> frames = captureFrameConsumer();
+
+        hub.tick();
+        verify(statsService, never()).parseStatistics(anyString(), any());
+
+        frames.accept(new Statistics());
+        hub.tick();
+        hub.tick();
+
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    void testLastUnsubscribeClosesStream() throws Exception {
+        ContainerStatsHub.Subscription first = hub.subscribe("c1", 0, stats -> { }, null);
+        ContainerStatsHub.Subscription second = hub.subscribe("c1", 0, stats -> { }, null);
+
+        first.close();
+        verify(stream, never()).close();
+
+        second.close();
+        verify(stream).close();
+        assertEquals(0, hub.getStreamCount());
+    }
+
+    @Test
+    void testStreamCompletionEndsSubscriptions() {
+        AtomicInteger ended = new AtomicInteger();
+        hub.subscribe("c1", 0, stats -> { }, ended::incrementAndGet);
+        hub.subscribe("c1", 0, stats -> { }, ended::incrementAndGet);
+        ArgumentCaptor<Runnable> onComplete = ArgumentCaptor.forClass(Runnable.class);
+        verify(statsService).fetchRawStats(eq("c1"), any(), onComplete.capture(), any());
+
+        onComplete.getValue().run();
+
+        assertEquals(2, ended.get());
+        assertEquals(0, hub.getStreamCount());
+    }
+}
@@ -0,0 +1,90 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.dreamabout.sw.dockerwslmanager.model.ContainerIoRates;
+import org.dreamabout.sw.dockerwslmanager.model.ContainerStats;
+import org.dreamabout.sw.dockerwslmanager.model.ContainerUsage;
+import org.dreamabout.sw.dockerwslmanager.model.IoRates;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContainerStatsSamplerTest {
+
+    private ContainerStatsService statsService;
+    private final List<ContainerUsage> samples = new CopyOnWriteArrayList<>();
+    private ContainerStatsSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        statsService = mock(ContainerStatsService.class);
+        // Long interval: the test drives sampling directly
+        sampler = new ContainerStatsSampler(statsService, 2, 3_600_000, 3_600_000, samples::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sampler.close();
+    }
+
+    private static ContainerStats stats(String id, long netRead, long netWrite) {
+        return new ContainerStats(id, 12.5, 100, 1000, netRead, netWrite, 0, 0);
+    }
+
+    @Test
+    void testSampleDeliversUsageForTarget() throws Exception {
+        when(statsService.sampleStats(eq("c1"), anyLong())).thenReturn(stats("c1", 10, 20));
+        sampler.setTargets(List.of("c1"));
+
+        sampler.sample("c1");
+
+        assertEquals(1, samples.size());
+        assertEquals(12.5, samples.get(0).getCpuPercentage());
+        assertEquals(100, samples.get(0).getMemoryUsage());
+        assertFalse(samples.get(0).hasNetworkRates());
+    }
+
+    @Test
+    void testContainerNoLongerTargetedIsSkipped() throws Exception {
+        sampler.setTargets(List.of("c2"));
+
+        sampler.sample("c1");
+
+        verify(statsService, never()).sampleStats(eq("c1"), anyLong());
+        assertTrue(samples.isEmpty());
+    }
+
+    @Test
+    void testSamplingErrorIsSwallowed() throws Exception {
+        when(statsService.sampleStats(eq("c1"), anyLong())).thenThrow(new IllegalStateException("gone"));
+        sampler.setTargets(List.of("c1"));
+
+        assertDoesNotThrow(() -> sampler.sample("c1"));
+        assertTrue(samples.isEmpty());
+    }
+
+    @Test
+    void testNetworkRatesComeFromStats() throws Exception {
+        ContainerIoRates rates = new ContainerIoRates(new IoRates("network", 1000.4, 499.6, 0, 0),
+                IoRates.unknown("disk"), List.of(), List.of());
+        when(statsService.sampleStats(eq("c1"), anyLong()))
+                .thenReturn(new ContainerStats("c1", 1, 2, 3, 0, 0, 0, 0, List.of(), List.of(), rates));
+        sampler.setTargets(List.of("c1"));
+
+        sampler.sample("c1");
+
+        assertTrue(samples.get(0).hasNetworkRates());
+        assertEquals(1000, samples.get(0).getNetworkReadRate());
+        assertEquals(500, samples.get(0).getNetworkWriteRate());
+    }
+}
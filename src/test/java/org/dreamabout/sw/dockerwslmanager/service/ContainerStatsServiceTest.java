@@ -3,12 +3,19 @@ package org.dreamabout.sw.dockerwslmanager.service;
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.async.ResultCallback;
 import com.github.dockerjava.api.command.StatsCmd;
+import com.github.dockerjava.api.model.Statistics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.dreamabout.sw.dockerwslmanager.model.ContainerIoRates;
 import org.dreamabout.sw.dockerwslmanager.model.ContainerStats;
+import org.dreamabout.sw.dockerwslmanager.model.IoCounters;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.io.Closeable;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -18,7 +25,7 @@ import static org.mockito.Mockito.when;
 class ContainerStatsServiceTest {
 
     @Test
-    void testFetchStatsReturnsCloseable() throws Exception {
+    void testFetchRawStatsReturnsCloseable() throws Exception {
         DockerClient dockerClient = mock(DockerClient.class);
         StatsCmd statsCmd = mock(StatsCmd.class);
         when(dockerClient.statsCmd(anyString())).thenReturn(statsCmd);
@@ -27,8 +34,66 @@ class ContainerStatsServiceTest {
         when(statsCmd.exec(any())).thenReturn((ResultCallback) callback);
 
         ContainerStatsService service = new ContainerStatsService(dockerClient);
-        Closeable closeable = service.fetchStats("container-id", stats -> {});
+        Closeable closeable = service.fetchRawStats("container-id", statistics -> {}, null, null);
         
         assertNotNull(closeable);
     }
+
+    private static Statistics statistics(String read, long eth0Rx, long diskRead) throws Exception {
+        String json = "{\"read\":\"" + read + "\","
+                + "\"networks\":{"
+                + "\"eth1\":{\"rx_bytes\":10,\"tx_bytes\":20,\"rx_packets\":1,\"tx_packets\":2},"
+                + "\"eth0\":{\"rx_bytes\":" + eth0Rx + ",\"tx_bytes\":200,\"rx_packets\":5,\"tx_packets\":6}},"
+                + "\"blkio_stats\":{"
+                + "\"io_service_bytes_recursive\":["
+                + "{\"major\":8,\"minor\":0,\"op\":\"Read\",\"value\":" + diskRead + "},"
+                + "{\"major\":8,\"minor\":0,\"op\":\"Write\",\"value\":300},"
+                + "{\"major\":8,\"minor\":0,\"op\":\"Total\",\"value\":999},"
+                + "{\"major\":8,\"minor\":16,\"op\":\"write\",\"value\":50}],"
+                + "\"io_serviced_recursive\":["
+                + "{\"major\":8,\"minor\":0,\"op\":\"Read\",\"value\":7},"
+                + "{\"major\":8,\"minor\":0,\"op\":\"Write\",\"value\":9}]}}";
+        return new ObjectMapper().readValue(json, Statistics.class);
+    }
+
+    @Test
+    void testParseStatisticsBreaksDownInterfacesAndDevices() throws Exception {
+        ContainerStatsService service = new ContainerStatsService(mock(DockerClient.class));
+
+        ContainerStats stats = service.parseStatistics("c1", statistics("2024-01-01T00:00:00Z", 100, 400));
+
+        assertEquals(110, stats.getNetworkReadBytes());
+        assertEquals(220, stats.getNetworkWriteBytes());
+        assertEquals(400, stats.getDiskReadBytes());
+        assertEquals(350, stats.getDiskWriteBytes());
+
+        List<IoCounters> interfaces = stats.getNetworkInterfaces();
+        assertEquals(List.of("eth0", "eth1"), interfaces.stream().map(IoCounters::getName).toList());
+        assertEquals(5, interfaces.get(0).getReadOps());
+
+        List<IoCounters> devices = stats.getBlockDevices();
+        assertEquals(List.of("8:0", "8:16"), devices.stream().map(IoCounters::getName).toList());
+        assertEquals(400, devices.get(0).getReadBytes());
+        assertEquals(300, devices.get(0).getWriteBytes());
+        assertEquals(7, devices.get(0).getReadOps());
+        assertEquals(9, devices.get(0).getWriteOps());
+        assertEquals(50, devices.get(1).getWriteBytes());
+
+        assertFalse(stats.getIoRates().getNetwork().isKnown());
+    }
+
+    @Test
+    void testParseStatisticsComputesRatesFromSampleTimestamps() throws Exception {
+        ContainerStatsService service = new ContainerStatsService(mock(DockerClient.class));
+        service.parseStatistics("c1", statistics("2024-01-01T00:00:00Z", 100, 400));
+
+        ContainerStats stats = service.parseStatistics("c1", statistics("2024-01-01T00:00:02Z", 2100, 4400));
+
+        ContainerIoRates rates = stats.getIoRates();
+        assertEquals(1000.0, rates.getNetwork().getReadBytesPerSecond());
+        assertEquals(0.0, rates.getNetwork().getWriteBytesPerSecond());
+        assertEquals(2000.0, rates.getDisk().getReadBytesPerSecond());
+        assertEquals(1000.0, rates.getInterfaces().get(0).getReadBytesPerSecond());
+        assertEquals(0.0, rates.getInterfaces().get(1).getReadBytesPerSecond());
+    }
 }
@@ -0,0 +1,68 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiscoveryServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testProbesRunInParallel() throws Exception {
+        // Each probe waits for the other to start, so they can only finish if they run at once
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        DiscoveryService.CommandRunner runner = (charset, command) -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            return command[1].equals("hostname") ? "172.20.0.2 10.0.0.5" : "Ubuntu";
+        };
+        try (DiscoveryService service = new DiscoveryService(tempDir.resolve("discovery.properties"), runner, true)) {
+            service.start();
+
+            assertEquals("172.20.0.2", service.awaitWslIp());
+            assertEquals("Ubuntu", service.getDefaultDistro().get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testRemembersEndpointAndDistroAcrossLaunches() throws Exception {
+        Path file = tempDir.resolve("discovery.properties");
+        try (DiscoveryService service = new DiscoveryService(file, (charset, command) -> "Debian", true)) {
+            service.start();
+            service.getDefaultDistro().get(5, TimeUnit.SECONDS);
+            service.rememberEndpoint("npipe:////./pipe/docker_engine");
+        }
+
+        try (DiscoveryService next = new DiscoveryService(file, (charset, command) -> null, true)) {
+            assertEquals("npipe:////./pipe/docker_engine", next.getCachedEndpoint());
+            assertEquals("Debian", next.getCachedDistro());
+        }
+    }
+
+    @Test
+    void testWithoutWslNothingRuns() {
+        try (DiscoveryService service = new DiscoveryService(tempDir.resolve("discovery.properties"),
+                (charset, command) -> fail("no command expected"), false)) {
+            service.start();
+
+            assertNull(service.awaitWslIp());
+            assertNull(service.getDefaultDistro().getNow("pending"));
+            assertNull(service.getCachedEndpoint());
+        }
+    }
+
+    @Test
+    void testParsing() {
+        assertNull(DiscoveryService.parseWslIp("  "));
+        assertEquals("172.20.0.2", DiscoveryService.parseWslIp(" 172.20.0.2 \n"));
+        assertEquals("Ubuntu", DiscoveryService.parseDistro("﻿Ubuntu\0"));
+        assertNull(DiscoveryService.parseDistro(""));
+    }
+}
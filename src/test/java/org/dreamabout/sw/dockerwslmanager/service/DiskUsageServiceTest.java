@@ -0,0 +1,123 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.dreamabout.sw.dockerwslmanager.model.DiskUsage;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiskUsageServiceTest {
+
+    private static final String DF_OUTPUT = "{"
+            + "\"Images\":["
+            + "{\"Containers\":\"1\",\"CreatedAt\":\"2024-05-01\",\"ID\":\"0123456789ab\",\"Repository\":\"nginx\","
+            + "\"SharedSize\":\"10MB\",\"Size\":\"150MB\",\"Tag\":\"latest\",\"UniqueSize\":\"140MB\"},"
+            + "{\"Containers\":\"0\",\"ID\":\"ba9876543210\",\"Repository\":\"<none>\",\"SharedSize\":\"10MB\","
+            + "\"Size\":\"40MB\",\"Tag\":\"<none>\",\"UniqueSize\":\"30MB\"}],"
+            + "\"Containers\":["
+            + "{\"ID\":\"c1\",\"Image\":\"nginx\",\"Names\":\"web\",\"Size\":\"2kB\",\"Status\":\"Up 2 hours\","
+            + "\"LocalVolumes\":\"1\"},"
+            + "{\"ID\":\"c2\",\"Image\":\"nginx\",\"Names\":\"old\",\"Size\":\"5kB\",\"Status\":\"Exited (0) 2 days ago\"}],"
+            + "\"Volumes\":["
+            + "{\"Links\":\"1\",\"Name\":\"data\",\"Size\":\"1.11GB\"},"
+            + "{\"Links\":\"0\",\"Name\":\"orphan\",\"Size\":\"903.1kB\"}],"
+            + "\"BuildCache\":["
+            + "{\"CacheType\":\"regular\",\"ID\":\"b1\",\"InUse\":\"false\",\"Shared\":\"false\",\"Size\":\"3MB\","
+            + "\"UsageCount\":\"2\",\"LastUsedSince\":\"2 days ago\"},"
+            + "{\"CacheType\":\"source.local\",\"ID\":\"b2\",\"InUse\":true,\"Shared\":false,\"Size\":\"1MB\"},"
+            + "{\"CacheType\":\"regular\",\"ID\":\"b3\",\"InUse\":false,\"Shared\":true,\"Size\":\"7MB\"}],"
+            + "\"Future\":{\"nested\":[1,2,3]}"
+            + "}";
+
+    private final DiskUsageService service = new DiskUsageService();
+
+    private DiskUsage parse(String json) throws IOException {
+        return service.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testParsesAllSections() throws IOException {
+        DiskUsage usage = parse(DF_OUTPUT);
+
+        assertEquals(2, usage.getImages().size());
+        DiskUsage.ImageEntry nginx = usage.getImages().get(0);
+        assertEquals("0123456789ab", nginx.getId());
+        assertEquals("nginx", nginx.getRepository());
+        assertEquals("latest", nginx.getTag());
+        assertEquals(150_000_000L, nginx.getSize());
+        assertEquals(10_000_000L, nginx.getSharedSize());
+        assertEquals(140_000_000L, nginx.getUniqueSize());
+        assertEquals(1, nginx.getContainers());
+
+        assertEquals(2, usage.getContainers().size());
+        assertTrue(usage.getContainers().get(0).isRunning());
+        assertFalse(usage.getContainers().get(1).isRunning());
+
+        assertEquals("data", usage.getVolumes().get(0).getName());
+        assertEquals(1_110_000_000L, usage.getVolumes().get(0).getSize());
+        assertEquals(903_100L, usage.getVolumes().get(1).getSize());
+
+        assertEquals(3, usage.getBuildCache().size());
+        DiskUsage.BuildCacheEntry first = usage.getBuildCache().get(0);
+        assertEquals("regular", first.getCacheType());
+        assertEquals(2, first.getUsageCount());
+        assertEquals("2 days ago", first.getLastUsedSince());
+        assertFalse(first.isInUse());
+        assertTrue(usage.getBuildCache().get(1).isInUse());
+        assertTrue(usage.getBuildCache().get(2).isShared());
+    }
+
+    @Test
+    void testFindImageByFullId() throws IOException {
+        DiskUsage usage = parse(DF_OUTPUT);
+
+        DiskUsage.ImageEntry image = usage.findImage(
+                "sha256:0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+        assertNotNull(image);
+        assertEquals("nginx", image.getRepository());
+        assertNull(usage.findImage("sha256:ffffffffffff"));
+    }
+
+    @Test
+    void testSummaries() throws IOException {
+        DiskUsage usage = parse(DF_OUTPUT);
+
+        DiskUsage.Summary images = usage.getImagesSummary();
+        assertEquals(2, images.getTotalCount());
+        assertEquals(1, images.getActive());
+        assertEquals(170_000_000L, images.getSize());
+        assertEquals(30_000_000L, images.getReclaimable());
+
+        DiskUsage.Summary containers = usage.getContainersSummary();
+        assertEquals(1, containers.getActive());
+        assertEquals(7_000L, containers.getSize());
+        assertEquals(5_000L, containers.getReclaimable());
+
+        DiskUsage.Summary volumes = usage.getVolumesSummary();
+        assertEquals(1, volumes.getActive());
+        assertEquals(903_100L, volumes.getReclaimable());
+
+        DiskUsage.Summary buildCache = usage.getBuildCacheSummary();
+        assertEquals(3, buildCache.getTotalCount());
+        assertEquals(1, buildCache.getActive());
+        assertEquals(4_000_000L, buildCache.getSize());
+        assertEquals(3_000_000L, buildCache.getReclaimable());
+    }
+
+    @Test
+    void testMissingSectionsAreEmpty() throws IOException {
+        DiskUsage usage = parse("{\"Volumes\":[{\"Name\":\"v\",\"Size\":\"N/A\"}]}");
+
+        assertTrue(usage.getImages().isEmpty());
+        assertTrue(usage.getBuildCache().isEmpty());
+        assertEquals(0L, usage.getVolumes().get(0).getSize());
+    }
+
+    @Test
+    void testRejectsNonObjectOutput() {
+        assertThrows(IOException.class, () -> parse("Cannot connect to the Docker daemon"));
+    }
+}
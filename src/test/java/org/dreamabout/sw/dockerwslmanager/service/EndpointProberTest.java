@@ -0,0 +1,72 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.dreamabout.sw.dockerwslmanager.model.EndpointProbe;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointProberTest {
+
+    private static final String NPIPE = "npipe:////./pipe/docker_engine";
+    private static final String WSL_TCP = "tcp://172.20.0.2:2375";
+    private static final String LOCAL_TCP = "tcp://localhost:2375";
+
+    private static EndpointProber.Pinger pinger(Map<String, Long> latencies) {
+        return (host, attempts) -> {
+            Long latency = latencies.get(host);
+            if (latency == null) {
+                throw new IOException("Connection refused");
+            }
+            return latency;
+        };
+    }
+
+    @Test
+    void testRanksFastestFirstAndUnreachableLast() {
+        EndpointProber prober = new EndpointProber(pinger(Map.of(NPIPE, 400_000L, WSL_TCP, 1_500_000L)));
+
+        List<EndpointProbe> probes = prober.probe(List.of(LOCAL_TCP, WSL_TCP, NPIPE));
+
+        assertEquals(List.of(NPIPE, WSL_TCP, LOCAL_TCP),
+                probes.stream().map(EndpointProbe::getDockerHost).toList());
+        assertEquals("npipe", probes.get(0).getTransport());
+        assertEquals(400_000L, probes.get(0).getLatencyNanos());
+        assertFalse(probes.get(2).isReachable());
+        assertEquals("Connection refused", probes.get(2).getError());
+    }
+
+    @Test
+    void testEqualLatencyKeepsPreferenceOrder() {
+        EndpointProber prober = new EndpointProber(pinger(Map.of(NPIPE, 1_000L, LOCAL_TCP, 1_000L)));
+
+        List<EndpointProbe> probes = prober.probe(List.of(LOCAL_TCP, NPIPE));
+
+        assertEquals(LOCAL_TCP, probes.get(0).getDockerHost());
+    }
+
+    @Test
+    void testDuplicatesAreProbedOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        EndpointProber prober = new EndpointProber((host, attempts) -> {
+            calls.incrementAndGet();
+            assertEquals(EndpointProber.DEFAULT_ATTEMPTS, attempts);
+            return 10L;
+        });
+
+        assertEquals(1, prober.probe(List.of(LOCAL_TCP, LOCAL_TCP)).size());
+        assertEquals(1, calls.get());
+        assertTrue(prober.probe(List.of()).isEmpty());
+    }
+
+    @Test
+    void testTransportOf() {
+        assertEquals("unix", EndpointProbe.transportOf("unix:///var/run/docker.sock"));
+        assertEquals("tcp", EndpointProbe.transportOf(WSL_TCP));
+        assertEquals("tcp", EndpointProbe.transportOf("localhost:2375"));
+    }
+}
@@ -0,0 +1,116 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.LogContainerCmd;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.httpclient5.ApacheDockerHttpClient;
+import org.dreamabout.sw.dockerwslmanager.logic.LogStyle;
+import org.dreamabout.sw.dockerwslmanager.model.LogLine;
+import org.dreamabout.sw.dockerwslmanager.testing.FakeDockerDaemon;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LogHistoryServiceTest {
+    private FakeDockerDaemon daemon;
+    private DockerClient client;
+    private LogHistoryService service;
+    private String containerId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        daemon = new FakeDockerDaemon(new FakeDockerDaemon.Options().containers(1).logHistory(60)
+                .logSpacingMs(10_000));
+        DockerClientConfig config = DefaultDockerClientConfig.createDefaultConfigBuilder()
+                .withDockerHost(daemon.getDockerHost())
+                .build();
+        client = DockerClientBuilder.getInstance(config)
+                .withDockerHttpClient(new ApacheDockerHttpClient.Builder().dockerHost(config.getDockerHost()).build())
+                .build();
+        service = new LogHistoryService(client);
+        containerId = daemon.getFleet().containerId(0);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        daemon.close();
+    }
+
+    private static long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private String text(int line) {
+        return daemon.getFleet().logLine(0, line).replaceAll("\u001B\\[[0-9;]*m", "").strip();
+    }
+
+    @Test
+    void testFetchesWindowBeforeShownLines() throws IOException, InterruptedException {
+        int since = (int) daemon.historyTime(20).getEpochSecond();
+        int until = (int) daemon.historyTime(30).getEpochSecond() + 1;
+
+        // Line 30 is already shown, so only lines before it are kept
+        LogHistoryService.Page page = service.fetch(containerId, since, until, nanos(daemon.historyTime(30)), 100);
+
+        assertFalse(page.truncated());
+        assertEquals(10, page.lines().size());
+        assertEquals(text(20), page.lines().get(0).toString());
+        assertEquals(text(29), page.lines().get(9).toString());
+        assertEquals(nanos(daemon.historyTime(20)), page.getOldestTimestamp());
+    }
+
+    @Test
+    void testKeepsNewestLinesWhenWindowOverflows() throws IOException, InterruptedException {
+        int since = (int) daemon.historyTime(0).getEpochSecond();
+        int until = (int) daemon.historyTime(59).getEpochSecond() + 1;
+
+        LogHistoryService.Page page = service.fetch(containerId, since, until, Long.MAX_VALUE, 5);
+
+        assertTrue(page.truncated());
+        assertEquals(5, page.lines().size());
+        assertEquals(text(55), page.lines().get(0).toString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testKeepsStdoutAndStderrLinesApart() throws IOException, InterruptedException {
+        DockerClient mockClient = mock(DockerClient.class);
+        LogContainerCmd cmd = mock(LogContainerCmd.class, RETURNS_SELF);
+        when(mockClient.logContainerCmd("c1")).thenReturn(cmd);
+        when(cmd.exec(any())).thenAnswer(invocation -> {
+            ResultCallback.Adapter<Frame> callback = invocation.getArgument(0);
+            callback.onNext(frame(StreamType.STDOUT, "2024-01-01T00:00:01Z \u001B[31mpart"));
+            callback.onNext(frame(StreamType.STDERR, "2024-01-01T00:00:02Z err\n"));
+            callback.onNext(frame(StreamType.STDOUT, "ial\n"));
+            callback.onComplete();
+            return callback;
+        });
+
+        List<LogLine> lines = new LogHistoryService(mockClient).fetch("c1", 0, 0, Long.MAX_VALUE, 10).lines();
+
+        assertEquals(List.of("err", "partial"), lines.stream().map(LogLine::toString).toList());
+        assertEquals(LogStyle.DEFAULT, lines.get(0).getRunStyle(0));
+        assertNotEquals(LogStyle.DEFAULT, lines.get(1).getRunStyle(0));
+    }
+
+    private static Frame frame(StreamType type, String payload) {
+        return new Frame(type, payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
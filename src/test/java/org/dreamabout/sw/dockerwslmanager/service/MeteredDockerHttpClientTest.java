@@ -0,0 +1,47 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MeteredDockerHttpClientTest {
+
+    @Test
+    void testCountsConnectionsUntilResponseClosed() {
+        DockerHttpClient delegate = mock(DockerHttpClient.class);
+        DockerHttpClient.Response first = mock(DockerHttpClient.Response.class);
+        DockerHttpClient.Response second = mock(DockerHttpClient.Response.class);
+        when(delegate.execute(any())).thenReturn(first, second);
+        MeteredDockerHttpClient client = new MeteredDockerHttpClient(delegate, 4);
+
+        DockerHttpClient.Response r1 = client.execute(mock(DockerHttpClient.Request.class));
+        DockerHttpClient.Response r2 = client.execute(mock(DockerHttpClient.Request.class));
+        assertEquals(2, client.getLeased());
+
+        r1.close();
+        r1.close();
+        assertEquals(1, client.getLeased());
+        verify(first, times(2)).close();
+
+        r2.close();
+        assertEquals(0, client.getLeased());
+        assertEquals(2, client.getPeak());
+        assertEquals(4, client.getMaxConnections());
+    }
+
+    @Test
+    void testFailedRequestReleasesCount() {
+        DockerHttpClient delegate = mock(DockerHttpClient.class);
+        when(delegate.execute(any())).thenThrow(new IllegalStateException("refused"));
+        MeteredDockerHttpClient client = new MeteredDockerHttpClient(delegate, 1);
+
+        assertThrows(IllegalStateException.class, () -> client.execute(mock(DockerHttpClient.Request.class)));
+        assertEquals(0, client.getLeased());
+    }
+}
@@ -0,0 +1,128 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshExecutorTest {
+
+    private RefreshExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        // Apply callbacks run directly on the worker thread instead of the FX thread
+        executor = new RefreshExecutor(2, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void testRunsPhasesAndRecordsTimings() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<String> applied = new AtomicReference<>();
+
+        executor.submit("containers", 0, () -> 21, n -> "value " + (n * 2),
+                result -> {
+                    applied.set(result);
+                    done.countDown();
+                },
+                e -> fail("Unexpected error"));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("value 42", applied.get());
+        waitForTimings("containers");
+        assertNotNull(executor.getLastTimings("containers"));
+        assertTrue(executor.getLastTimings("containers").getTotalMs() >= 0);
+    }
+
+    @Test
+    void testFetchFailureGoesToErrorHandler() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Exception> error = new AtomicReference<>();
+
+        executor.submit("images", 0, () -> {
+            throw new IllegalStateException("daemon down");
+        }, n -> n, result -> fail("Should not apply"), e -> {
+            error.set(e);
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("daemon down", error.get().getMessage());
+        assertNull(executor.getLastTimings("images"));
+    }
+
+    @Test
+    void testRequestsWhileRunningCollapseIntoLatest() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        List<String> applied = new CopyOnWriteArrayList<>();
+
+        executor.submit("volumes", 0, () -> {
+            release.await();
+            return "first";
+        }, s -> s, result -> {
+            applied.add(result);
+            done.countDown();
+        }, e -> fail("Unexpected error"));
+
+        for (int i = 0; i < 5; i++) {
+            String value = "queued-" + i;
+            executor.submit("volumes", 0, () -> value, s -> s, result -> {
+                applied.add(result);
+                done.countDown();
+            }, e -> fail("Unexpected error"));
+        }
+        release.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(List.of("first", "queued-4"), applied);
+    }
+
+    @Test
+    void testLowerPriorityDoesNotReplaceQueuedReload() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        List<String> applied = new CopyOnWriteArrayList<>();
+
+        executor.submit("containers", 1, () -> {
+            release.await();
+            return "running";
+        }, s -> s, result -> {
+            applied.add(result);
+            done.countDown();
+        }, e -> fail("Unexpected error"));
+        executor.submit("containers", 1, () -> "reload", s -> s, result -> {
+            applied.add(result);
+            done.countDown();
+        }, e -> fail("Unexpected error"));
+        executor.submit("containers", 0, () -> "redraw", s -> s, result -> {
+            applied.add(result);
+            done.countDown();
+        }, e -> fail("Unexpected error"));
+        release.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(List.of("running", "reload"), applied);
+    }
+
+    private void waitForTimings(String key) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.getLastTimings(key) == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
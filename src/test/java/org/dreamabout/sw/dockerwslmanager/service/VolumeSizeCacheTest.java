@@ -0,0 +1,73 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VolumeSizeCacheTest {
+
+    private static final long TTL_MS = 1000;
+
+    @TempDir
+    Path dir;
+
+    private final AtomicLong now = new AtomicLong(10_000);
+
+    private VolumeSizeCache newCache() {
+        return new VolumeSizeCache(dir.resolve("volume-sizes.json"), TTL_MS, now::get);
+    }
+
+    @Test
+    void testLookupMatchesCreationTimeAndMtime() {
+        VolumeSizeCache cache = newCache();
+        cache.put("data", "2024-01-01T00:00:00Z", 42, 4096);
+
+        assertEquals(4096, cache.lookup("data", "2024-01-01T00:00:00Z"));
+        assertEquals(4096, cache.lookupFresh("data", "2024-01-01T00:00:00Z", 42));
+        assertEquals(-1, cache.lookupFresh("data", "2024-01-01T00:00:00Z", 43));
+        // Same name, but the volume was recreated
+        assertEquals(-1, cache.lookup("data", "2024-06-01T00:00:00Z"));
+        assertEquals(-1, cache.lookup("other", null));
+    }
+
+    @Test
+    void testEntriesExpireAfterTtl() {
+        VolumeSizeCache cache = newCache();
+        cache.put("data", null, 42, 4096);
+
+        now.addAndGet(TTL_MS - 1);
+        assertEquals(4096, cache.lookupFresh("data", null, 42));
+        now.addAndGet(1);
+        assertEquals(-1, cache.lookupFresh("data", null, 42));
+        assertEquals(-1, cache.lookup("data", null));
+    }
+
+    @Test
+    void testSurvivesReload() {
+        VolumeSizeCache cache = newCache();
+        cache.put("data", "t0", 42, 4096);
+        cache.put("gone", "t0", 1, 1);
+        cache.retain(Set.of("data"));
+        cache.save();
+
+        VolumeSizeCache reloaded = newCache();
+        assertEquals(1, reloaded.size());
+        assertEquals(4096, reloaded.lookupFresh("data", "t0", 42));
+    }
+
+    @Test
+    void testCorruptFileIsIgnored() throws IOException {
+        Files.writeString(dir.resolve("volume-sizes.json"), "{not json");
+
+        VolumeSizeCache cache = newCache();
+
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,219 @@
+package org.dreamabout.sw.dockerwslmanager.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VolumeSizeEngineTest {
+
+    private VolumeSizeEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.close();
+        }
+    }
+
+    @Test
+    void testParseDuLine() {
+        assertEquals(4096L, VolumeSizeEngine.parseDuSize("4096\t/var/lib/docker/volumes/a/_data"));
+        assertEquals("/var/lib/docker/volumes/a/_data",
+                VolumeSizeEngine.parseDuPath("4096\t/var/lib/docker/volumes/a/_data"));
+        assertEquals(-1L, VolumeSizeEngine.parseDuSize("du: cannot access '/x': No such file or directory"));
+        assertEquals(-1L, VolumeSizeEngine.parseDuSize("abc\t/x"));
+    }
+
+    @Test
+    void testReportsEverySizeInBoundedBatches() throws InterruptedException {
+        List<List<String>> invocations = Collections.synchronizedList(new ArrayList<>());
+        engine = new VolumeSizeEngine(paths -> {
+            invocations.add(paths);
+            StringBuilder out = new StringBuilder();
+            for (String path : paths) {
+                if (!path.equals("/v/missing")) {
+                    out.append(path.length()).append('\t').append(path).append('\n');
+                }
+            }
+            return new FakeProcess(new ByteArrayInputStream(out.toString().getBytes(StandardCharsets.UTF_8)));
+        }, 2, 2);
+
+        RecordingListener listener = new RecordingListener();
+        VolumeSizeEngine.Job job = engine.calculate(targets("a", "bb", "missing", "ccc", "dddd"), listener);
+
+        assertTrue(listener.finished.await(5, TimeUnit.SECONDS));
+        assertEquals(3, invocations.size());
+        assertTrue(invocations.stream().allMatch(batch -> batch.size() <= 2));
+        assertEquals(Map.of("a", 4L, "bb", 5L, "ccc", 6L, "dddd", 7L), listener.sizes);
+        assertEquals(5, job.getTotal());
+        assertEquals(4, job.getSized());
+        assertTrue(job.isDone());
+        assertFalse(job.isCancelled());
+    }
+
+    @Test
+    void testCancelKillsRunningAndSkipsPendingBatches() throws InterruptedException {
+        List<FakeProcess> started = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        engine = new VolumeSizeEngine(paths -> {
+            FakeProcess process = new FakeProcess(null);
+            started.add(process);
+            firstStarted.countDown();
+            return process;
+        }, 1, 1);
+
+        RecordingListener listener = new RecordingListener();
+        VolumeSizeEngine.Job job = engine.calculate(targets("a", "b", "c"), listener);
+
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        job.cancel();
+
+        assertTrue(listener.finished.await(5, TimeUnit.SECONDS));
+        assertEquals(1, started.size());
+        assertTrue(started.get(0).destroyed);
+        assertTrue(job.isCancelled());
+        assertEquals(0, job.getSized());
+    }
+
+    @Test
+    void testEmptyJobFinishesImmediately() {
+        engine = new VolumeSizeEngine(paths -> {
+            throw new AssertionError("No process expected");
+        }, 1, 1);
+        RecordingListener listener = new RecordingListener();
+
+        VolumeSizeEngine.Job job = engine.calculate(List.of(), listener);
+
+        assertEquals(0, listener.finished.getCount());
+        assertTrue(job.isDone());
+    }
+
+    @Test
+    void testOnlyStaleVolumesAreMeasured(@TempDir Path dir) throws InterruptedException {
+        VolumeSizeCache cache = new VolumeSizeCache(dir.resolve("sizes.json"), 60_000, System::currentTimeMillis);
+        cache.put("fresh", "t0", 100, 111);
+        cache.put("touched", "t0", 100, 222);
+        cache.put("recreated", "t0", 100, 333);
+        List<List<String>> measured = Collections.synchronizedList(new ArrayList<>());
+        engine = new VolumeSizeEngine(paths -> {
+            measured.add(paths);
+            return output(paths, path -> 999L);
+        }, paths -> output(paths, path -> path.equals("/v/touched") ? 200L : 100L), cache, 1, 10);
+
+        List<VolumeSizeEngine.Target> targets = List.of(
+                new VolumeSizeEngine.Target("fresh", "/v/fresh", "t0"),
+                new VolumeSizeEngine.Target("touched", "/v/touched", "t0"),
+                new VolumeSizeEngine.Target("recreated", "/v/recreated", "t1"));
+        RecordingListener listener = new RecordingListener();
+        VolumeSizeEngine.Job job = engine.calculate(targets, listener);
+
+        assertTrue(listener.finished.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("/v/touched", "/v/recreated")), measured);
+        assertEquals(Map.of("fresh", 111L, "touched", 999L, "recreated", 999L), listener.sizes);
+        assertEquals(1, job.getCached());
+        assertEquals(999L, cache.lookupFresh("touched", "t0", 200));
+        assertTrue(Files.exists(dir.resolve("sizes.json")));
+    }
+
+    private static List<VolumeSizeEngine.Target> targets(String... names) {
+        List<VolumeSizeEngine.Target> targets = new ArrayList<>();
+        for (String name : names) {
+            targets.add(new VolumeSizeEngine.Target(name, "/v/" + name, null));
+        }
+        return targets;
+    }
+
+    private static FakeProcess output(List<String> paths, ToLongFunction<String> value) {
+        StringBuilder out = new StringBuilder();
+        for (String path : paths) {
+            out.append(value.applyAsLong(path)).append('\t').append(path).append('\n');
+        }
+        return new FakeProcess(new ByteArrayInputStream(out.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static final class RecordingListener implements VolumeSizeEngine.Listener {
+        final Map<String, Long> sizes = new ConcurrentHashMap<>();
+        final CountDownLatch finished = new CountDownLatch(1);
+
+        @Override
+        public void onSize(String volumeName, long bytes) {
+            sizes.put(volumeName, bytes);
+        }
+
+        @Override
+        public void onFinished(VolumeSizeEngine.Job job) {
+            finished.countDown();
+        }
+    }
+
+    /**
+     * Process with canned output; without output it blocks until destroyed, like a slow du.
+     */
+    private static final class FakeProcess extends Process {
+        private final CountDownLatch killed = new CountDownLatch(1);
+        private final InputStream output;
+        volatile boolean destroyed;
+
+        FakeProcess(InputStream output) {
+            this.output = output != null ? output : new InputStream() {
+                @Override
+                public int read() {
+                    try {
+                        killed.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return -1;
+                }
+            };
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return output;
+        }
+
+        @Override
+        public InputStream getErrorStream() {
+            return InputStream.nullInputStream();
+        }
+
+        @Override
+        public int waitFor() {
+            return 0;
+        }
+
+        @Override
+        public int exitValue() {
+            return 0;
+        }
+
+        @Override
+        public void destroy() {
+            destroyed = true;
+            killed.countDown();
+        }
+    }
+}
@@ -0,0 +1,522 @@
+package org.dreamabout.sw.dockerwslmanager.testing;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A Docker Engine API stand-in serving a {@link Fleet} of containers and volumes over HTTP on the
+ * loopback interface, for load and performance testing without a real daemon. It implements the
+ * endpoints the application uses: listings of containers, images, volumes and networks, inspect,
+ * start/stop/restart, the events stream, and streaming stats and logs. Load is set by
+ * {@link Options}: fleet size, container events per second, log lines per second per stream,
+ * the stats interval and latency added to every request.
+ *
+ * <p>It uses nothing outside the JDK, so it runs from the test classes alone, e.g. for manual UI
+ * testing at scale:
+ * {@code java -cp target/test-classes org.dreamabout.sw.dockerwslmanager.testing.FakeDockerDaemon
+ * --containers=1000 --events-per-second=5} and then start the application with
+ * {@code DOCKER_HOST=tcp://127.0.0.1:23750}.
+ */
+public final class FakeDockerDaemon implements Closeable {
+    public static final int DEFAULT_PORT = 23750;
+    public static final int DEFAULT_CONTAINERS = 25;
+    private static final String JSON = "application/json";
+    private static final Pattern VERSION_PREFIX = Pattern.compile("^/v[0-9.]+");
+    private static final Pattern CONTAINER_PATH = Pattern.compile("^/containers/([^/]+)/([a-z]+)$");
+    private static final Pattern FILTER_VALUES = Pattern.compile("\"(id|name|status)\":(\\[[^\\]]*]|\\{[^}]*})");
+    private static final Pattern QUOTED = Pattern.compile("\"([^\"]+)\"");
+    private static final int DEFAULT_LOG_HISTORY = 100;
+
+    static {
+        // The JDK server writes headers and body separately; with Nagle's algorithm on, a small
+        // response then waits for the client's delayed ACK, adding ~40 ms to every request.
+        // Read once, when the first server is created.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    /**
+     * Size and load profile of a fake daemon.
+     */
+    public static final class Options {
+        private int port;
+        private int containers = DEFAULT_CONTAINERS;
+        private double eventsPerSecond;
+        private double logLinesPerSecond = 10;
+        private int logHistory = DEFAULT_LOG_HISTORY;
+        private long logSpacingMs = 1000;
+        private long statsIntervalMs = 1000;
+        private long latencyMs;
+        private long jitterMs;
+
+        /**
+         * Parses {@code --port=N --containers=N --events-per-second=N --log-lines-per-second=N
+         * --log-history=N --log-spacing-ms=N --stats-interval-ms=N --latency-ms=N --jitter-ms=N};
+         * the port defaults to {@value #DEFAULT_PORT}.
+         */
+        public static Options parse(String... args) {
+            Options options = new Options().port(DEFAULT_PORT);
+            for (String arg : args) {
+                String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+                if (kv.length != 2) {
+                    throw new IllegalArgumentException("Expected --name=value: " + arg);
+                }
+                switch (kv[0]) {
+                    case "port" -> options.port(Integer.parseInt(kv[1]));
+                    case "containers" -> options.containers(Integer.parseInt(kv[1]));
+                    case "events-per-second" -> options.eventsPerSecond(Double.parseDouble(kv[1]));
+                    case "log-lines-per-second" -> options.logLinesPerSecond(Double.parseDouble(kv[1]));
+                    case "log-history" -> options.logHistory(Integer.parseInt(kv[1]));
+                    case "log-spacing-ms" -> options.logSpacingMs(Long.parseLong(kv[1]));
+                    case "stats-interval-ms" -> options.statsIntervalMs(Long.parseLong(kv[1]));
+                    case "latency-ms" -> options.latencyMs(Long.parseLong(kv[1]));
+                    case "jitter-ms" -> options.jitterMs(Long.parseLong(kv[1]));
+                    default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            return options;
+        }
+
+        /**
+         * Port to listen on; 0, the default, picks a free one.
+         */
+        public Options port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Options containers(int containers) {
+            this.containers = containers;
+            return this;
+        }
+
+        /**
+         * Rate of containers stopping and starting on their own, reported on {@code /events};
+         * 0, the default, keeps the fleet still.
+         */
+        public Options eventsPerSecond(double eventsPerSecond) {
+            this.eventsPerSecond = eventsPerSecond;
+            return this;
+        }
+
+        /**
+         * Lines written per second to each followed log stream.
+         */
+        public Options logLinesPerSecond(double logLinesPerSecond) {
+            this.logLinesPerSecond = logLinesPerSecond;
+            return this;
+        }
+
+        /**
+         * Lines each container logged before the daemon started, {@link #logSpacingMs} apart and ending
+         * at the start; served, filtered by {@code since}, {@code until} and {@code tail}, before any
+         * followed lines.
+         */
+        public Options logHistory(int logHistory) {
+            this.logHistory = logHistory;
+            return this;
+        }
+
+        public Options logSpacingMs(long logSpacingMs) {
+            this.logSpacingMs = logSpacingMs;
+            return this;
+        }
+
+        public Options statsIntervalMs(long statsIntervalMs) {
+            this.statsIntervalMs = statsIntervalMs;
+            return this;
+        }
+
+        /**
+         * Delay added before every response, plus a random extra of up to {@link #jitterMs}.
+         */
+        public Options latencyMs(long latencyMs) {
+            this.latencyMs = latencyMs;
+            return this;
+        }
+
+        public Options jitterMs(long jitterMs) {
+            this.jitterMs = jitterMs;
+            return this;
+        }
+    }
+
+    private final Options options;
+    private final Instant startedAt = Instant.now();
+    private final Fleet fleet;
+    private final Map<String, Integer> indexByKey = new HashMap<>();
+    private final BitSet running = new BitSet();
+    private final Set<BlockingQueue<String>> eventSubscribers = new CopyOnWriteArraySet<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService eventGenerator;
+    private volatile boolean closed;
+
+    /**
+     * Starts serving {@code containerCount} containers on the given port with no background load.
+     */
+    public FakeDockerDaemon(int port, int containerCount) throws IOException {
+        this(new Options().port(port).containers(containerCount));
+    }
+
+    public FakeDockerDaemon(Options options) throws IOException {
+        this.options = options;
+        this.fleet = new Fleet(options.containers);
+        for (int i = 0; i < fleet.size(); i++) {
+            indexByKey.put(fleet.containerId(i), i);
+            indexByKey.put(fleet.containerId(i).substring(0, 12), i);
+            indexByKey.put(fleet.containerName(i), i);
+            running.set(i, fleet.isRunning(i));
+        }
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), options.port), 0);
+        // Streams hold their thread for as long as the client listens, so every request gets a cheap one
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+
+        this.eventGenerator = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "fake-docker-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (options.eventsPerSecond > 0 && fleet.size() > 0) {
+            Random random = new Random(42);
+            long periodNanos = Math.max(1, (long) (1_000_000_000L / options.eventsPerSecond));
+            eventGenerator.scheduleAtFixedRate(() -> toggle(random.nextInt(fleet.size())),
+                    periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon(Options.parse(args))) {
+            System.out.println("Fake Docker daemon with " + daemon.fleet.size() + " containers listening on "
+                    + daemon.getDockerHost());
+            new CountDownLatch(1).await();
+        }
+    }
+
+    public String getDockerHost() {
+        return "tcp://127.0.0.1:" + getPort();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public Fleet getFleet() {
+        return fleet;
+    }
+
+    public boolean isRunning(int index) {
+        synchronized (running) {
+            return running.get(index);
+        }
+    }
+
+    /**
+     * Stops a running container or starts a stopped one, and reports it on the events stream.
+     */
+    public void toggle(int index) {
+        setRunning(index, !isRunning(index));
+    }
+
+    private void setRunning(int index, boolean state) {
+        synchronized (running) {
+            running.set(index, state);
+        }
+        long now = Instant.now().toEpochMilli() * 1_000_000L;
+        String event = fleet.eventJson(index, state ? "start" : "die", now);
+        for (BlockingQueue<String> subscriber : eventSubscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = VERSION_PREFIX.matcher(exchange.getRequestURI().getPath()).replaceFirst("");
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        try (exchange) {
+            injectLatency();
+            Matcher container = CONTAINER_PATH.matcher(path);
+            if (path.equals("/_ping")) {
+                exchange.getResponseHeaders().add("Api-Version", "1.43");
+                send(exchange, 200, "text/plain", "OK");
+            } else if (path.equals("/version")) {
+                send(exchange, 200, JSON, "{\"Version\":\"27.0.0-fake\",\"ApiVersion\":\"1.43\","
+                        + "\"MinAPIVersion\":\"1.24\",\"Os\":\"linux\",\"Arch\":\"amd64\"}");
+            } else if (path.equals("/containers/json")) {
+                listContainers(exchange, query);
+            } else if (container.matches()) {
+                handleContainer(exchange, container.group(1), container.group(2), query);
+            } else if (path.equals("/images/json")) {
+                send(exchange, 200, JSON, fleet.imagesJson());
+            } else if (path.equals("/volumes")) {
+                send(exchange, 200, JSON, fleet.volumesJson());
+            } else if (path.equals("/networks")) {
+                send(exchange, 200, JSON, fleet.networksJson());
+            } else if (path.equals("/events")) {
+                streamEvents(exchange);
+            } else {
+                notFound(exchange, "not implemented: " + path);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // The client hung up, typically while a stream was open
+        }
+    }
+
+    private void injectLatency() throws InterruptedException {
+        long delay = options.latencyMs
+                + (options.jitterMs > 0 ? ThreadLocalRandom.current().nextLong(options.jitterMs + 1) : 0);
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    private void listContainers(HttpExchange exchange, Map<String, String> query) throws IOException {
+        boolean all = "true".equals(query.get("all")) || "1".equals(query.get("all"));
+        Map<String, Set<String>> filters = parseFilters(query.get("filters"));
+        Set<String> ids = filters.get("id");
+        Set<String> names = filters.get("name");
+        Set<String> statuses = filters.get("status");
+        send(exchange, 200, JSON, fleet.containersJson(i -> {
+            boolean up = isRunning(i);
+            if (!all && statuses == null && !up) {
+                return false;
+            }
+            if (ids != null && ids.stream().noneMatch(fleet.containerId(i)::startsWith)) {
+                return false;
+            }
+            if (names != null && names.stream().noneMatch(fleet.containerName(i)::contains)) {
+                return false;
+            }
+            return statuses == null || statuses.contains(up ? "running" : "exited");
+        }, this::isRunning));
+    }
+
+    private void handleContainer(HttpExchange exchange, String key, String action, Map<String, String> query)
+            throws IOException, InterruptedException {
+        Integer index = indexByKey.get(key);
+        if (index == null) {
+            notFound(exchange, "No such container: " + key);
+            return;
+        }
+        switch (action) {
+            case "json" -> send(exchange, 200, JSON, fleet.inspectJson(index, isRunning(index)));
+            case "stats" -> streamStats(exchange, index, !"false".equals(query.get("stream")));
+            case "logs" -> streamLogs(exchange, index, query);
+            case "top" -> send(exchange, 200, JSON, "{\"Titles\":[\"UID\",\"PID\",\"PPID\",\"C\",\"STIME\",\"TTY\","
+                    + "\"TIME\",\"CMD\"],\"Processes\":[[\"root\",\"" + (1000 + index) + "\",\"1\",\"0\",\"10:00\","
+                    + "\"?\",\"00:00:01\",\"/docker-entrypoint.sh\"]]}");
+            case "start" -> changeState(exchange, index, true);
+            case "stop", "kill" -> changeState(exchange, index, false);
+            case "restart" -> {
+                setRunning(index, false);
+                setRunning(index, true);
+                send(exchange, 204, null, null);
+            }
+            default -> notFound(exchange, "not implemented: " + action);
+        }
+    }
+
+    private void changeState(HttpExchange exchange, int index, boolean start) throws IOException {
+        if (isRunning(index) == start) {
+            send(exchange, 304, null, null);
+        } else {
+            setRunning(index, start);
+            send(exchange, 204, null, null);
+        }
+    }
+
+    private void streamEvents(HttpExchange exchange) throws IOException, InterruptedException {
+        BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+        eventSubscribers.add(queue);
+        try {
+            OutputStream out = startStream(exchange, JSON);
+            while (!closed) {
+                String event = queue.poll(1, TimeUnit.SECONDS);
+                if (event != null) {
+                    out.write((event + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+                // Also detects a closed connection while the fleet is quiet
+                out.flush();
+            }
+        } finally {
+            eventSubscribers.remove(queue);
+        }
+    }
+
+    private void streamStats(HttpExchange exchange, int index, boolean stream)
+            throws IOException, InterruptedException {
+        if (!stream) {
+            send(exchange, 200, JSON, fleet.statsJson(index, 0));
+            return;
+        }
+        OutputStream out = startStream(exchange, JSON);
+        for (long second = 0; !closed; second++) {
+            out.write((fleet.statsJson(index, second) + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            Thread.sleep(options.statsIntervalMs);
+        }
+    }
+
+    /**
+     * Writes the log as the multiplexed stream of a container without a TTY: every line is a
+     * stdout frame with an 8-byte header. The history is filtered like Docker does: {@code since}
+     * and {@code until} are epoch seconds, both inclusive, and {@code tail} keeps the last lines of
+     * what is left. Follows with {@link Options#logLinesPerSecond} lines per second, written every 100 ms.
+     */
+    private void streamLogs(HttpExchange exchange, int index, Map<String, String> query)
+            throws IOException, InterruptedException {
+        boolean timestamps = "true".equals(query.get("timestamps")) || "1".equals(query.get("timestamps"));
+        Instant since = epochSeconds(query.get("since"));
+        Instant until = epochSeconds(query.get("until"));
+        int first = 0;
+        int last = options.logHistory;
+        while (first < last && since != null && historyTime(first).isBefore(since)) {
+            first++;
+        }
+        while (last > first && until != null && historyTime(last - 1).isAfter(until)) {
+            last--;
+        }
+        String tail = query.getOrDefault("tail", "all");
+        if (!"all".equals(tail)) {
+            first = Math.max(first, last - Math.max(0, Integer.parseInt(tail)));
+        }
+        OutputStream out = startStream(exchange, "application/vnd.docker.multiplexed-stream");
+        for (int line = first; line < last; line++) {
+            writeLogFrame(out, index, line, timestamps ? historyTime(line) : null);
+        }
+        out.flush();
+        if (!("true".equals(query.get("follow")) || "1".equals(query.get("follow")))) {
+            return;
+        }
+        long line = options.logHistory;
+        double due = 0;
+        while (!closed) {
+            Thread.sleep(100);
+            due += options.logLinesPerSecond / 10;
+            for (; due >= 1; due--, line++) {
+                writeLogFrame(out, index, line, timestamps ? Instant.now() : null);
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * Time history line {@code line} was logged at.
+     */
+    public Instant historyTime(int line) {
+        return startedAt.minusMillis((options.logHistory - line) * options.logSpacingMs);
+    }
+
+    private static Instant epochSeconds(String value) {
+        if (value == null || value.isEmpty() || "0".equals(value)) {
+            return null;
+        }
+        double seconds = Double.parseDouble(value);
+        return Instant.ofEpochSecond((long) seconds, Math.round((seconds - Math.floor(seconds)) * 1e9));
+    }
+
+    private void writeLogFrame(OutputStream out, int index, long line, Instant timestamp) throws IOException {
+        String text = fleet.logLine(index, line);
+        if (timestamp != null) {
+            text = timestamp + " " + text;
+        }
+        byte[] payload = text.getBytes(StandardCharsets.UTF_8);
+        out.write(ByteBuffer.allocate(8).put((byte) 1).putInt(4, payload.length).array());
+        out.write(payload);
+    }
+
+    private static OutputStream startStream(HttpExchange exchange, String contentType) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, 0);
+        return exchange.getResponseBody();
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                String[] kv = pair.split("=", 2);
+                query.put(URLDecoder.decode(kv[0], StandardCharsets.UTF_8),
+                        kv.length > 1 ? URLDecoder.decode(kv[1], StandardCharsets.UTF_8) : "");
+            }
+        }
+        return query;
+    }
+
+    /**
+     * Reads the id, name and status values of a {@code filters} parameter, given either as
+     * {@code {"id":["a"]}} or as {@code {"id":{"a":true}}}.
+     */
+    private static Map<String, Set<String>> parseFilters(String filters) {
+        Map<String, Set<String>> result = new HashMap<>();
+        if (filters != null) {
+            Matcher filter = FILTER_VALUES.matcher(filters);
+            while (filter.find()) {
+                Set<String> values = new HashSet<>();
+                Matcher value = QUOTED.matcher(filter.group(2));
+                while (value.find()) {
+                    values.add(value.group(1));
+                }
+                result.put(filter.group(1), values);
+            }
+        }
+        return result;
+    }
+
+    private static void notFound(HttpExchange exchange, String message) throws IOException {
+        send(exchange, 404, JSON, "{\"message\":\"" + message + "\"}");
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        eventGenerator.shutdownNow();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,209 @@
+package org.dreamabout.sw.dockerwslmanager.testing;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.InspectVolumeResponse;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventType;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.Network;
+import com.github.dockerjava.api.model.Statistics;
+import com.github.dockerjava.api.model.StreamType;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.httpclient5.ApacheDockerHttpClient;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FakeDockerDaemonTest {
+
+    private static DockerClient client(FakeDockerDaemon daemon) {
+        DockerClientConfig config = DefaultDockerClientConfig.createDefaultConfigBuilder()
+                .withDockerHost(daemon.getDockerHost())
+                .build();
+        return DockerClientBuilder.getInstance(config)
+                .withDockerHttpClient(new ApacheDockerHttpClient.Builder()
+                        .dockerHost(config.getDockerHost())
+                        .build())
+                .build();
+    }
+
+    @Test
+    void testDockerJavaCanPingAndListContainers() throws IOException {
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon(0, 12);
+             DockerClient client = client(daemon)) {
+            client.pingCmd().exec();
+
+            List<Container> containers = client.listContainersCmd().withShowAll(true).exec();
+            assertEquals(12, containers.size());
+            // Newest first
+            Container newest = containers.get(0);
+            assertEquals("/stack-2-api-1", newest.getNames()[0]);
+            assertEquals("exited", newest.getState());
+            assertEquals("stack-2", newest.getLabels().get("com.docker.compose.project"));
+            assertEquals("stack-2_api-data", newest.getMounts().get(0).getName());
+
+            Container standalone = containers.get(5);
+            assertEquals("/tool-6", standalone.getNames()[0]);
+            assertEquals("running", standalone.getState());
+            assertTrue(standalone.getLabels().isEmpty());
+        }
+    }
+
+    @Test
+    void testListsOneVolumePerContainerPlusOrphans() throws IOException {
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon(0, 12);
+             DockerClient client = client(daemon)) {
+            List<InspectVolumeResponse> volumes = client.listVolumesCmd().exec().getVolumes();
+
+            assertEquals(13, volumes.size());
+            assertEquals("stack-0_web-data", volumes.get(0).getName());
+            assertEquals("stack-0", volumes.get(0).getLabels().get("com.docker.compose.project"));
+            assertEquals("orphan-0", volumes.get(12).getName());
+            assertNull(volumes.get(12).getLabels());
+        }
+    }
+
+    @Test
+    void testListsImagesAndProjectNetworks() throws IOException {
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon(0, 12);
+             DockerClient client = client(daemon)) {
+            assertEquals(5, client.listImagesCmd().exec().size());
+            // bridge, host, none and stack-0 to stack-2
+            List<Network> networks = client.listNetworksCmd().exec();
+            assertEquals(6, networks.size());
+            assertEquals("stack-2_default", networks.get(5).getName());
+        }
+    }
+
+    @Test
+    void testIdFilterAndStopChangeTheListing() throws IOException {
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon(0, 12);
+             DockerClient client = client(daemon)) {
+            String id = daemon.getFleet().containerId(0);
+
+            client.stopContainerCmd(id).exec();
+
+            List<Container> containers = client.listContainersCmd().withShowAll(true)
+                    .withIdFilter(Set.of(id)).exec();
+            assertEquals(1, containers.size());
+            assertEquals("exited", containers.get(0).getState());
+            assertFalse(client.inspectContainerCmd(id).exec().getState().getRunning());
+            assertEquals(7, client.listContainersCmd().exec().size());
+        }
+    }
+
+    @Test
+    void testEventsReportContainersChangingState() throws Exception {
+        FakeDockerDaemon.Options options = new FakeDockerDaemon.Options().containers(12).eventsPerSecond(50);
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon(options);
+             DockerClient client = client(daemon)) {
+            List<Event> events = new CopyOnWriteArrayList<>();
+            CountDownLatch received = new CountDownLatch(3);
+            try (ResultCallback.Adapter<Event> callback = client.eventsCmd().exec(new ResultCallback.Adapter<>() {
+                @Override
+                public void onNext(Event event) {
+                    events.add(event);
+                    received.countDown();
+                }
+            })) {
+                assertTrue(received.await(5, TimeUnit.SECONDS));
+            }
+
+            Event event = events.get(0);
+            assertEquals(EventType.CONTAINER, event.getType());
+            assertTrue(Set.of("start", "die").contains(event.getAction()));
+            assertNotNull(event.getActor().getAttributes().get("name"));
+        }
+    }
+
+    @Test
+    void testStreamsStatsAndFollowsLogs() throws Exception {
+        FakeDockerDaemon.Options options = new FakeDockerDaemon.Options().containers(3)
+                .statsIntervalMs(20).logLinesPerSecond(100);
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon(options);
+             DockerClient client = client(daemon)) {
+            String id = daemon.getFleet().containerId(1);
+
+            List<Statistics> stats = new CopyOnWriteArrayList<>();
+            CountDownLatch frames = new CountDownLatch(3);
+            try (ResultCallback.Adapter<Statistics> callback = client.statsCmd(id).exec(new ResultCallback.Adapter<>() {
+                @Override
+                public void onNext(Statistics statistics) {
+                    stats.add(statistics);
+                    frames.countDown();
+                }
+            })) {
+                assertTrue(frames.await(5, TimeUnit.SECONDS));
+            }
+            assertTrue(stats.get(1).getCpuStats().getCpuUsage().getTotalUsage()
+                    > stats.get(0).getCpuStats().getCpuUsage().getTotalUsage());
+
+            List<Frame> lines = new CopyOnWriteArrayList<>();
+            CountDownLatch followed = new CountDownLatch(15);
+            try (ResultCallback.Adapter<Frame> callback = client.logContainerCmd(id).withStdOut(true)
+                    .withStdErr(true).withTail(5).withFollowStream(true).exec(new ResultCallback.Adapter<>() {
+                        @Override
+                        public void onNext(Frame frame) {
+                            lines.add(frame);
+                            followed.countDown();
+                        }
+                    })) {
+                assertTrue(followed.await(5, TimeUnit.SECONDS));
+            }
+            assertEquals(StreamType.STDOUT, lines.get(0).getStreamType());
+            // The tail is the newest history, lines 95..99 of the default 100
+            assertEquals(daemon.getFleet().logLine(1, 95),
+                    new String(lines.get(0).getPayload(), StandardCharsets.UTF_8));
+            assertEquals(daemon.getFleet().logLine(1, 100),
+                    new String(lines.get(5).getPayload(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testFiltersLogHistoryBySinceAndUntil() throws Exception {
+        FakeDockerDaemon.Options options = new FakeDockerDaemon.Options().containers(2).logHistory(50)
+                .logSpacingMs(10_000);
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon(options);
+             DockerClient client = client(daemon)) {
+            String id = daemon.getFleet().containerId(0);
+            int since = (int) daemon.historyTime(10).getEpochSecond() + 1;
+            int until = (int) daemon.historyTime(20).getEpochSecond() + 1;
+
+            List<String> lines = new CopyOnWriteArrayList<>();
+            client.logContainerCmd(id).withStdOut(true).withStdErr(true).withSince(since).withUntil(until)
+                    .exec(new ResultCallback.Adapter<Frame>() {
+                        @Override
+                        public void onNext(Frame frame) {
+                            lines.add(new String(frame.getPayload(), StandardCharsets.UTF_8));
+                        }
+                    }).awaitCompletion(5, TimeUnit.SECONDS);
+
+            // Whole seconds: since skips line 10's second, until takes in line 20's
+            assertEquals(10, lines.size());
+            assertEquals(daemon.getFleet().logLine(0, 11), lines.get(0));
+            assertEquals(daemon.getFleet().logLine(0, 20), lines.get(9));
+        }
+    }
+
+    @Test
+    void testInjectsLatency() throws IOException {
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon(new FakeDockerDaemon.Options().latencyMs(150));
+             DockerClient client = client(daemon)) {
+            long start = System.nanoTime();
+            client.pingCmd().exec();
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package org.dreamabout.sw.dockerwslmanager.testing;
+
+import java.time.Instant;
+import java.util.function.IntPredicate;
+
+/**
+ * A deterministic synthetic Docker host: containers grouped into Compose projects, the named
+ * volumes they mount and their stats frames, rendered as Engine API JSON. The same fleet backs
+ * the fake daemon and the benchmarks, so both see identical data for a given size.
+ *
+ * <p>Containers come in projects of five services; every seventh container is standalone and
+ * every third one is exited. Each container mounts one volume, and one volume in ten is unused.
+ */
+public final class Fleet {
+    private static final int PROJECT_SIZE = 5;
+    private static final String[] SERVICES = {"web", "api", "worker", "db", "cache"};
+    private static final String[] IMAGES = {"nginx:1.27", "example/api:2.4.1", "example/worker:2.4.1",
+        "postgres:16", "redis:7"};
+    private static final long EPOCH_SECONDS = 1_700_000_000L;
+
+    private final int size;
+
+    public Fleet(int size) {
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String containerId(int index) {
+        return String.format("%064x", index + 1);
+    }
+
+    public String containerName(int index) {
+        return isStandalone(index) ? "tool-" + index : project(index) + "-" + service(index) + "-1";
+    }
+
+    public boolean isRunning(int index) {
+        return index % 3 != 2;
+    }
+
+    private static boolean isStandalone(int index) {
+        return index % 7 == 6;
+    }
+
+    private static String project(int index) {
+        return "stack-" + index / PROJECT_SIZE;
+    }
+
+    private static String service(int index) {
+        return SERVICES[index % PROJECT_SIZE];
+    }
+
+    private String volumeName(int index) {
+        return isStandalone(index) ? "tool-" + index + "-data" : project(index) + "_" + service(index) + "-data";
+    }
+
+    /**
+     * Response of {@code GET /containers/json?all=true}, newest first like the daemon's.
+     */
+    public String containersJson() {
+        return containersJson(i -> true, this::isRunning);
+    }
+
+    /**
+     * Listing of the containers accepted by {@code include}, with their current state.
+     */
+    public String containersJson(IntPredicate include, IntPredicate running) {
+        StringBuilder sb = new StringBuilder(size * 700).append('[');
+        for (int i = size - 1; i >= 0; i--) {
+            if (include.test(i)) {
+                if (sb.length() > 1) {
+                    sb.append(',');
+                }
+                appendContainer(sb, i, running.test(i));
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Response of {@code GET /containers/{id}/json} for one container.
+     */
+    public String inspectJson(int index, boolean running) {
+        String state = running ? "running" : "exited";
+        return "{\"Id\":\"" + containerId(index) + "\",\"Name\":\"/" + containerName(index) + "\","
+                + "\"Created\":\"" + Instant.ofEpochSecond(EPOCH_SECONDS + index) + "\","
+                + "\"State\":{\"Status\":\"" + state + "\",\"Running\":" + running + "},"
+                + "\"Config\":{\"Image\":\"" + IMAGES[index % IMAGES.length] + "\",\"Labels\":" + labels(index) + "},"
+                + "\"Mounts\":[" + mount(index) + "]}";
+    }
+
+    private void appendContainer(StringBuilder sb, int i, boolean running) {
+        String image = IMAGES[i % IMAGES.length];
+        sb.append("{\"Id\":\"").append(containerId(i)).append('"')
+                .append(",\"Names\":[\"/").append(containerName(i)).append("\"]")
+                .append(",\"Image\":\"").append(image).append('"')
+                .append(",\"ImageID\":\"sha256:").append(String.format("%064x", i % IMAGES.length + 1)).append('"')
+                .append(",\"Command\":\"/docker-entrypoint.sh\",\"Created\":").append(EPOCH_SECONDS + i)
+                .append(",\"State\":\"").append(running ? "running" : "exited").append('"')
+                .append(",\"Status\":\"").append(running ? "Up 2 hours" : "Exited (0) 1 hour ago").append('"')
+                .append(",\"Ports\":[");
+        if (running) {
+            sb.append("{\"IP\":\"0.0.0.0\",\"PrivatePort\":8080,\"PublicPort\":").append(20000 + i)
+                    .append(",\"Type\":\"tcp\"}");
+        }
+        sb.append("],\"Labels\":").append(labels(i))
+                .append(",\"HostConfig\":{\"NetworkMode\":\"")
+                .append(isStandalone(i) ? "bridge" : project(i) + "_default")
+                .append("\"},\"Mounts\":[").append(mount(i)).append("]}");
+    }
+
+    private String labels(int index) {
+        if (isStandalone(index)) {
+            return "{}";
+        }
+        return "{\"com.docker.compose.project\":\"" + project(index) + "\","
+                + "\"com.docker.compose.service\":\"" + service(index) + "\","
+                + "\"com.docker.compose.depends_on\":\""
+                + (index % PROJECT_SIZE == 0 ? "api:service_started:false" : "") + "\"}";
+    }
+
+    private String mount(int index) {
+        return "{\"Type\":\"volume\",\"Name\":\"" + volumeName(index) + "\","
+                + "\"Source\":\"/var/lib/docker/volumes/" + volumeName(index) + "/_data\","
+                + "\"Destination\":\"/data\",\"Driver\":\"local\",\"Mode\":\"z\",\"RW\":true}";
+    }
+
+    /**
+     * Response of {@code GET /volumes}: one volume per container plus unused ones.
+     */
+    public String volumesJson() {
+        StringBuilder sb = new StringBuilder(size * 300).append("{\"Volumes\":[");
+        for (int i = 0; i < size; i++) {
+            appendVolume(sb, volumeName(i), isStandalone(i) ? null : project(i), i);
+            sb.append(',');
+        }
+        for (int i = 0; i < size / 10; i++) {
+            appendVolume(sb, "orphan-" + i, null, i);
+            sb.append(',');
+        }
+        if (sb.charAt(sb.length() - 1) == ',') {
+            sb.setLength(sb.length() - 1);
+        }
+        return sb.append("],\"Warnings\":[]}").toString();
+    }
+
+    private static void appendVolume(StringBuilder sb, String name, String project, int index) {
+        sb.append("{\"Name\":\"").append(name).append("\",\"Driver\":\"local\"")
+                .append(",\"Mountpoint\":\"/var/lib/docker/volumes/").append(name).append("/_data\"")
+                .append(",\"CreatedAt\":\"").append(Instant.ofEpochSecond(EPOCH_SECONDS + index)).append('"')
+                .append(",\"Scope\":\"local\",\"Labels\":");
+        if (project != null) {
+            sb.append("{\"com.docker.compose.project\":\"").append(project)
+                    .append("\",\"com.docker.compose.volume\":\"data\"}");
+        } else {
+            sb.append("null");
+        }
+        sb.append(",\"Options\":null}");
+    }
+
+    /**
+     * Response of {@code GET /images/json}: the images the containers run.
+     */
+    public String imagesJson() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < IMAGES.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            int users = (size + IMAGES.length - 1 - i) / IMAGES.length;
+            sb.append("{\"Id\":\"sha256:").append(String.format("%064x", i + 1)).append('"')
+                    .append(",\"RepoTags\":[\"").append(IMAGES[i]).append("\"],\"RepoDigests\":[]")
+                    .append(",\"Created\":").append(EPOCH_SECONDS - 86_400L * (i + 1))
+                    .append(",\"Size\":").append(50_000_000L * (i + 1))
+                    .append(",\"SharedSize\":-1,\"Containers\":").append(users)
+                    .append(",\"Labels\":null,\"ParentId\":\"\"}");
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Response of {@code GET /networks}: the default networks plus one per Compose project.
+     */
+    public String networksJson() {
+        StringBuilder sb = new StringBuilder("[");
+        appendNetwork(sb, "bridge", "bridge", null, 0);
+        sb.append(',');
+        appendNetwork(sb, "host", "host", null, 1);
+        sb.append(',');
+        appendNetwork(sb, "none", "null", null, 2);
+        int projects = (size + PROJECT_SIZE - 1) / PROJECT_SIZE;
+        for (int p = 0; p < projects; p++) {
+            sb.append(',');
+            appendNetwork(sb, "stack-" + p + "_default", "bridge", "stack-" + p, p + 3);
+        }
+        return sb.append(']').toString();
+    }
+
+    private static void appendNetwork(StringBuilder sb, String name, String driver, String project, int index) {
+        sb.append("{\"Name\":\"").append(name).append("\",\"Id\":\"").append(String.format("%064x", index + 1))
+                .append("\",\"Created\":\"").append(Instant.ofEpochSecond(EPOCH_SECONDS + index))
+                .append("\",\"Scope\":\"local\",\"Driver\":\"").append(driver)
+                .append("\",\"EnableIPv6\":false,\"Internal\":false,\"Attachable\":false,\"Labels\":");
+        if (project != null) {
+            sb.append("{\"com.docker.compose.project\":\"").append(project)
+                    .append("\",\"com.docker.compose.network\":\"default\"}");
+        } else {
+            sb.append("{}");
+        }
+        sb.append('}');
+    }
+
+    /**
+     * One line of {@code GET /events} for a container, e.g. action "start" or "die".
+     */
+    public String eventJson(int index, String action, long timeNanos) {
+        String attributes = "{\"name\":\"" + containerName(index) + "\",\"image\":\"" + IMAGES[index % IMAGES.length]
+                + "\"" + (action.equals("die") ? ",\"exitCode\":\"0\"" : "") + "}";
+        return "{\"status\":\"" + action + "\",\"id\":\"" + containerId(index) + "\","
+                + "\"from\":\"" + IMAGES[index % IMAGES.length] + "\",\"Type\":\"container\","
+                + "\"Action\":\"" + action + "\",\"Actor\":{\"ID\":\"" + containerId(index) + "\","
+                + "\"Attributes\":" + attributes + "},\"scope\":\"local\","
+                + "\"time\":" + timeNanos / 1_000_000_000L + ",\"timeNano\":" + timeNanos + "}";
+    }
+
+    /**
+     * Line {@code seq} of a container's log, with a trailing newline. Mostly access logs, with
+     * coloured levels and the odd warning or error.
+     */
+    public String logLine(int index, long seq) {
+        int kind = (int) ((seq * 31 + index) % 20);
+        String level;
+        if (kind == 0) {
+            level = "\u001B[31mERROR\u001B[0m";
+        } else if (kind < 3) {
+            level = "\u001B[33mWARN \u001B[0m";
+        } else {
+            level = "\u001B[32mINFO \u001B[0m";
+        }
+        return level + " [" + service(index) + "] " + "GET /api/items/" + seq % 1000 + " "
+                + (kind == 0 ? 500 : 200) + " " + (seq * 7 + index) % 250 + "ms\n";
+    }
+
+    /**
+     * One frame of {@code GET /containers/{id}/stats} at the given second; counters grow with time.
+     */
+    public String statsJson(int index, long second) {
+        long cpu = (second + 1) * 250_000_000L * (index % 4 + 1);
+        long system = (second + 1) * 8_000_000_000L;
+        long rx = (second + 1) * 12_000L * (index % 10 + 1);
+        long disk = (second + 1) * 4096L * (index % 5 + 1);
+        Instant read = Instant.ofEpochSecond(EPOCH_SECONDS + second);
+        return "{\"read\":\"" + read + "\",\"preread\":\"" + read.minusSeconds(1) + "\","
+                + "\"id\":\"" + containerId(index) + "\",\"name\":\"/" + containerName(index) + "\","
+                + "\"cpu_stats\":{\"cpu_usage\":{\"total_usage\":" + cpu + "},"
+                + "\"system_cpu_usage\":" + system + ",\"online_cpus\":8},"
+                + "\"precpu_stats\":{\"cpu_usage\":{\"total_usage\":" + (cpu - 250_000_000L) + "},"
+                + "\"system_cpu_usage\":" + (system - 8_000_000_000L) + ",\"online_cpus\":8},"
+                + "\"memory_stats\":{\"usage\":" + (64L << 20) * (index % 8 + 1) + ",\"limit\":" + (8L << 30) + "},"
+                + "\"networks\":{"
+                + "\"eth0\":{\"rx_bytes\":" + rx + ",\"tx_bytes\":" + rx / 3 + ",\"rx_packets\":" + rx / 1500
+                + ",\"tx_packets\":" + rx / 4500 + "},"
+                + "\"eth1\":{\"rx_bytes\":" + rx / 10 + ",\"tx_bytes\":" + rx / 20 + ",\"rx_packets\":" + rx / 15000
+                + ",\"tx_packets\":" + rx / 30000 + "}},"
+                + "\"blkio_stats\":{\"io_service_bytes_recursive\":["
+                + "{\"major\":8,\"minor\":0,\"op\":\"read\",\"value\":" + disk + "},"
+                + "{\"major\":8,\"minor\":0,\"op\":\"write\",\"value\":" + disk / 2 + "}],"
+                + "\"io_serviced_recursive\":["
+                + "{\"major\":8,\"minor\":0,\"op\":\"read\",\"value\":" + disk / 4096 + "},"
+                + "{\"major\":8,\"minor\":0,\"op\":\"write\",\"value\":" + disk / 8192 + "}]}}";
+    }
+}
@@ -0,0 +1,94 @@
+package org.dreamabout.sw.dockerwslmanager.testing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Launches the standalone JAR in a child JVM that exits once the container list is first painted
+ * ({@code -Ddwm.exitAfterStartup=true}). Each run gets its own user.home, so no settings or caches
+ * leak in from the developer's machine. Used to train the class-data-sharing archive and by the
+ * cold-start benchmark; needs a desktop session, as JavaFX does.
+ *
+ * <p>As a program it trains the archive of the release build:
+ * {@code StartupRunner <standalone jar> <output dir>} copies the JAR to
+ * {@code <output dir>/docker-wsl-manager.jar} and writes {@code docker-wsl-manager.jsa} next to it.
+ * The archive only matches the JAR at that name, so both are shipped as they are.
+ */
+public final class StartupRunner {
+    public static final String JAR_NAME = "docker-wsl-manager.jar";
+    public static final String ARCHIVE_NAME = "docker-wsl-manager.jsa";
+    private static final long TIMEOUT_SECONDS = 120;
+
+    private final Path jar;
+    private final Path workDir;
+
+    /**
+     * Runs {@code jar} with {@code workDir} as working directory and home.
+     */
+    public StartupRunner(Path jar, Path workDir) {
+        this.jar = jar;
+        this.workDir = workDir;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length != 2) {
+            System.err.println("Usage: StartupRunner <standalone jar> <output dir>");
+            System.exit(2);
+        }
+        Path outputDir = Path.of(args[1]);
+        StartupRunner runner = new StartupRunner(copyJar(Path.of(args[0]), outputDir), outputDir);
+        Path archive = outputDir.resolve(ARCHIVE_NAME);
+        Files.deleteIfExists(archive);
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon(0, FakeDockerDaemon.DEFAULT_CONTAINERS)) {
+            int exitCode = runner.run(daemon.getDockerHost(), List.of("-XX:ArchiveClassesAtExit=" + ARCHIVE_NAME));
+            if (exitCode != 0 || !Files.exists(archive)) {
+                System.err.println("CDS training run failed with exit code " + exitCode + ", see "
+                        + outputDir.resolve("startup.log"));
+                System.exit(1);
+            }
+        }
+        System.out.println("Wrote " + archive + " (" + Files.size(archive) / 1024 + " KiB)");
+    }
+
+    /**
+     * Copies the JAR under its release name, keeping the timestamp the archive is validated against.
+     */
+    public static Path copyJar(Path standaloneJar, Path dir) throws IOException {
+        Files.createDirectories(dir);
+        return Files.copy(standaloneJar, dir.resolve(JAR_NAME),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+    }
+
+    /**
+     * Starts the application against the given Docker host and waits until it exits.
+     * Output goes to {@code startup.log} in the working directory.
+     *
+     * @return the exit code: 0 once the first paint happened, non-zero if startup failed or timed out.
+     */
+    public int run(String dockerHost, List<String> jvmOptions) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-Duser.home=" + workDir.resolve("home").toAbsolutePath());
+        command.add("-Ddwm.exitAfterStartup=true");
+        command.add("-jar");
+        command.add(workDir.toAbsolutePath().relativize(jar.toAbsolutePath()).toString());
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("startup.log").toFile());
+        builder.environment().put("DOCKER_HOST", dockerHost);
+        Process process = builder.start();
+        if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            return -1;
+        }
+        return process.exitValue();
+    }
+}